@@ -151,6 +151,7 @@ public abstract class AbstractControlService {
      */
     @CloudSDKVersion(exclude = GatewayTypeEnum.RC)
     public TopicServicesResponse<ServicesReplyData> drcModeExit(GatewayManager gateway) {
+        drcDownPublish.closeSession(gateway.getGatewaySn());
         return servicesPublish.publish(
                 gateway.getGatewaySn(),
                 ControlMethodEnum.DRC_MODE_EXIT.getMethod());
@@ -11,6 +11,7 @@ import com.dji.sdk.mqtt.events.TopicEventsRequest;
 import com.dji.sdk.mqtt.events.TopicEventsResponse;
 import com.dji.sdk.mqtt.requests.TopicRequestsRequest;
 import com.dji.sdk.mqtt.requests.TopicRequestsResponse;
+import com.dji.sdk.mqtt.services.ServicesBatchResult;
 import com.dji.sdk.mqtt.services.ServicesPublish;
 import com.dji.sdk.mqtt.services.ServicesReplyData;
 import com.dji.sdk.mqtt.services.TopicServicesResponse;
@@ -19,6 +20,9 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 
 import javax.annotation.Resource;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * @author sean
@@ -42,6 +46,20 @@ public abstract class AbstractFlightAreaService {
                 FlightAreaMethodEnum.FLIGHT_AREAS_UPDATE.getMethod());
     }
 
+    /**
+     * Update command for multiple gateways. The requests are published at once and the replies are gathered per gateway.
+     * @param gateways  gateway devices
+     * @return  services_reply of each gateway, keyed by gateway sn
+     */
+    @CloudSDKVersion(since = CloudSDKVersionEnum.V1_0_0, exclude = GatewayTypeEnum.RC, include = {GatewayTypeEnum.DOCK, GatewayTypeEnum.DOCK2})
+    public Map<String, ServicesBatchResult<Object>> flightAreasUpdate(Collection<GatewayManager> gateways) {
+        return servicesPublish.publishBatch(
+                null,
+                gateways.stream().map(GatewayManager::getGatewaySn).collect(Collectors.toList()),
+                FlightAreaMethodEnum.FLIGHT_AREAS_UPDATE.getMethod(),
+                null);
+    }
+
     /**
      * Progress of custom flight area file synchronize from the Cloud to the Device. Used for further defining flight area.
      * @param request  data
@@ -3,16 +3,10 @@ package com.dji.sdk.common;
 import com.dji.sdk.config.version.GatewayManager;
 import com.dji.sdk.exception.CloudSDKErrorEnum;
 import com.dji.sdk.exception.CloudSDKException;
-import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.databind.*;
-import com.fasterxml.jackson.databind.json.JsonMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * 공통 유틸리티 클래스
@@ -21,9 +15,10 @@ import java.time.format.DateTimeFormatter;
  * 유틸리티 기능들을 제공합니다.
  * 
  * 주요 기능:
- * - JSON 직렬화/역직렬화 설정
+ * - 공유 JSON 매퍼 제공 (JsonMapperRegistry 위임)
  * - 모델 유효성 검사
  * - 문자열 변환 (snake_case)
+ * - 메시지 ID(tid, bid) 생성
  * 
  * 이 클래스는 SDK의 모든 모듈에서
  * 공통적으로 사용되는 기능들을 중앙화합니다.
@@ -34,40 +29,6 @@ import java.time.format.DateTimeFormatter;
  */
 public class Common {
 
-    /**
-     * JSON 매퍼 빌더
-     * 
-     * JSON 직렬화/역직렬화를 위한 ObjectMapper 빌더입니다.
-     */
-    private static final JsonMapper.Builder MAPPER_BUILDER = JsonMapper.builder();
-
-    /**
-     * 정적 초기화 블록
-     * 
-     * JSON 매퍼의 설정을 초기화합니다.
-     * - 날짜/시간 형식 설정
-     * - 속성 명명 전략 (snake_case)
-     * - 직렬화 옵션 설정
-     * - 역직렬화 옵션 설정
-     */
-    static {
-        JavaTimeModule timeModule = new JavaTimeModule();
-        timeModule.addDeserializer(LocalDateTime.class,
-                new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-        timeModule.addSerializer(LocalDateTime.class,
-                new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
-
-        MAPPER_BUILDER.propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-                .serializationInclusion(JsonInclude.Include.NON_ABSENT)
-                .disable(MapperFeature.IGNORE_DUPLICATE_MODULE_REGISTRATIONS)
-                .addModule(timeModule)
-                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
-                .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true)
-                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
-                .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
-    }
-
     /**
      * 모델 유효성 검사를 수행합니다.
      * 
@@ -100,14 +61,31 @@ public class Common {
     }
 
     /**
-     * 설정된 ObjectMapper를 반환합니다.
+     * 공유 ObjectMapper를 반환합니다.
      * 
-     * 정적 초기화 블록에서 설정된 JSON 매퍼를 반환합니다.
+     * JsonMapperRegistry의 snake_case 매퍼를 반환하며, 호출마다 새로 생성하지 않습니다.
+     * 공유 인스턴스이므로 설정을 변경해서는 안 됩니다.
      * 
-     * @return 설정된 ObjectMapper 인스턴스
+     * @return 공유 ObjectMapper 인스턴스
+     * @see JsonMapperRegistry#getMapper()
      */
     public static ObjectMapper getObjectMapper() {
-        return MAPPER_BUILDER.build();
+        return JsonMapperRegistry.getMapper();
+    }
+
+    /**
+     * UUID v4 형식의 무작위 ID를 생성합니다.
+     * 
+     * UUID.randomUUID()는 SecureRandom을 공유하므로 호출이 많으면 경합이 생깁니다.
+     * 메시지 tid, bid는 보안 난수일 필요가 없으므로 스레드별 ThreadLocalRandom을 사용합니다.
+     * 
+     * @return UUID 문자열
+     */
+    public static String randomUUID() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long most = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long least = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(most, least).toString();
     }
 
     /**
@@ -0,0 +1,216 @@
+package com.dji.sdk.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JSON 매퍼 레지스트리
+ *
+ * 프로세스 전역에서 공유되는 ObjectMapper, ObjectReader, ObjectWriter 인스턴스를 관리합니다.
+ * ObjectMapper는 클래스 로딩 시 명명 전략별로 한 번만 생성되며,
+ * ObjectReader/ObjectWriter는 대상 타입과 명명 전략을 키로 캐시되어
+ * 직렬화기/역직렬화기 캐시가 메시지마다 버려지지 않도록 합니다.
+ *
+ * 반환되는 인스턴스는 모두 공유 객체이므로 설정을 변경해서는 안 됩니다.
+ * 다른 설정이 필요한 경우 ObjectMapper#copy()를 사용하십시오.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public final class JsonMapperRegistry {
+
+    /**
+     * 속성 명명 전략
+     */
+    public enum NamingEnum {
+
+        /** snake_case (Cloud API 기본 형식) */
+        SNAKE_CASE,
+
+        /** Java 필드명 그대로 사용 */
+        DEFAULT
+    }
+
+    /**
+     * 명명 전략별 ObjectMapper
+     */
+    private static final Map<NamingEnum, ObjectMapper> MAPPERS = new EnumMap<>(NamingEnum.class);
+
+    /**
+     * 명명 전략별, 대상 타입별 ObjectReader 캐시
+     */
+    private static final Map<NamingEnum, Map<JavaType, ObjectReader>> READERS = new EnumMap<>(NamingEnum.class);
+
+    /**
+     * 명명 전략별, 대상 타입별 ObjectWriter 캐시
+     */
+    private static final Map<NamingEnum, Map<JavaType, ObjectWriter>> WRITERS = new EnumMap<>(NamingEnum.class);
+
+    /**
+     * 명명 전략별 타입 미지정 ObjectWriter
+     */
+    private static final Map<NamingEnum, ObjectWriter> DEFAULT_WRITERS = new EnumMap<>(NamingEnum.class);
+
+    static {
+        for (NamingEnum naming : NamingEnum.values()) {
+            ObjectMapper mapper = newBuilder(naming).build();
+            MAPPERS.put(naming, mapper);
+            DEFAULT_WRITERS.put(naming, mapper.writer());
+            READERS.put(naming, new ConcurrentHashMap<>());
+            WRITERS.put(naming, new ConcurrentHashMap<>());
+        }
+    }
+
+    private JsonMapperRegistry() {
+    }
+
+    /**
+     * 기존 Common 설정과 동일한 JsonMapper 빌더를 생성합니다.
+     *
+     * @param naming 속성 명명 전략
+     * @return 설정된 빌더
+     */
+    private static JsonMapper.Builder newBuilder(NamingEnum naming) {
+        JavaTimeModule timeModule = new JavaTimeModule();
+        timeModule.addDeserializer(LocalDateTime.class,
+                new LocalDateTimeDeserializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+        timeModule.addSerializer(LocalDateTime.class,
+                new LocalDateTimeSerializer(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")));
+
+        JsonMapper.Builder builder = JsonMapper.builder();
+        if (NamingEnum.SNAKE_CASE == naming) {
+            builder.propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        }
+        return builder.serializationInclusion(JsonInclude.Include.NON_ABSENT)
+                .disable(MapperFeature.IGNORE_DUPLICATE_MODULE_REGISTRATIONS)
+                .addModule(timeModule)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+                .configure(JsonParser.Feature.ALLOW_SINGLE_QUOTES, true)
+                .configure(MapperFeature.ACCEPT_CASE_INSENSITIVE_PROPERTIES, true)
+                .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+    }
+
+    /**
+     * snake_case 공유 ObjectMapper를 반환합니다.
+     *
+     * @return 공유 ObjectMapper
+     */
+    public static ObjectMapper getMapper() {
+        return MAPPERS.get(NamingEnum.SNAKE_CASE);
+    }
+
+    /**
+     * 명명 전략에 해당하는 공유 ObjectMapper를 반환합니다.
+     *
+     * @param naming 속성 명명 전략
+     * @return 공유 ObjectMapper
+     */
+    public static ObjectMapper getMapper(NamingEnum naming) {
+        return MAPPERS.get(naming);
+    }
+
+    /**
+     * snake_case 역직렬화용 ObjectReader를 반환합니다.
+     *
+     * @param type 대상 타입 (Class, ParameterizedType 등)
+     * @return 캐시된 ObjectReader
+     */
+    public static ObjectReader getReader(Type type) {
+        return getReader(NamingEnum.SNAKE_CASE, type);
+    }
+
+    /**
+     * snake_case 역직렬화용 ObjectReader를 반환합니다.
+     *
+     * @param type 대상 제네릭 타입
+     * @return 캐시된 ObjectReader
+     */
+    public static ObjectReader getReader(TypeReference<?> type) {
+        return getReader(NamingEnum.SNAKE_CASE, type.getType());
+    }
+
+    /**
+     * 명명 전략과 대상 타입에 해당하는 ObjectReader를 반환합니다.
+     * 최초 호출 시 루트 역직렬화기를 미리 조회하여 캐시합니다.
+     *
+     * @param naming 속성 명명 전략
+     * @param type 대상 타입
+     * @return 캐시된 ObjectReader
+     */
+    public static ObjectReader getReader(NamingEnum naming, Type type) {
+        ObjectMapper mapper = MAPPERS.get(naming);
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        return READERS.get(naming).computeIfAbsent(javaType, mapper::readerFor);
+    }
+
+    /**
+     * 런타임 타입으로 직렬화하는 snake_case ObjectWriter를 반환합니다.
+     *
+     * @return 공유 ObjectWriter
+     */
+    public static ObjectWriter getWriter() {
+        return DEFAULT_WRITERS.get(NamingEnum.SNAKE_CASE);
+    }
+
+    /**
+     * 대상 타입의 snake_case ObjectWriter를 반환합니다.
+     *
+     * @param type 대상 타입
+     * @return 캐시된 ObjectWriter
+     */
+    public static ObjectWriter getWriter(Class<?> type) {
+        return getWriter(NamingEnum.SNAKE_CASE, type);
+    }
+
+    /**
+     * 명명 전략과 대상 타입에 해당하는 ObjectWriter를 반환합니다.
+     * 최초 호출 시 루트 직렬화기를 미리 조회하여 캐시합니다.
+     *
+     * @param naming 속성 명명 전략
+     * @param type 대상 타입
+     * @return 캐시된 ObjectWriter
+     */
+    public static ObjectWriter getWriter(NamingEnum naming, Type type) {
+        ObjectMapper mapper = MAPPERS.get(naming);
+        JavaType javaType = mapper.getTypeFactory().constructType(type);
+        return WRITERS.get(naming).computeIfAbsent(javaType, mapper::writerFor);
+    }
+
+    /**
+     * 지정된 타입들의 snake_case ObjectReader와 ObjectWriter를 미리 생성합니다.
+     * 애플리케이션 기동 시 호출하면 첫 메시지 처리 시의 지연을 없앨 수 있습니다.
+     *
+     * @param types 미리 준비할 타입들
+     */
+    public static void warmUp(Type... types) {
+        warmUp(NamingEnum.SNAKE_CASE, types);
+    }
+
+    /**
+     * 명명 전략에 해당하는 지정된 타입들의 ObjectReader와 ObjectWriter를 미리 생성합니다.
+     *
+     * @param naming 속성 명명 전략
+     * @param types 미리 준비할 타입들
+     */
+    public static void warmUp(NamingEnum naming, Type... types) {
+        for (Type type : types) {
+            getReader(naming, type);
+            getWriter(naming, type);
+        }
+    }
+}
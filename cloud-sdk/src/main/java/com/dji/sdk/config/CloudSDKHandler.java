@@ -13,6 +13,7 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.*;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
@@ -52,6 +53,37 @@ public class CloudSDKHandler {
     public void checkCloudSDK(JoinPoint point) {
         GatewayManager deviceSDK = (GatewayManager) point.getArgs()[0];
         CloudSDKVersion since = ((MethodSignature) point.getSignature()).getMethod().getDeclaredAnnotation(CloudSDKVersion.class);
+        checkSupport(deviceSDK, since);
+    }
+
+    /**
+     * 여러 게이트웨이를 대상으로 하는 배치 API 호출 전 모든 게이트웨이의 타입 및 버전 지원 여부를 검증합니다.
+     * 
+     * 첫 번째 매개변수가 GatewayManager 컬렉션인 메서드에 대해
+     * 단일 게이트웨이 API와 동일한 검증을 각 게이트웨이에 수행합니다.
+     * 
+     * @param point AOP JoinPoint
+     */
+    @Before("execution(public * com.dji.sdk.cloudapi.*.api.*.*(java.util.Collection+, ..))")
+    public void checkCloudSDKBatch(JoinPoint point) {
+        CloudSDKVersion since = ((MethodSignature) point.getSignature()).getMethod().getDeclaredAnnotation(CloudSDKVersion.class);
+        if (Objects.isNull(since) || Objects.isNull(point.getArgs()[0])) {
+            return;
+        }
+        for (Object gateway : (Collection<?>) point.getArgs()[0]) {
+            if (gateway instanceof GatewayManager) {
+                checkSupport((GatewayManager) gateway, since);
+            }
+        }
+    }
+
+    /**
+     * 게이트웨이가 어노테이션에 지정된 타입과 버전을 지원하는지 검증합니다.
+     * 
+     * @param deviceSDK 게이트웨이
+     * @param since API의 CloudSDKVersion 어노테이션. null이면 검증하지 않습니다.
+     */
+    private void checkSupport(GatewayManager deviceSDK, CloudSDKVersion since) {
         if (Objects.isNull(since)) {
             return;
         }
@@ -1,6 +1,6 @@
 package com.dji.sdk.config;
 
-import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
 import com.dji.sdk.exception.CloudSDKException;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -149,7 +149,7 @@ public class GetSnakeDataBinder extends ExtendedServletRequestDataBinder {
             try {
                 Class<?>[] parameterTypes = m.getParameterTypes();
                 for (int i = 0; i < value.length; i++) {
-                    value[i] = Common.getObjectMapper().convertValue(value[i], parameterTypes[i]);
+                    value[i] = JsonMapperRegistry.getMapper().convertValue(value[i], parameterTypes[i]);
                 }
                 return m.invoke(object, value);
             } catch (IllegalAccessException | InvocationTargetException e) {
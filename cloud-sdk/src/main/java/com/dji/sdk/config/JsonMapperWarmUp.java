@@ -0,0 +1,58 @@
+package com.dji.sdk.config;
+
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.mqtt.drc.DrcUpMethodEnum;
+import com.dji.sdk.mqtt.events.EventsMethodEnum;
+import com.dji.sdk.mqtt.osd.OsdDeviceTypeEnum;
+import com.dji.sdk.mqtt.property.TopicPropertySetResponse;
+import com.dji.sdk.mqtt.requests.RequestsMethodEnum;
+import com.dji.sdk.mqtt.requests.TopicRequestsRequest;
+import com.dji.sdk.mqtt.services.ServicesReplyReceiver;
+import com.dji.sdk.mqtt.services.TopicServicesRequest;
+import com.dji.sdk.mqtt.services.TopicServicesResponse;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * JSON 매퍼 예열 클래스
+ *
+ * 애플리케이션 기동 시 MQTT로 자주 주고받는 페이로드 타입의 ObjectReader/ObjectWriter를
+ * JsonMapperRegistry에 미리 생성해 두어, 첫 메시지를 처리할 때 직렬화기/역직렬화기 생성 지연이 생기지 않도록 합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@Component
+public class JsonMapperWarmUp {
+
+    @PostConstruct
+    public void warmUp() {
+        JsonMapperRegistry.warmUp(hotTypes());
+    }
+
+    /**
+     * 자주 사용되는 페이로드 타입 목록을 반환합니다.
+     * OSD, 이벤트, DRC 상향 데이터와 요청, 서비스 응답 봉투가 포함됩니다.
+     *
+     * @return 페이로드 타입 목록
+     */
+    static Type[] hotTypes() {
+        List<Type> types = new ArrayList<>();
+        Arrays.stream(OsdDeviceTypeEnum.values()).map(OsdDeviceTypeEnum::getClassType).forEach(types::add);
+        Arrays.stream(EventsMethodEnum.values()).map(method -> method.getClassType().getType()).forEach(types::add);
+        Arrays.stream(DrcUpMethodEnum.values()).map(method -> method.getClassType().getType()).forEach(types::add);
+        Arrays.stream(RequestsMethodEnum.values()).map(RequestsMethodEnum::getClassType).forEach(types::add);
+        types.add(TopicRequestsRequest.class);
+        types.add(TopicServicesRequest.class);
+        types.add(TopicPropertySetResponse.class);
+        types.add(new TypeReference<TopicServicesResponse<ServicesReplyReceiver>>() {}.getType());
+        return types.stream().distinct().toArray(Type[]::new);
+    }
+}
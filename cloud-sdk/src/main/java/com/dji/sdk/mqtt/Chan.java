@@ -21,10 +21,14 @@ import java.util.concurrent.locks.LockSupport;
  * 이 클래스는 ConcurrentHashMap을 사용하여
  * 스레드 안전한 채널 관리를 제공합니다.
  * 
+ * SDK는 더 이상 이 클래스를 사용하지 않으며, 응답 대기는 PendingReply가 담당합니다.
+ * 
  * @author sean.zhou
  * @date 2021/11/22
  * @version 0.1
+ * @deprecated MqttGatewayPublish#publishWithReplyAsync 와 PendingReply를 사용하십시오.
  */
+@Deprecated
 public class Chan {
 
     /**
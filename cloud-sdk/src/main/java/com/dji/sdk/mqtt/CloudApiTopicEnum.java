@@ -1,6 +1,8 @@
 package com.dji.sdk.mqtt;
 
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.regex.Pattern;
 
 import static com.dji.sdk.mqtt.TopicConst.*;
@@ -9,7 +11,7 @@ import static com.dji.sdk.mqtt.TopicConst.*;
  * Cloud API 토픽 열거형
  * 
  * 이 열거형은 Cloud API에서 사용되는 다양한 MQTT 토픽 패턴을 정의합니다.
- * 각 토픽은 정규식 패턴과 해당하는 채널 이름을 포함합니다.
+ * 각 토픽은 접두사/접미사, 정규식 패턴과 해당하는 채널 이름을 포함합니다.
  * 
  * 주요 구성 요소:
  * - STATUS: 상태 관련 토픽
@@ -36,63 +38,90 @@ public enum CloudApiTopicEnum {
      * 
      * 디바이스 상태 정보를 포함하는 토픽입니다.
      */
-    STATUS(Pattern.compile("^" + BASIC_PRE + PRODUCT + REGEX_SN + STATUS_SUF + "$"), ChannelName.INBOUND_STATUS),
+    STATUS(BASIC_PRE + PRODUCT, STATUS_SUF, ChannelName.INBOUND_STATUS),
 
     /**
      * 상태 토픽
      * 
      * Thing 모델 상태 정보를 포함하는 토픽입니다.
      */
-    STATE(Pattern.compile("^" + THING_MODEL_PRE + PRODUCT + REGEX_SN + STATE_SUF + "$"), ChannelName.INBOUND_STATE),
+    STATE(THING_MODEL_PRE + PRODUCT, STATE_SUF, ChannelName.INBOUND_STATE),
 
     /**
      * 서비스 응답 토픽
      * 
      * 서비스 요청에 대한 응답을 포함하는 토픽입니다.
      */
-    SERVICE_REPLY(Pattern.compile("^" + THING_MODEL_PRE + PRODUCT + REGEX_SN + SERVICES_SUF + _REPLY_SUF + "$"), ChannelName.INBOUND_SERVICES_REPLY),
+    SERVICE_REPLY(THING_MODEL_PRE + PRODUCT, SERVICES_SUF + _REPLY_SUF, ChannelName.INBOUND_SERVICES_REPLY),
 
     /**
      * OSD 토픽
      * 
      * On Screen Display 정보를 포함하는 토픽입니다.
      */
-    OSD(Pattern.compile("^" + THING_MODEL_PRE + PRODUCT + REGEX_SN + OSD_SUF + "$"), ChannelName.INBOUND_OSD),
+    OSD(THING_MODEL_PRE + PRODUCT, OSD_SUF, ChannelName.INBOUND_OSD),
 
     /**
      * 요청 토픽
      * 
      * 디바이스 요청 정보를 포함하는 토픽입니다.
      */
-    REQUESTS(Pattern.compile("^" + THING_MODEL_PRE + PRODUCT + REGEX_SN + REQUESTS_SUF + "$"), ChannelName.INBOUND_REQUESTS),
+    REQUESTS(THING_MODEL_PRE + PRODUCT, REQUESTS_SUF, ChannelName.INBOUND_REQUESTS),
 
     /**
      * 이벤트 토픽
      * 
      * 디바이스 이벤트 정보를 포함하는 토픽입니다.
      */
-    EVENTS(Pattern.compile("^" + THING_MODEL_PRE + PRODUCT + REGEX_SN + EVENTS_SUF + "$"), ChannelName.INBOUND_EVENTS),
+    EVENTS(THING_MODEL_PRE + PRODUCT, EVENTS_SUF, ChannelName.INBOUND_EVENTS),
 
     /**
      * 속성 설정 응답 토픽
      * 
      * 속성 설정 요청에 대한 응답을 포함하는 토픽입니다.
      */
-    PROPERTY_SET_REPLY(Pattern.compile("^" + THING_MODEL_PRE + PRODUCT + REGEX_SN + PROPERTY_SUF + SET_SUF + _REPLY_SUF + "$"), ChannelName.INBOUND_PROPERTY_SET_REPLY),
+    PROPERTY_SET_REPLY(THING_MODEL_PRE + PRODUCT, PROPERTY_SUF + SET_SUF + _REPLY_SUF, ChannelName.INBOUND_PROPERTY_SET_REPLY),
 
     /**
      * DRC 업로드 토픽
      * 
      * Direct Remote Control 업로드 정보를 포함하는 토픽입니다.
      */
-    DRC_UP(Pattern.compile("^" + THING_MODEL_PRE + PRODUCT + REGEX_SN + DRC + UP + "$"), ChannelName.INBOUND_DRC_UP),
+    DRC_UP(THING_MODEL_PRE + PRODUCT, DRC + UP, ChannelName.INBOUND_DRC_UP),
 
     /**
      * 알 수 없는 토픽
      * 
      * 매칭되지 않는 모든 토픽을 처리합니다.
      */
-    UNKNOWN(Pattern.compile("^.*$"), ChannelName.DEFAULT);
+    UNKNOWN(null, null, ChannelName.DEFAULT);
+
+    /**
+     * 접두사별 접미사 조회 테이블
+     * 
+     * 토픽의 고정 구조({prefix}{sn}{suffix})를 이용하여
+     * 정규식 없이 접두사와 접미사만으로 토픽을 찾습니다.
+     */
+    private static final Map<String, Map<String, CloudApiTopicEnum>> SUFFIX_TABLE = new HashMap<>();
+
+    static {
+        for (CloudApiTopicEnum topicEnum : values()) {
+            if (Objects.isNull(topicEnum.prefix)) {
+                continue;
+            }
+            SUFFIX_TABLE.computeIfAbsent(topicEnum.prefix, key -> new HashMap<>()).put(topicEnum.suffix, topicEnum);
+        }
+    }
+
+    /**
+     * 토픽 접두사 (예: thing/product/)
+     */
+    private final String prefix;
+
+    /**
+     * 토픽 접미사 (예: /osd)
+     */
+    private final String suffix;
 
     /**
      * 토픽 패턴
@@ -111,11 +140,15 @@ public enum CloudApiTopicEnum {
     /**
      * Cloud API 토픽 열거형 생성자
      * 
-     * @param pattern 토픽 패턴
+     * @param prefix 토픽 접두사
+     * @param suffix 토픽 접미사
      * @param beanName 빈 이름
      */
-    CloudApiTopicEnum(Pattern pattern, String beanName) {
-        this.pattern = pattern;
+    CloudApiTopicEnum(String prefix, String suffix, String beanName) {
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.pattern = Objects.isNull(prefix) ? Pattern.compile("^.*$") :
+                Pattern.compile("^" + prefix + REGEX_SN + suffix + "$");
         this.beanName = beanName;
     }
 
@@ -143,10 +176,52 @@ public enum CloudApiTopicEnum {
      * 주어진 토픽 문자열에 매칭되는 열거형을 반환합니다.
      * 매칭되는 토픽이 없으면 UNKNOWN을 반환합니다.
      * 
+     * 정규식 대신 접두사 비교, SN 문자 검사, 접미사 해시 조회로 판별하며
+     * 결과는 getPattern()의 정규식 매칭과 동일합니다.
+     * 
      * @param topic 찾을 토픽 문자열
      * @return 해당하는 CloudApiTopicEnum 열거형
      */
     public static CloudApiTopicEnum find(String topic) {
-        return Arrays.stream(CloudApiTopicEnum.values()).filter(topicEnum -> topicEnum.pattern.matcher(topic).matches()).findAny().orElse(UNKNOWN);
+        for (Map.Entry<String, Map<String, CloudApiTopicEnum>> entry : SUFFIX_TABLE.entrySet()) {
+            String prefix = entry.getKey();
+            if (!topic.startsWith(prefix)) {
+                continue;
+            }
+            int snEnd = prefix.length();
+            while (snEnd < topic.length() && isSnChar(topic.charAt(snEnd))) {
+                snEnd++;
+            }
+            if (snEnd == prefix.length()) {
+                return UNKNOWN;
+            }
+            return entry.getValue().getOrDefault(topic.substring(snEnd), UNKNOWN);
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * 토픽에서 SN 세그먼트(세 번째 세그먼트)를 추출합니다.
+     * 
+     * @param topic 토픽
+     * @return SN. 형식이 맞지 않으면 토픽 전체
+     */
+    public static String getSn(String topic) {
+        int start = topic.indexOf('/', topic.indexOf('/') + 1) + 1;
+        if (start <= 0) {
+            return topic;
+        }
+        int end = topic.indexOf('/', start);
+        return end < 0 ? topic.substring(start) : topic.substring(start, end);
+    }
+
+    /**
+     * TopicConst.REGEX_SN([A-Za-z0-9])에 해당하는 문자인지 확인합니다.
+     * 
+     * @param c 문자
+     * @return SN 문자 여부
+     */
+    private static boolean isSnChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
     }
 }
@@ -0,0 +1,189 @@
+package com.dji.sdk.mqtt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.integration.dispatcher.UnicastingDispatcher;
+import org.springframework.integration.channel.AbstractSubscribableChannel;
+import org.springframework.integration.mqtt.support.MqttHeaders;
+import org.springframework.messaging.Message;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 디바이스별 순서 보장 메시지 채널
+ *
+ * MQTT 토픽의 SN 세그먼트(thing/product/{sn}/...)를 키로 GatewayOrderedExecutor에 메시지를 배정합니다.
+ * 같은 디바이스가 보낸 메시지는 도착 순서대로 하나씩 처리되고, 다른 디바이스의 메시지는 병렬로 처리됩니다.
+ *
+ * 서비스 응답처럼 다른 스레드가 동기적으로 기다리는 토픽은 기본적으로 호출 스레드에서 바로 처리합니다.
+ * 같은 디바이스의 샤드에서 응답을 기다리는 핸들러가 있을 때 응답이 그 뒤에 줄 서서 교착되는 것을 막기 위함입니다.
+ *
+ * OSD 병합(conflation)을 켜면 디바이스별로 처리 대기 중인 OSD는 가장 최신 것 하나만 유지되고,
+ * 처리되기 전에 더 새로운 OSD가 도착한 프레임은 버려집니다. 대기 중인 OSD는 디바이스 수를 넘지 않습니다.
+ * 이벤트, 서비스 등 OSD 이외의 토픽은 병합하지 않습니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class GatewayOrderedChannel extends AbstractSubscribableChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(GatewayOrderedChannel.class);
+
+    private final UnicastingDispatcher dispatcher = new UnicastingDispatcher();
+
+    private final GatewayOrderedExecutor executor;
+
+    /**
+     * 호출 스레드에서 바로 처리할 토픽
+     */
+    private final Set<CloudApiTopicEnum> directTopics =
+            EnumSet.of(CloudApiTopicEnum.SERVICE_REPLY, CloudApiTopicEnum.PROPERTY_SET_REPLY);
+
+    /**
+     * OSD 병합 여부
+     */
+    private volatile boolean conflateOsd;
+
+    /**
+     * 디바이스별 처리 대기 중인 최신 OSD
+     */
+    private final Map<String, Message<?>> pendingOsd = new ConcurrentHashMap<>();
+
+    /**
+     * 더 새로운 OSD로 대체되어 버려진 프레임 수
+     */
+    private final AtomicLong conflatedCount = new AtomicLong();
+
+    /**
+     * 실행기 큐가 가득 차서 버려진 메시지 수
+     */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /**
+     * 채널 생성자
+     *
+     * @param executor 디바이스별 순서 보장 실행기
+     */
+    public GatewayOrderedChannel(GatewayOrderedExecutor executor) {
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * 호출 스레드에서 바로 처리할 토픽을 설정합니다.
+     *
+     * @param topics 토픽 목록
+     */
+    public void setDirectTopics(CloudApiTopicEnum... topics) {
+        this.directTopics.clear();
+        this.directTopics.addAll(Arrays.asList(topics));
+    }
+
+    /**
+     * OSD 병합 여부를 설정합니다.
+     *
+     * @param conflateOsd true이면 디바이스별 최신 OSD만 처리
+     */
+    public void setConflateOsd(boolean conflateOsd) {
+        this.conflateOsd = conflateOsd;
+    }
+
+    /**
+     * 더 새로운 OSD로 대체되어 버려진 프레임 수를 반환합니다.
+     *
+     * @return 병합된 프레임 수
+     */
+    public long getConflatedCount() {
+        return conflatedCount.get();
+    }
+
+    /**
+     * 실행기 큐가 가득 차서 버려진 메시지 수를 반환합니다.
+     *
+     * @return 버려진 메시지 수
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * 처리 대기 중인 OSD 수를 반환합니다.
+     *
+     * @return 대기 중인 OSD 수
+     */
+    public int getPendingOsdCount() {
+        return pendingOsd.size();
+    }
+
+    /**
+     * 실행기 큐에 대기 중인 작업 수를 반환합니다.
+     *
+     * @return 대기 중인 작업 수
+     */
+    public int getQueueSize() {
+        return executor.getQueueSize();
+    }
+
+    @Override
+    protected UnicastingDispatcher getDispatcher() {
+        return dispatcher;
+    }
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        Object topic = message.getHeaders().get(MqttHeaders.RECEIVED_TOPIC);
+        if (Objects.isNull(topic)) {
+            return super.doSend(message, timeout);
+        }
+        CloudApiTopicEnum topicEnum = CloudApiTopicEnum.find(topic.toString());
+        if (directTopics.contains(topicEnum)) {
+            return super.doSend(message, timeout);
+        }
+        String sn = CloudApiTopicEnum.getSn(topic.toString());
+        if (conflateOsd && CloudApiTopicEnum.OSD == topicEnum) {
+            this.conflate(sn, message, timeout);
+            return true;
+        }
+        if (!executor.execute(sn, () -> this.dispatch(message, timeout))) {
+            droppedCount.incrementAndGet();
+        }
+        return true;
+    }
+
+    /**
+     * 디바이스별 대기 슬롯에 최신 OSD를 넣습니다.
+     * 슬롯이 비어 있었으면 처리 작업을 예약하고, 이미 대기 중인 OSD가 있으면 그것을 대체합니다.
+     */
+    private void conflate(String sn, Message<?> message, long timeout) {
+        if (Objects.nonNull(pendingOsd.put(sn, message))) {
+            conflatedCount.incrementAndGet();
+            return;
+        }
+        boolean accepted = executor.execute(sn, () -> {
+            Message<?> latest = pendingOsd.remove(sn);
+            if (Objects.nonNull(latest)) {
+                this.dispatch(latest, timeout);
+            }
+        });
+        if (!accepted && Objects.nonNull(pendingOsd.remove(sn))) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 구독자에게 메시지를 전달합니다. 실행기 스레드에서 호출됩니다.
+     */
+    private void dispatch(Message<?> message, long timeout) {
+        try {
+            super.doSend(message, timeout);
+        } catch (Exception e) {
+            log.error("Failed to handle the message. Topic: {}", message.getHeaders().get(MqttHeaders.RECEIVED_TOPIC), e);
+        }
+    }
+}
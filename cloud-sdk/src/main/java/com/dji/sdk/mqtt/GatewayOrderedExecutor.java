@@ -0,0 +1,159 @@
+package com.dji.sdk.mqtt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 디바이스별 순서 보장 병렬 실행기
+ *
+ * 작업을 키(디바이스 SN)의 해시로 샤드에 배정합니다.
+ * 각 샤드는 단일 스레드와 크기가 제한된 큐를 가지므로 같은 키의 작업은 도착 순서대로 하나씩 실행되고,
+ * 서로 다른 샤드는 병렬로 실행되어 느린 디바이스가 다른 디바이스를 지연시키지 않습니다.
+ *
+ * 샤드 큐가 가득 차면 대기하지 않고 작업을 즉시 버리고 카운트합니다.
+ * 호출 스레드는 MQTT 수신 스레드이므로 하나의 샤드가 멈춰도 다른 디바이스의 수신이 막히지 않아야 합니다.
+ * 같은 디바이스의 OSD처럼 최신 값만 의미 있는 메시지는 GatewayOrderedChannel에서 병합하여 큐에 쌓이지 않게 합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class GatewayOrderedExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(GatewayOrderedExecutor.class);
+
+    /**
+     * 샤드별 단일 스레드 실행기
+     */
+    private final ThreadPoolExecutor[] shards;
+
+    /**
+     * 버려진 작업 수
+     */
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    /**
+     * 실행기 생성자
+     *
+     * @param name 스레드 이름 접두사
+     * @param shardCount 샤드 수
+     * @param queueCapacity 샤드별 큐 크기
+     */
+    public GatewayOrderedExecutor(String name, int shardCount, int queueCapacity) {
+        if (shardCount <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("The shard count and queue capacity must be positive.");
+        }
+        this.shards = new ThreadPoolExecutor[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), newThreadFactory(name + "-" + i));
+        }
+    }
+
+    /**
+     * 키에 해당하는 샤드에서 작업을 실행합니다.
+     *
+     * @param key 순서를 보장할 키 (디바이스 SN). null이면 0번 샤드를 사용합니다.
+     * @param task 실행할 작업
+     * @return 큐에 들어갔으면 true, 큐가 가득 차서 버려졌으면 false
+     */
+    public boolean execute(String key, Runnable task) {
+        ThreadPoolExecutor shard = shards[shardOf(key)];
+        try {
+            shard.execute(task);
+            return true;
+        } catch (RejectedExecutionException e) {
+            long count = rejectedCount.incrementAndGet();
+            if (!shard.isShutdown()) {
+                log.warn("The shard queue is full, the message is discarded. Shard: {}, total discarded: {}",
+                        shardOf(key), count);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 키가 배정되는 샤드 번호를 반환합니다.
+     *
+     * @param key 키
+     * @return 샤드 번호
+     */
+    public int shardOf(String key) {
+        if (Objects.isNull(key)) {
+            return 0;
+        }
+        int hash = key.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % shards.length;
+    }
+
+    /**
+     * 샤드 수를 반환합니다.
+     *
+     * @return 샤드 수
+     */
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    /**
+     * 샤드 큐에 대기 중인 작업 수를 반환합니다.
+     *
+     * @param shard 샤드 번호
+     * @return 대기 중인 작업 수
+     */
+    public int getQueueSize(int shard) {
+        return shards[shard].getQueue().size();
+    }
+
+    /**
+     * 모든 샤드 큐에 대기 중인 작업 수를 반환합니다.
+     *
+     * @return 대기 중인 작업 수
+     */
+    public int getQueueSize() {
+        int size = 0;
+        for (ThreadPoolExecutor shard : shards) {
+            size += shard.getQueue().size();
+        }
+        return size;
+    }
+
+    /**
+     * 큐가 가득 차서 버려진 작업 수를 반환합니다.
+     *
+     * @return 버려진 작업 수
+     */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @Override
+    public void destroy() {
+        for (ThreadPoolExecutor shard : shards) {
+            shard.shutdown();
+        }
+    }
+
+    /**
+     * 샤드 스레드 팩토리를 생성합니다.
+     *
+     * @param threadName 스레드 이름
+     * @return 데몬 스레드 팩토리
+     */
+    private static ThreadFactory newThreadFactory(String threadName) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
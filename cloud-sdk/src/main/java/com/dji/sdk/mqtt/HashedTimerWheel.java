@@ -0,0 +1,283 @@
+package com.dji.sdk.mqtt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 해시 타이머 휠
+ *
+ * 많은 수의 짧은 타임아웃을 하나의 스레드로 관리합니다.
+ * 타임아웃은 만료 틱을 휠 크기로 나눈 나머지 버킷에 들어가고, 워커 스레드는 틱마다 한 버킷만 확인합니다.
+ * 등록과 취소는 O(1)이며, 만료 시각의 정확도는 틱 단위입니다.
+ *
+ * 만료된 작업은 지정된 실행기에서 실행되므로 작업이 오래 걸려도 틱이 밀리지 않습니다.
+ * 실행기가 작업을 거부하면 등록할 때 지정한 거부 처리기를 워커 스레드에서 호출하여
+ * 타임아웃을 기다리는 쪽이 영원히 기다리지 않게 합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class HashedTimerWheel {
+
+    private static final Logger log = LoggerFactory.getLogger(HashedTimerWheel.class);
+
+    /**
+     * 한 틱에 휠로 옮길 최대 등록 건수
+     */
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private final long tickNanos;
+
+    private final int mask;
+
+    /**
+     * 워커 스레드만 접근하는 버킷 목록
+     */
+    private final ArrayDeque<Timeout>[] wheel;
+
+    /**
+     * 워커 스레드가 다음 틱에 휠로 옮길 신규 타임아웃
+     */
+    private final Queue<Timeout> registrations = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 만료 작업 실행기
+     */
+    private final Executor taskExecutor;
+
+    /**
+     * 대기 중인 타임아웃 수
+     */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private final Thread worker;
+
+    private final long startTime;
+
+    private volatile boolean running = true;
+
+    /**
+     * 타이머 휠 생성자
+     *
+     * @param name 워커 스레드 이름
+     * @param tickMillis 틱 간격 (밀리초)
+     * @param ticksPerWheel 버킷 수. 2의 거듭제곱으로 올림됩니다.
+     * @param taskExecutor 만료 작업 실행기
+     */
+    public HashedTimerWheel(String name, long tickMillis, int ticksPerWheel, Executor taskExecutor) {
+        if (tickMillis <= 0 || ticksPerWheel <= 0) {
+            throw new IllegalArgumentException("The tick duration and ticks per wheel must be positive.");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        size = Math.max(size, 1);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.mask = size - 1;
+        this.wheel = newBuckets(size);
+        this.taskExecutor = Objects.requireNonNull(taskExecutor);
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArrayDeque<Timeout>[] newBuckets(int size) {
+        ArrayDeque<Timeout>[] buckets = (ArrayDeque<Timeout>[]) new ArrayDeque<?>[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new ArrayDeque<>();
+        }
+        return buckets;
+    }
+
+    /**
+     * 지정된 시간 뒤에 실행될 작업을 등록합니다.
+     *
+     * @param task 만료 시 실행할 작업
+     * @param delayMillis 지연 시간 (밀리초)
+     * @return 취소에 사용할 타임아웃
+     */
+    public Timeout newTimeout(Runnable task, long delayMillis) {
+        return this.newTimeout(task, delayMillis, null);
+    }
+
+    /**
+     * 지정된 시간 뒤에 실행될 작업을 등록합니다.
+     * 만료 시 실행기가 작업을 거부하면 작업 대신 거부 처리기가 워커 스레드에서 호출됩니다.
+     * 거부 처리기는 짧게 끝나야 합니다.
+     *
+     * @param task 만료 시 실행할 작업
+     * @param delayMillis 지연 시간 (밀리초)
+     * @param rejectionHandler 실행기가 작업을 거부했을 때 호출할 처리기. null이면 로그만 남깁니다.
+     * @return 취소에 사용할 타임아웃
+     */
+    public Timeout newTimeout(Runnable task, long delayMillis, Consumer<RuntimeException> rejectionHandler) {
+        Timeout timeout = new Timeout(Objects.requireNonNull(task), rejectionHandler,
+                System.nanoTime() - startTime + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis)));
+        if (!running) {
+            throw new RejectedExecutionException("The timer has been stopped.");
+        }
+        pendingCount.incrementAndGet();
+        registrations.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 대기 중인 타임아웃 수를 반환합니다.
+     *
+     * @return 대기 중인 타임아웃 수
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 워커 스레드를 중지합니다. 대기 중인 타임아웃은 실행되지 않습니다.
+     */
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        long tick = 0;
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleep;
+            while (running && (sleep = deadline - (System.nanoTime() - startTime)) > 0) {
+                LockSupport.parkNanos(this, sleep);
+            }
+            if (!running) {
+                break;
+            }
+            this.transferRegistrations(tick);
+            this.expire(wheel[(int) (tick & mask)]);
+            tick++;
+        }
+    }
+
+    /**
+     * 신규 타임아웃을 만료 틱에 해당하는 버킷으로 옮깁니다.
+     * 이미 지난 타임아웃은 현재 버킷에 넣어 이번 틱에 만료시킵니다.
+     */
+    private void transferRegistrations(long tick) {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            Timeout timeout = registrations.poll();
+            if (Objects.isNull(timeout)) {
+                return;
+            }
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long expireTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (expireTick - tick) / wheel.length;
+            wheel[(int) (expireTick & mask)].add(timeout);
+        }
+    }
+
+    private void expire(ArrayDeque<Timeout> bucket) {
+        Iterator<Timeout> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            Timeout timeout = iterator.next();
+            if (timeout.isCancelled()) {
+                iterator.remove();
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+                continue;
+            }
+            iterator.remove();
+            if (timeout.state.compareAndSet(Timeout.INIT, Timeout.EXPIRED)) {
+                pendingCount.decrementAndGet();
+                try {
+                    taskExecutor.execute(timeout.task);
+                } catch (RuntimeException e) {
+                    this.reject(timeout, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 실행기가 거부한 타임아웃을 거부 처리기에 넘깁니다.
+     */
+    private void reject(Timeout timeout, RuntimeException cause) {
+        if (Objects.isNull(timeout.rejectionHandler)) {
+            log.error("Failed to run the timeout task.", cause);
+            return;
+        }
+        try {
+            timeout.rejectionHandler.accept(cause);
+        } catch (RuntimeException e) {
+            log.error("Failed to handle the rejected timeout task.", e);
+        }
+    }
+
+    /**
+     * 등록된 타임아웃
+     */
+    public final class Timeout {
+
+        private static final int INIT = 0;
+
+        private static final int CANCELLED = 1;
+
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+
+        private final Consumer<RuntimeException> rejectionHandler;
+
+        /**
+         * 타이머 시작 시각 기준 만료 시각 (나노초)
+         */
+        private final long deadline;
+
+        /**
+         * 만료되기 전까지 휠을 더 돌아야 하는 횟수. 워커 스레드만 접근합니다.
+         */
+        private long remainingRounds;
+
+        private final AtomicInteger state = new AtomicInteger(INIT);
+
+        private Timeout(Runnable task, Consumer<RuntimeException> rejectionHandler, long deadline) {
+            this.task = task;
+            this.rejectionHandler = rejectionHandler;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 타임아웃을 취소합니다.
+         *
+         * @return 만료 전에 취소되었으면 true
+         */
+        public boolean cancel() {
+            if (state.compareAndSet(INIT, CANCELLED)) {
+                pendingCount.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return CANCELLED == state.get();
+        }
+
+        public boolean isExpired() {
+            return EXPIRED == state.get();
+        }
+    }
+}
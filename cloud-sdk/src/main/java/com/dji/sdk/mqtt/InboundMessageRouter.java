@@ -1,8 +1,8 @@
 package com.dji.sdk.mqtt;
 
-import com.dji.sdk.common.SpringBeanUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
 import org.springframework.integration.annotation.Router;
 import org.springframework.integration.mqtt.support.MqttHeaders;
 import org.springframework.integration.router.AbstractMessageRouter;
@@ -11,8 +11,11 @@ import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * 인바운드 메시지 라우터
@@ -22,7 +25,7 @@ import java.util.Collections;
  * 
  * 주요 기능:
  * - MQTT 메시지 수신
- * - 토픽 패턴 매칭
+ * - 토픽 접두사/접미사 조회 (정규식 미사용)
  * - 적절한 채널로 메시지 라우팅
  * - 디버그 로깅
  * 
@@ -43,6 +46,26 @@ public class InboundMessageRouter extends AbstractMessageRouter {
      */
     private static final Logger log = LoggerFactory.getLogger(InboundMessageRouter.class);
 
+    /**
+     * 토픽별 대상 채널
+     * 
+     * 초기화 시 한 번만 조회하여 메시지마다 Bean을 조회하지 않습니다.
+     */
+    private final Map<CloudApiTopicEnum, Collection<MessageChannel>> targetChannels = new EnumMap<>(CloudApiTopicEnum.class);
+
+    /**
+     * 토픽별 대상 채널을 미리 조회합니다.
+     */
+    @Override
+    protected void onInit() {
+        super.onInit();
+        BeanFactory beanFactory = getBeanFactory();
+        for (CloudApiTopicEnum topicEnum : CloudApiTopicEnum.values()) {
+            targetChannels.put(topicEnum, Collections.singleton(
+                    beanFactory.getBean(topicEnum.getBeanName(), MessageChannel.class)));
+        }
+    }
+
     /**
      * 대상 채널을 결정합니다.
      * 
@@ -57,13 +80,12 @@ public class InboundMessageRouter extends AbstractMessageRouter {
     protected Collection<MessageChannel> determineTargetChannels(Message<?> message) {
         MessageHeaders headers = message.getHeaders();
         String topic = headers.get(MqttHeaders.RECEIVED_TOPIC).toString();
-        byte[] payload = (byte[])message.getPayload();
-
-        log.debug("received topic: {} \t payload =>{}", topic, new String(payload));
 
-        CloudApiTopicEnum topicEnum = CloudApiTopicEnum.find(topic);
-        MessageChannel bean = (MessageChannel) SpringBeanUtils.getBean(topicEnum.getBeanName());
+        if (log.isDebugEnabled()) {
+            log.debug("received topic: {} \t payload =>{}", topic,
+                    new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+        }
 
-        return Collections.singleton(bean);
+        return targetChannels.get(CloudApiTopicEnum.find(topic));
     }
 }
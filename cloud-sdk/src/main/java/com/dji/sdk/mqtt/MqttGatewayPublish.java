@@ -1,6 +1,7 @@
 package com.dji.sdk.mqtt;
 
 import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
 import com.dji.sdk.exception.CloudSDKErrorEnum;
 import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.websocket.api.WebSocketMessageSend;
@@ -8,14 +9,19 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.integration.mqtt.support.MqttHeaders;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import javax.annotation.Resource;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -28,7 +34,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * - 요청 메시지 발행
  * - 응답 메시지 발행
  * - 재시도 로직
- * - 응답 대기 및 검증
+ * - 응답 대기 및 검증 (동기 / CompletableFuture 비동기)
  * - JSON 직렬화
  * 
  * 이 클래스는 MQTT 통신의 메시지 발행을
@@ -39,7 +45,7 @@ import java.util.concurrent.atomic.AtomicInteger;
  * @version 0.1
  */
 @Component
-public class MqttGatewayPublish {
+public class MqttGatewayPublish implements DisposableBean {
 
     /**
      * 로깅을 위한 Logger 인스턴스
@@ -61,12 +67,36 @@ public class MqttGatewayPublish {
      */
     public static final int DEFAULT_RETRY_TIMEOUT = 3000;
 
+    /**
+     * 동기 응답 대기 시 재시도 대기 시간 합계에 더하는 여유 시간 (밀리초)
+     */
+    private static final long REPLY_WAIT_SLACK = 1000;
+
+    /**
+     * 재발행 실행 스레드 수
+     */
+    private static final int REPLY_RETRY_THREADS = 2;
+
     /**
      * MQTT 메시지 게이트웨이 인터페이스
      */
     @Resource
     private IMqttMessageGateway messageGateway;
 
+    /**
+     * 응답 대기 시간 초과 후 재발행을 실행하는 실행기
+     */
+    private final ExecutorService retryExecutor = Executors.newFixedThreadPool(REPLY_RETRY_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "mqtt-reply-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 응답 대기 시간을 관리하는 타이머 휠
+     */
+    private final HashedTimerWheel replyTimer = new HashedTimerWheel("mqtt-reply-timer", 10, 512, retryExecutor);
+
     /**
      * 요청 메시지를 MQTT 브로커로 발행합니다.
      * 
@@ -77,7 +107,7 @@ public class MqttGatewayPublish {
     public void publish(String topic, int qos, CommonTopicRequest request) {
         try {
             log.debug("send topic: {}, payload: {}", topic, request.toString());
-            byte[] payload = Common.getObjectMapper().writeValueAsBytes(request);
+            byte[] payload = JsonMapperRegistry.getWriter(request.getClass()).writeValueAsBytes(request);
             messageGateway.publish(topic, payload, qos);
         } catch (JsonProcessingException e) {
             log.error("Failed to publish the message. {}", request.toString());
@@ -95,7 +125,7 @@ public class MqttGatewayPublish {
     public void publish(String topic, int qos, CommonTopicResponse response) {
         try {
             log.debug("send topic: {}, payload: {}", topic, response.toString());
-            byte[] payload = Common.getObjectMapper().writeValueAsBytes(response);
+            byte[] payload = JsonMapperRegistry.getWriter(response.getClass()).writeValueAsBytes(response);
             messageGateway.publish(topic, payload, qos);
         } catch (JsonProcessingException e) {
             log.error("Failed to publish the message. {}", response.toString());
@@ -142,6 +172,9 @@ public class MqttGatewayPublish {
      * 
      * 지정된 타임아웃 내에 응답이 없으면 재시도하며, 최대 재시도 횟수까지 시도합니다.
      * 응답의 tid와 bid가 요청과 일치하는지 확인합니다.
+     * 내부적으로 publishWithReplyAsync와 같은 경로를 사용하며, 호출 스레드만 결과를 기다립니다.
+     * 타이머가 멈추는 등으로 완료되지 않더라도 (retryCount + 1) * timeout에 여유 시간을 더한 만큼만 기다리고,
+     * 그 뒤에는 대기 목록에서 요청을 제거하고 실패 처리합니다.
      * 
      * @param clazz 응답 데이터의 타입
      * @param topic 발행할 토픽
@@ -154,32 +187,68 @@ public class MqttGatewayPublish {
      * @throws TypeMismatchException 응답 데이터 타입이 예상과 다른 경우
      */
     public <T> CommonTopicResponse<T> publishWithReply(Class<T> clazz, String topic, CommonTopicRequest request, int retryCount, long timeout) {
-        AtomicInteger time = new AtomicInteger(0);
-        boolean hasBid = StringUtils.hasText(request.getBid());
-        request.setBid(hasBid ? request.getBid() : UUID.randomUUID().toString());
-        // Retry
-        while (time.getAndIncrement() <= retryCount) {
-            this.publish(topic, request);
-
-            // If the message is not received in 3 seconds then resend it again.
-            CommonTopicResponse<T> receiver = Chan.getInstance(request.getTid(), true).get(request.getTid(), timeout);
-            // Need to match tid and bid.
-            if (Objects.nonNull(receiver)
-                    && receiver.getTid().equals(request.getTid())
-                    && receiver.getBid().equals(request.getBid())) {
-                if (clazz.isAssignableFrom(receiver.getData().getClass())) {
-                    return receiver;
-                }
-                throw new TypeMismatchException(receiver.getData(), clazz);
-            }
-            // It must be guaranteed that the tid and bid of each message are different.
-            if (!hasBid) {
-                request.setBid(UUID.randomUUID().toString());
+        PendingReply<T> pending = this.sendWithReply(clazz, topic, request, retryCount, timeout);
+        long waitMillis = (retryCount + 1) * timeout + REPLY_WAIT_SLACK;
+        try {
+            return pending.getFuture().get(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CloudSDKException exception = new CloudSDKException(CloudSDKErrorEnum.MQTT_PUBLISH_ABNORMAL,
+                    "Interrupted while waiting for the reply.");
+            pending.fail(exception);
+            throw exception;
+        } catch (TimeoutException e) {
+            CloudSDKException exception = new CloudSDKException(CloudSDKErrorEnum.MQTT_PUBLISH_ABNORMAL,
+                    "No message reply received within " + waitMillis + "ms.");
+            pending.fail(exception);
+            throw exception;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
             }
-            request.setTid(UUID.randomUUID().toString());
+            throw new CloudSDKException(e.getCause());
+        }
+    }
+
+    /**
+     * 요청 메시지를 발행하고 응답을 기다리지 않고 CompletableFuture를 반환합니다.
+     * 
+     * 응답 대기 시간은 공용 타이머 휠로 관리되며, 시간 안에 응답이 없으면 새 tid로 다시 발행합니다.
+     * 재시도 횟수를 모두 사용하면 CloudSDKException으로, 응답 데이터 타입이 다르면
+     * TypeMismatchException으로 예외 완료됩니다.
+     * 
+     * 응답 수신 스레드에서 완료되므로 오래 걸리는 후속 작업은 비동기 단계(thenApplyAsync 등)로 처리하십시오.
+     * 
+     * @param clazz 응답 데이터의 타입
+     * @param topic 발행할 토픽
+     * @param request 발행할 요청 객체
+     * @param retryCount 최대 재시도 횟수
+     * @param timeout 응답 대기 시간 (밀리초)
+     * @param <T> 응답 데이터의 타입
+     * @return 응답으로 완료될 CompletableFuture
+     */
+    public <T> CompletableFuture<CommonTopicResponse<T>> publishWithReplyAsync(Class<T> clazz, String topic, CommonTopicRequest request, int retryCount, long timeout) {
+        return this.sendWithReply(clazz, topic, request, retryCount, timeout).getFuture();
+    }
+
+    /**
+     * 응답 대기 목록에 요청을 등록하고 발행합니다.
+     */
+    private <T> PendingReply<T> sendWithReply(Class<T> clazz, String topic, CommonTopicRequest request, int retryCount, long timeout) {
+        if (!StringUtils.hasText(request.getTid())) {
+            request.setTid(Common.randomUUID());
         }
-        throw new CloudSDKException(CloudSDKErrorEnum.MQTT_PUBLISH_ABNORMAL, "No message reply received.");
+        PendingReply<T> pending = new PendingReply<>(clazz, request, retryCount, timeout, replyTimer,
+                message -> this.publish(topic, message));
+        pending.send();
+        return pending;
     }
 
+    @Override
+    public void destroy() {
+        replyTimer.stop();
+        retryExecutor.shutdown();
+        PendingReply.failAll();
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,214 @@
+package com.dji.sdk.mqtt;
+
+import com.dji.sdk.common.Common;
+import com.dji.sdk.exception.CloudSDKErrorEnum;
+import com.dji.sdk.exception.CloudSDKException;
+import org.springframework.beans.TypeMismatchException;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 응답 대기 중인 요청 클래스
+ *
+ * Chan처럼 스레드를 재우지 않고, 응답이 오면 CompletableFuture를 완료합니다.
+ * 응답 대기 시간은 HashedTimerWheel로 관리하며, 시간 안에 응답이 없으면
+ * tid(와 호출자가 bid를 지정하지 않은 경우 bid)를 새로 발급해 다시 발행합니다.
+ * 따라서 동시에 대기 중인 요청 수와 관계없이 사용하는 스레드 수는 일정합니다.
+ *
+ * 응답 핸들러는 isPending으로 대기 여부를 확인한 뒤 complete를 호출합니다.
+ * 응답을 받은 요청과 타임아웃이 난 요청 중 하나만 처리되도록 대기 목록에서의 제거를 기준으로 경쟁을 정리합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class PendingReply<T> {
+
+    /**
+     * tid별 응답 대기 중인 요청
+     */
+    private static final Map<String, PendingReply<?>> PENDING = new ConcurrentHashMap<>();
+
+    private final Class<T> clazz;
+
+    private final CommonTopicRequest<?> request;
+
+    private final boolean hasBid;
+
+    private final long timeout;
+
+    private final HashedTimerWheel timer;
+
+    private final Consumer<CommonTopicRequest<?>> sender;
+
+    private final CompletableFuture<CommonTopicResponse<T>> future = new CompletableFuture<>();
+
+    /**
+     * 남은 재시도 횟수. 한 번에 하나의 발행만 진행되므로 동기화가 필요 없습니다.
+     */
+    private int retriesLeft;
+
+    private volatile HashedTimerWheel.Timeout timeoutHandle;
+
+    PendingReply(Class<T> clazz, CommonTopicRequest<?> request, int retryCount, long timeout,
+                 HashedTimerWheel timer, Consumer<CommonTopicRequest<?>> sender) {
+        this.clazz = clazz;
+        this.request = request;
+        this.hasBid = Objects.nonNull(request.getBid()) && !request.getBid().isBlank();
+        if (!hasBid) {
+            request.setBid(Common.randomUUID());
+        }
+        this.retriesLeft = retryCount;
+        this.timeout = timeout;
+        this.timer = timer;
+        this.sender = sender;
+    }
+
+    /**
+     * 응답을 기다리는 요청이 있는지 확인합니다.
+     *
+     * @param tid 트랜잭션 ID
+     * @return 대기 중이면 true
+     */
+    public static boolean isPending(String tid) {
+        return Objects.nonNull(tid) && PENDING.containsKey(tid);
+    }
+
+    /**
+     * 대기 중인 요청 수를 반환합니다.
+     *
+     * @return 대기 중인 요청 수
+     */
+    public static int getPendingCount() {
+        return PENDING.size();
+    }
+
+    /**
+     * 응답으로 대기 중인 요청을 완료합니다.
+     * tid와 bid가 모두 일치해야 하며, 일치하지 않으면 무시합니다.
+     *
+     * 이 메서드를 호출한 스레드(MQTT 수신 스레드)에서 비동기 단계가 아닌 후속 작업이 실행되므로,
+     * 오래 걸리는 후속 작업은 thenApplyAsync 등으로 다른 실행기에 넘겨야 합니다.
+     *
+     * @param response 수신한 응답
+     * @return 대기 중인 요청을 완료했으면 true
+     */
+    public static boolean complete(CommonTopicResponse<?> response) {
+        if (Objects.isNull(response) || Objects.isNull(response.getTid())) {
+            return false;
+        }
+        PendingReply<?> pending = PENDING.get(response.getTid());
+        if (Objects.isNull(pending) || !Objects.equals(pending.request.getBid(), response.getBid())
+                || !PENDING.remove(response.getTid(), pending)) {
+            return false;
+        }
+        pending.timeoutHandle.cancel();
+        pending.onReply(response);
+        return true;
+    }
+
+    /**
+     * 대기 중인 모든 요청을 실패 처리합니다. 애플리케이션 종료 시 호출합니다.
+     */
+    static void failAll() {
+        for (PendingReply<?> pending : PENDING.values()) {
+            if (PENDING.remove(pending.request.getTid(), pending)) {
+                pending.future.completeExceptionally(
+                        new CloudSDKException(CloudSDKErrorEnum.MQTT_PUBLISH_ABNORMAL, "The publisher has been stopped."));
+            }
+        }
+    }
+
+    /**
+     * 응답을 기다리지 않고 요청을 실패 처리합니다.
+     * 대기 목록과 타이머에서 제거하므로 이후 도착한 응답은 무시되고 재발행도 일어나지 않습니다.
+     *
+     * @param cause 실패 원인
+     * @return 이 호출로 실패 처리되었으면 true
+     */
+    synchronized boolean fail(Throwable cause) {
+        PENDING.remove(request.getTid(), this);
+        if (Objects.nonNull(timeoutHandle)) {
+            timeoutHandle.cancel();
+        }
+        return future.completeExceptionally(cause);
+    }
+
+    CompletableFuture<CommonTopicResponse<T>> getFuture() {
+        return future;
+    }
+
+    /**
+     * 요청을 대기 목록에 넣고 발행합니다.
+     */
+    void send() {
+        String tid;
+        synchronized (this) {
+            // fail()로 이미 실패 처리된 요청은 다시 발행하지 않습니다.
+            if (future.isDone()) {
+                return;
+            }
+            tid = request.getTid();
+            if (Objects.nonNull(PENDING.putIfAbsent(tid, this))) {
+                future.completeExceptionally(
+                        new CloudSDKException(CloudSDKErrorEnum.INVALID_PARAMETER, "Duplicate tid: " + tid));
+                return;
+            }
+        }
+        try {
+            timeoutHandle = timer.newTimeout(() -> this.onTimeout(tid), timeout, e -> this.onRejected(tid, e));
+            sender.accept(request);
+        } catch (RuntimeException e) {
+            if (PENDING.remove(tid, this)) {
+                if (Objects.nonNull(timeoutHandle)) {
+                    timeoutHandle.cancel();
+                }
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 응답 대기 시간이 지났을 때 호출됩니다. 재시도 횟수가 남았으면 새 tid로 다시 발행합니다.
+     */
+    private void onTimeout(String tid) {
+        if (!PENDING.remove(tid, this)) {
+            return;
+        }
+        if (retriesLeft-- <= 0) {
+            future.completeExceptionally(
+                    new CloudSDKException(CloudSDKErrorEnum.MQTT_PUBLISH_ABNORMAL, "No message reply received."));
+            return;
+        }
+        // It must be guaranteed that the tid and bid of each message are different.
+        if (!hasBid) {
+            request.setBid(Common.randomUUID());
+        }
+        request.setTid(Common.randomUUID());
+        this.send();
+    }
+
+    /**
+     * 재발행 실행기가 타임아웃 작업을 거부했을 때 타이머 스레드에서 호출됩니다.
+     */
+    private void onRejected(String tid, RuntimeException cause) {
+        if (PENDING.remove(tid, this)) {
+            future.completeExceptionally(new CloudSDKException(CloudSDKErrorEnum.MQTT_PUBLISH_ABNORMAL,
+                    "Failed to schedule the reply timeout. " + cause.getMessage()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onReply(CommonTopicResponse<?> response) {
+        Object data = response.getData();
+        if (Objects.nonNull(data) && !clazz.isAssignableFrom(data.getClass())) {
+            future.completeExceptionally(new TypeMismatchException(data, clazz));
+            return;
+        }
+        future.complete((CommonTopicResponse<T>) response);
+    }
+}
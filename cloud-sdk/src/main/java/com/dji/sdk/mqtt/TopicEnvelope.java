@@ -0,0 +1,145 @@
+package com.dji.sdk.mqtt;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.util.Set;
+
+/**
+ * MQTT 메시지 봉투(envelope) 클래스
+ *
+ * TopicPayloadDecoder가 페이로드를 한 번 읽으면서 추출한
+ * 공통 필드(tid, bid, timestamp, gateway, method, need_reply)와 data를 보관합니다.
+ * data의 대상 타입을 data 필드보다 먼저 알 수 있으면 바로 바인딩된 객체가,
+ * 그렇지 않으면 트리를 만들지 않은 토큰 버퍼가 보관됩니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class TopicEnvelope {
+
+    private String tid;
+
+    private String bid;
+
+    private Long timestamp;
+
+    private String gateway;
+
+    private String method;
+
+    private boolean needReply;
+
+    /**
+     * 바인딩이 완료된 data
+     */
+    private Object data;
+
+    /**
+     * 아직 바인딩되지 않은 data 토큰
+     */
+    private TokenBuffer dataTokens;
+
+    /**
+     * data 객체의 최상위 키 목록 (토큰 버퍼로 보관된 경우에만 수집)
+     */
+    private Set<String> dataKeys;
+
+    public TopicEnvelope() {
+    }
+
+    @Override
+    public String toString() {
+        return "TopicEnvelope{" +
+                "tid='" + tid + '\'' +
+                ", bid='" + bid + '\'' +
+                ", timestamp=" + timestamp +
+                ", gateway='" + gateway + '\'' +
+                ", method='" + method + '\'' +
+                ", needReply=" + needReply +
+                ", data=" + data +
+                ", dataKeys=" + dataKeys +
+                '}';
+    }
+
+    public String getTid() {
+        return tid;
+    }
+
+    public TopicEnvelope setTid(String tid) {
+        this.tid = tid;
+        return this;
+    }
+
+    public String getBid() {
+        return bid;
+    }
+
+    public TopicEnvelope setBid(String bid) {
+        this.bid = bid;
+        return this;
+    }
+
+    public Long getTimestamp() {
+        return timestamp;
+    }
+
+    public TopicEnvelope setTimestamp(Long timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    public String getGateway() {
+        return gateway;
+    }
+
+    public TopicEnvelope setGateway(String gateway) {
+        this.gateway = gateway;
+        return this;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public TopicEnvelope setMethod(String method) {
+        this.method = method;
+        return this;
+    }
+
+    public boolean isNeedReply() {
+        return needReply;
+    }
+
+    public TopicEnvelope setNeedReply(boolean needReply) {
+        this.needReply = needReply;
+        return this;
+    }
+
+    public Object getData() {
+        return data;
+    }
+
+    public TopicEnvelope setData(Object data) {
+        this.data = data;
+        return this;
+    }
+
+    public TokenBuffer getDataTokens() {
+        return dataTokens;
+    }
+
+    public TopicEnvelope setDataTokens(TokenBuffer dataTokens) {
+        this.dataTokens = dataTokens;
+        return this;
+    }
+
+    public Set<String> getDataKeys() {
+        return dataKeys;
+    }
+
+    public TopicEnvelope setDataKeys(Set<String> dataKeys) {
+        this.dataKeys = dataKeys;
+        return this;
+    }
+}
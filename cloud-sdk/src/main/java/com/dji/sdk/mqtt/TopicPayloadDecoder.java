@@ -0,0 +1,201 @@
+package com.dji.sdk.mqtt;
+
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.exception.CloudSDKErrorEnum;
+import com.dji.sdk.exception.CloudSDKException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * MQTT 페이로드 단일 패스 디코더
+ *
+ * 페이로드를 Map이나 JsonNode 트리로 먼저 변환한 뒤 convertValue로 다시 변환하는 대신,
+ * JsonParser 한 번으로 봉투 필드를 읽고 data를 대상 타입에 바로 바인딩합니다.
+ *
+ * data 필드보다 먼저 대상 타입을 결정할 수 있으면(예: method가 먼저 오는 경우) 즉시 바인딩하고,
+ * 그렇지 않으면 data를 TokenBuffer에 보관했다가 타입이 결정된 뒤 바인딩합니다.
+ * TokenBuffer는 토큰만 기록하므로 Map 트리 생성과 재직렬화 비용이 없습니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public final class TopicPayloadDecoder {
+
+    private static final String TID = "tid";
+
+    private static final String BID = "bid";
+
+    private static final String TIMESTAMP = "timestamp";
+
+    private static final String GATEWAY = "gateway";
+
+    private static final String METHOD = "method";
+
+    private static final String NEED_REPLY = "need_reply";
+
+    private static final String DATA = "data";
+
+    private TopicPayloadDecoder() {
+    }
+
+    /**
+     * 페이로드를 한 번 읽어 봉투 필드와 data를 추출합니다.
+     *
+     * @param payload MQTT 페이로드
+     * @param resolver data를 만났을 때까지 읽은 봉투로 대상 타입을 결정하는 함수.
+     *                 아직 결정할 수 없으면 null을 반환합니다. null이면 항상 data를 보관합니다.
+     * @return 추출된 봉투
+     * @throws IOException JSON 파싱 오류 시
+     */
+    public static TopicEnvelope decode(byte[] payload, Function<TopicEnvelope, Type> resolver) throws IOException {
+        TopicEnvelope envelope = new TopicEnvelope();
+        try (JsonParser parser = JsonMapperRegistry.getMapper().createParser(payload)) {
+            if (JsonToken.START_OBJECT != parser.nextToken()) {
+                throw new CloudSDKException(CloudSDKErrorEnum.WRONG_DATA, "The payload is not a json object.");
+            }
+            while (JsonToken.FIELD_NAME == parser.nextToken()) {
+                String name = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                switch (name) {
+                    case TID:
+                        envelope.setTid(parser.getValueAsString());
+                        break;
+                    case BID:
+                        envelope.setBid(parser.getValueAsString());
+                        break;
+                    case TIMESTAMP:
+                        envelope.setTimestamp(JsonToken.VALUE_NULL == token ? null : parser.getValueAsLong());
+                        break;
+                    case GATEWAY:
+                        envelope.setGateway(parser.getValueAsString());
+                        break;
+                    case METHOD:
+                        envelope.setMethod(parser.getValueAsString());
+                        break;
+                    case NEED_REPLY:
+                        envelope.setNeedReply(parser.getValueAsBoolean());
+                        break;
+                    case DATA:
+                        readData(parser, envelope, resolver);
+                        break;
+                    default:
+                        break;
+                }
+                parser.skipChildren();
+            }
+        }
+        return envelope;
+    }
+
+    /**
+     * 보관된 data를 대상 타입으로 바인딩합니다.
+     * 이미 바인딩된 경우 그 값을 그대로 반환합니다.
+     *
+     * @param envelope 봉투
+     * @param type 대상 타입
+     * @return 바인딩된 data
+     * @throws IOException JSON 바인딩 오류 시
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T bind(TopicEnvelope envelope, Type type) throws IOException {
+        TokenBuffer tokens = envelope.getDataTokens();
+        if (Objects.isNull(tokens)) {
+            return (T) envelope.getData();
+        }
+        try (JsonParser parser = tokens.asParser()) {
+            T data = JsonMapperRegistry.getReader(type).readValue(parser);
+            envelope.setData(data).setDataTokens(null);
+            return data;
+        }
+    }
+
+    /**
+     * 보관된 data 객체에서 arrayKey 배열의 원소와 elementKeys에 해당하는 값들을 모아
+     * 하나의 arrayKey 배열로 다시 기록합니다. elementKeys 항목은 결과에서 제거됩니다.
+     *
+     * @param tokens data 토큰
+     * @param arrayKey 배열 키
+     * @param elementKeys 배열 원소로 옮길 키 목록
+     * @return 변환된 data 토큰
+     * @throws IOException 토큰 읽기 오류 시
+     */
+    public static TokenBuffer collectIntoArray(TokenBuffer tokens, String arrayKey, Set<String> elementKeys) throws IOException {
+        if (Objects.isNull(tokens)) {
+            return null;
+        }
+        try (JsonParser parser = tokens.asParser()) {
+            if (JsonToken.START_OBJECT != parser.nextToken()) {
+                return tokens;
+            }
+            TokenBuffer target = new TokenBuffer(parser);
+            TokenBuffer elements = new TokenBuffer(parser);
+            target.writeStartObject();
+            elements.writeStartArray();
+            while (JsonToken.FIELD_NAME == parser.nextToken()) {
+                String key = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (arrayKey.equals(key)) {
+                    if (JsonToken.START_ARRAY == token) {
+                        while (JsonToken.END_ARRAY != parser.nextToken()) {
+                            elements.copyCurrentStructure(parser);
+                        }
+                    }
+                    continue;
+                }
+                if (elementKeys.contains(key)) {
+                    elements.copyCurrentStructure(parser);
+                    continue;
+                }
+                target.writeFieldName(key);
+                target.copyCurrentStructure(parser);
+            }
+            elements.writeEndArray();
+            target.writeFieldName(arrayKey);
+            elements.serialize(target);
+            target.writeEndObject();
+            return target;
+        }
+    }
+
+    /**
+     * data 값을 읽습니다. 대상 타입이 결정되어 있으면 바로 바인딩하고,
+     * 아니면 최상위 키를 수집하면서 TokenBuffer에 보관합니다.
+     */
+    private static void readData(JsonParser parser, TopicEnvelope envelope, Function<TopicEnvelope, Type> resolver) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (JsonToken.VALUE_NULL == token) {
+            return;
+        }
+        Type type = Objects.isNull(resolver) ? null : resolver.apply(envelope);
+        if (Objects.nonNull(type)) {
+            envelope.setData(JsonMapperRegistry.getReader(type).readValue(parser));
+            return;
+        }
+
+        TokenBuffer tokens = new TokenBuffer(parser);
+        Set<String> keys = new HashSet<>();
+        if (JsonToken.START_OBJECT == token) {
+            tokens.writeStartObject();
+            while (JsonToken.FIELD_NAME == parser.nextToken()) {
+                String key = parser.getCurrentName();
+                keys.add(key);
+                tokens.writeFieldName(key);
+                parser.nextToken();
+                tokens.copyCurrentStructure(parser);
+            }
+            tokens.writeEndObject();
+        } else {
+            tokens.copyCurrentStructure(parser);
+        }
+        envelope.setDataTokens(tokens).setDataKeys(keys);
+    }
+}
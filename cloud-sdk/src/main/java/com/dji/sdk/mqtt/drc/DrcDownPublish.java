@@ -1,11 +1,24 @@
 package com.dji.sdk.mqtt.drc;
 
+import com.dji.sdk.cloudapi.control.ControlMethodEnum;
+import com.dji.sdk.cloudapi.control.DelayInfoPush;
+import com.dji.sdk.cloudapi.control.DroneControlRequest;
+import com.dji.sdk.cloudapi.control.DroneControlResponse;
+import com.dji.sdk.cloudapi.control.HeartBeatRequest;
+import com.dji.sdk.mqtt.HashedTimerWheel;
 import com.dji.sdk.mqtt.MqttGatewayPublish;
 import com.dji.sdk.mqtt.TopicConst;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Resource;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * DRC 다운로드 발행 클래스
@@ -22,12 +35,22 @@ import java.util.Objects;
  * 이 클래스는 게이트웨이의 시리얼 번호를 사용하여
  * 해당 게이트웨이의 DRC 다운로드 토픽으로 메시지를 발행합니다.
  * 
+ * 기본 모드에서는 QoS 0의 손실을 보완하기 위해 모든 메시지를 정해진 횟수만큼 연속 발행합니다.
+ * cloud-sdk.drc.sequenced를 true로 설정하면 drone_control은 순차 전송 모드로 발행됩니다.
+ * 세션별로 단조 증가하는 seq를 붙여 한 번만 발행하고, ack(drone_control 상향 응답)를 받지 못한
+ * 최신 명령만 재전송합니다. 재전송 횟수는 관측된 손실률로, 간격은 heart_beat 왕복 시간과
+ * delay_info_push의 명령 지연으로 조정됩니다. 디바이스는 이전 seq의 명령을 버리므로 재전송은 멱등입니다.
+ * 비상 정지 등 그 밖의 메서드는 순차 전송 모드에서도 기존처럼 연속 발행합니다.
+ * 
+ * DRC 모드에서는 heart_beat를 주기적으로 보내야 하므로 세션은 drcModeExit 없이 끊겨도
+ * cloud-sdk.drc.session-idle-timeout 동안 송수신이 없으면 정리됩니다.
+ * 
  * @author sean
  * @version 1.7
  * @date 2023/5/24
  */
 @Component
-public class DrcDownPublish {
+public class DrcDownPublish implements InitializingBean, DisposableBean {
 
     /**
      * MQTT 게이트웨이 발행 서비스
@@ -44,6 +67,37 @@ public class DrcDownPublish {
      */
     public static final int DEFAULT_PUBLISH_COUNT = 5;
 
+    /**
+     * 순차 전송 모드 사용 여부
+     */
+    @Value("${cloud-sdk.drc.sequenced: false}")
+    private boolean sequenced;
+
+    /**
+     * 송수신이 없는 세션을 정리하기까지의 시간 (밀리초)
+     */
+    @Value("${cloud-sdk.drc.session-idle-timeout: 300000}")
+    private long sessionIdleTimeout;
+
+    /**
+     * 게이트웨이별 DRC 세션
+     */
+    private final Map<String, DrcSession> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * 재전송 실행기
+     */
+    private final ExecutorService resendExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "drc-resend");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 재전송 타이머
+     */
+    private final HashedTimerWheel resendTimer = new HashedTimerWheel("drc-resend-timer", 5, 256, resendExecutor);
+
     /**
      * DRC 다운로드 메시지를 발행합니다.
      * 
@@ -80,12 +134,152 @@ public class DrcDownPublish {
      * @param publishCount 발행 횟수
      */
     public void publish(String sn, String method, Object data, int publishCount) {
-        String topic = TopicConst.THING_MODEL_PRE + TopicConst.PRODUCT + Objects.requireNonNull(sn) + TopicConst.DRC + TopicConst.DOWN;
-        gatewayPublish.publish(topic,
+        if (sequenced && data instanceof DroneControlRequest
+                && ControlMethodEnum.DRONE_CONTROL.getMethod().equals(method)) {
+            this.publishSequenced(sn, method, (DroneControlRequest) data, publishCount);
+            return;
+        }
+        int count = publishCount;
+        if (sequenced && data instanceof HeartBeatRequest) {
+            // heart_beat는 주기적인 측정용이므로 한 번만 발행하고 왕복 시간 측정을 위해 기록합니다.
+            HeartBeatRequest heartBeat = (HeartBeatRequest) data;
+            if (Objects.nonNull(heartBeat.getSeq())) {
+                this.getSession(sn, publishCount).onHeartBeatSent(heartBeat.getSeq());
+            }
+            count = 1;
+        }
+        gatewayPublish.publish(buildTopic(sn),
                 new TopicDrcRequest<>()
                         .setMethod(method)
                         .setData(Objects.requireNonNullElse(data, "")),
-                publishCount);
+                count);
+    }
+
+    /**
+     * DRC 상향 메시지로 세션의 링크 상태를 갱신합니다.
+     * 
+     * drone_control 응답은 ack로, heart_beat 응답은 왕복 시간으로, delay_info_push는 명령 지연으로 사용합니다.
+     * 순차 전송 세션이 없는 게이트웨이의 메시지는 그대로 통과시킵니다.
+     * 
+     * @param sn 게이트웨이 시리얼 번호
+     * @param request 상향 메시지
+     * @return 처리할 메시지이면 true, 이미 더 새로운 ack를 받은 drone_control 응답이면 false
+     */
+    public boolean onUplink(String sn, TopicDrcRequest<?> request) {
+        DrcSession session = sessions.get(sn);
+        if (Objects.isNull(session)) {
+            return true;
+        }
+        Object data = request.getData();
+        if (data instanceof DrcUpData && ((DrcUpData<?>) data).getOutput() instanceof DroneControlResponse) {
+            Long seq = ((DroneControlResponse) ((DrcUpData<?>) data).getOutput()).getSeq();
+            return Objects.isNull(seq) || session.onAck(seq);
+        }
+        if (data instanceof HeartBeatRequest && Objects.nonNull(((HeartBeatRequest) data).getSeq())) {
+            session.onHeartBeatReply(((HeartBeatRequest) data).getSeq());
+        } else if (data instanceof DelayInfoPush && Objects.nonNull(((DelayInfoPush) data).getSdrCmdDelay())) {
+            session.onSdrCmdDelay(((DelayInfoPush) data).getSdrCmdDelay());
+        }
+        return true;
+    }
+
+    /**
+     * 게이트웨이의 DRC 세션을 반환합니다.
+     * 
+     * @param sn 게이트웨이 시리얼 번호
+     * @return DRC 세션. 순차 전송을 사용한 적이 없으면 null
+     */
+    public DrcSession getSession(String sn) {
+        return sessions.get(sn);
+    }
+
+    /**
+     * 게이트웨이의 DRC 세션을 종료합니다. DRC 모드를 종료할 때 호출합니다.
+     * 
+     * @param sn 게이트웨이 시리얼 번호
+     */
+    public void closeSession(String sn) {
+        sessions.remove(sn);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (sequenced && sessionIdleTimeout > 0) {
+            this.scheduleIdleSweep();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        resendTimer.stop();
+        resendExecutor.shutdown();
+    }
+
+    /**
+     * 순차 전송 모드로 drone_control을 발행합니다.
+     * 세션의 다음 seq를 붙여 한 번 발행하고, 현재 중복 전송 횟수만큼 재전송을 예약합니다.
+     */
+    private void publishSequenced(String sn, String method, DroneControlRequest data, int publishCount) {
+        DrcSession session = this.getSession(sn, publishCount);
+        data.setSeq(session.nextSeq(data.getSeq()));
+        String topic = buildTopic(sn);
+        TopicDrcRequest<DroneControlRequest> request = new TopicDrcRequest<DroneControlRequest>()
+                .setMethod(method)
+                .setData(data);
+        DrcSession.Pending pending = session.offer(data.getSeq(),
+                () -> gatewayPublish.publish(topic, request), session.getRedundancy());
+        session.send(pending);
+        this.scheduleResend(session, pending);
+    }
+
+    /**
+     * 재전송 간격 뒤에 명령이 여전히 최신이고 ack를 받지 못했으면 다시 발행합니다.
+     * 전송 횟수를 모두 사용했으면 한 간격 뒤에 손실 여부만 기록합니다.
+     */
+    private void scheduleResend(DrcSession session, DrcSession.Pending pending) {
+        long interval = session.getResendInterval();
+        if (pending.remaining <= 0) {
+            resendTimer.newTimeout(() -> session.onExhausted(pending), interval);
+            return;
+        }
+        resendTimer.newTimeout(() -> {
+            if (!session.isResendable(pending)) {
+                return;
+            }
+            session.send(pending);
+            this.scheduleResend(session, pending);
+        }, interval);
+    }
+
+    /**
+     * 유휴 시간의 절반마다 유휴 세션을 정리합니다.
+     */
+    private void scheduleIdleSweep() {
+        resendTimer.newTimeout(() -> {
+            this.expireIdleSessions();
+            this.scheduleIdleSweep();
+        }, Math.max(1, sessionIdleTimeout / 2));
+    }
+
+    /**
+     * 유휴 시간 동안 송수신이 없는 세션을 제거합니다.
+     */
+    void expireIdleSessions() {
+        sessions.values().removeIf(session -> session.getIdleMillis() >= sessionIdleTimeout);
+    }
+
+    /**
+     * 게이트웨이의 DRC 세션을 반환하고, 없으면 생성합니다.
+     */
+    private DrcSession getSession(String sn, int maxCopies) {
+        return sessions.computeIfAbsent(sn, key -> new DrcSession(key, maxCopies));
+    }
+
+    /**
+     * 게이트웨이의 DRC 다운로드 토픽을 생성합니다.
+     */
+    private static String buildTopic(String sn) {
+        return TopicConst.THING_MODEL_PRE + TopicConst.PRODUCT + Objects.requireNonNull(sn) + TopicConst.DRC + TopicConst.DOWN;
     }
 
 }
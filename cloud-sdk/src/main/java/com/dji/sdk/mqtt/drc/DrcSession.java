@@ -0,0 +1,320 @@
+package com.dji.sdk.mqtt.drc;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * DRC 세션 클래스
+ *
+ * 순차 전송 모드에서 게이트웨이별 DRC 다운링크 상태를 보관합니다.
+ *
+ * 주요 기능:
+ * - 단조 증가하는 시퀀스 번호 발급
+ * - 재전송 대상인 최신 명령 1건 보관
+ * - drone_control 응답(ack)으로 손실률 추정
+ * - heart_beat 응답과 delay_info_push로 지연 시간 추정
+ * - 손실률과 지연 시간으로 중복 전송 횟수와 재전송 간격 결정
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class DrcSession {
+
+    /**
+     * 최신 명령이 전달되지 않을 목표 확률
+     */
+    private static final double TARGET_RESIDUAL_LOSS = 0.001;
+
+    /**
+     * 손실률 추정 시 새 표본의 가중치
+     */
+    private static final double LOSS_ALPHA = 0.1;
+
+    /**
+     * 지연 시간 추정 시 새 표본의 가중치
+     */
+    private static final double DELAY_ALPHA = 0.2;
+
+    private static final long MIN_RESEND_INTERVAL = 20;
+
+    private static final long MAX_RESEND_INTERVAL = 300;
+
+    /**
+     * 지연 시간을 모를 때의 재전송 간격 (밀리초)
+     */
+    private static final long DEFAULT_RESEND_INTERVAL = 50;
+
+    private final String sn;
+
+    /**
+     * 최대 전송 횟수 (최초 전송 포함)
+     */
+    private final int maxCopies;
+
+    private final AtomicLong seq = new AtomicLong();
+
+    /**
+     * 가장 큰 ack 시퀀스 번호
+     */
+    private final AtomicLong ackedSeq = new AtomicLong(-1);
+
+    /**
+     * 재전송 대상인 최신 명령
+     */
+    private final AtomicReference<Pending> latest = new AtomicReference<>();
+
+    /**
+     * 추정 손실률의 double 비트. ack를 받기 전에는 1로 두어 기존과 같은 횟수로 전송합니다.
+     * ack는 수신 스레드에서, 손실은 재전송 스레드에서 기록하므로 CAS로 갱신합니다.
+     */
+    private final AtomicLong lossRateBits = new AtomicLong(Double.doubleToLongBits(1));
+
+    /**
+     * 추정 왕복 지연 시간 (밀리초). 0이면 모름
+     */
+    private volatile double rtt;
+
+    /**
+     * 디바이스가 보고한 명령 전달 지연 시간 (밀리초)
+     */
+    private volatile int sdrCmdDelay;
+
+    /**
+     * 마지막으로 보낸 heart_beat의 시퀀스 번호와 전송 시각 (나노초)
+     */
+    private volatile long heartBeatSeq = -1;
+
+    private volatile long heartBeatSentAt;
+
+    private final AtomicLong publishedCount = new AtomicLong();
+
+    private final AtomicLong ackCount = new AtomicLong();
+
+    private final AtomicLong staleCount = new AtomicLong();
+
+    /**
+     * 마지막으로 명령을 보내거나 상향 메시지를 받은 시각 (나노초)
+     */
+    private volatile long lastActiveAt = System.nanoTime();
+
+    DrcSession(String sn, int maxCopies) {
+        this.sn = sn;
+        this.maxCopies = Math.max(1, maxCopies);
+    }
+
+    /**
+     * 다음 시퀀스 번호를 발급합니다. 호출자가 지정한 번호가 더 크면 그 번호를 사용합니다.
+     *
+     * @param requested 호출자가 지정한 번호. 없으면 null
+     * @return 이전 번호보다 큰 시퀀스 번호
+     */
+    long nextSeq(Long requested) {
+        long floor = requested == null ? Long.MIN_VALUE : requested;
+        return seq.accumulateAndGet(floor, (prev, req) -> Math.max(prev + 1, req));
+    }
+
+    /**
+     * 현재 손실률과 최대 전송 횟수로 명령 1건의 전송 횟수를 계산합니다.
+     *
+     * @return 전송 횟수 (최초 전송 포함)
+     */
+    public int getRedundancy() {
+        double loss = getLossRate();
+        if (loss <= TARGET_RESIDUAL_LOSS) {
+            return 1;
+        }
+        if (loss >= 1) {
+            return maxCopies;
+        }
+        int copies = (int) Math.ceil(Math.log(TARGET_RESIDUAL_LOSS) / Math.log(loss));
+        return Math.min(maxCopies, Math.max(1, copies));
+    }
+
+    /**
+     * 지연 시간으로 재전송 간격을 계산합니다.
+     *
+     * @return 재전송 간격 (밀리초)
+     */
+    public long getResendInterval() {
+        double delay = Math.max(rtt, 2.0 * sdrCmdDelay);
+        if (delay <= 0) {
+            return DEFAULT_RESEND_INTERVAL;
+        }
+        return Math.min(MAX_RESEND_INTERVAL, Math.max(MIN_RESEND_INTERVAL, (long) delay));
+    }
+
+    /**
+     * 새 명령을 최신 명령으로 등록합니다. 이전 명령은 더 이상 재전송되지 않습니다.
+     */
+    Pending offer(long seq, Runnable send, int copies) {
+        Pending pending = new Pending(seq, send, copies);
+        latest.set(pending);
+        return pending;
+    }
+
+    /**
+     * 명령이 아직 재전송 대상인지 확인합니다.
+     * 더 새로운 명령으로 대체되었거나 ack를 받았으면 false입니다.
+     */
+    boolean isResendable(Pending pending) {
+        return latest.get() == pending && ackedSeq.get() < pending.seq;
+    }
+
+    /**
+     * 명령을 전송하고 횟수를 기록합니다.
+     */
+    void send(Pending pending) {
+        pending.remaining--;
+        pending.sent++;
+        publishedCount.incrementAndGet();
+        lastActiveAt = System.nanoTime();
+        pending.send.run();
+    }
+
+    /**
+     * 모든 전송 횟수를 사용하고도 ack를 받지 못한 명령을 손실로 기록합니다.
+     */
+    void onExhausted(Pending pending) {
+        if (latest.get() == pending && ackedSeq.get() < pending.seq) {
+            this.updateLossRate(1);
+        }
+    }
+
+    /**
+     * drone_control 응답의 시퀀스 번호를 기록합니다.
+     *
+     * @param ack 응답의 시퀀스 번호
+     * @return 이전 응답보다 새로우면 true, 지연되어 도착한 이전 응답이면 false
+     */
+    boolean onAck(long ack) {
+        lastActiveAt = System.nanoTime();
+        long prev = ackedSeq.getAndAccumulate(ack, Math::max);
+        if (ack <= prev) {
+            staleCount.incrementAndGet();
+            return false;
+        }
+        ackCount.incrementAndGet();
+        Pending pending = latest.get();
+        if (pending != null && pending.seq == ack && pending.sent > 0) {
+            this.updateLossRate((pending.sent - 1) / (double) pending.sent);
+        } else {
+            this.updateLossRate(0);
+        }
+        return true;
+    }
+
+    /**
+     * 손실률 추정값에 새 표본을 반영합니다.
+     */
+    private void updateLossRate(double sample) {
+        lossRateBits.updateAndGet(bits -> {
+            double current = Double.longBitsToDouble(bits);
+            return Double.doubleToLongBits(current + LOSS_ALPHA * (sample - current));
+        });
+    }
+
+    /**
+     * heart_beat 전송을 기록합니다.
+     *
+     * @param seq heart_beat 시퀀스 번호
+     */
+    void onHeartBeatSent(long seq) {
+        this.heartBeatSentAt = System.nanoTime();
+        this.lastActiveAt = heartBeatSentAt;
+        this.heartBeatSeq = seq;
+    }
+
+    /**
+     * heart_beat 응답으로 왕복 지연 시간을 기록합니다.
+     * 디바이스 시계와 무관하도록 마지막으로 보낸 heart_beat와 시퀀스 번호가 같은 응답만 사용합니다.
+     *
+     * @param seq 응답의 시퀀스 번호
+     */
+    void onHeartBeatReply(long seq) {
+        lastActiveAt = System.nanoTime();
+        if (seq != heartBeatSeq) {
+            return;
+        }
+        long sample = (System.nanoTime() - heartBeatSentAt) / 1_000_000;
+        double current = rtt;
+        rtt = current <= 0 ? sample : current + DELAY_ALPHA * (sample - current);
+    }
+
+    /**
+     * delay_info_push의 명령 전달 지연 시간을 기록합니다.
+     *
+     * @param delay 명령 전달 지연 시간 (밀리초)
+     */
+    void onSdrCmdDelay(int delay) {
+        lastActiveAt = System.nanoTime();
+        this.sdrCmdDelay = Math.max(0, delay);
+    }
+
+    public String getSn() {
+        return sn;
+    }
+
+    public long getSeq() {
+        return seq.get();
+    }
+
+    public long getAckedSeq() {
+        return ackedSeq.get();
+    }
+
+    public double getLossRate() {
+        return Double.longBitsToDouble(lossRateBits.get());
+    }
+
+    /**
+     * 마지막 활동 이후 지난 시간을 반환합니다.
+     *
+     * @return 유휴 시간 (밀리초)
+     */
+    public long getIdleMillis() {
+        return (System.nanoTime() - lastActiveAt) / 1_000_000;
+    }
+
+    public double getRtt() {
+        return rtt;
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    public long getAckCount() {
+        return ackCount.get();
+    }
+
+    public long getStaleCount() {
+        return staleCount.get();
+    }
+
+    /**
+     * 재전송 대상 명령
+     */
+    static final class Pending {
+
+        private final long seq;
+
+        private final Runnable send;
+
+        /**
+         * 남은 전송 횟수
+         */
+        volatile int remaining;
+
+        /**
+         * 전송한 횟수
+         */
+        volatile int sent;
+
+        private Pending(long seq, Runnable send, int copies) {
+            this.seq = seq;
+            this.send = send;
+            this.remaining = copies;
+        }
+    }
+}
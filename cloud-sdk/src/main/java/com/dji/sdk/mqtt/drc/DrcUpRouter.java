@@ -1,16 +1,21 @@
 package com.dji.sdk.mqtt.drc;
 
-import com.dji.sdk.common.Common;
 import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.mqtt.ChannelName;
+import com.dji.sdk.mqtt.CloudApiTopicEnum;
+import com.dji.sdk.mqtt.TopicEnvelope;
+import com.dji.sdk.mqtt.TopicPayloadDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.dsl.IntegrationFlow;
 import org.springframework.integration.dsl.IntegrationFlows;
+import org.springframework.integration.mqtt.support.MqttHeaders;
 import org.springframework.messaging.Message;
 
+import javax.annotation.Resource;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Objects;
 
 /**
  * DRC 업로드 라우터
@@ -34,6 +39,9 @@ import java.util.Arrays;
 @Configuration
 public class DrcUpRouter {
 
+    @Resource
+    private DrcDownPublish drcDownPublish;
+
     /**
      * DRC 업로드 라우터 플로우를 생성합니다.
      * 
@@ -48,16 +56,38 @@ public class DrcUpRouter {
                 .from(ChannelName.INBOUND_DRC_UP)
                 .transform(Message.class, source -> {
                     try {
-                        TopicDrcRequest data = Common.getObjectMapper().readValue((byte[]) source.getPayload(), TopicDrcRequest.class);
-                        return data.setData(Common.getObjectMapper().convertValue(data.getData(), DrcUpMethodEnum.find(data.getMethod()).getClassType()));
+                        return decode((byte[]) source.getPayload());
                     } catch (IOException e) {
                         throw new CloudSDKException(e);
                     }
                 }, null)
+                // 순차 전송 모드의 ack와 링크 상태를 기록하고, 지연되어 도착한 이전 ack는 버림
+                .filter(Message.class, message -> drcDownPublish.onUplink(
+                        CloudApiTopicEnum.getSn(String.valueOf(message.getHeaders().get(MqttHeaders.RECEIVED_TOPIC))),
+                        (TopicDrcRequest<?>) message.getPayload()))
                 .<TopicDrcRequest, DrcUpMethodEnum>route(
                         response -> DrcUpMethodEnum.find(response.getMethod()),
                         mapping -> Arrays.stream(DrcUpMethodEnum.values()).forEach(
                                 methodEnum -> mapping.channelMapping(methodEnum, methodEnum.getChannelName())))
                 .get();
     }
+
+    /**
+     * DRC 업로드 페이로드를 method에 맞는 요청 객체로 변환합니다.
+     *
+     * @param payload MQTT 페이로드
+     * @return DRC 요청
+     * @throws IOException JSON 파싱 오류 시
+     */
+    static TopicDrcRequest<Object> decode(byte[] payload) throws IOException {
+        // method로 데이터 타입을 결정하여 페이로드를 한 번에 변환
+        TopicEnvelope envelope = TopicPayloadDecoder.decode(payload,
+                env -> Objects.isNull(env.getMethod()) ? null : DrcUpMethodEnum.find(env.getMethod()).getClassType().getType());
+        return new TopicDrcRequest<>()
+                .setTid(envelope.getTid())
+                .setBid(envelope.getBid())
+                .setTimestamp(envelope.getTimestamp())
+                .setMethod(envelope.getMethod())
+                .setData(TopicPayloadDecoder.bind(envelope, DrcUpMethodEnum.find(envelope.getMethod()).getClassType().getType()));
+    }
 }
@@ -1,9 +1,10 @@
 package com.dji.sdk.mqtt.events;
 
-import com.dji.sdk.common.Common;
 import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.mqtt.ChannelName;
 import com.dji.sdk.mqtt.MqttGatewayPublish;
+import com.dji.sdk.mqtt.TopicEnvelope;
+import com.dji.sdk.mqtt.TopicPayloadDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.dsl.IntegrationFlow;
@@ -46,12 +47,7 @@ public class EventsRouter {
                 .from(ChannelName.INBOUND_EVENTS)
                 .transform(Message.class, source -> {
                     try {
-                        // MQTT 메시지를 TopicEventsRequest 객체로 변환
-                        TopicEventsRequest data = Common.getObjectMapper().readValue((byte[]) source.getPayload(), TopicEventsRequest.class);
-                        String topic = String.valueOf(source.getHeaders().get(MqttHeaders.RECEIVED_TOPIC));
-                        // 토픽에서 디바이스 정보를 추출하여 설정
-                        return data.setFrom(topic.substring((THING_MODEL_PRE + PRODUCT).length(), topic.indexOf(EVENTS_SUF)))
-                                .setData(Common.getObjectMapper().convertValue(data.getData(), EventsMethodEnum.find(data.getMethod()).getClassType()));
+                        return decode(String.valueOf(source.getHeaders().get(MqttHeaders.RECEIVED_TOPIC)), (byte[]) source.getPayload());
                     } catch (IOException e) {
                         throw new CloudSDKException(e);
                     }
@@ -63,6 +59,30 @@ public class EventsRouter {
                 .get();
     }
 
+    /**
+     * 이벤트 페이로드를 method에 맞는 요청 객체로 변환합니다.
+     *
+     * @param topic 수신 토픽
+     * @param payload MQTT 페이로드
+     * @return 이벤트 요청
+     * @throws IOException JSON 파싱 오류 시
+     */
+    static TopicEventsRequest<Object> decode(String topic, byte[] payload) throws IOException {
+        // method로 데이터 타입을 결정하여 페이로드를 한 번에 변환
+        TopicEnvelope envelope = TopicPayloadDecoder.decode(payload,
+                env -> Objects.isNull(env.getMethod()) ? null : EventsMethodEnum.find(env.getMethod()).getClassType().getType());
+        // 토픽에서 디바이스 정보를 추출하여 설정
+        return new TopicEventsRequest<>()
+                .setTid(envelope.getTid())
+                .setBid(envelope.getBid())
+                .setTimestamp(envelope.getTimestamp())
+                .setMethod(envelope.getMethod())
+                .setGateway(envelope.getGateway())
+                .setNeedReply(envelope.isNeedReply())
+                .setFrom(topic.substring((THING_MODEL_PRE + PRODUCT).length(), topic.indexOf(EVENTS_SUF)))
+                .setData(TopicPayloadDecoder.bind(envelope, EventsMethodEnum.find(envelope.getMethod()).getClassType().getType()));
+    }
+
     /**
      * 이벤트 성공 응답을 처리하는 플로우를 생성합니다.
      * 이벤트 응답을 MQTT로 발행합니다.
@@ -1,12 +1,12 @@
 package com.dji.sdk.mqtt.osd;
 
 import com.dji.sdk.cloudapi.device.PayloadModelConst;
-import com.dji.sdk.common.Common;
 import com.dji.sdk.config.version.GatewayManager;
 import com.dji.sdk.common.SDKManager;
 import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.mqtt.ChannelName;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.dji.sdk.mqtt.TopicEnvelope;
+import com.dji.sdk.mqtt.TopicPayloadDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.dsl.IntegrationFlow;
@@ -15,10 +15,9 @@ import org.springframework.integration.mqtt.support.MqttHeaders;
 import org.springframework.messaging.Message;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import static com.dji.sdk.mqtt.TopicConst.*;
 
@@ -33,6 +32,9 @@ import static com.dji.sdk.mqtt.TopicConst.*;
 @Configuration
 public class OsdRouter {
 
+    /** 페이로드 인덱스 키 목록 (예: 39-0-7) */
+    private static final Set<String> PAYLOAD_INDEX_KEYS = PayloadModelConst.getAllIndexWithPosition();
+
     /**
      * OSD 라우터 플로우를 생성합니다.
      * MQTT OSD 메시지를 받아서 적절한 채널로 라우팅합니다.
@@ -45,35 +47,61 @@ public class OsdRouter {
                 .from(ChannelName.INBOUND_OSD)
                 .transform(Message.class, source -> {
                     try {
-                        // MQTT 메시지를 TopicOsdRequest 객체로 변환
-                        TopicOsdRequest response = Common.getObjectMapper().readValue((byte[]) source.getPayload(), new TypeReference<TopicOsdRequest>() {});
-                        String topic = String.valueOf(source.getHeaders().get(MqttHeaders.RECEIVED_TOPIC));
-                        // 토픽에서 디바이스 정보를 추출하여 설정
-                        return response.setFrom(topic.substring((THING_MODEL_PRE + PRODUCT).length(), topic.indexOf(OSD_SUF)));
+                        return decode(String.valueOf(source.getHeaders().get(MqttHeaders.RECEIVED_TOPIC)), (byte[]) source.getPayload());
                     } catch (IOException e) {
                         throw new CloudSDKException(e);
                     }
                 }, null)
-                .<TopicOsdRequest>handle((response, headers) -> {
-                    // 게이트웨이 매니저를 가져와서 디바이스 타입을 판별
-                    GatewayManager gateway = SDKManager.getDeviceSDK(response.getGateway());
-                    OsdDeviceTypeEnum typeEnum = OsdDeviceTypeEnum.find(gateway.getType(), response.getFrom().equals(response.getGateway()));
-                    Map<String, Object> data = (Map<String, Object>) response.getData();
-                    
-                    // 게이트웨이가 아닌 경우 페이로드 데이터를 처리
-                    if (!typeEnum.isGateway()) {
-                        List payloadData = (List) data.getOrDefault(PayloadModelConst.PAYLOAD_KEY, new ArrayList<>());
-                        // 모든 인덱스와 위치 정보를 페이로드 데이터에 추가
-                        PayloadModelConst.getAllIndexWithPosition().stream().filter(data::containsKey)
-                                .map(data::get).forEach(payloadData::add);
-                        data.put(PayloadModelConst.PAYLOAD_KEY, payloadData);
-                    }
-                    // 데이터를 해당 클래스 타입으로 변환
-                    return response.setData(Common.getObjectMapper().convertValue(data, typeEnum.getClassType()));
-                })
                 .<TopicOsdRequest, OsdDeviceTypeEnum>route(response -> OsdDeviceTypeEnum.find(response.getData().getClass()),
                         mapping -> Arrays.stream(OsdDeviceTypeEnum.values()).forEach(key -> mapping.channelMapping(key, key.getChannelName())))
                 .get();
     }
 
+    /**
+     * OSD 페이로드를 디바이스 타입에 맞는 요청 객체로 변환합니다.
+     *
+     * @param topic 수신 토픽
+     * @param payload MQTT 페이로드
+     * @return OSD 요청
+     * @throws IOException JSON 파싱 오류 시
+     */
+    static TopicOsdRequest<Object> decode(String topic, byte[] payload) throws IOException {
+        // 토픽에서 디바이스 정보를 추출
+        String from = topic.substring((THING_MODEL_PRE + PRODUCT).length(), topic.indexOf(OSD_SUF));
+        // 디바이스 타입은 메시지당 한 번만 판별. gateway가 data보다 먼저 오면 그때 판별하고, 게이트웨이 OSD는 바로 바인딩
+        OsdDeviceTypeEnum[] resolved = new OsdDeviceTypeEnum[1];
+        TopicEnvelope envelope = TopicPayloadDecoder.decode(payload, env -> {
+            if (Objects.isNull(env.getGateway())) {
+                return null;
+            }
+            resolved[0] = findType(env.getGateway(), from);
+            return resolved[0].isGateway() ? resolved[0].getClassType() : null;
+        });
+        OsdDeviceTypeEnum typeEnum = Objects.nonNull(resolved[0]) ? resolved[0] : findType(envelope.getGateway(), from);
+        // 게이트웨이가 아닌 경우 페이로드 인덱스 키의 데이터를 페이로드 목록으로 모음
+        if (!typeEnum.isGateway()) {
+            envelope.setDataTokens(TopicPayloadDecoder.collectIntoArray(
+                    envelope.getDataTokens(), PayloadModelConst.PAYLOAD_KEY, PAYLOAD_INDEX_KEYS));
+        }
+        return new TopicOsdRequest<>()
+                .setTid(envelope.getTid())
+                .setBid(envelope.getBid())
+                .setTimestamp(envelope.getTimestamp())
+                .setGateway(envelope.getGateway())
+                .setFrom(from)
+                .setData(TopicPayloadDecoder.bind(envelope, typeEnum.getClassType()));
+    }
+
+    /**
+     * 게이트웨이 타입과 발신 디바이스로 OSD 디바이스 타입을 판별합니다.
+     *
+     * @param gatewaySn 게이트웨이 시리얼 번호
+     * @param from 발신 디바이스 시리얼 번호
+     * @return OSD 디바이스 타입
+     */
+    private static OsdDeviceTypeEnum findType(String gatewaySn, String from) {
+        GatewayManager gateway = SDKManager.getDeviceSDK(gatewaySn);
+        return OsdDeviceTypeEnum.find(gateway.getType(), from.equals(gatewaySn));
+    }
+
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.dji.sdk.mqtt.property;
 
+import com.dji.sdk.common.Common;
+import com.dji.sdk.mqtt.CommonTopicResponse;
 import com.dji.sdk.mqtt.MqttGatewayPublish;
 import com.dji.sdk.mqtt.TopicConst;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Resource;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * MQTT 프로퍼티 설정 발행 클래스
@@ -56,15 +58,42 @@ public class PropertySetPublish {
      * @return 프로퍼티 설정 응답 결과
      */
     public PropertySetReplyResultEnum publish(String sn, Object data, int retryCount, long timeout) {
-        // 프로퍼티 설정 토픽 생성
-        String topic = TopicConst.THING_MODEL_PRE + TopicConst.PRODUCT + Objects.requireNonNull(sn) + TopicConst.PROPERTY_SUF + TopicConst.SET_SUF;
         // MQTT로 프로퍼티 설정 요청 발행
         return gatewayPublish.publishWithReply(
-                PropertySetReplyResultEnum.class, topic, new TopicPropertySetRequest<>()
-                        .setTid(UUID.randomUUID().toString())
-                        .setBid(null)
-                        .setTimestamp(System.currentTimeMillis())
-                        .setData(Objects.requireNonNull(data)), retryCount, timeout).getData();
+                PropertySetReplyResultEnum.class, buildTopic(sn), buildRequest(data), retryCount, timeout).getData();
+    }
+
+    /**
+     * 재시도 횟수와 타임아웃을 지정하여 프로퍼티 설정 요청을 비동기로 발행합니다.
+     * 
+     * @param sn 디바이스 시리얼 번호
+     * @param data 설정할 프로퍼티 데이터
+     * @param retryCount 재시도 횟수
+     * @param timeout 타임아웃 (밀리초)
+     * @return 프로퍼티 설정 응답 결과로 완료될 CompletableFuture
+     */
+    public CompletableFuture<PropertySetReplyResultEnum> publishAsync(String sn, Object data, int retryCount, long timeout) {
+        return gatewayPublish.publishWithReplyAsync(
+                PropertySetReplyResultEnum.class, buildTopic(sn), buildRequest(data), retryCount, timeout)
+                .thenApply(CommonTopicResponse::getData);
+    }
+
+    /**
+     * 프로퍼티 설정 토픽을 생성합니다.
+     */
+    private static String buildTopic(String sn) {
+        return TopicConst.THING_MODEL_PRE + TopicConst.PRODUCT + Objects.requireNonNull(sn) + TopicConst.PROPERTY_SUF + TopicConst.SET_SUF;
+    }
+
+    /**
+     * 프로퍼티 설정 요청 메시지를 생성합니다.
+     */
+    private static TopicPropertySetRequest<Object> buildRequest(Object data) {
+        return new TopicPropertySetRequest<>()
+                .setTid(Common.randomUUID())
+                .setBid(null)
+                .setTimestamp(System.currentTimeMillis())
+                .setData(Objects.requireNonNull(data));
     }
 
 }
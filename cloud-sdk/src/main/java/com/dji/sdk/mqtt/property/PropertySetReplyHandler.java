@@ -1,8 +1,8 @@
 package com.dji.sdk.mqtt.property;
 
-import com.dji.sdk.common.Common;
-import com.dji.sdk.mqtt.Chan;
+import com.dji.sdk.common.JsonMapperRegistry;
 import com.dji.sdk.mqtt.ChannelName;
+import com.dji.sdk.mqtt.PendingReply;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.integration.annotation.ServiceActivator;
@@ -10,7 +10,6 @@ import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.Objects;
 
 /**
  * MQTT 프로퍼티 설정 응답 핸들러 클래스
@@ -37,16 +36,15 @@ public class PropertySetReplyHandler {
         byte[] payload = (byte[])message.getPayload();
 
         // 메시지를 TopicPropertySetResponse 객체로 변환
-        TopicPropertySetResponse receiver = Common.getObjectMapper().readValue(payload, new TypeReference<TopicPropertySetResponse>() {});
-        // 트랜잭션 ID로 해당하는 Chan 객체를 찾음
-        Chan chan = Chan.getInstance(receiver.getTid(), false);
-        if (Objects.isNull(chan)) {
+        TopicPropertySetResponse receiver = JsonMapperRegistry.getReader(new TypeReference<TopicPropertySetResponse>() {}).readValue(payload);
+        // 트랜잭션 ID로 응답을 기다리는 요청이 있는지 확인
+        if (!PendingReply.isPending(receiver.getTid())) {
             return;
         }
         // 응답 데이터에서 결과 코드를 추출하여 설정
         receiver.setData(PropertySetReplyResultEnum.find(
-                Common.getObjectMapper().convertValue(receiver.getData(), JsonNode.class).findValue(RESULT_KEY).intValue()));
-        // 응답을 Chan 객체에 전달
-        chan.put(receiver);
+                JsonMapperRegistry.getMapper().convertValue(receiver.getData(), JsonNode.class).findValue(RESULT_KEY).intValue()));
+        // 응답으로 대기 중인 요청을 완료
+        PendingReply.complete(receiver);
     }
 }
@@ -1,6 +1,6 @@
 package com.dji.sdk.mqtt.requests;
 
-import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
 import com.dji.sdk.exception.CloudSDKErrorEnum;
 import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.mqtt.ChannelName;
@@ -44,9 +44,9 @@ public class RequestsRouter {
                 .<byte[], TopicRequestsRequest>transform(payload -> {
                     try {
                         // MQTT 메시지를 TopicRequestsRequest 객체로 변환
-                        TopicRequestsRequest response = Common.getObjectMapper().readValue(payload, TopicRequestsRequest.class);
+                        TopicRequestsRequest response = JsonMapperRegistry.getReader(TopicRequestsRequest.class).readValue(payload);
                         // 데이터를 해당 클래스 타입으로 변환
-                        return response.setData(Common.getObjectMapper().convertValue(response.getData(), RequestsMethodEnum.find(response.getMethod()).getClassType()));
+                        return response.setData(JsonMapperRegistry.getMapper().convertValue(response.getData(), RequestsMethodEnum.find(response.getMethod()).getClassType()));
                     } catch (IOException e) {
                         throw new CloudSDKException(e);
                     }
@@ -0,0 +1,116 @@
+package com.dji.sdk.mqtt.services;
+
+import java.util.Objects;
+
+/**
+ * MQTT 서비스 배치 요청의 게이트웨이별 결과 클래스
+ * 응답을 받았으면 응답을, 받지 못했으면(타임아웃, 기한 초과, 발행 실패) 원인 예외를 담는 제네릭 클래스
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class ServicesBatchResult<T> {
+
+    /** 게이트웨이 시리얼 번호 */
+    private String sn;
+
+    /** 서비스 응답. 응답을 받지 못했으면 null */
+    private TopicServicesResponse<ServicesReplyData<T>> response;
+
+    /** 응답을 받지 못한 원인 */
+    private Throwable error;
+
+    /**
+     * 기본 생성자
+     */
+    public ServicesBatchResult() {
+    }
+
+    @Override
+    public String toString() {
+        return "ServicesBatchResult{" +
+                "sn='" + sn + '\'' +
+                ", response=" + response +
+                ", error=" + error +
+                '}';
+    }
+
+    /**
+     * 응답을 받았고 디바이스가 성공을 반환했는지 확인합니다.
+     * @return 성공 여부
+     */
+    public boolean isSuccess() {
+        return Objects.nonNull(response) && Objects.nonNull(response.getData())
+                && Objects.nonNull(response.getData().getResult()) && response.getData().getResult().isSuccess();
+    }
+
+    /**
+     * 실패 사유를 반환합니다. 성공한 경우 null을 반환합니다.
+     * @return 실패 사유
+     */
+    public String getMessage() {
+        if (Objects.nonNull(error)) {
+            return error.getMessage();
+        }
+        if (isSuccess()) {
+            return null;
+        }
+        return Objects.isNull(response.getData()) || Objects.isNull(response.getData().getResult()) ?
+                "No result in the reply." : response.getData().getResult().getMessage();
+    }
+
+    /**
+     * 게이트웨이 시리얼 번호를 반환합니다.
+     * @return 게이트웨이 시리얼 번호
+     */
+    public String getSn() {
+        return sn;
+    }
+
+    /**
+     * 게이트웨이 시리얼 번호를 설정합니다.
+     * @param sn 게이트웨이 시리얼 번호
+     * @return 현재 객체 (메서드 체이닝 지원)
+     */
+    public ServicesBatchResult<T> setSn(String sn) {
+        this.sn = sn;
+        return this;
+    }
+
+    /**
+     * 서비스 응답을 반환합니다.
+     * @return 서비스 응답
+     */
+    public TopicServicesResponse<ServicesReplyData<T>> getResponse() {
+        return response;
+    }
+
+    /**
+     * 서비스 응답을 설정합니다.
+     * @param response 서비스 응답
+     * @return 현재 객체 (메서드 체이닝 지원)
+     */
+    public ServicesBatchResult<T> setResponse(TopicServicesResponse<ServicesReplyData<T>> response) {
+        this.response = response;
+        return this;
+    }
+
+    /**
+     * 응답을 받지 못한 원인을 반환합니다.
+     * @return 원인 예외
+     */
+    public Throwable getError() {
+        return error;
+    }
+
+    /**
+     * 응답을 받지 못한 원인을 설정합니다.
+     * @param error 원인 예외
+     * @return 현재 객체 (메서드 체이닝 지원)
+     */
+    public ServicesBatchResult<T> setError(Throwable error) {
+        this.error = error;
+        return this;
+    }
+}
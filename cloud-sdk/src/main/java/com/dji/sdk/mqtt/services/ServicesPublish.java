@@ -1,6 +1,9 @@
 package com.dji.sdk.mqtt.services;
 
 import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.exception.CloudSDKErrorEnum;
+import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.mqtt.MqttGatewayPublish;
 import com.dji.sdk.mqtt.TopicConst;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -8,8 +11,18 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.Resource;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * MQTT 서비스 발행 클래스
@@ -22,6 +35,9 @@ import java.util.UUID;
 @Component
 public class ServicesPublish {
 
+    /** 배치 요청의 기본 동시 요청 수 */
+    public static final int DEFAULT_BATCH_CONCURRENCY = 64;
+
     /** MQTT 게이트웨이 발행 서비스 */
     @Resource
     private MqttGatewayPublish gatewayPublish;
@@ -227,16 +243,175 @@ public class ServicesPublish {
      */
     public <T> TopicServicesResponse<ServicesReplyData<T>> publish(
             TypeReference<T> clazz, String sn, String method, Object data, String bid, int retryCount, long timeout) {
-        // 서비스 토픽 생성
-        String topic = TopicConst.THING_MODEL_PRE + TopicConst.PRODUCT + Objects.requireNonNull(sn) + TopicConst.SERVICES_SUF;
         // MQTT로 서비스 요청 발행
         TopicServicesResponse response = (TopicServicesResponse) gatewayPublish.publishWithReply(
-                ServicesReplyReceiver.class, topic, new TopicServicesRequest<>()
-                        .setTid(UUID.randomUUID().toString())
-                        .setBid(bid)
-                        .setTimestamp(System.currentTimeMillis())
-                        .setMethod(method)
-                        .setData(Objects.requireNonNullElse(data, "")), retryCount, timeout);
+                ServicesReplyReceiver.class, buildTopic(sn), buildRequest(method, data, bid), retryCount, timeout);
+        return toReply(clazz, response);
+    }
+
+    /**
+     * 기본 재시도 설정으로 서비스 요청을 비동기로 발행합니다.
+     * 
+     * @param clazz 응답 데이터 타입. null이면 변환하지 않습니다.
+     * @param sn 디바이스 시리얼 번호
+     * @param method 서비스 메서드명
+     * @param data 요청 데이터
+     * @return 서비스 응답으로 완료될 CompletableFuture
+     */
+    public <T> CompletableFuture<TopicServicesResponse<ServicesReplyData<T>>> publishAsync(
+            TypeReference<T> clazz, String sn, String method, Object data) {
+        return this.publishAsync(clazz, sn, method, data, null,
+                MqttGatewayPublish.DEFAULT_RETRY_COUNT, MqttGatewayPublish.DEFAULT_RETRY_TIMEOUT);
+    }
+
+    /**
+     * 모든 매개변수를 포함하여 서비스 요청을 비동기로 발행합니다.
+     * 호출 스레드는 응답을 기다리지 않으며, 재시도와 타임아웃은 MqttGatewayPublish의 타이머가 처리합니다.
+     * 
+     * @param clazz 응답 데이터 타입. null이면 변환하지 않습니다.
+     * @param sn 디바이스 시리얼 번호
+     * @param method 서비스 메서드명
+     * @param data 요청 데이터
+     * @param bid 비즈니스 ID
+     * @param retryCount 재시도 횟수
+     * @param timeout 타임아웃 (밀리초)
+     * @return 서비스 응답으로 완료될 CompletableFuture
+     */
+    public <T> CompletableFuture<TopicServicesResponse<ServicesReplyData<T>>> publishAsync(
+            TypeReference<T> clazz, String sn, String method, Object data, String bid, int retryCount, long timeout) {
+        return gatewayPublish.publishWithReplyAsync(
+                ServicesReplyReceiver.class, buildTopic(sn), buildRequest(method, data, bid), retryCount, timeout)
+                .thenApply(response -> toReply(clazz, (TopicServicesResponse) response));
+    }
+
+    /**
+     * 기본 동시 요청 수와 기한으로 여러 게이트웨이에 같은 서비스 요청을 발행합니다.
+     * 기한은 기본 재시도 설정으로 한 요청이 최대로 기다리는 시간입니다.
+     * 
+     * @param clazz 응답 데이터 타입. null이면 변환하지 않습니다.
+     * @param sns 게이트웨이 시리얼 번호 목록
+     * @param method 서비스 메서드명
+     * @param data 요청 데이터
+     * @return 게이트웨이 시리얼 번호별 결과 (입력 순서 유지)
+     */
+    public <T> Map<String, ServicesBatchResult<T>> publishBatch(
+            TypeReference<T> clazz, Collection<String> sns, String method, Object data) {
+        return this.publishBatch(clazz, sns, method, data, DEFAULT_BATCH_CONCURRENCY,
+                (long) (MqttGatewayPublish.DEFAULT_RETRY_COUNT + 1) * MqttGatewayPublish.DEFAULT_RETRY_TIMEOUT);
+    }
+
+    /**
+     * 여러 게이트웨이에 같은 서비스 요청을 발행하고 응답을 게이트웨이별로 모읍니다.
+     * 
+     * 요청은 응답을 기다리지 않고 연속으로 발행되며, 동시에 응답을 기다리는 요청은 maxConcurrency개를 넘지 않습니다.
+     * 따라서 전체 소요 시간은 게이트웨이 수가 아니라 왕복 시간과 maxConcurrency에 비례합니다.
+     * 기한 안에 응답을 받지 못한 게이트웨이는 예외를 담은 결과로 반환되며, 이 메서드는 예외를 던지지 않습니다.
+     * 
+     * @param clazz 응답 데이터 타입. null이면 변환하지 않습니다.
+     * @param sns 게이트웨이 시리얼 번호 목록. 중복은 한 번만 발행합니다.
+     * @param method 서비스 메서드명
+     * @param data 요청 데이터
+     * @param maxConcurrency 동시에 응답을 기다리는 최대 요청 수
+     * @param deadline 전체 기한 (밀리초)
+     * @return 게이트웨이 시리얼 번호별 결과 (입력 순서 유지)
+     */
+    public <T> Map<String, ServicesBatchResult<T>> publishBatch(
+            TypeReference<T> clazz, Collection<String> sns, String method, Object data, int maxConcurrency, long deadline) {
+        return this.publishBatch(clazz, sns, method, data, MqttGatewayPublish.DEFAULT_RETRY_COUNT,
+                MqttGatewayPublish.DEFAULT_RETRY_TIMEOUT, maxConcurrency, deadline);
+    }
+
+    /**
+     * 재시도 횟수와 요청별 타임아웃을 지정하여 여러 게이트웨이에 같은 서비스 요청을 발행합니다.
+     * 
+     * @param clazz 응답 데이터 타입. null이면 변환하지 않습니다.
+     * @param sns 게이트웨이 시리얼 번호 목록. 중복은 한 번만 발행합니다.
+     * @param method 서비스 메서드명
+     * @param data 요청 데이터
+     * @param retryCount 요청별 재시도 횟수
+     * @param timeout 요청별 응답 대기 시간 (밀리초)
+     * @param maxConcurrency 동시에 응답을 기다리는 최대 요청 수
+     * @param deadline 전체 기한 (밀리초)
+     * @return 게이트웨이 시리얼 번호별 결과 (입력 순서 유지)
+     */
+    public <T> Map<String, ServicesBatchResult<T>> publishBatch(TypeReference<T> clazz, Collection<String> sns, String method,
+            Object data, int retryCount, long timeout, int maxConcurrency, long deadline) {
+        if (maxConcurrency <= 0) {
+            throw new CloudSDKException(CloudSDKErrorEnum.INVALID_PARAMETER, "The max concurrency must be positive.");
+        }
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadline);
+        Set<String> targets = new LinkedHashSet<>(sns);
+        Semaphore permits = new Semaphore(maxConcurrency);
+        Map<String, CompletableFuture<TopicServicesResponse<ServicesReplyData<T>>>> futures = new HashMap<>();
+        for (String sn : targets) {
+            if (!tryAcquire(permits, deadlineNanos)) {
+                break;
+            }
+            CompletableFuture<TopicServicesResponse<ServicesReplyData<T>>> future =
+                    this.publishAsync(clazz, sn, method, data, null, retryCount, timeout);
+            future.whenComplete((response, e) -> permits.release());
+            futures.put(sn, future);
+        }
+
+        Map<String, ServicesBatchResult<T>> results = new LinkedHashMap<>();
+        for (String sn : targets) {
+            ServicesBatchResult<T> result = new ServicesBatchResult<T>().setSn(sn);
+            results.put(sn, result);
+            CompletableFuture<TopicServicesResponse<ServicesReplyData<T>>> future = futures.get(sn);
+            if (Objects.isNull(future)) {
+                result.setError(new CloudSDKException(CloudSDKErrorEnum.MQTT_PUBLISH_ABNORMAL,
+                        "The batch deadline was exceeded before the request was published."));
+                continue;
+            }
+            try {
+                result.setResponse(future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                result.setError(new CloudSDKException(CloudSDKErrorEnum.MQTT_PUBLISH_ABNORMAL, "The batch deadline was exceeded."));
+            } catch (ExecutionException e) {
+                result.setError(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result.setError(e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * 기한까지 동시 요청 허가를 기다립니다.
+     */
+    private static boolean tryAcquire(Semaphore permits, long deadlineNanos) {
+        try {
+            return permits.tryAcquire(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 서비스 토픽을 생성합니다.
+     */
+    private static String buildTopic(String sn) {
+        return TopicConst.THING_MODEL_PRE + TopicConst.PRODUCT + Objects.requireNonNull(sn) + TopicConst.SERVICES_SUF;
+    }
+
+    /**
+     * 서비스 요청 메시지를 생성합니다.
+     */
+    private static TopicServicesRequest<Object> buildRequest(String method, Object data, String bid) {
+        return new TopicServicesRequest<>()
+                .setTid(Common.randomUUID())
+                .setBid(bid)
+                .setTimestamp(System.currentTimeMillis())
+                .setMethod(method)
+                .setData(Objects.requireNonNullElse(data, ""));
+    }
+
+    /**
+     * 수신한 응답의 data를 요청한 타입의 ServicesReplyData로 변환합니다.
+     */
+    private static <T> TopicServicesResponse<ServicesReplyData<T>> toReply(TypeReference<T> clazz, TopicServicesResponse response) {
         ServicesReplyReceiver replyReceiver = (ServicesReplyReceiver) response.getData();
         ServicesReplyData<T> reply = new ServicesReplyData<T>().setResult(replyReceiver.getResult());
         if (Objects.isNull(clazz)) {
@@ -246,7 +421,7 @@ public class ServicesPublish {
             return response.setData(reply);
         }
         // 타입이 지정된 경우 JSON 변환 처리
-        ObjectMapper mapper = Common.getObjectMapper();
+        ObjectMapper mapper = JsonMapperRegistry.getMapper();
         if (Objects.nonNull(replyReceiver.getInfo())) {
             reply.setOutput(mapper.convertValue(replyReceiver.getInfo(), clazz));
         }
@@ -2,16 +2,15 @@ package com.dji.sdk.mqtt.services;
 
 import com.dji.sdk.cloudapi.log.FileUploadListResponse;
 import com.dji.sdk.cloudapi.log.LogMethodEnum;
-import com.dji.sdk.common.Common;
-import com.dji.sdk.mqtt.Chan;
+import com.dji.sdk.common.JsonMapperRegistry;
 import com.dji.sdk.mqtt.ChannelName;
+import com.dji.sdk.mqtt.PendingReply;
 import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.integration.annotation.ServiceActivator;
 import org.springframework.messaging.Message;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.util.Objects;
 
 /**
  * MQTT 서비스 응답 핸들러 클래스
@@ -35,19 +34,18 @@ public class ServicesReplyHandler {
         byte[] payload = (byte[])message.getPayload();
 
         // 메시지를 TopicServicesResponse 객체로 변환
-        TopicServicesResponse<ServicesReplyReceiver> receiver = Common.getObjectMapper()
-                .readValue(payload, new TypeReference<TopicServicesResponse<ServicesReplyReceiver>>() {});
-        // 트랜잭션 ID로 해당하는 Chan 객체를 찾음
-        Chan chan = Chan.getInstance(receiver.getTid(), false);
-        if (Objects.isNull(chan)) {
+        TopicServicesResponse<ServicesReplyReceiver> receiver = JsonMapperRegistry.getReader(new TypeReference<TopicServicesResponse<ServicesReplyReceiver>>() {})
+                .readValue(payload);
+        // 트랜잭션 ID로 응답을 기다리는 요청이 있는지 확인
+        if (!PendingReply.isPending(receiver.getTid())) {
             return;
         }
         // 파일 업로드 리스트 메서드인 경우 특별 처리
         if (LogMethodEnum.FILE_UPLOAD_LIST.getMethod().equals(receiver.getMethod())) {
-            receiver.getData().setOutput(Common.getObjectMapper().convertValue(receiver.getData(),
+            receiver.getData().setOutput(JsonMapperRegistry.getMapper().convertValue(receiver.getData(),
                     new TypeReference<FileUploadListResponse>() {}));
         }
-        // 응답을 Chan 객체에 전달
-        chan.put(receiver);
+        // 응답으로 대기 중인 요청을 완료
+        PendingReply.complete(receiver);
     }
 }
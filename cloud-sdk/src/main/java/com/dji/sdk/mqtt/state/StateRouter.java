@@ -1,12 +1,12 @@
 package com.dji.sdk.mqtt.state;
 
-import com.dji.sdk.common.Common;
 import com.dji.sdk.common.SDKManager;
 import com.dji.sdk.exception.CloudSDKErrorEnum;
 import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.mqtt.ChannelName;
 import com.dji.sdk.mqtt.MqttGatewayPublish;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.dji.sdk.mqtt.TopicEnvelope;
+import com.dji.sdk.mqtt.TopicPayloadDecoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.dsl.IntegrationFlow;
@@ -18,7 +18,6 @@ import org.springframework.messaging.MessageHeaders;
 import javax.annotation.Resource;
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -51,13 +50,7 @@ public class StateRouter {
                 .from(ChannelName.INBOUND_STATE)
                 .transform(Message.class, source -> {
                     try {
-                        // MQTT 메시지를 TopicStateRequest 객체로 변환
-                        TopicStateRequest response = Common.getObjectMapper().readValue((byte[]) source.getPayload(), new TypeReference<TopicStateRequest>() {});
-                        String topic = String.valueOf(source.getHeaders().get(MqttHeaders.RECEIVED_TOPIC));
-                        // 토픽에서 디바이스 정보를 추출하여 설정
-                        String from = topic.substring((THING_MODEL_PRE + PRODUCT).length(), topic.indexOf(STATE_SUF));
-                        return response.setFrom(from)
-                                .setData(Common.getObjectMapper().convertValue(response.getData(), getTypeReference(response.getGateway(), response.getData())));
+                        return decode(String.valueOf(source.getHeaders().get(MqttHeaders.RECEIVED_TOPIC)), (byte[]) source.getPayload());
                     } catch (IOException e) {
                         throw new CloudSDKException(e);
                     }
@@ -67,6 +60,29 @@ public class StateRouter {
                 .get();
     }
 
+    /**
+     * 상태 페이로드를 data의 키에 맞는 요청 객체로 변환합니다.
+     *
+     * @param topic 수신 토픽
+     * @param payload MQTT 페이로드
+     * @return 상태 요청
+     * @throws IOException JSON 파싱 오류 시
+     */
+    static TopicStateRequest<Object> decode(String topic, byte[] payload) throws IOException {
+        // 데이터 타입은 data의 키로 결정되므로 data는 토큰으로 보관한 뒤 한 번만 변환
+        TopicEnvelope envelope = TopicPayloadDecoder.decode(payload, null);
+        // 토픽에서 디바이스 정보를 추출하여 설정
+        String from = topic.substring((THING_MODEL_PRE + PRODUCT).length(), topic.indexOf(STATE_SUF));
+        return new TopicStateRequest<>()
+                .setTid(envelope.getTid())
+                .setBid(envelope.getBid())
+                .setTimestamp(envelope.getTimestamp())
+                .setGateway(envelope.getGateway())
+                .setNeedReply(envelope.isNeedReply())
+                .setFrom(from)
+                .setData(TopicPayloadDecoder.bind(envelope, getTypeReference(envelope.getGateway(), envelope.getDataKeys())));
+    }
+
     /**
      * 상태 성공 응답을 처리하는 플로우를 생성합니다.
      * 상태 응답을 MQTT로 발행합니다.
@@ -101,11 +117,10 @@ public class StateRouter {
      * 게이트웨이 타입에 따라 적절한 클래스 타입을 반환합니다.
      * 
      * @param gatewaySn 게이트웨이 시리얼 번호
-     * @param data 상태 데이터
+     * @param keys 상태 데이터의 최상위 키 목록
      * @return 해당하는 클래스 타입
      */
-    private Class getTypeReference(String gatewaySn, Object data) {
-        Set<String> keys = ((Map<String, Object>) data).keySet();
+    private static Class getTypeReference(String gatewaySn, Set<String> keys) {
         switch (SDKManager.getDeviceSDK(gatewaySn).getType()) {
             case RC:
                 // 리모컨 타입인 경우 RC 상태 데이터 키 열거형에서 찾기
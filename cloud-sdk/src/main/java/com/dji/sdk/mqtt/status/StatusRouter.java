@@ -1,7 +1,7 @@
 package com.dji.sdk.mqtt.status;
 
 import com.dji.sdk.cloudapi.device.UpdateTopo;
-import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
 import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.mqtt.ChannelName;
 import com.dji.sdk.mqtt.MqttGatewayPublish;
@@ -50,7 +50,7 @@ public class StatusRouter {
                 .transform(Message.class, source -> {
                     try {
                         // MQTT 메시지를 TopicStatusRequest 객체로 변환
-                        TopicStatusRequest<UpdateTopo> response = Common.getObjectMapper().readValue((byte[]) source.getPayload(), new TypeReference<TopicStatusRequest<UpdateTopo>>() {});
+                        TopicStatusRequest<UpdateTopo> response = JsonMapperRegistry.getReader(new TypeReference<TopicStatusRequest<UpdateTopo>>() {}).readValue((byte[]) source.getPayload());
                         String topic = String.valueOf(source.getHeaders().get(MqttHeaders.RECEIVED_TOPIC));
                         // 토픽에서 디바이스 정보를 추출하여 설정
                         return response.setFrom(topic.substring((BASIC_PRE + PRODUCT).length(), topic.indexOf(STATUS_SUF)));
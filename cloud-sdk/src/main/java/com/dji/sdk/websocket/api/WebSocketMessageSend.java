@@ -1,6 +1,6 @@
 package com.dji.sdk.websocket.api;
 
-import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
 import com.dji.sdk.exception.CloudSDKErrorEnum;
 import com.dji.sdk.exception.CloudSDKException;
 import com.dji.sdk.websocket.ConcurrentWebSocketSession;
@@ -49,7 +49,7 @@ public class WebSocketMessageSend {
                 return;
             }
 
-            session.sendMessage(new TextMessage(Common.getObjectMapper().writeValueAsBytes(message)));
+            session.sendMessage(new TextMessage(JsonMapperRegistry.getWriter(message.getClass()).writeValueAsBytes(message)));
         } catch (IOException e) {
             throw new CloudSDKException(CloudSDKErrorEnum.WEBSOCKET_PUBLISH_ABNORMAL, e.getLocalizedMessage());
         }
@@ -72,7 +72,7 @@ public class WebSocketMessageSend {
 
         try {
 
-            TextMessage data = new TextMessage(Common.getObjectMapper().writeValueAsBytes(message));
+            TextMessage data = new TextMessage(JsonMapperRegistry.getWriter(message.getClass()).writeValueAsBytes(message));
 
             for (ConcurrentWebSocketSession session : sessions) {
                 if (!session.isOpen()) {
@@ -0,0 +1,144 @@
+package com.dji.sdk.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonMapperRegistry 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class JsonMapperRegistryTest {
+
+    @Test
+    void mapperIsSharedAcrossCalls() {
+        assertSame(JsonMapperRegistry.getMapper(), JsonMapperRegistry.getMapper());
+        assertSame(JsonMapperRegistry.getMapper(), Common.getObjectMapper());
+        assertSame(JsonMapperRegistry.getMapper(),
+                JsonMapperRegistry.getMapper(JsonMapperRegistry.NamingEnum.SNAKE_CASE));
+        assertSame(JsonMapperRegistry.getWriter(), JsonMapperRegistry.getWriter());
+    }
+
+    @Test
+    void readerAndWriterAreCachedPerType() {
+        ObjectReader reader = JsonMapperRegistry.getReader(Sample.class);
+        assertSame(reader, JsonMapperRegistry.getReader(Sample.class));
+        assertSame(JsonMapperRegistry.getWriter(Sample.class), JsonMapperRegistry.getWriter(Sample.class));
+
+        // Class와 TypeReference로 같은 타입을 요청하면 같은 인스턴스를 반환합니다.
+        ObjectReader listReader = JsonMapperRegistry.getReader(new TypeReference<List<Sample>>() {});
+        assertSame(listReader, JsonMapperRegistry.getReader(new TypeReference<List<Sample>>() {}.getType()));
+        assertNotSame(reader, listReader);
+    }
+
+    @Test
+    void readerIsSharedAcrossThreads() throws Exception {
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            Callable<ObjectReader> task = () -> {
+                start.await();
+                return JsonMapperRegistry.getReader(new TypeReference<Map<String, Sample>>() {});
+            };
+            List<Future<ObjectReader>> futures = IntStream.range(0, threads)
+                    .mapToObj(i -> executor.submit(task))
+                    .collect(Collectors.toList());
+            start.countDown();
+
+            Set<ObjectReader> readers = new HashSet<>();
+            for (Future<ObjectReader> future : futures) {
+                readers.add(future.get());
+            }
+            assertEquals(1, readers.size());
+            assertSame(readers.iterator().next(),
+                    JsonMapperRegistry.getReader(new TypeReference<Map<String, Sample>>() {}));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void keepsCommonMapperSettings() throws Exception {
+        Sample sample = JsonMapperRegistry.getReader(Sample.class)
+                .readValue("{'device_sn':'SN001','create_time':'2026-10-17 08:30:00','unknown':1}");
+        assertEquals("SN001", sample.getDeviceSn());
+        assertEquals(LocalDateTime.of(2026, 10, 17, 8, 30), sample.getCreateTime());
+
+        String json = JsonMapperRegistry.getWriter(Sample.class).writeValueAsString(new Sample());
+        assertEquals("{}", json);
+
+        sample.setDeviceSn(null);
+        json = JsonMapperRegistry.getWriter(Sample.class).writeValueAsString(sample);
+        assertEquals("{\"create_time\":\"2026-10-17 08:30:00\"}", json);
+    }
+
+    @Test
+    void defaultNamingKeepsFieldNames() throws Exception {
+        assertNotSame(JsonMapperRegistry.getMapper(),
+                JsonMapperRegistry.getMapper(JsonMapperRegistry.NamingEnum.DEFAULT));
+        ObjectReader reader = JsonMapperRegistry.getReader(JsonMapperRegistry.NamingEnum.DEFAULT, Sample.class);
+        assertSame(reader, JsonMapperRegistry.getReader(JsonMapperRegistry.NamingEnum.DEFAULT, Sample.class));
+        assertNotSame(reader, JsonMapperRegistry.getReader(Sample.class));
+
+        Sample sample = reader.readValue("{'deviceSn':'SN001','createTime':'2026-10-17 08:30:00'}");
+        assertEquals("SN001", sample.getDeviceSn());
+        String json = JsonMapperRegistry.getWriter(JsonMapperRegistry.NamingEnum.DEFAULT, Sample.class)
+                .writeValueAsString(sample);
+        assertEquals("{\"deviceSn\":\"SN001\",\"createTime\":\"2026-10-17 08:30:00\"}", json);
+    }
+
+    @Test
+    void warmUpCachesGivenTypes() {
+        JsonMapperRegistry.warmUp(WarmUpSample.class);
+        ObjectReader reader = JsonMapperRegistry.getReader(WarmUpSample.class);
+        JsonMapperRegistry.warmUp(WarmUpSample.class);
+        assertSame(reader, JsonMapperRegistry.getReader(WarmUpSample.class));
+    }
+
+    static class Sample {
+
+        private String deviceSn;
+
+        private LocalDateTime createTime;
+
+        public String getDeviceSn() {
+            return deviceSn;
+        }
+
+        public void setDeviceSn(String deviceSn) {
+            this.deviceSn = deviceSn;
+        }
+
+        public LocalDateTime getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(LocalDateTime createTime) {
+            this.createTime = createTime;
+        }
+    }
+
+    static class WarmUpSample {
+
+        public int value;
+    }
+}
@@ -0,0 +1,41 @@
+package com.dji.sdk.config;
+
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.mqtt.osd.OsdDeviceTypeEnum;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JsonMapperWarmUp 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class JsonMapperWarmUpTest {
+
+    @Test
+    void hotTypesCoverOsdPayloads() {
+        List<Type> types = Arrays.asList(JsonMapperWarmUp.hotTypes());
+        assertTrue(types.stream().allMatch(Objects::nonNull));
+        assertEquals(types.size(), types.stream().distinct().count());
+        for (OsdDeviceTypeEnum type : OsdDeviceTypeEnum.values()) {
+            assertTrue(types.contains(type.getClassType()), type.name());
+        }
+    }
+
+    @Test
+    void warmUpPreparesReaders() {
+        new JsonMapperWarmUp().warmUp();
+        for (OsdDeviceTypeEnum type : OsdDeviceTypeEnum.values()) {
+            assertSame(JsonMapperRegistry.getReader(type.getClassType()),
+                    JsonMapperRegistry.getReader(type.getClassType()));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.dji.sdk.mqtt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.dji.sdk.mqtt.TopicConst.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CloudApiTopicEnum 토픽 판별 테스트
+ *
+ * 접두사/접미사 조회 결과가 기존 정규식 매칭 결과와 같은지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class CloudApiTopicEnumTest {
+
+    @Test
+    void findMatchesRegexForEveryTopic() {
+        for (String topic : topics()) {
+            assertEquals(legacyFind(topic), CloudApiTopicEnum.find(topic), topic);
+        }
+    }
+
+    @Test
+    void findsEachTopicKind() {
+        assertEquals(CloudApiTopicEnum.OSD, CloudApiTopicEnum.find(THING_MODEL_PRE + PRODUCT + "1581F5BK" + OSD_SUF));
+        assertEquals(CloudApiTopicEnum.STATUS, CloudApiTopicEnum.find(BASIC_PRE + PRODUCT + "4TADK" + STATUS_SUF));
+        assertEquals(CloudApiTopicEnum.DRC_UP, CloudApiTopicEnum.find(THING_MODEL_PRE + PRODUCT + "4TADK" + DRC + UP));
+        assertEquals(CloudApiTopicEnum.UNKNOWN, CloudApiTopicEnum.find(THING_MODEL_PRE + PRODUCT + OSD_SUF));
+        assertEquals(CloudApiTopicEnum.UNKNOWN, CloudApiTopicEnum.find(THING_MODEL_PRE + PRODUCT + "4TA-DK" + OSD_SUF));
+        assertEquals(CloudApiTopicEnum.UNKNOWN, CloudApiTopicEnum.find(THING_MODEL_PRE + PRODUCT + "4TADK" + OSD_SUF + "/"));
+    }
+
+    /**
+     * 변경 전 정규식 매칭 방식입니다.
+     */
+    static CloudApiTopicEnum legacyFind(String topic) {
+        return Arrays.stream(CloudApiTopicEnum.values()).filter(topicEnum -> topicEnum.getPattern().matcher(topic).matches())
+                .findAny().orElse(CloudApiTopicEnum.UNKNOWN);
+    }
+
+    /**
+     * 모든 토픽 종류와 SN, 접두사, 접미사가 잘못된 토픽을 만듭니다.
+     */
+    static List<String> topics() {
+        String[] prefixes = {BASIC_PRE + PRODUCT, THING_MODEL_PRE + PRODUCT, "thing/", "", "sys/product", "thing/device/"};
+        String[] suffixes = {STATUS_SUF, STATE_SUF, SERVICES_SUF + _REPLY_SUF, SERVICES_SUF, OSD_SUF, REQUESTS_SUF,
+                REQUESTS_SUF + _REPLY_SUF, EVENTS_SUF, EVENTS_SUF + _REPLY_SUF, PROPERTY_SUF + SET_SUF + _REPLY_SUF,
+                PROPERTY_SUF + SET_SUF, DRC + UP, DRC + "/down", "", "/", "/osd/extra"};
+        String[] sns = {"1581F5BKD225D00BJ6C2", "4TADK7", "a", "", "4TA_DK", "4TA-DK", "4TA/DK", "SN 1"};
+        List<String> topics = new ArrayList<>();
+        for (String prefix : prefixes) {
+            for (String sn : sns) {
+                for (String suffix : suffixes) {
+                    topics.add(prefix + sn + suffix);
+                }
+            }
+        }
+        return topics;
+    }
+}
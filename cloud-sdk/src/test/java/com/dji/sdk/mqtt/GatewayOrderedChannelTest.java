@@ -0,0 +1,176 @@
+package com.dji.sdk.mqtt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.integration.mqtt.support.MqttHeaders;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GatewayOrderedChannel 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class GatewayOrderedChannelTest {
+
+    private final GatewayOrderedExecutor executor = new GatewayOrderedExecutor("test-channel", 4, 16);
+
+    @AfterEach
+    void stop() {
+        executor.destroy();
+    }
+
+    @Test
+    void pendingOsdIsReplacedByNewestFrame() throws Exception {
+        GatewayOrderedChannel channel = new GatewayOrderedChannel(executor);
+        channel.setConflateOsd(true);
+        List<Object> handled = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        channel.subscribe(message -> {
+            handled.add(message.getPayload());
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            done.countDown();
+        });
+
+        channel.send(osd("SN1", 0));
+        assertTrue(entered.await(2, TimeUnit.SECONDS));
+        for (int i = 1; i <= 100; i++) {
+            channel.send(osd("SN1", i));
+        }
+        assertEquals(1, channel.getPendingOsdCount());
+        assertEquals(99, channel.getConflatedCount());
+        assertEquals(1, executor.getQueueSize(executor.shardOf("SN1")));
+
+        release.countDown();
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 100), handled);
+        assertEquals(0, channel.getDroppedCount());
+    }
+
+    @Test
+    void eventsAreNotConflated() throws Exception {
+        GatewayOrderedChannel channel = new GatewayOrderedChannel(executor);
+        channel.setConflateOsd(true);
+        List<Object> handled = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(10);
+        channel.subscribe(message -> {
+            handled.add(message.getPayload());
+            done.countDown();
+        });
+
+        for (int i = 0; i < 10; i++) {
+            channel.send(message("thing/product/SN1/events", i));
+        }
+        assertTrue(done.await(2, TimeUnit.SECONDS));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), handled);
+        assertEquals(0, channel.getConflatedCount());
+    }
+
+    @Test
+    void fullShardDropIsCounted() throws Exception {
+        GatewayOrderedChannel channel = new GatewayOrderedChannel(executor);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        channel.subscribe(message -> {
+            entered.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        channel.send(message("thing/product/SN1/events", 0));
+        assertTrue(entered.await(2, TimeUnit.SECONDS));
+        for (int i = 1; i <= 16 + 5; i++) {
+            assertTrue(channel.send(message("thing/product/SN1/events", i)));
+        }
+        assertEquals(5, channel.getDroppedCount());
+        assertEquals(5, executor.getRejectedCount());
+        release.countDown();
+    }
+
+    @Test
+    void osdBacklogOf500DocksIsBoundedByDeviceCount() throws Exception {
+        int docks = 500;
+        int frames = 50;
+        GatewayOrderedExecutor wide = new GatewayOrderedExecutor("test-docks", 4, 1000);
+        try {
+            GatewayOrderedChannel channel = new GatewayOrderedChannel(wide);
+            channel.setConflateOsd(true);
+            Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+            AtomicInteger handledCount = new AtomicInteger();
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch lastFrames = new CountDownLatch(docks);
+            channel.subscribe(message -> {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                int[] frame = (int[]) message.getPayload();
+                handled.computeIfAbsent("SN" + frame[0], k -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(frame[1]);
+                handledCount.incrementAndGet();
+                if (frame[1] == frames - 1) {
+                    lastFrames.countDown();
+                }
+            });
+
+            // 핸들러가 모두 막힌 상태에서 도크 500대가 50프레임씩 보냄
+            int maxQueued = 0;
+            for (int seq = 0; seq < frames; seq++) {
+                for (int dock = 0; dock < docks; dock++) {
+                    channel.send(osd("SN" + dock, new int[]{dock, seq}));
+                }
+                maxQueued = Math.max(maxQueued, channel.getQueueSize());
+            }
+            assertTrue(maxQueued <= docks, "queued " + maxQueued);
+            assertTrue(channel.getPendingOsdCount() <= docks);
+            assertEquals(0, channel.getDroppedCount());
+
+            release.countDown();
+            assertTrue(lastFrames.await(10, TimeUnit.SECONDS));
+            assertEquals(docks, handled.size());
+            assertEquals((long) docks * frames, handledCount.get() + channel.getConflatedCount());
+            for (List<Integer> values : handled.values()) {
+                for (int i = 1; i < values.size(); i++) {
+                    assertTrue(values.get(i - 1) < values.get(i));
+                }
+                assertEquals(frames - 1, values.get(values.size() - 1));
+            }
+            assertEquals(0, channel.getPendingOsdCount());
+            assertEquals(0, channel.getQueueSize());
+        } finally {
+            wide.destroy();
+        }
+    }
+
+    static Message<Object> osd(String sn, Object payload) {
+        return message("thing/product/" + sn + "/osd", payload);
+    }
+
+    static Message<Object> message(String topic, Object payload) {
+        return MessageBuilder.withPayload(payload).setHeader(MqttHeaders.RECEIVED_TOPIC, topic).build();
+    }
+}
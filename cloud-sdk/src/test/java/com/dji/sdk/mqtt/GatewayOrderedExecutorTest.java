@@ -0,0 +1,124 @@
+package com.dji.sdk.mqtt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * GatewayOrderedExecutor 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class GatewayOrderedExecutorTest {
+
+    private final GatewayOrderedExecutor executor = new GatewayOrderedExecutor("test-ordered", 4, 8);
+
+    @AfterEach
+    void stop() {
+        executor.destroy();
+    }
+
+    @Test
+    void tasksOfSameKeyRunInArrivalOrder() throws Exception {
+        GatewayOrderedExecutor wide = new GatewayOrderedExecutor("test-wide", 4, 1000);
+        try {
+            Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+            CountDownLatch done = new CountDownLatch(10 * 50);
+            for (int seq = 0; seq < 50; seq++) {
+                for (int device = 0; device < 10; device++) {
+                    String sn = "SN" + device;
+                    int value = seq;
+                    assertTrue(wide.execute(sn, () -> {
+                        handled.computeIfAbsent(sn, k -> Collections.synchronizedList(new ArrayList<>())).add(value);
+                        done.countDown();
+                    }));
+                }
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            assertEquals(10, handled.size());
+            for (List<Integer> values : handled.values()) {
+                assertEquals(50, values.size());
+                for (int i = 0; i < values.size(); i++) {
+                    assertEquals(i, values.get(i));
+                }
+            }
+            assertEquals(0, wide.getRejectedCount());
+        } finally {
+            wide.destroy();
+        }
+    }
+
+    @Test
+    void fullShardDropsWithoutBlockingCaller() throws Exception {
+        String key = "SN-STALLED";
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        assertTrue(executor.execute(key, () -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        // 큐 용량(8)만큼 채운 뒤 초과분은 대기 없이 버려져야 함
+        for (int i = 0; i < 8; i++) {
+            assertTrue(executor.execute(key, () -> { }));
+        }
+        long begin = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            assertFalse(executor.execute(key, () -> { }));
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin);
+
+        assertEquals(100, executor.getRejectedCount());
+        assertEquals(8, executor.getQueueSize(executor.shardOf(key)));
+        assertTrue(elapsedMs < 500, "execute blocked for " + elapsedMs + "ms");
+        release.countDown();
+    }
+
+    @Test
+    void fullShardDoesNotDelayOtherShards() throws Exception {
+        String stalled = "SN-STALLED";
+        String other = "SN-OTHER";
+        while (executor.shardOf(other) == executor.shardOf(stalled)) {
+            other = other + "X";
+        }
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(stalled, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 0; i < 20; i++) {
+            executor.execute(stalled, () -> { });
+        }
+
+        CountDownLatch otherDone = new CountDownLatch(1);
+        assertTrue(executor.execute(other, otherDone::countDown));
+        assertTrue(otherDone.await(2, TimeUnit.SECONDS));
+        release.countDown();
+    }
+
+    @Test
+    void tasksAfterDestroyAreRejected() {
+        executor.destroy();
+        assertFalse(executor.execute("SN", () -> { }));
+        assertEquals(1, executor.getRejectedCount());
+    }
+}
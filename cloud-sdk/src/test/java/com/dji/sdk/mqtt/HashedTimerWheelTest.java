@@ -0,0 +1,114 @@
+package com.dji.sdk.mqtt;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * HashedTimerWheel 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class HashedTimerWheelTest {
+
+    private final HashedTimerWheel timer = new HashedTimerWheel("test-timer", 5, 64, Runnable::run);
+
+    @AfterEach
+    void stop() {
+        timer.stop();
+    }
+
+    @Test
+    void expiresAfterDelay() throws Exception {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        HashedTimerWheel.Timeout timeout = timer.newTimeout(fired::countDown, 50);
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 45);
+        assertTrue(timeout.isExpired());
+        assertFalse(timeout.cancel());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    void cancelledTimeoutNeverRuns() throws Exception {
+        AtomicInteger fired = new AtomicInteger();
+        HashedTimerWheel.Timeout cancelled = timer.newTimeout(fired::incrementAndGet, 20);
+        assertTrue(cancelled.cancel());
+        assertTrue(cancelled.isCancelled());
+
+        CountDownLatch later = new CountDownLatch(1);
+        timer.newTimeout(later::countDown, 60);
+        assertTrue(later.await(2, TimeUnit.SECONDS));
+        assertEquals(0, fired.get());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    void delayLongerThanOneRoundWaitsForRemainingRounds() throws Exception {
+        // 5ms * 64 버킷 = 320ms 한 바퀴보다 긴 지연
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+        timer.newTimeout(fired::countDown, 400);
+
+        assertTrue(fired.await(3, TimeUnit.SECONDS));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 395);
+    }
+
+    @Test
+    void handlesManyTimeoutsWithOneThread() throws Exception {
+        int count = 20_000;
+        CountDownLatch fired = new CountDownLatch(count / 2);
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        List<HashedTimerWheel.Timeout> toCancel = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            if (i % 2 == 0) {
+                timer.newTimeout(fired::countDown, 200 + i % 200);
+            } else {
+                toCancel.add(timer.newTimeout(cancelledRuns::incrementAndGet, 200 + i % 200));
+            }
+        }
+        toCancel.forEach(HashedTimerWheel.Timeout::cancel);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+        assertEquals(0, cancelledRuns.get());
+        assertEquals(0, timer.getPendingCount());
+    }
+
+    @Test
+    void rejectsAfterStop() {
+        timer.stop();
+        assertThrows(RejectedExecutionException.class, () -> timer.newTimeout(() -> { }, 10));
+    }
+
+    @Test
+    void rejectedTaskIsHandedToRejectionHandler() throws Exception {
+        HashedTimerWheel rejecting = new HashedTimerWheel("test-rejecting-timer", 5, 64, task -> {
+            throw new RejectedExecutionException("stopped");
+        });
+        try {
+            AtomicInteger ran = new AtomicInteger();
+            CountDownLatch rejected = new CountDownLatch(1);
+            rejecting.newTimeout(ran::incrementAndGet, 10, e -> rejected.countDown());
+
+            assertTrue(rejected.await(2, TimeUnit.SECONDS));
+            assertEquals(0, ran.get());
+            assertEquals(0, rejecting.getPendingCount());
+        } finally {
+            rejecting.stop();
+        }
+    }
+}
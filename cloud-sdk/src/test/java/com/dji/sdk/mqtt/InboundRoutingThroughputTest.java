@@ -0,0 +1,107 @@
+package com.dji.sdk.mqtt;
+
+import com.dji.sdk.cloudapi.device.OsdDock;
+import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.dji.sdk.mqtt.TopicConst.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 인바운드 토픽 판별과 페이로드 변환 처리량 테스트
+ *
+ * 기존 방식(정규식 순회, Map 변환 후 convertValue)과 현재 방식(접미사 테이블, 단일 패스 변환)을
+ * 같은 메시지로 반복 실행해 메시지당 처리 시간을 비교합니다. 측정값은 로그로 남깁니다.
+ * 공유 CI 환경의 흔들림을 고려해, 예상 개선 폭보다 크게 낮은 기준으로만 검증합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class InboundRoutingThroughputTest {
+
+    private static final Logger log = LoggerFactory.getLogger(InboundRoutingThroughputTest.class);
+
+    private static final int ROUNDS = 5;
+
+    @Test
+    void topicTableIsFasterThanRegexScan() {
+        List<String> topics = CloudApiTopicEnumTest.topics();
+        int iterations = 200;
+
+        long legacy = Long.MAX_VALUE;
+        long table = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            legacy = Math.min(legacy, measure(iterations, () -> {
+                for (String topic : topics) {
+                    CloudApiTopicEnumTest.legacyFind(topic);
+                }
+            }));
+            table = Math.min(table, measure(iterations, () -> {
+                for (String topic : topics) {
+                    CloudApiTopicEnum.find(topic);
+                }
+            }));
+        }
+        long messages = (long) iterations * topics.size();
+        log.info("Topic lookup: regex {} ns/msg, table {} ns/msg", legacy / messages, table / messages);
+        assertTrue(table * 2 < legacy, "table: " + table + " ns, regex: " + legacy + " ns");
+    }
+
+    @Test
+    void singlePassDecodeIsNotSlowerThanTwoStepConvert() throws Exception {
+        ObjectNode envelope = JsonNodeFactory.instance.objectNode()
+                .put("tid", "tid-1")
+                .put("bid", "bid-1")
+                .put("timestamp", 1760689800000L)
+                .put("method", "osd")
+                .put("gateway", "4TADK7");
+        byte[] payload = PayloadSamples.payload(envelope, PayloadSamples.data(OsdDock.class), false);
+        String topic = THING_MODEL_PRE + PRODUCT + "4TADK7" + OSD_SUF;
+        int iterations = 500;
+
+        long legacy = Long.MAX_VALUE;
+        long current = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            legacy = Math.min(legacy, measure(iterations, () -> {
+                assertEquals(CloudApiTopicEnum.OSD, CloudApiTopicEnumTest.legacyFind(topic));
+                Map<?, ?> message = Common.getObjectMapper().readValue(payload, Map.class);
+                Common.getObjectMapper().convertValue(message.get("data"), OsdDock.class);
+            }));
+            current = Math.min(current, measure(iterations, () -> {
+                assertEquals(CloudApiTopicEnum.OSD, CloudApiTopicEnum.find(topic));
+                TopicEnvelope decoded = TopicPayloadDecoder.decode(payload, env -> OsdDock.class);
+                assertTrue(decoded.getData() instanceof OsdDock);
+            }));
+        }
+        log.info("OSD route and decode ({} bytes): two-step {} us/msg, single pass {} us/msg",
+                payload.length, legacy / iterations / 1000.0, current / iterations / 1000.0);
+        assertTrue(current < legacy * 1.2, "single pass: " + current + " ns, two-step: " + legacy + " ns");
+    }
+
+    private static long measure(int iterations, ThrowingRunnable task) {
+        try {
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                task.run();
+            }
+            return System.nanoTime() - start;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+
+        void run() throws Exception;
+    }
+}
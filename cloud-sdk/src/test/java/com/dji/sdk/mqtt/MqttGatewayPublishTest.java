@@ -0,0 +1,75 @@
+package com.dji.sdk.mqtt;
+
+import com.dji.sdk.common.Common;
+import com.dji.sdk.exception.CloudSDKException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+
+/**
+ * MqttGatewayPublish 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class MqttGatewayPublishTest {
+
+    @Mock
+    private IMqttMessageGateway messageGateway;
+
+    private final MqttGatewayPublish publish = new MqttGatewayPublish();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(publish, "messageGateway", messageGateway);
+    }
+
+    @AfterEach
+    void stop() {
+        publish.destroy();
+    }
+
+    /**
+     * 재발행 실행기가 타임아웃 작업을 거부해도 호출 스레드는 멈추지 않고 실패를 받습니다.
+     */
+    @Test
+    void blockingCallFailsWhenRetryIsRejected() {
+        ExecutorService retryExecutor = (ExecutorService) ReflectionTestUtils.getField(publish, "retryExecutor");
+        retryExecutor.shutdown();
+        CommonTopicRequest<String> request = new CommonTopicRequest<String>().setTid(Common.randomUUID()).setData("x");
+
+        long start = System.nanoTime();
+        assertThrows(CloudSDKException.class,
+                () -> publish.publishWithReply(String.class, "thing/product/SN/services", request, 2, 50));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertFalse(PendingReply.isPending(request.getTid()));
+    }
+
+    @Test
+    void blockingCallReturnsReply() {
+        CommonTopicRequest<String> request = new CommonTopicRequest<String>().setTid(Common.randomUUID()).setData("x");
+        doAnswer(invocation -> {
+            PendingReply.complete(new CommonTopicResponse<>().setTid(request.getTid()).setBid(request.getBid()).setData("ok"));
+            return null;
+        }).when(messageGateway).publish(anyString(),
+                any(byte[].class), anyInt());
+
+        assertEquals("ok", publish.publishWithReply(String.class, "thing/product/SN/services", request, 0, 1000).getData());
+        assertFalse(PendingReply.isPending(request.getTid()));
+    }
+}
@@ -0,0 +1,140 @@
+package com.dji.sdk.mqtt;
+
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * 테스트용 페이로드 생성기
+ *
+ * 대상 타입의 역직렬화 속성을 따라 모든 필드에 값이 채워진 data를 만듭니다.
+ * 대상 타입이 받아들이지 않는 값은 필드 단위로 제외하므로, 생성된 data는 항상 바인딩할 수 있습니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public final class PayloadSamples {
+
+    private static final ObjectMapper MAPPER = JsonMapperRegistry.getMapper();
+
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    private static final int MAX_DEPTH = 5;
+
+    private PayloadSamples() {
+    }
+
+    /**
+     * 대상 타입의 data 샘플을 만듭니다.
+     *
+     * @param type 대상 타입
+     * @return data 샘플. 만들 수 없는 타입이면 빈 객체
+     */
+    public static JsonNode data(Type type) {
+        JsonNode node = value(MAPPER.getTypeFactory().constructType(type), 0);
+        return Objects.isNull(node) ? NODES.objectNode() : node;
+    }
+
+    /**
+     * 봉투 필드와 data로 페이로드를 만듭니다. dataFirst이면 data를 다른 필드보다 먼저 기록합니다.
+     *
+     * @param envelope tid, bid, method 등 봉투 필드
+     * @param data data 값
+     * @param dataFirst data를 맨 앞에 둘지 여부
+     * @return 페이로드
+     */
+    public static byte[] payload(ObjectNode envelope, JsonNode data, boolean dataFirst) throws Exception {
+        ObjectNode payload = NODES.objectNode();
+        if (dataFirst) {
+            payload.set("data", data);
+            payload.setAll(envelope);
+        } else {
+            payload.setAll(envelope);
+            payload.set("data", data);
+        }
+        return MAPPER.writeValueAsBytes(payload);
+    }
+
+    private static JsonNode value(JavaType type, int depth) {
+        Class<?> raw = type.getRawClass();
+        if (depth > MAX_DEPTH || Object.class == raw) {
+            return null;
+        }
+        if (String.class == raw || CharSequence.class == raw) {
+            return NODES.textNode("text-" + depth);
+        }
+        if (Boolean.class == raw || boolean.class == raw) {
+            return NODES.booleanNode(true);
+        }
+        if (Integer.class == raw || int.class == raw || Long.class == raw || long.class == raw
+                || Short.class == raw || short.class == raw || Byte.class == raw || byte.class == raw) {
+            return NODES.numberNode(1);
+        }
+        if (Double.class == raw || double.class == raw || Float.class == raw || float.class == raw
+                || BigDecimal.class == raw || Number.class == raw) {
+            return NODES.numberNode(1.5);
+        }
+        if (LocalDateTime.class == raw) {
+            return NODES.textNode("2026-10-17 08:30:00");
+        }
+        if (raw.isEnum()) {
+            Object[] constants = raw.getEnumConstants();
+            return constants.length == 0 ? null : MAPPER.valueToTree(constants[constants.length - 1]);
+        }
+        if (type.isArrayType() || type.isCollectionLikeType()) {
+            JsonNode element = value(type.getContentType(), depth + 1);
+            ArrayNode array = NODES.arrayNode();
+            return Objects.isNull(element) ? array : array.add(element);
+        }
+        if (type.isMapLikeType()) {
+            JsonNode element = value(type.getContentType(), depth + 1);
+            ObjectNode map = NODES.objectNode();
+            return Objects.isNull(element) ? map : map.set("key", element);
+        }
+        if (raw.isInterface() || Modifier.isAbstract(raw.getModifiers()) || raw.isPrimitive()) {
+            return null;
+        }
+        return bean(type, depth);
+    }
+
+    private static JsonNode bean(JavaType type, int depth) {
+        BeanDescription description = MAPPER.getDeserializationConfig().introspect(type);
+        ObjectNode bean = NODES.objectNode();
+        for (BeanPropertyDefinition property : description.findProperties()) {
+            if (!property.couldDeserialize()) {
+                continue;
+            }
+            JsonNode value = value(property.getPrimaryType(), depth + 1);
+            if (Objects.isNull(value)) {
+                continue;
+            }
+            ObjectNode single = NODES.objectNode().set(property.getName(), value);
+            if (canBind(type, single)) {
+                bean.set(property.getName(), value);
+            }
+        }
+        return bean;
+    }
+
+    private static boolean canBind(JavaType type, JsonNode node) {
+        try {
+            MAPPER.readerFor(type).readValue(node);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}
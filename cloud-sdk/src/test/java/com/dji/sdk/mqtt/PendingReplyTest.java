@@ -0,0 +1,178 @@
+package com.dji.sdk.mqtt;
+
+import com.dji.sdk.common.Common;
+import com.dji.sdk.exception.CloudSDKException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.TypeMismatchException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PendingReply 테스트
+ *
+ * 실제 MQTT 대신 발행된 요청을 기록하는 sender를 사용하고,
+ * 응답은 수신 스레드처럼 PendingReply.complete를 직접 호출해 전달합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class PendingReplyTest {
+
+    private final ExecutorService retryExecutor = Executors.newSingleThreadExecutor();
+
+    private final HashedTimerWheel timer = new HashedTimerWheel("test-reply-timer", 5, 128, retryExecutor);
+
+    @AfterEach
+    void stop() {
+        timer.stop();
+        retryExecutor.shutdownNow();
+    }
+
+    private <T> PendingReply<T> pending(Class<T> clazz, int retryCount, long timeout, Consumer<CommonTopicRequest<?>> sender) {
+        CommonTopicRequest<String> request = new CommonTopicRequest<String>()
+                .setTid(Common.randomUUID())
+                .setData("request");
+        return new PendingReply<>(clazz, request, retryCount, timeout, timer, sender);
+    }
+
+    private static CommonTopicResponse<Object> replyTo(CommonTopicRequest<?> request, Object data) {
+        return new CommonTopicResponse<>()
+                .setTid(request.getTid())
+                .setBid(request.getBid())
+                .setData(data);
+    }
+
+    @Test
+    void completesWithMatchingReply() throws Exception {
+        List<CommonTopicRequest<?>> sent = new ArrayList<>();
+        PendingReply<String> pending = pending(String.class, 0, 1000, sent::add);
+        pending.send();
+        CommonTopicRequest<?> request = sent.get(0);
+        assertTrue(PendingReply.isPending(request.getTid()));
+
+        // bid가 다른 응답은 무시합니다.
+        assertFalse(PendingReply.complete(replyTo(request, "wrong").setBid("other")));
+        assertTrue(PendingReply.complete(replyTo(request, "ok")));
+        assertFalse(PendingReply.complete(replyTo(request, "again")));
+
+        assertEquals("ok", pending.getFuture().get(1, TimeUnit.SECONDS).getData());
+        assertFalse(PendingReply.isPending(request.getTid()));
+    }
+
+    @Test
+    void retriesWithNewTidAndBidThenFails() {
+        List<CommonTopicRequest<?>> sent = new ArrayList<>();
+        Set<String> tids = ConcurrentHashMap.newKeySet();
+        Set<String> bids = ConcurrentHashMap.newKeySet();
+        PendingReply<String> pending = pending(String.class, 2, 20, request -> {
+            sent.add(request);
+            tids.add(request.getTid());
+            bids.add(request.getBid());
+        });
+        pending.send();
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> pending.getFuture().get(2, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof CloudSDKException);
+        assertEquals(3, sent.size());
+        assertEquals(3, tids.size());
+        assertEquals(3, bids.size());
+        tids.forEach(tid -> assertFalse(PendingReply.isPending(tid)));
+    }
+
+    @Test
+    void failsOnUnexpectedDataType() {
+        List<CommonTopicRequest<?>> sent = new ArrayList<>();
+        PendingReply<String> pending = pending(String.class, 0, 1000, sent::add);
+        pending.send();
+        assertTrue(PendingReply.complete(replyTo(sent.get(0), 1)));
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> pending.getFuture().get(1, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof TypeMismatchException);
+    }
+
+    /**
+     * 타이머 스레드 하나와 재발행 스레드 하나로 수천 건의 대기 요청을 처리합니다.
+     */
+    @Test
+    void thousandsInFlightCompleteOrTimeOut() throws Exception {
+        int count = 5000;
+        List<CommonTopicRequest<?>> sent = new ArrayList<>();
+        List<CompletableFuture<CommonTopicResponse<String>>> futures = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            PendingReply<String> pending = pending(String.class, 0, 1000, sent::add);
+            pending.send();
+            futures.add(pending.getFuture());
+        }
+        assertEquals(count, sent.size());
+        assertTrue(PendingReply.getPendingCount() >= count);
+
+        // 짝수 번째 요청에만 응답합니다.
+        for (int i = 0; i < count; i += 2) {
+            assertTrue(PendingReply.complete(replyTo(sent.get(i), "reply-" + i)));
+        }
+
+        AtomicInteger timedOut = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            try {
+                CommonTopicResponse<String> response = futures.get(i).get(5, TimeUnit.SECONDS);
+                assertEquals(0, i % 2);
+                assertEquals("reply-" + i, response.getData());
+            } catch (ExecutionException e) {
+                assertEquals(1, i % 2);
+                assertTrue(e.getCause() instanceof CloudSDKException);
+                timedOut.incrementAndGet();
+            }
+        }
+        assertEquals(count / 2, timedOut.get());
+        sent.forEach(request -> assertFalse(PendingReply.isPending(request.getTid())));
+    }
+
+    @Test
+    void failedRequestIsRemovedAndNotResent() throws Exception {
+        List<CommonTopicRequest<?>> sent = new ArrayList<>();
+        PendingReply<String> pending = pending(String.class, 3, 20, sent::add);
+        pending.send();
+        String tid = sent.get(0).getTid();
+
+        assertTrue(pending.fail(new CloudSDKException("gave up")));
+        assertFalse(PendingReply.isPending(tid));
+        assertFalse(PendingReply.complete(replyTo(sent.get(0), "late")));
+
+        Thread.sleep(100);
+        assertEquals(1, sent.size());
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> pending.getFuture().get(1, TimeUnit.SECONDS));
+        assertEquals("gave up", e.getCause().getMessage());
+    }
+
+    @Test
+    void rejectedRetryFailsTheFuture() {
+        retryExecutor.shutdown();
+        List<CommonTopicRequest<?>> sent = new ArrayList<>();
+        PendingReply<String> pending = pending(String.class, 2, 20, sent::add);
+        pending.send();
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> pending.getFuture().get(2, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof CloudSDKException);
+        assertEquals(1, sent.size());
+        assertFalse(PendingReply.isPending(sent.get(0).getTid()));
+    }
+}
@@ -0,0 +1,183 @@
+package com.dji.sdk.mqtt.drc;
+
+import com.dji.sdk.cloudapi.control.ControlMethodEnum;
+import com.dji.sdk.cloudapi.control.DroneControlRequest;
+import com.dji.sdk.cloudapi.control.DroneControlResponse;
+import com.dji.sdk.cloudapi.control.HeartBeatRequest;
+import com.dji.sdk.mqtt.CommonTopicRequest;
+import com.dji.sdk.mqtt.MqttGatewayPublish;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * DrcDownPublish 순차 전송 테스트
+ *
+ * 손실이 있는 가짜 브로커와, 이전 seq의 명령을 버리고 적용한 명령마다 ack를 보내는 가짜 기체를 사용합니다.
+ * 손실 여부는 (seq, 전송 회차)의 해시로 정하므로 스레드 타이밍과 관계없이 같은 메시지는 같은 결과가 됩니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class DrcDownPublishTest {
+
+    private static final String SN = "DOCK-SN";
+
+    private static final int COMMANDS = 100;
+
+    /**
+     * 손실 링크 시나리오의 명령 수. 10Hz로 보냅니다.
+     */
+    private static final int LOSSY_COMMANDS = 40;
+
+    @Mock
+    private MqttGatewayPublish gatewayPublish;
+
+    private final DrcDownPublish drcDownPublish = new DrcDownPublish();
+
+    private final ScheduledExecutorService uplink = Executors.newSingleThreadScheduledExecutor();
+
+    /**
+     * 가짜 기체가 적용한 명령 seq (적용 순서)
+     */
+    private final List<Long> applied = Collections.synchronizedList(new ArrayList<>());
+
+    private final AtomicLong lastApplied = new AtomicLong(-1);
+
+    private final AtomicInteger published = new AtomicInteger();
+
+    private final Map<Long, AtomicInteger> attempts = new ConcurrentHashMap<>();
+
+    private volatile int lossPercent;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(drcDownPublish, "gatewayPublish", gatewayPublish);
+        ReflectionTestUtils.setField(drcDownPublish, "sequenced", true);
+        ReflectionTestUtils.setField(drcDownPublish, "sessionIdleTimeout", 300_000L);
+        lenient().doAnswer(invocation -> {
+            this.onBroker(invocation.getArgument(1));
+            return null;
+        }).when(gatewayPublish).publish(anyString(), any(CommonTopicRequest.class));
+    }
+
+    @AfterEach
+    void stop() {
+        drcDownPublish.destroy();
+        uplink.shutdownNow();
+    }
+
+    private boolean lost(long seq, int attempt, int salt) {
+        int hash = Long.hashCode(seq * 1_000_003L + attempt * 31L + salt) * 0x9E3779B1;
+        return Math.floorMod(hash >>> 7, 100) < lossPercent;
+    }
+
+    /**
+     * 가짜 브로커와 기체: 다운링크 손실, 이전 seq 폐기, 업링크(ack) 손실을 흉내냅니다.
+     */
+    private void onBroker(CommonTopicRequest<?> request) {
+        published.incrementAndGet();
+        DroneControlRequest command = (DroneControlRequest) request.getData();
+        long seq = command.getSeq();
+        int attempt = attempts.computeIfAbsent(seq, k -> new AtomicInteger()).incrementAndGet();
+        if (lost(seq, attempt, 0)) {
+            return;
+        }
+        long prev = lastApplied.getAndAccumulate(seq, Math::max);
+        if (seq > prev) {
+            applied.add(seq);
+        }
+        if (lost(seq, attempt, 1)) {
+            return;
+        }
+        TopicDrcRequest<DrcUpData<DroneControlResponse>> ack = new TopicDrcRequest<DrcUpData<DroneControlResponse>>()
+                .setMethod(ControlMethodEnum.DRONE_CONTROL.getMethod())
+                .setData(new DrcUpData<DroneControlResponse>().setOutput(new DroneControlResponse().setSeq(seq)));
+        uplink.schedule(() -> drcDownPublish.onUplink(SN, ack), 5, TimeUnit.MILLISECONDS);
+    }
+
+    private void sendCommands(int count, long intervalMillis) throws InterruptedException {
+        for (int i = 0; i < count; i++) {
+            drcDownPublish.publish(SN, ControlMethodEnum.DRONE_CONTROL.getMethod(),
+                    new DroneControlRequest().setX((float) i), DrcDownPublish.DEFAULT_PUBLISH_COUNT);
+            Thread.sleep(intervalMillis);
+        }
+        // 마지막 명령의 재전송이 끝날 때까지 기다립니다.
+        Thread.sleep(800);
+    }
+
+    @Test
+    void lossFreeLinkPublishesEachCommandAboutOnce() throws Exception {
+        lossPercent = 0;
+        sendCommands(COMMANDS, 10);
+
+        assertEquals(COMMANDS, applied.size());
+        assertEquals(COMMANDS, drcDownPublish.getSession(SN).getAckCount());
+        // 첫 ack 전에는 기존처럼 여러 번 보낼 수 있지만, 5배 발행보다 훨씬 적어야 합니다.
+        assertTrue(published.get() < COMMANDS + 10, "published " + published.get());
+        assertTrue(drcDownPublish.getSession(SN).getLossRate() < 0.01);
+    }
+
+    @Test
+    void lossyLinkDeliversMostCommandsInOrderWithFewerPublishes() throws Exception {
+        lossPercent = 30;
+        sendCommands(LOSSY_COMMANDS, 100);
+
+        for (int i = 1; i < applied.size(); i++) {
+            assertTrue(applied.get(i - 1) < applied.get(i), "older command applied after newer");
+        }
+        assertTrue(applied.size() >= LOSSY_COMMANDS * 85 / 100, "applied " + applied.size());
+        assertTrue(published.get() < LOSSY_COMMANDS * DrcDownPublish.DEFAULT_PUBLISH_COUNT, "published " + published.get());
+        DrcSession session = drcDownPublish.getSession(SN);
+        assertTrue(session.getLossRate() > 0 && session.getLossRate() < 1);
+        assertTrue(session.getRedundancy() > 1);
+    }
+
+    @Test
+    void idleSessionIsExpired() throws Exception {
+        ReflectionTestUtils.setField(drcDownPublish, "sessionIdleTimeout", 100L);
+        drcDownPublish.afterPropertiesSet();
+        drcDownPublish.publish(SN, ControlMethodEnum.HEART_BEAT.getMethod(), new HeartBeatRequest().setSeq(1L));
+        assertNotNull(drcDownPublish.getSession(SN));
+
+        long deadline = System.currentTimeMillis() + 2000;
+        while (drcDownPublish.getSession(SN) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertNull(drcDownPublish.getSession(SN));
+    }
+
+    @Test
+    void activeSessionIsKept() throws Exception {
+        ReflectionTestUtils.setField(drcDownPublish, "sessionIdleTimeout", 200L);
+        for (int i = 0; i < 10; i++) {
+            drcDownPublish.publish(SN, ControlMethodEnum.HEART_BEAT.getMethod(), new HeartBeatRequest().setSeq((long) i));
+            Thread.sleep(50);
+            drcDownPublish.expireIdleSessions();
+            assertNotNull(drcDownPublish.getSession(SN));
+        }
+    }
+}
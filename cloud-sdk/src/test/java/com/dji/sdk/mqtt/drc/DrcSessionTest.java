@@ -0,0 +1,77 @@
+package com.dji.sdk.mqtt.drc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DrcSession 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class DrcSessionTest {
+
+    @Test
+    void lossRateMovesTowardSamples() {
+        DrcSession session = new DrcSession("SN", 5);
+        assertEquals(1, session.getLossRate());
+        assertEquals(5, session.getRedundancy());
+
+        for (int i = 1; i <= 100; i++) {
+            DrcSession.Pending pending = session.offer(session.nextSeq(null), () -> { }, 1);
+            session.send(pending);
+            assertTrue(session.onAck(i));
+        }
+        assertTrue(session.getLossRate() < 0.01);
+        assertEquals(1, session.getRedundancy());
+    }
+
+    /**
+     * ack(수신 스레드)와 손실 기록(재전송 스레드)이 동시에 일어나도 갱신이 사라지지 않습니다.
+     * 표본이 모두 1이면 결과는 1, 모두 0이면 결과는 0으로 수렴해야 하며 범위를 벗어나지 않아야 합니다.
+     */
+    @Test
+    void concurrentUpdatesStayInRange() throws Exception {
+        DrcSession session = new DrcSession("SN", 5);
+        DrcSession.Pending pending = session.offer(session.nextSeq(null), () -> { }, 1);
+        int threads = 4;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            boolean exhaust = t % 2 == 0;
+            int offset = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < 10_000; i++) {
+                    if (exhaust) {
+                        session.onExhausted(pending);
+                    } else {
+                        session.onAck(1_000_000L + offset * 10_000L + i);
+                    }
+                    double loss = session.getLossRate();
+                    assertTrue(loss >= 0 && loss <= 1, "loss " + loss);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join(10_000);
+        }
+        double loss = session.getLossRate();
+        assertTrue(loss >= 0 && loss <= 1);
+    }
+}
@@ -0,0 +1,52 @@
+package com.dji.sdk.mqtt.drc;
+
+import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.mqtt.PayloadSamples;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DrcUpRouter 변환 테스트
+ *
+ * 모든 DRC 업로드 method에 대해 단일 패스 변환 결과가 기존 Map 변환 후 convertValue 결과와 같은지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class DrcUpRouterTest {
+
+    @Test
+    void decodesEveryMethodLikeLegacyPath() throws Exception {
+        for (DrcUpMethodEnum method : DrcUpMethodEnum.values()) {
+            ObjectNode envelope = JsonNodeFactory.instance.objectNode()
+                    .put("tid", "tid-1")
+                    .put("bid", "bid-1")
+                    .put("timestamp", 1760689800000L)
+                    .put("method", method.getMethod());
+            for (boolean dataFirst : new boolean[]{false, true}) {
+                byte[] payload = PayloadSamples.payload(envelope,
+                        PayloadSamples.data(method.getClassType().getType()), dataFirst);
+                String message = method + (dataFirst ? " (data first)" : "");
+                assertEquals(write(legacyDecode(payload)), write(DrcUpRouter.decode(payload)), message);
+            }
+        }
+    }
+
+    /**
+     * 변경 전 DrcUpRouter의 변환 방식입니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static TopicDrcRequest<Object> legacyDecode(byte[] payload) throws Exception {
+        TopicDrcRequest<Object> data = Common.getObjectMapper().readValue(payload, TopicDrcRequest.class);
+        return data.setData(Common.getObjectMapper().convertValue(data.getData(), DrcUpMethodEnum.find(data.getMethod()).getClassType()));
+    }
+
+    private static String write(Object value) throws Exception {
+        return JsonMapperRegistry.getWriter().writeValueAsString(value);
+    }
+}
@@ -0,0 +1,69 @@
+package com.dji.sdk.mqtt.events;
+
+import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.mqtt.PayloadSamples;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import static com.dji.sdk.mqtt.TopicConst.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EventsRouter 변환 테스트
+ *
+ * 모든 이벤트 method에 대해 단일 패스 변환 결과가 기존 Map 변환 후 convertValue 결과와 같은지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class EventsRouterTest {
+
+    private static final String TOPIC = THING_MODEL_PRE + PRODUCT + "DOCK-SN" + EVENTS_SUF;
+
+    @Test
+    void decodesEveryMethodLikeLegacyPath() throws Exception {
+        for (EventsMethodEnum method : EventsMethodEnum.values()) {
+            ObjectNode envelope = JsonNodeFactory.instance.objectNode()
+                    .put("tid", "tid-1")
+                    .put("bid", "bid-1")
+                    .put("timestamp", 1760689800000L)
+                    .put("gateway", "DOCK-SN")
+                    .put("need_reply", 1)
+                    .put("method", method.getMethod());
+            for (boolean dataFirst : new boolean[]{false, true}) {
+                byte[] payload = PayloadSamples.payload(envelope,
+                        PayloadSamples.data(method.getClassType().getType()), dataFirst);
+
+                TopicEventsRequest<Object> request = EventsRouter.decode(TOPIC, payload);
+                String message = method + (dataFirst ? " (data first)" : "");
+                assertEquals(write(legacyDecode(payload)), write(request), message);
+                assertEquals("DOCK-SN", request.getFrom(), message);
+            }
+        }
+    }
+
+    @Test
+    void unknownMethodIsKeptAsMap() throws Exception {
+        ObjectNode envelope = JsonNodeFactory.instance.objectNode().put("tid", "tid-1").put("method", "not_a_method");
+        byte[] payload = PayloadSamples.payload(envelope,
+                JsonNodeFactory.instance.objectNode().put("value", 1), true);
+        assertEquals(write(legacyDecode(payload)), write(EventsRouter.decode(TOPIC, payload)));
+    }
+
+    /**
+     * 변경 전 EventsRouter의 변환 방식입니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static TopicEventsRequest<Object> legacyDecode(byte[] payload) throws Exception {
+        TopicEventsRequest<Object> data = Common.getObjectMapper().readValue(payload, TopicEventsRequest.class);
+        return data.setFrom(TOPIC.substring((THING_MODEL_PRE + PRODUCT).length(), TOPIC.indexOf(EVENTS_SUF)))
+                .setData(Common.getObjectMapper().convertValue(data.getData(), EventsMethodEnum.find(data.getMethod()).getClassType()));
+    }
+
+    private static String write(Object value) throws Exception {
+        return JsonMapperRegistry.getWriter().writeValueAsString(value);
+    }
+}
@@ -0,0 +1,157 @@
+package com.dji.sdk.mqtt.osd;
+
+import com.dji.sdk.cloudapi.device.PayloadModelConst;
+import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.common.SDKManager;
+import com.dji.sdk.config.version.GatewayManager;
+import com.dji.sdk.config.version.GatewayTypeEnum;
+import com.dji.sdk.mqtt.PayloadSamples;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.dji.sdk.mqtt.TopicConst.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OsdRouter 변환 테스트
+ *
+ * 모든 OSD 디바이스 타입에 대해 단일 패스 변환 결과가 기존 Map 변환 후 convertValue 결과와 같은지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class OsdRouterTest {
+
+    private static final String DOCK_SN = "OSD-DOCK-SN";
+
+    private static final String DOCK_DRONE_SN = "OSD-DOCK-DRONE-SN";
+
+    private static final String RC_SN = "OSD-RC-SN";
+
+    private static final String RC_DRONE_SN = "OSD-RC-DRONE-SN";
+
+    @BeforeAll
+    static void registerGateways() {
+        SDKManager.registerDevice(DOCK_SN, DOCK_DRONE_SN, GatewayTypeEnum.DOCK, "1.1.2", null);
+        SDKManager.registerDevice(RC_SN, RC_DRONE_SN, GatewayTypeEnum.RC, "1.0.0", null);
+    }
+
+    @AfterAll
+    static void logoutGateways() {
+        SDKManager.logoutDevice(DOCK_SN);
+        SDKManager.logoutDevice(RC_SN);
+    }
+
+    @Test
+    void decodesEveryDeviceTypeLikeLegacyPath() throws Exception {
+        assertDecodedLikeLegacy(OsdDeviceTypeEnum.DOCK, DOCK_SN, DOCK_SN);
+        assertDecodedLikeLegacy(OsdDeviceTypeEnum.DOCK_DRONE, DOCK_SN, DOCK_DRONE_SN);
+        assertDecodedLikeLegacy(OsdDeviceTypeEnum.RC, RC_SN, RC_SN);
+        assertDecodedLikeLegacy(OsdDeviceTypeEnum.RC_DRONE, RC_SN, RC_DRONE_SN);
+    }
+
+    @Test
+    void payloadIndexEntriesAreMergedIntoPayloads() throws Exception {
+        List<String> indexKeys = new ArrayList<>(new TreeSet<>(PayloadModelConst.getAllIndexWithPosition()));
+        ObjectNode data = JsonNodeFactory.instance.objectNode();
+        data.putArray(PayloadModelConst.PAYLOAD_KEY).addObject().put("payload_index", indexKeys.get(0));
+        data.putObject(indexKeys.get(1)).put("payload_index", indexKeys.get(1));
+        byte[] payload = PayloadSamples.payload(envelope(DOCK_SN), data, false);
+
+        JsonNode decoded = JsonMapperRegistry.getMapper().valueToTree(OsdRouter.decode(topic(DOCK_DRONE_SN), payload).getData());
+        assertEquals(2, decoded.get(PayloadModelConst.PAYLOAD_KEY).size());
+        assertEquals(write(legacyDecode(topic(DOCK_DRONE_SN), payload)), write(OsdRouter.decode(topic(DOCK_DRONE_SN), payload)));
+    }
+
+    @Test
+    void deviceTypeIsResolvedOncePerMessage() throws Exception {
+        AtomicInteger lookups = new AtomicInteger();
+        SDKManager.registerDevice(new GatewayManager("OSD-COUNTED-SN", "OSD-COUNTED-DRONE-SN", GatewayTypeEnum.DOCK, "1.1.2", null) {
+            @Override
+            public GatewayTypeEnum getType() {
+                lookups.incrementAndGet();
+                return super.getType();
+            }
+        });
+        try {
+            for (String from : new String[]{"OSD-COUNTED-SN", "OSD-COUNTED-DRONE-SN"}) {
+                for (boolean dataFirst : new boolean[]{false, true}) {
+                    lookups.set(0);
+                    OsdRouter.decode(topic(from), PayloadSamples.payload(envelope("OSD-COUNTED-SN"),
+                            JsonNodeFactory.instance.objectNode(), dataFirst));
+                    assertEquals(1, lookups.get(), from + (dataFirst ? " (data first)" : ""));
+                }
+            }
+        } finally {
+            SDKManager.logoutDevice("OSD-COUNTED-SN");
+        }
+    }
+
+    private static void assertDecodedLikeLegacy(OsdDeviceTypeEnum type, String gatewaySn, String from) throws Exception {
+        JsonNode data = PayloadSamples.data(type.getClassType());
+        if (!type.isGateway()) {
+            // 페이로드 인덱스 키로 온 페이로드도 포함
+            ArrayNode payloads = (ArrayNode) data.get(PayloadModelConst.PAYLOAD_KEY);
+            assertNotNull(payloads, type.name());
+            ((ObjectNode) data).set(PayloadModelConst.getAllIndexWithPosition().iterator().next(), payloads.get(0).deepCopy());
+        }
+        for (boolean dataFirst : new boolean[]{false, true}) {
+            byte[] payload = PayloadSamples.payload(envelope(gatewaySn), data, dataFirst);
+            TopicOsdRequest<Object> request = OsdRouter.decode(topic(from), payload);
+
+            String message = type + (dataFirst ? " (data first)" : "");
+            assertEquals(type.getClassType(), request.getData().getClass(), message);
+            assertEquals(from, request.getFrom(), message);
+            assertEquals(write(legacyDecode(topic(from), payload)), write(request), message);
+        }
+    }
+
+    /**
+     * 변경 전 OsdRouter의 변환 방식입니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static TopicOsdRequest<Object> legacyDecode(String topic, byte[] payload) throws Exception {
+        TopicOsdRequest<Object> response = Common.getObjectMapper().readValue(payload, new TypeReference<TopicOsdRequest<Object>>() {});
+        response.setFrom(topic.substring((THING_MODEL_PRE + PRODUCT).length(), topic.indexOf(OSD_SUF)));
+        GatewayManager gateway = SDKManager.getDeviceSDK(response.getGateway());
+        OsdDeviceTypeEnum typeEnum = OsdDeviceTypeEnum.find(gateway.getType(), response.getFrom().equals(response.getGateway()));
+        Map<String, Object> data = (Map<String, Object>) response.getData();
+        if (!typeEnum.isGateway()) {
+            List payloadData = (List) data.getOrDefault(PayloadModelConst.PAYLOAD_KEY, new ArrayList<>());
+            PayloadModelConst.getAllIndexWithPosition().stream().filter(data::containsKey)
+                    .map(data::get).forEach(payloadData::add);
+            data.put(PayloadModelConst.PAYLOAD_KEY, payloadData);
+        }
+        return response.setData(Common.getObjectMapper().convertValue(data, typeEnum.getClassType()));
+    }
+
+    private static ObjectNode envelope(String gatewaySn) {
+        return JsonNodeFactory.instance.objectNode()
+                .put("tid", "tid-1")
+                .put("bid", "bid-1")
+                .put("timestamp", 1760689800000L)
+                .put("gateway", gatewaySn);
+    }
+
+    private static String topic(String from) {
+        return THING_MODEL_PRE + PRODUCT + from + OSD_SUF;
+    }
+
+    private static String write(Object value) throws Exception {
+        return JsonMapperRegistry.getWriter().writeValueAsString(value);
+    }
+}
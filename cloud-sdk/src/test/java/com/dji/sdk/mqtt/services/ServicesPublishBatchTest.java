@@ -0,0 +1,215 @@
+package com.dji.sdk.mqtt.services;
+
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.exception.CloudSDKException;
+import com.dji.sdk.mqtt.CloudApiTopicEnum;
+import com.dji.sdk.mqtt.IMqttMessageGateway;
+import com.dji.sdk.mqtt.MqttGatewayPublish;
+import com.dji.sdk.mqtt.PendingReply;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ServicesPublish.publishBatch 테스트
+ *
+ * 실제 브로커 대신 발행된 요청을 받아 일정 지연 뒤에 PendingReply.complete로 응답하는 가짜 디바이스를 사용합니다.
+ * 디바이스 200대 중 일부는 첫 요청을 무시하여 재시도로만 응답하고, 일부는 전혀 응답하지 않습니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class ServicesPublishBatchTest {
+
+    private static final int DEVICES = 200;
+
+    private static final String METHOD = "flight_areas_update";
+
+    private final ScheduledExecutorService responder = Executors.newScheduledThreadPool(4);
+
+    private final MqttGatewayPublish gatewayPublish = new MqttGatewayPublish();
+
+    private final ServicesPublish servicesPublish = new ServicesPublish();
+
+    /**
+     * 디바이스별 수신한 요청 수
+     */
+    private final Map<String, AtomicInteger> received = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        IMqttMessageGateway gateway = new IMqttMessageGateway() {
+            @Override
+            public void publish(String topic, byte[] payload) {
+                this.publish(topic, payload, 0);
+            }
+
+            @Override
+            public void publish(String topic, byte[] payload, int qos) {
+                onRequest(topic, payload);
+            }
+        };
+        ReflectionTestUtils.setField(gatewayPublish, "messageGateway", gateway);
+        ReflectionTestUtils.setField(servicesPublish, "gatewayPublish", gatewayPublish);
+    }
+
+    @AfterEach
+    void stop() {
+        responder.shutdownNow();
+        gatewayPublish.destroy();
+    }
+
+    private static boolean isFlaky(int index) {
+        return index % 10 == 0;
+    }
+
+    private static boolean isSilent(int index) {
+        return index % 20 == 5;
+    }
+
+    private static String sn(int index) {
+        return String.format("DOCK%04d", index);
+    }
+
+    private static int indexOf(String sn) {
+        return Integer.parseInt(sn.substring(4));
+    }
+
+    /**
+     * 가짜 디바이스: 요청을 받으면 10~30ms 뒤에 응답합니다.
+     */
+    private void onRequest(String topic, byte[] payload) {
+        String sn = CloudApiTopicEnum.getSn(topic);
+        int attempt = received.computeIfAbsent(sn, k -> new AtomicInteger()).incrementAndGet();
+        int index = indexOf(sn);
+        if (isSilent(index) || (isFlaky(index) && attempt == 1)) {
+            return;
+        }
+        JsonNode request;
+        try {
+            request = JsonMapperRegistry.getMapper().readTree(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        TopicServicesResponse<ServicesReplyReceiver<Object>> reply = new TopicServicesResponse<ServicesReplyReceiver<Object>>()
+                .setTid(request.get("tid").asText())
+                .setBid(request.get("bid").asText())
+                .setMethod(request.get("method").asText())
+                .setData(new ServicesReplyReceiver<>().setResult(new ServicesErrorCode(0)).setOutput(sn));
+        responder.schedule(() -> PendingReply.complete(reply),
+                ThreadLocalRandom.current().nextInt(10, 30), TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void twoHundredDevicesWithRetriesAndTimeouts() {
+        List<String> sns = new ArrayList<>();
+        for (int i = 0; i < DEVICES; i++) {
+            sns.add(sn(i));
+        }
+
+        long start = System.nanoTime();
+        Map<String, ServicesBatchResult<Object>> results =
+                servicesPublish.publishBatch(null, sns, METHOD, null, 1, 200, 64, 5000);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(sns, new ArrayList<>(results.keySet()));
+        int succeeded = 0;
+        for (int i = 0; i < DEVICES; i++) {
+            ServicesBatchResult<Object> result = results.get(sn(i));
+            if (isSilent(i)) {
+                assertFalse(result.isSuccess());
+                assertTrue(result.getError() instanceof CloudSDKException);
+                assertEquals(2, received.get(sn(i)).get(), "silent device gets one retry");
+                continue;
+            }
+            assertTrue(result.isSuccess(), result.toString());
+            assertEquals(sn(i), result.getResponse().getData().getOutput());
+            assertEquals(isFlaky(i) ? 2 : 1, received.get(sn(i)).get());
+            succeeded++;
+        }
+        assertEquals(DEVICES - DEVICES / 20, succeeded);
+        // 요청이 순차로 처리되었다면 200 * 10ms 이상, 실패한 디바이스마다 400ms가 걸립니다.
+        assertTrue(elapsedMs < 3000, "batch took " + elapsedMs + "ms");
+        sns.forEach(sn -> assertTrue(received.containsKey(sn)));
+    }
+
+    @Test
+    void devicesWithoutReplyByDeadlineAreReported() {
+        List<String> sns = new ArrayList<>();
+        for (int i = 0; i < DEVICES; i++) {
+            sns.add(sn(i));
+        }
+
+        // 기한(300ms)이 재시도 포함 대기 시간(2 * 200ms)보다 짧습니다.
+        Map<String, ServicesBatchResult<Object>> results =
+                servicesPublish.publishBatch(null, sns, METHOD, null, 1, 200, DEVICES, 300);
+
+        for (int i = 0; i < DEVICES; i++) {
+            ServicesBatchResult<Object> result = results.get(sn(i));
+            if (isSilent(i)) {
+                assertTrue(result.getMessage().endsWith("The batch deadline was exceeded."), result.getMessage());
+            } else if (!isFlaky(i)) {
+                assertTrue(result.isSuccess(), result.toString());
+            }
+        }
+    }
+
+    @Test
+    void concurrencyLimitBoundsRequestsInFlight() {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        IMqttMessageGateway counting = new IMqttMessageGateway() {
+            @Override
+            public void publish(String topic, byte[] payload) {
+                this.publish(topic, payload, 0);
+            }
+
+            @Override
+            public void publish(String topic, byte[] payload, int qos) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                JsonNode request;
+                try {
+                    request = JsonMapperRegistry.getMapper().readTree(payload);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                TopicServicesResponse<ServicesReplyReceiver<Object>> reply = new TopicServicesResponse<ServicesReplyReceiver<Object>>()
+                        .setTid(request.get("tid").asText())
+                        .setBid(request.get("bid").asText())
+                        .setData(new ServicesReplyReceiver<>().setResult(new ServicesErrorCode(0)));
+                responder.schedule(() -> {
+                    inFlight.decrementAndGet();
+                    PendingReply.complete(reply);
+                }, 5, TimeUnit.MILLISECONDS);
+            }
+        };
+        ReflectionTestUtils.setField(gatewayPublish, "messageGateway", counting);
+        List<String> sns = new ArrayList<>();
+        for (int i = 0; i < DEVICES; i++) {
+            sns.add(sn(i));
+        }
+
+        Map<String, ServicesBatchResult<Object>> results =
+                servicesPublish.publishBatch(null, sns, METHOD, null, 0, 1000, 16, 5000);
+
+        assertTrue(results.values().stream().allMatch(ServicesBatchResult::isSuccess));
+        assertTrue(maxInFlight.get() <= 16, "max in flight " + maxInFlight.get());
+    }
+}
@@ -0,0 +1,121 @@
+package com.dji.sdk.mqtt.state;
+
+import com.dji.sdk.common.Common;
+import com.dji.sdk.common.JsonMapperRegistry;
+import com.dji.sdk.common.SDKManager;
+import com.dji.sdk.config.version.GatewayTypeEnum;
+import com.dji.sdk.mqtt.PayloadSamples;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static com.dji.sdk.mqtt.TopicConst.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StateRouter 변환 테스트
+ *
+ * 도크와 리모컨의 모든 상태 데이터 키에 대해 단일 패스 변환 결과가 기존 Map 변환 후 convertValue 결과와 같은지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class StateRouterTest {
+
+    private static final String DOCK_SN = "STATE-DOCK-SN";
+
+    private static final String RC_SN = "STATE-RC-SN";
+
+    @BeforeAll
+    static void registerGateways() {
+        SDKManager.registerDevice(DOCK_SN, "STATE-DOCK-DRONE-SN", GatewayTypeEnum.DOCK, "1.1.2", null);
+        SDKManager.registerDevice(RC_SN, "STATE-RC-DRONE-SN", GatewayTypeEnum.RC, "1.0.0", null);
+    }
+
+    @AfterAll
+    static void logoutGateways() {
+        SDKManager.logoutDevice(DOCK_SN);
+        SDKManager.logoutDevice(RC_SN);
+    }
+
+    @Test
+    void decodesEveryDockStateLikeLegacyPath() throws Exception {
+        for (DockStateDataKeyEnum key : DockStateDataKeyEnum.values()) {
+            assertDecodedLikeLegacy(key.name(), DOCK_SN, key.getKeys(), key.getClassType());
+        }
+    }
+
+    @Test
+    void decodesEveryRcStateLikeLegacyPath() throws Exception {
+        for (RcStateDataKeyEnum key : RcStateDataKeyEnum.values()) {
+            assertDecodedLikeLegacy(key.name(), RC_SN, key.getKeys(), key.getClassType());
+        }
+    }
+
+    private static void assertDecodedLikeLegacy(String name, String gatewaySn, Set<String> keys, Class<?> type) throws Exception {
+        JsonNode data = PayloadSamples.data(type);
+        Set<String> fields = new HashSet<>();
+        data.fieldNames().forEachRemaining(fields::add);
+        if (Collections.disjoint(fields, keys)) {
+            // 페이로드별 상태는 페이로드 키 아래에 값을 둠. Map 생성자로 받는 타입은 펌웨어 버전 형식을 사용
+            JsonNode value = data.isEmpty() ? JsonNodeFactory.instance.objectNode().put("firmware_version", "01.00.0100") : data;
+            data = JsonNodeFactory.instance.objectNode().set(new TreeSet<>(keys).first(), value);
+        }
+        ObjectNode envelope = JsonNodeFactory.instance.objectNode()
+                .put("tid", "tid-1")
+                .put("bid", "bid-1")
+                .put("timestamp", 1760689800000L)
+                .put("gateway", gatewaySn);
+        for (boolean dataFirst : new boolean[]{false, true}) {
+            byte[] payload = PayloadSamples.payload(envelope, data, dataFirst);
+            TopicStateRequest<Object> request = StateRouter.decode(topic(gatewaySn), payload);
+
+            String message = name + (dataFirst ? " (data first)" : "");
+            assertEquals(write(legacyDecode(topic(gatewaySn), payload)), write(request), message);
+            assertEquals(gatewaySn, request.getFrom(), message);
+        }
+    }
+
+    /**
+     * 변경 전 StateRouter의 변환 방식입니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static TopicStateRequest<Object> legacyDecode(String topic, byte[] payload) throws Exception {
+        TopicStateRequest<Object> response = Common.getObjectMapper().readValue(payload, new TypeReference<TopicStateRequest<Object>>() {});
+        String from = topic.substring((THING_MODEL_PRE + PRODUCT).length(), topic.indexOf(STATE_SUF));
+        Map<String, Object> data = (Map<String, Object>) response.getData();
+        Class<?> type;
+        switch (SDKManager.getDeviceSDK(response.getGateway()).getType()) {
+            case RC:
+                type = RcStateDataKeyEnum.find(data.keySet()).getClassType();
+                break;
+            case DOCK:
+            case DOCK2:
+            case DOCK3:
+                type = DockStateDataKeyEnum.find(data.keySet()).getClassType();
+                break;
+            default:
+                throw new IllegalStateException();
+        }
+        return response.setFrom(from).setData(Common.getObjectMapper().convertValue(data, type));
+    }
+
+    private static String topic(String gatewaySn) {
+        return THING_MODEL_PRE + PRODUCT + gatewaySn + STATE_SUF;
+    }
+
+    private static String write(Object value) throws Exception {
+        return JsonMapperRegistry.getWriter().writeValueAsString(value);
+    }
+}
@@ -1,7 +1,5 @@
 package com.dji.sample.component;
 
-import com.dji.sample.component.redis.RedisConst;
-import com.dji.sample.component.redis.RedisOpsUtils;
 import com.dji.sample.manage.model.dto.DeviceDTO;
 import com.dji.sample.manage.service.IDeviceRedisService;
 import com.dji.sample.manage.service.IDeviceService;
@@ -38,24 +36,23 @@ public class ApplicationBootInitial implements CommandLineRunner {
     /**
      * 애플리케이션 시작 시 실행되는 초기화 메서드입니다.
      * 
-     * Redis에 존재하는 디바이스들을 구독하여 프로그램 중단으로 인한
-     * Pilot 측과의 데이터 불일치를 방지합니다.
+     * 온라인 디바이스 인덱스를 보충한 뒤, Redis에 존재하는 디바이스들을 구독하여
+     * 프로그램 중단으로 인한 Pilot 측과의 데이터 불일치를 방지합니다.
      * 
      * @param args 명령행 인수
      * @throws Exception 초기화 중 오류 발생 시
      */
     @Override
     public void run(String... args) throws Exception {
-        // 디바이스 온라인 접두사 길이 계산
-        int start = RedisConst.DEVICE_ONLINE_PREFIX.length();
+        // 인덱스가 생기기 전에 저장된 온라인 디바이스도 인덱스에서 조회되도록 보충
+        deviceRedisService.backfillOnlineIndex();
 
-        // Redis에서 모든 디바이스 온라인 키를 조회하여 처리
-        RedisOpsUtils.getAllKeys(RedisConst.DEVICE_ONLINE_PREFIX + "*")
+        // 온라인 디바이스 인덱스에서 모든 디바이스 SN을 조회하여 처리
+        deviceRedisService.getOnlineDeviceSns()
                 .stream()
-                // 키에서 디바이스 SN 추출
-                .map(key -> key.substring(start))
-                // Redis에서 디바이스 온라인 정보 조회
+                // Redis에서 디바이스 온라인 정보 조회 (인덱스에만 남아 있고 만료된 디바이스는 제외)
                 .map(deviceRedisService::getDeviceOnline)
+                .filter(Optional::isPresent)
                 .map(Optional::get)
                 // 드론이 아닌 디바이스만 필터링 (서브 디바이스만 처리)
                 .filter(device -> DeviceDomainEnum.DRONE != device.getDomain())
@@ -1,18 +1,25 @@
 package com.dji.sample.component;
 
-import com.dji.sample.component.redis.RedisConst;
-import com.dji.sample.component.redis.RedisOpsUtils;
 import com.dji.sample.manage.model.dto.DeviceDTO;
+import com.dji.sample.manage.service.IDeviceRedisService;
 import com.dji.sample.manage.service.IDeviceService;
 import com.dji.sdk.cloudapi.device.DeviceDomainEnum;
+import com.dji.sdk.mqtt.ChannelName;
+import com.dji.sdk.mqtt.GatewayOrderedChannel;
 import com.dji.sdk.mqtt.IMqttTopicService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.MessageChannel;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -33,6 +40,10 @@ public class GlobalScheduleService {
     @Autowired
     private IDeviceService deviceService;
 
+    /** 디바이스 Redis 서비스 */
+    @Autowired
+    private IDeviceRedisService deviceRedisService;
+
     /** MQTT 토픽 서비스 */
     @Autowired
     private IMqttTopicService topicService;
@@ -41,49 +52,111 @@ public class GlobalScheduleService {
     @Autowired
     private ObjectMapper mapper;
 
+    /** 인바운드 메시지 채널 */
+    @Autowired
+    @Qualifier(ChannelName.INBOUND)
+    private MessageChannel inboundChannel;
+
+    /** OSD 메시지 채널 */
+    @Autowired
+    @Qualifier(ChannelName.INBOUND_OSD)
+    private MessageChannel osdChannel;
+
+    /** 채널별 직전 로그 시점의 폐기 수 */
+    private final Map<String, Long> lastDropped = new HashMap<>();
+
+    /** 한 번에 꺼낼 오프라인 디바이스 수 */
+    private static final int OFFLINE_POLL_BATCH = 500;
+
     /**
-     * 디바이스 상태를 30초마다 확인하는 스케줄 작업입니다.
+     * 오프라인 판정 시각이 지난 디바이스를 1초마다 확인하는 스케줄 작업입니다.
      * 
-     * Redis에 저장된 디바이스 온라인 정보의 만료 시간을 확인하여,
-     * 만료된 디바이스를 오프라인으로 처리합니다.
-     * 캐시 사용을 권장합니다.
+     * 온라인 정보를 쓸 때 함께 갱신되는 온라인 디바이스 인덱스(ZSET)에서
+     * 오프라인 판정 시각이 지난 디바이스만 꺼내 오프라인으로 처리합니다.
+     * KEYS 명령으로 모든 키를 훑지 않으므로 디바이스 수와 관계없이 Redis를 막지 않으며,
+     * 꺼내기가 원자적이므로 여러 서버 인스턴스가 같은 디바이스를 두 번 처리하지 않습니다.
      * 
-     * 실행 주기: 초기 지연 10초 후, 30초마다 실행
+     * 실행 주기: 초기 지연 10초 후, 이전 실행이 끝나고 1초마다 실행
      */
-    @Scheduled(initialDelay = 10, fixedRate = 30, timeUnit = TimeUnit.SECONDS)
+    @Scheduled(initialDelay = 10, fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
     private void deviceStatusListen() {
-        // 디바이스 온라인 접두사 길이 계산
-        int start = RedisConst.DEVICE_ONLINE_PREFIX.length();
-
-        // Redis에서 모든 디바이스 온라인 키를 조회하여 처리
-        RedisOpsUtils.getAllKeys(RedisConst.DEVICE_ONLINE_PREFIX + "*").forEach(key -> {
-            // 키의 남은 만료 시간 조회
-            long expire = RedisOpsUtils.getExpire(key);
-            
-            // 만료 시간이 30초 이하인 경우 디바이스를 오프라인으로 처리
-            if (expire <= 30) {
-                // Redis에서 디바이스 정보 조회
-                DeviceDTO device = (DeviceDTO) RedisOpsUtils.get(key);
-                if (null == device) {
-                    return;
-                }
-                
-                // 디바이스 타입에 따라 적절한 오프라인 처리 수행
-                if (DeviceDomainEnum.DRONE == device.getDomain()) {
-                    // 드론 디바이스 오프라인 처리
-                    deviceService.subDeviceOffline(key.substring(start));
-                } else {
-                    // 게이트웨이 디바이스 오프라인 처리
-                    deviceService.gatewayOffline(key.substring(start));
-                }
-                
-                // Redis에서 디바이스 온라인 정보 삭제
-                RedisOpsUtils.del(key);
+        List<String> sns;
+        do {
+            sns = deviceRedisService.pollOfflineDevices(OFFLINE_POLL_BATCH);
+            sns.forEach(this::deviceOffline);
+        } while (sns.size() == OFFLINE_POLL_BATCH);
+    }
+
+    /**
+     * 디바이스 타입에 따라 적절한 오프라인 처리를 수행합니다.
+     * 
+     * @param sn 디바이스 시리얼 번호
+     */
+    private void deviceOffline(String sn) {
+        try {
+            // Redis에서 디바이스 정보 조회
+            Optional<DeviceDTO> deviceOpt = deviceRedisService.getDeviceOnline(sn);
+            if (deviceOpt.isEmpty()) {
+                return;
+            }
+
+            if (DeviceDomainEnum.DRONE == deviceOpt.get().getDomain()) {
+                // 드론 디바이스 오프라인 처리
+                deviceService.subDeviceOffline(sn);
+            } else {
+                // 게이트웨이 디바이스 오프라인 처리
+                deviceService.gatewayOffline(sn);
             }
-        });
 
-        // 현재 구독 중인 MQTT 토픽 목록을 로그에 기록
+            // Redis에서 디바이스 온라인 정보 삭제
+            deviceRedisService.delDeviceOnline(sn);
+        } catch (RuntimeException e) {
+            log.error("Failed to handle the offline device {}.", sn, e);
+        }
+    }
+
+    /**
+     * 현재 구독 중인 MQTT 토픽 목록을 30초마다 로그에 기록합니다.
+     * 
+     * 실행 주기: 초기 지연 10초 후, 30초마다 실행
+     */
+    @Scheduled(initialDelay = 10, fixedRate = 30, timeUnit = TimeUnit.SECONDS)
+    private void subscriptionListen() {
         log.info("Subscriptions: {}", Arrays.toString(topicService.getSubscribedTopic()));
     }
 
-}
\ No newline at end of file
+    /**
+     * 디바이스별 순서 보장 채널의 큐 깊이와 병합/폐기 누적 수를 30초마다 로그에 기록합니다.
+     * 직전 기록 이후 폐기 수가 늘었으면 경고로 기록합니다. 폐기가 계속되면 샤드 수나 큐 크기를 늘리거나 느린 핸들러를 확인해야 합니다.
+     * 
+     * 실행 주기: 초기 지연 10초 후, 30초마다 실행
+     */
+    @Scheduled(initialDelay = 10, fixedRate = 30, timeUnit = TimeUnit.SECONDS)
+    private void inboundChannelListen() {
+        logChannelStatistics("inbound", inboundChannel);
+        logChannelStatistics("osd", osdChannel);
+    }
+
+    /**
+     * 채널 통계를 로그에 기록합니다.
+     * 
+     * @param name 채널 이름
+     * @param channel 메시지 채널
+     */
+    private void logChannelStatistics(String name, MessageChannel channel) {
+        if (!(channel instanceof GatewayOrderedChannel)) {
+            return;
+        }
+        GatewayOrderedChannel ordered = (GatewayOrderedChannel) channel;
+        long dropped = ordered.getDroppedCount();
+        String format = "Channel {}: queued {}, pending osd {}, conflated {}, dropped {}";
+        Object[] args = {name, ordered.getQueueSize(), ordered.getPendingOsdCount(),
+                ordered.getConflatedCount(), dropped};
+        if (dropped > Optional.ofNullable(lastDropped.put(name, dropped)).orElse(0L)) {
+            log.warn(format, args);
+        } else {
+            log.info(format, args);
+        }
+    }
+
+}
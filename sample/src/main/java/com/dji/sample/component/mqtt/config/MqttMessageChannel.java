@@ -1,15 +1,14 @@
 package com.dji.sample.component.mqtt.config;
 
 import com.dji.sdk.mqtt.ChannelName;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.dji.sdk.mqtt.GatewayOrderedChannel;
+import com.dji.sdk.mqtt.GatewayOrderedExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.integration.channel.DirectChannel;
-import org.springframework.integration.channel.ExecutorChannel;
 import org.springframework.messaging.MessageChannel;
 
-import java.util.concurrent.Executor;
-
 /**
  * 모든 채널의 정의 클래스
  * MQTT 메시지 처리를 위한 다양한 채널들을 정의합니다.
@@ -21,19 +20,47 @@ import java.util.concurrent.Executor;
 @Configuration
 public class MqttMessageChannel {
 
-    /** 스레드 풀 실행자 */
-    @Autowired
-    private Executor threadPool;
+    /** 디바이스별 샤드 수 (기본값: 16) */
+    @Value("${thread.pool.gateway-ordered.shard-count: 16}")
+    private int shardCount;
+
+    /** 샤드별 큐 용량 (기본값: 1000) */
+    @Value("${thread.pool.gateway-ordered.queue-capacity: 1000}")
+    private int queueCapacity;
+
+    /** OSD 병합 여부. 처리되지 않은 OSD는 디바이스별로 최신 것만 유지합니다 (기본값: true) */
+    @Value("${thread.pool.gateway-ordered.conflate-osd: true}")
+    private boolean conflateOsd;
+
+    /**
+     * 인바운드 메시지용 디바이스별 순서 보장 실행기를 생성합니다.
+     * 
+     * @return 인바운드 실행기
+     */
+    @Bean
+    public GatewayOrderedExecutor inboundExecutor() {
+        return new GatewayOrderedExecutor("mqtt-inbound", shardCount, queueCapacity);
+    }
+
+    /**
+     * OSD 메시지용 디바이스별 순서 보장 실행기를 생성합니다.
+     * 
+     * @return OSD 실행기
+     */
+    @Bean
+    public GatewayOrderedExecutor osdExecutor() {
+        return new GatewayOrderedExecutor("mqtt-osd", shardCount, queueCapacity);
+    }
 
     /**
      * 인바운드 채널을 생성합니다.
-     * 스레드 풀을 사용하여 비동기 메시지 처리를 지원합니다.
+     * 디바이스별로 순서를 보장하면서 서로 다른 디바이스의 메시지는 병렬로 처리합니다.
      * 
      * @return 인바운드 메시지 채널
      */
     @Bean(name = ChannelName.INBOUND)
     public MessageChannel inboundChannel() {
-        return new ExecutorChannel(threadPool);
+        return new GatewayOrderedChannel(inboundExecutor());
     }
 
     /**
@@ -83,13 +110,16 @@ public class MqttMessageChannel {
     /**
      * OSD 채널을 생성합니다.
      * On-Screen Display 데이터를 처리하는 채널입니다.
-     * 스레드 풀을 사용하여 비동기 처리를 지원합니다.
+     * 별도의 디바이스별 순서 보장 실행기를 사용하여 OSD 처리가 이벤트 처리를 지연시키지 않도록 합니다.
+     * 처리가 밀리면 디바이스별로 최신 OSD만 남기고 오래된 프레임은 버립니다.
      * 
      * @return OSD 메시지 채널
      */
     @Bean(name = ChannelName.INBOUND_OSD)
     public MessageChannel osdChannel() {
-        return new ExecutorChannel(threadPool);
+        GatewayOrderedChannel channel = new GatewayOrderedChannel(osdExecutor());
+        channel.setConflateOsd(conflateOsd);
+        return channel;
     }
 
     /**
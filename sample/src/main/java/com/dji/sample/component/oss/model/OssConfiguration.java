@@ -51,6 +51,15 @@ public class OssConfiguration {
     /** 객체 디렉토리 접두사 */
     public static String objectDirPrefix;
 
+    /** 멀티파트 업로드 파트 크기 (바이트). 최소 5MB */
+    public static long partSize = 8 * 1024 * 1024;
+
+    /** 서명된 URL을 재사용하는 기간의 비율 (유효 시간 대비). 0이면 매번 새로 서명 */
+    public static double urlRefreshRatio = 0.5;
+
+    /** 임시 자격 증명의 남은 유효 시간이 이보다 짧으면 새로 발급 (초) */
+    public static long credentialsSafetyMargin = 300;
+
     /**
      * OSS 제공자를 설정합니다.
      * 
@@ -149,6 +158,33 @@ public class OssConfiguration {
     public void setObjectDirPrefix(String objectDirPrefix) {
         OssConfiguration.objectDirPrefix = objectDirPrefix;
     }
+
+    /**
+     * 멀티파트 업로드 파트 크기를 설정합니다.
+     * 
+     * @param partSize 파트 크기 (바이트)
+     */
+    public void setPartSize(long partSize) {
+        OssConfiguration.partSize = Math.max(partSize, 5 * 1024 * 1024);
+    }
+
+    /**
+     * 서명된 URL을 재사용하는 기간의 비율을 설정합니다.
+     * 
+     * @param urlRefreshRatio 유효 시간 대비 비율 (0 ~ 1)
+     */
+    public void setUrlRefreshRatio(double urlRefreshRatio) {
+        OssConfiguration.urlRefreshRatio = Math.min(Math.max(urlRefreshRatio, 0), 1);
+    }
+
+    /**
+     * 임시 자격 증명의 안전 여유 시간을 설정합니다.
+     * 
+     * @param credentialsSafetyMargin 안전 여유 시간 (초)
+     */
+    public void setCredentialsSafetyMargin(long credentialsSafetyMargin) {
+        OssConfiguration.credentialsSafetyMargin = credentialsSafetyMargin;
+    }
 }
 
 
@@ -0,0 +1,74 @@
+package com.dji.sample.component.oss.model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * OSS 객체 읽기 핸들
+ *
+ * 객체 내용을 메모리에 올리지 않고 OSS 연결에서 바로 읽는 스트림입니다.
+ * 사용이 끝나면 반드시 닫아야 연결이 반환됩니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class OssObject implements Closeable {
+
+    private final InputStream content;
+
+    /**
+     * 이 스트림으로 읽을 수 있는 바이트 수. 범위를 지정한 경우 범위의 길이입니다. 알 수 없으면 -1
+     */
+    private final long contentLength;
+
+    /**
+     * 객체 전체 크기. 알 수 없으면 -1
+     */
+    private final long objectSize;
+
+    public OssObject(InputStream content, long contentLength, long objectSize) {
+        this.content = content;
+        this.contentLength = contentLength;
+        this.objectSize = objectSize;
+    }
+
+    public InputStream getContent() {
+        return content;
+    }
+
+    public long getContentLength() {
+        return contentLength;
+    }
+
+    public long getObjectSize() {
+        return objectSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        content.close();
+    }
+
+    /**
+     * Content-Range 헤더(bytes start-end/total)에서 객체 전체 크기를 읽습니다.
+     *
+     * @param contentRange Content-Range 헤더 값
+     * @return 객체 전체 크기. 알 수 없으면 -1
+     */
+    public static long parseObjectSize(String contentRange) {
+        if (contentRange == null) {
+            return -1;
+        }
+        int index = contentRange.lastIndexOf('/');
+        if (index == -1 || "*".equals(contentRange.substring(index + 1).trim())) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(contentRange.substring(index + 1).trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+}
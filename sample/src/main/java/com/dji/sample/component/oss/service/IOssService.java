@@ -1,5 +1,6 @@
 package com.dji.sample.component.oss.service;
 
+import com.dji.sample.component.oss.model.OssObject;
 import com.dji.sdk.cloudapi.storage.CredentialsToken;
 import com.dji.sdk.cloudapi.storage.OssTypeEnum;
 
@@ -59,6 +60,18 @@ public interface IOssService {
      */
     InputStream getObject(String bucket, String objectKey);
 
+    /**
+     * 객체의 내용을 스트림으로 엽니다. 내용을 메모리에 올리지 않으며, 범위를 지정하면 해당 바이트만 읽습니다.
+     * 
+     * @param bucket 버킷 이름
+     * @param objectKey 객체 이름
+     * @param offset 읽기 시작 위치
+     * @param length 읽을 바이트 수. 0 이하이면 끝까지 읽습니다.
+     * @return 객체 읽기 핸들. 사용 후 닫아야 합니다.
+     * @throws RuntimeException 객체가 없거나 읽을 수 없는 경우
+     */
+    OssObject openObject(String bucket, String objectKey, long offset, long length);
+
     /**
      * 객체를 저장소에 업로드합니다.
      * 
@@ -68,8 +81,25 @@ public interface IOssService {
      */
     void putObject(String bucket, String objectKey, InputStream input);
 
+    /**
+     * 크기를 모르는 큰 스트림을 멀티파트로 업로드합니다.
+     * 
+     * 파트 크기(OssConfiguration.partSize)만큼씩 읽어 올리므로 메모리에는 파트 하나만 유지되며,
+     * input.available()에 의존하지 않습니다.
+     * 스트림을 읽거나 파트를 올리는 도중 예외가 발생하면 멀티파트 업로드를 중단(abort)하고
+     * 이미 올린 파트를 정리한 뒤 RuntimeException을 던집니다.
+     * 
+     * @param bucket 버킷 이름
+     * @param objectKey 객체 이름
+     * @param input 업로드할 데이터 스트림
+     */
+    void putObjectMultipart(String bucket, String objectKey, InputStream input);
+
     /**
      * OSS 클라이언트를 생성합니다.
+     * 
+     * 시작 시 OssServiceContext에서 호출됩니다.
+     * 다시 호출하면 새 클라이언트를 만든 뒤 한 번에 교체하고, 교체한 뒤 기존 클라이언트를 종료합니다.
      */
     void createClient();
 }
@@ -3,9 +3,17 @@ package com.dji.sample.component.oss.service.impl;
 import com.aliyun.oss.OSS;
 import com.aliyun.oss.OSSClientBuilder;
 import com.aliyun.oss.OSSException;
+import com.aliyun.oss.model.AbortMultipartUploadRequest;
+import com.aliyun.oss.model.CompleteMultipartUploadRequest;
+import com.aliyun.oss.model.CompleteMultipartUploadResult;
+import com.aliyun.oss.model.GetObjectRequest;
+import com.aliyun.oss.model.InitiateMultipartUploadRequest;
+import com.aliyun.oss.model.OSSObject;
 import com.aliyun.oss.model.ObjectMetadata;
+import com.aliyun.oss.model.PartETag;
 import com.aliyun.oss.model.PutObjectRequest;
 import com.aliyun.oss.model.PutObjectResult;
+import com.aliyun.oss.model.UploadPartRequest;
 import com.aliyuncs.DefaultAcsClient;
 import com.aliyuncs.IAcsClient;
 import com.aliyuncs.exceptions.ClientException;
@@ -13,15 +21,20 @@ import com.aliyuncs.profile.DefaultProfile;
 import com.aliyuncs.sts.model.v20150401.AssumeRoleRequest;
 import com.aliyuncs.sts.model.v20150401.AssumeRoleResponse;
 import com.dji.sample.component.oss.model.OssConfiguration;
+import com.dji.sample.component.oss.model.OssObject;
 import com.dji.sample.component.oss.service.IOssService;
 import com.dji.sdk.cloudapi.storage.CredentialsToken;
 import com.dji.sdk.cloudapi.storage.OssTypeEnum;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -39,7 +52,7 @@ import java.util.Objects;
 public class AliyunOssServiceImpl implements IOssService {
 
     /** Aliyun OSS 클라이언트 */
-    private OSS ossClient;
+    private volatile OSS ossClient;
     
     @Override
     public OssTypeEnum getOssType() {
@@ -99,6 +112,21 @@ public class AliyunOssServiceImpl implements IOssService {
         return ossClient.getObject(bucket, objectKey).getObjectContent();
     }
 
+    @Override
+    public OssObject openObject(String bucket, String objectKey, long offset, long length) {
+        GetObjectRequest request = new GetObjectRequest(bucket, objectKey);
+        if (length > 0) {
+            request.setRange(offset, offset + length - 1);
+        } else if (offset > 0) {
+            request.setRange(offset, -1);
+        }
+        OSSObject object = ossClient.getObject(request);
+        ObjectMetadata metadata = object.getObjectMetadata();
+        Object contentRange = metadata.getRawMetadata().get("Content-Range");
+        return new OssObject(object.getObjectContent(), metadata.getContentLength(),
+                Objects.isNull(contentRange) ? metadata.getContentLength() : OssObject.parseObjectSize(contentRange.toString()));
+    }
+
     @Override
     public void putObject(String bucket, String objectKey, InputStream input) {
         if (ossClient.doesObjectExist(bucket, objectKey)) {
@@ -108,14 +136,56 @@ public class AliyunOssServiceImpl implements IOssService {
         log.info("Upload FlighttaskCreateFile: {}", objectResult.getETag());
     }
 
+    @Override
+    public void putObjectMultipart(String bucket, String objectKey, InputStream input) {
+        if (ossClient.doesObjectExist(bucket, objectKey)) {
+            throw new RuntimeException("The filename already exists.");
+        }
+        String uploadId = ossClient.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, objectKey)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            byte[] part = new byte[Math.toIntExact(OssConfiguration.partSize)];
+            while (true) {
+                int length = input.readNBytes(part, 0, part.length);
+                // 빈 파일도 파트 하나로 완료합니다.
+                if (length > 0 || partETags.isEmpty()) {
+                    UploadPartRequest request = new UploadPartRequest();
+                    request.setBucketName(bucket);
+                    request.setKey(objectKey);
+                    request.setUploadId(uploadId);
+                    request.setPartNumber(partETags.size() + 1);
+                    request.setInputStream(new ByteArrayInputStream(part, 0, length));
+                    request.setPartSize(length);
+                    partETags.add(ossClient.uploadPart(request).getPartETag());
+                }
+                if (length < part.length) {
+                    break;
+                }
+            }
+            CompleteMultipartUploadResult result = ossClient.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucket, objectKey, uploadId, partETags));
+            log.info("Upload file: {}", result.getETag());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to upload file {}.", objectKey);
+            try {
+                ossClient.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, objectKey, uploadId));
+            } catch (RuntimeException ex) {
+                log.error("Failed to abort the multipart upload {}.", uploadId, ex);
+            }
+            throw new RuntimeException("Failed to upload file " + objectKey, e);
+        }
+    }
+
     /**
      * Aliyun OSS 클라이언트를 생성합니다.
+     * 기존 클라이언트가 있으면 새 클라이언트로 교체한 뒤 종료합니다.
      */
-    public void createClient() {
-        if (Objects.nonNull(this.ossClient)) {
-            return;
-        }
+    public synchronized void createClient() {
+        OSS previous = this.ossClient;
         this.ossClient = new OSSClientBuilder()
                 .build(OssConfiguration.endpoint, OssConfiguration.accessKey, OssConfiguration.secretKey);
+        if (Objects.nonNull(previous)) {
+            previous.shutdown();
+        }
     }
 }
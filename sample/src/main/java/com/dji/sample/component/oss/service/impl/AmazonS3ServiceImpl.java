@@ -13,13 +13,15 @@ import com.amazonaws.services.securitytoken.model.AssumeRoleResult;
 import com.amazonaws.services.securitytoken.model.Credentials;
 import com.dji.sample.component.AuthInterceptor;
 import com.dji.sample.component.oss.model.OssConfiguration;
+import com.dji.sample.component.oss.model.OssObject;
 import com.dji.sample.component.oss.service.IOssService;
 import com.dji.sdk.cloudapi.storage.CredentialsToken;
 import com.dji.sdk.cloudapi.storage.OssTypeEnum;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import javax.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
@@ -42,7 +44,7 @@ import java.util.Objects;
 public class AmazonS3ServiceImpl implements IOssService {
 
     /** Amazon S3 클라이언트 */
-    private AmazonS3 client;
+    private volatile AmazonS3 client;
     
     @Override
     public OssTypeEnum getOssType() {
@@ -87,6 +89,19 @@ public class AmazonS3ServiceImpl implements IOssService {
         return client.getObject(bucket, objectKey).getObjectContent().getDelegateStream();
     }
 
+    @Override
+    public OssObject openObject(String bucket, String objectKey, long offset, long length) {
+        GetObjectRequest request = new GetObjectRequest(bucket, objectKey);
+        if (length > 0) {
+            request.setRange(offset, offset + length - 1);
+        } else if (offset > 0) {
+            request.setRange(offset);
+        }
+        S3Object object = client.getObject(request);
+        ObjectMetadata metadata = object.getObjectMetadata();
+        return new OssObject(object.getObjectContent(), metadata.getContentLength(), metadata.getInstanceLength());
+    }
+
     @Override
     public void putObject(String bucket, String objectKey, InputStream input) {
         if (client.doesObjectExist(bucket, objectKey)) {
@@ -96,30 +111,69 @@ public class AmazonS3ServiceImpl implements IOssService {
         log.info("Upload FlighttaskCreateFile: {}", objectResult.toString());
     }
 
+    @Override
+    public void putObjectMultipart(String bucket, String objectKey, InputStream input) {
+        if (client.doesObjectExist(bucket, objectKey)) {
+            throw new RuntimeException("The filename already exists.");
+        }
+        String uploadId = client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, objectKey)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            byte[] part = new byte[Math.toIntExact(OssConfiguration.partSize)];
+            while (true) {
+                int length = input.readNBytes(part, 0, part.length);
+                // 빈 파일도 파트 하나로 완료합니다.
+                if (length > 0 || partETags.isEmpty()) {
+                    partETags.add(client.uploadPart(new UploadPartRequest()
+                            .withBucketName(bucket)
+                            .withKey(objectKey)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partETags.size() + 1)
+                            .withInputStream(new ByteArrayInputStream(part, 0, length))
+                            .withPartSize(length)).getPartETag());
+                }
+                if (length < part.length) {
+                    break;
+                }
+            }
+            CompleteMultipartUploadResult result = client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucket, objectKey, uploadId, partETags));
+            log.info("Upload file: {}", result.getETag());
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to upload file {}.", objectKey);
+            try {
+                client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, objectKey, uploadId));
+            } catch (RuntimeException ex) {
+                log.error("Failed to abort the multipart upload {}.", uploadId, ex);
+            }
+            throw new RuntimeException("Failed to upload file " + objectKey, e);
+        }
+    }
+
     /**
-     * Amazon S3 클라이언트를 생성합니다.
+     * Amazon S3 클라이언트를 생성하고 버킷의 CORS를 설정합니다.
+     * 기존 클라이언트가 있으면 새 클라이언트로 교체한 뒤 종료합니다.
      */
-    public void createClient() {
-        if (Objects.nonNull(this.client)) {
-            return;
-        }
-        this.client = AmazonS3ClientBuilder.standard()
+    public synchronized void createClient() {
+        AmazonS3 client = AmazonS3ClientBuilder.standard()
                 .withCredentials(
                         new AWSStaticCredentialsProvider(
                                 new BasicAWSCredentials(OssConfiguration.accessKey, OssConfiguration.secretKey)))
                 .withRegion(OssConfiguration.region)
                 .build();
+        configCORS(client);
+        AmazonS3 previous = this.client;
+        this.client = client;
+        if (Objects.nonNull(previous)) {
+            previous.shutdown();
+        }
     }
 
     /**
      * CORS(Cross-Origin Resource Sharing) 설정을 구성합니다.
      * 웹 브라우저에서 S3 버킷에 직접 접근할 수 있도록 허용합니다.
      */
-    @PostConstruct
-    private void configCORS() {
-        if (!OssConfiguration.enable || !OssTypeEnum.AWS.getType().equals(OssConfiguration.provider)) {
-            return;
-        }
+    private void configCORS(AmazonS3 client) {
         List<CORSRule.AllowedMethods> allowedMethods = new ArrayList<>();
         allowedMethods.add(CORSRule.AllowedMethods.GET);
         allowedMethods.add(CORSRule.AllowedMethods.POST);
@@ -1,6 +1,7 @@
 package com.dji.sample.component.oss.service.impl;
 
 import com.dji.sample.component.oss.model.OssConfiguration;
+import com.dji.sample.component.oss.model.OssObject;
 import com.dji.sample.component.oss.service.IOssService;
 import com.dji.sdk.cloudapi.storage.CredentialsToken;
 import com.dji.sdk.cloudapi.storage.OssTypeEnum;
@@ -8,17 +9,19 @@ import io.minio.*;
 import io.minio.credentials.AssumeRoleProvider;
 import io.minio.credentials.Credentials;
 import io.minio.errors.*;
+import io.minio.http.HttpUtils;
 import io.minio.http.Method;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 /**
  * MinIO 서비스 구현 클래스
@@ -34,8 +37,14 @@ import java.util.Objects;
 @Slf4j
 public class MinIOServiceImpl implements IOssService {
 
+    /** HTTP 요청 제한 시간 (밀리초). MinioClient 기본값과 같습니다. */
+    private static final long HTTP_TIMEOUT = TimeUnit.MINUTES.toMillis(5);
+
     /** MinIO 클라이언트 */
-    private MinioClient client;
+    private volatile MinioClient client;
+
+    /** MinIO 클라이언트가 사용하는 HTTP 클라이언트. 클라이언트를 교체할 때 종료합니다. */
+    private OkHttpClient httpClient;
     
     @Override
     public OssTypeEnum getOssType() {
@@ -91,14 +100,33 @@ public class MinIOServiceImpl implements IOssService {
     @Override
     public InputStream getObject(String bucket, String objectKey) {
         try {
-            GetObjectResponse object = client.getObject(GetObjectArgs.builder().bucket(bucket).object(objectKey).build());
-            return new ByteArrayInputStream(object.readAllBytes());
+            return client.getObject(GetObjectArgs.builder().bucket(bucket).object(objectKey).build());
         } catch (ErrorResponseException | InsufficientDataException | InternalException | InvalidKeyException | InvalidResponseException | IOException | NoSuchAlgorithmException | ServerException | XmlParserException e) {
             e.printStackTrace();
         }
         return InputStream.nullInputStream();
     }
 
+    @Override
+    public OssObject openObject(String bucket, String objectKey, long offset, long length) {
+        GetObjectArgs.Builder builder = GetObjectArgs.builder().bucket(bucket).object(objectKey);
+        if (offset > 0 || length > 0) {
+            builder.offset(offset);
+        }
+        if (length > 0) {
+            builder.length(length);
+        }
+        try {
+            GetObjectResponse object = client.getObject(builder.build());
+            String contentLength = object.headers().get("Content-Length");
+            long size = Objects.isNull(contentLength) ? -1 : Long.parseLong(contentLength);
+            String contentRange = object.headers().get("Content-Range");
+            return new OssObject(object, size, Objects.isNull(contentRange) ? size : OssObject.parseObjectSize(contentRange));
+        } catch (MinioException | InvalidKeyException | IOException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("The file " + objectKey + " does not exist in the bucket[" + bucket + "].", e);
+        }
+    }
+
     @Override
     public void putObject(String bucket, String objectKey, InputStream input) {
         try {
@@ -118,17 +146,43 @@ public class MinIOServiceImpl implements IOssService {
         }
     }
 
+    @Override
+    public void putObjectMultipart(String bucket, String objectKey, InputStream input) {
+        try {
+            client.statObject(StatObjectArgs.builder().bucket(bucket).object(objectKey).build());
+            throw new RuntimeException("The filename already exists.");
+        } catch (MinioException | InvalidKeyException | IOException | NoSuchAlgorithmException e) {
+            log.info("The file does not exist, start uploading.");
+        }
+        try {
+            // 크기를 -1로 지정하면 파트 크기만큼씩 읽어 멀티파트로 올리고, 실패하면 멀티파트 업로드를 중단합니다.
+            ObjectWriteResponse response = client.putObject(PutObjectArgs.builder().bucket(bucket).object(objectKey)
+                    .stream(input, -1, OssConfiguration.partSize).build());
+            log.info("Upload file: {}", response.etag());
+        } catch (MinioException | IOException | InvalidKeyException | NoSuchAlgorithmException e) {
+            log.error("Failed to upload file {}.", objectKey);
+            throw new RuntimeException("Failed to upload file " + objectKey, e);
+        }
+    }
+
     /**
      * MinIO 클라이언트를 생성합니다.
+     * 기존 클라이언트가 있으면 새 클라이언트로 교체한 뒤 종료합니다.
+     * MinioClient에는 종료 메서드가 없으므로 클라이언트가 사용하는 HTTP 클라이언트의 스레드와 연결을 정리합니다.
      */
-    public void createClient() {
-        if (Objects.nonNull(this.client)) {
-            return;
-        }
+    public synchronized void createClient() {
+        OkHttpClient previous = this.httpClient;
+        OkHttpClient httpClient = HttpUtils.newDefaultHttpClient(HTTP_TIMEOUT, HTTP_TIMEOUT, HTTP_TIMEOUT);
         this.client = MinioClient.builder()
                 .endpoint(OssConfiguration.endpoint)
                 .credentials(OssConfiguration.accessKey, OssConfiguration.secretKey)
                 .region(OssConfiguration.region)
+                .httpClient(httpClient)
                 .build();
+        this.httpClient = httpClient;
+        if (Objects.nonNull(previous)) {
+            previous.dispatcher().executorService().shutdown();
+            previous.connectionPool().evictAll();
+        }
     }
 }
@@ -1,6 +1,7 @@
 package com.dji.sample.component.oss.service.impl;
 
 import com.dji.sample.component.oss.model.OssConfiguration;
+import com.dji.sample.component.oss.model.OssObject;
 import com.dji.sample.component.oss.service.IOssService;
 import com.dji.sdk.cloudapi.storage.CredentialsToken;
 import com.dji.sdk.cloudapi.storage.OssTypeEnum;
@@ -8,10 +9,15 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import javax.annotation.PreDestroy;
 import java.io.InputStream;
 import java.net.URL;
+import java.time.Clock;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * OSS 서비스 컨텍스트 클래스
@@ -26,50 +32,97 @@ import java.util.List;
 @Service
 public class OssServiceContext {
 
-    /** 선택된 OSS 서비스 */
-    private IOssService ossService;
+    /** 사용 가능한 모든 OSS 서비스 */
+    private final List<IOssService> ossServices;
+
+    /** 선택된 OSS 서비스. 클라이언트가 준비된 뒤에만 설정되며, 비활성화된 경우 null */
+    private volatile IOssService ossService;
+
+    /** 서명된 객체 URL 캐시 */
+    private final PresignedUrlCache urlCache = new PresignedUrlCache(Clock.systemUTC());
+
+    /** STS 임시 자격 증명 캐시 */
+    private final StsCredentialsCache credentialsCache;
 
     /**
      * OSS 서비스 컨텍스트 생성자
      * 
-     * 설정된 OSS 제공자에 따라 적절한 서비스를 선택합니다.
+     * 설정된 OSS 제공자에 따라 적절한 서비스를 선택하고 클라이언트를 바로 생성합니다.
+     * 제공자나 클라이언트 설정이 올바르지 않으면 애플리케이션 시작 시 실패합니다.
      * 
      * @param ossServices 사용 가능한 모든 OSS 서비스 목록
      * @param configuration OSS 설정
      */
     @Autowired
     public OssServiceContext(List<IOssService> ossServices, OssConfiguration configuration) {
-        if (!OssConfiguration.enable) {
-            return;
+        this.ossServices = ossServices;
+        this.credentialsCache = new StsCredentialsCache(() -> this.getOssService().getCredentials(),
+                Clock.systemUTC(), OssConfiguration.credentialsSafetyMargin);
+        this.reload();
+    }
+
+    /**
+     * 현재 OssConfiguration으로 OSS 제공자를 다시 선택하고 클라이언트를 새로 생성합니다.
+     * 
+     * 설정이 바뀐 경우 호출합니다. 새 클라이언트가 준비된 뒤에 한 번에 교체하므로
+     * 다른 스레드의 요청은 잠금 없이 기존 또는 새 제공자 중 하나로 처리됩니다.
+     * 교체 후 이전 제공자의 서명 URL과 임시 자격 증명은 버립니다.
+     * 
+     * @throws IllegalArgumentException 제공자 설정이 올바르지 않은 경우. 기존 제공자는 그대로 유지됩니다.
+     */
+    public synchronized void reload() {
+        IOssService service = null;
+        if (OssConfiguration.enable) {
+            service = ossServices.stream()
+                    .filter(ossService -> ossService.getOssType() == OssConfiguration.provider)
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Oss provider is illegal. Optional: " +
+                            Arrays.toString(Arrays.stream(OssTypeEnum.values()).map(OssTypeEnum::getType).toArray())));
+            service.createClient();
         }
-        this.ossService = ossServices.stream()
-                .filter(ossService -> ossService.getOssType() == OssConfiguration.provider)
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Oss provider is illegal. Optional: " +
-                        Arrays.toString(Arrays.stream(OssTypeEnum.values()).map(OssTypeEnum::getType).toArray())));
+        this.ossService = service;
+        this.urlCache.clear();
+        this.credentialsCache.invalidate();
+    }
+
+    /**
+     * 애플리케이션 종료 시 임시 자격 증명 발급 스레드를 정리합니다.
+     */
+    @PreDestroy
+    public void destroy() {
+        this.credentialsCache.shutdown();
     }
 
     /**
      * OSS 서비스를 반환합니다.
      * 
      * @return 선택된 OSS 서비스
+     * @throws IllegalArgumentException OSS가 비활성화된 경우
      */
-    IOssService getOssService() {
-        return this.ossService;
+    private IOssService getOssService() {
+        IOssService service = this.ossService;
+        if (service == null) {
+            throw new IllegalArgumentException("Please enable OssConfiguration.");
+        }
+        return service;
     }
 
     /**
      * 임시 자격 증명을 가져옵니다.
      * 
-     * @return 임시 자격 증명 토큰
+     * 발급받은 자격 증명을 만료 전까지 함께 사용하므로 요청마다 STS를 호출하지 않습니다.
+     * 
+     * @return 임시 자격 증명 토큰. expire는 남은 유효 시간(초)
      */
     public CredentialsToken getCredentials() {
-        return this.ossService.getCredentials();
+        return this.credentialsCache.get();
     }
 
     /**
      * 객체의 URL을 가져옵니다.
      * 
+     * 유효 시간 중 oss.url-refresh-ratio 비율이 지나기 전까지는 이전에 서명한 URL을 그대로 반환합니다.
+     * 
      * @param bucket 버킷 이름
      * @param objectKey 객체 이름
      * @return 객체 URL
@@ -79,7 +132,26 @@ public class OssServiceContext {
         if (!StringUtils.hasText(bucket) || !StringUtils.hasText(objectKey)) {
             throw new IllegalArgumentException();
         }
-        return this.ossService.getObjectUrl(bucket, objectKey);
+        return urlCache.get(bucket, objectKey, (long) (OssConfiguration.expire * 1000 * OssConfiguration.urlRefreshRatio),
+                () -> this.getOssService().getObjectUrl(bucket, objectKey));
+    }
+
+    /**
+     * 여러 객체의 URL을 한 번에 가져옵니다. 목록 조회에서 사용합니다.
+     * 
+     * @param bucket 버킷 이름
+     * @param objectKeys 객체 이름 목록
+     * @return 객체 이름별 URL. 순서는 objectKeys와 같습니다.
+     * @throws IllegalArgumentException 버킷 이름이나 객체 이름이 비어있는 경우
+     */
+    public Map<String, URL> getObjectUrls(String bucket, Collection<String> objectKeys) {
+        Map<String, URL> urls = new LinkedHashMap<>(objectKeys.size() * 4 / 3 + 1);
+        for (String objectKey : objectKeys) {
+            if (!urls.containsKey(objectKey)) {
+                urls.put(objectKey, this.getObjectUrl(bucket, objectKey));
+            }
+        }
+        return urls;
     }
 
     /**
@@ -90,7 +162,8 @@ public class OssServiceContext {
      * @return 삭제 성공 여부
      */
     public Boolean deleteObject(String bucket, String objectKey) {
-        return this.ossService.deleteObject(bucket, objectKey);
+        urlCache.invalidate(bucket, objectKey);
+        return this.getOssService().deleteObject(bucket, objectKey);
     }
 
     /**
@@ -101,7 +174,20 @@ public class OssServiceContext {
      * @return 객체 내용 스트림
      */
     public InputStream getObject(String bucket, String objectKey) {
-        return this.ossService.getObject(bucket, objectKey);
+        return this.getOssService().getObject(bucket, objectKey);
+    }
+
+    /**
+     * 객체의 내용을 스트림으로 엽니다.
+     * 
+     * @param bucket 버킷 이름
+     * @param objectKey 객체 이름
+     * @param offset 읽기 시작 위치
+     * @param length 읽을 바이트 수. 0 이하이면 끝까지 읽습니다.
+     * @return 객체 읽기 핸들. 사용 후 닫아야 합니다.
+     */
+    public OssObject openObject(String bucket, String objectKey, long offset, long length) {
+        return this.getOssService().openObject(bucket, objectKey, offset, length);
     }
 
     /**
@@ -112,13 +198,17 @@ public class OssServiceContext {
      * @param stream 업로드할 데이터 스트림
      */
     public void putObject(String bucket, String objectKey, InputStream stream) {
-        this.ossService.putObject(bucket, objectKey, stream);
+        this.getOssService().putObject(bucket, objectKey, stream);
     }
 
     /**
-     * OSS 클라이언트를 생성합니다.
+     * 큰 파일을 멀티파트로 업로드합니다.
+     * 
+     * @param bucket 버킷 이름
+     * @param objectKey 객체 이름
+     * @param stream 업로드할 데이터 스트림
      */
-    void createClient() {
-        this.ossService.createClient();
+    public void putObjectMultipart(String bucket, String objectKey, InputStream stream) {
+        this.getOssService().putObjectMultipart(bucket, objectKey, stream);
     }
 }
@@ -0,0 +1,138 @@
+package com.dji.sample.component.oss.service.impl;
+
+import java.net.URL;
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 서명된 객체 URL 캐시
+ *
+ * 버킷과 객체 이름별로 서명된 URL을 보관하고, 유효 시간의 일정 비율이 지나기 전까지는 같은 URL을 돌려줍니다.
+ * 목록 조회 때마다 URL을 새로 서명하지 않아도 되고, URL이 바뀌지 않으므로 브라우저 캐시도 그대로 사용됩니다.
+ * 남은 유효 시간이 충분하지 않은 URL은 돌려주지 않으므로 받은 쪽에서 URL이 곧 만료되는 일은 없습니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class PresignedUrlCache {
+
+    /**
+     * 최대 보관 개수. 넘으면 재사용할 수 없는 URL부터 정리합니다.
+     */
+    private static final int MAX_SIZE = 10000;
+
+    private final Clock clock;
+
+    private final Map<String, SignedUrl> urls = new ConcurrentHashMap<>();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * clear() 호출 횟수. 서명하는 동안 비워졌으면 이전 제공자의 URL을 보관하지 않습니다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    public PresignedUrlCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * 재사용할 수 있는 URL이 있으면 반환하고, 없으면 새로 서명해 보관합니다.
+     *
+     * @param bucket 버킷 이름
+     * @param objectKey 객체 이름
+     * @param reuseMillis 서명 후 URL을 재사용할 수 있는 시간 (밀리초). 0 이하이면 항상 새로 서명합니다.
+     * @param signer URL 서명 함수
+     * @return 서명된 URL
+     */
+    public URL get(String bucket, String objectKey, long reuseMillis, Supplier<URL> signer) {
+        String key = bucket + "/" + objectKey;
+        // 서명 전 시각을 기준으로 재사용 기한을 정해야 서명이 오래 걸려도 기한이 만료 시각을 넘지 않습니다.
+        long now = clock.millis();
+        SignedUrl cached = urls.get(key);
+        if (Objects.nonNull(cached) && cached.isReusable(now)) {
+            hitCount.increment();
+            return cached.url;
+        }
+        missCount.increment();
+        long signedGeneration = generation.get();
+        URL url = signer.get();
+        SignedUrl signed = new SignedUrl(url, now + reuseMillis);
+        urls.put(key, signed);
+        if (generation.get() != signedGeneration) {
+            urls.remove(key, signed);
+        }
+        if (urls.size() > MAX_SIZE) {
+            this.evict();
+        }
+        return url;
+    }
+
+    /**
+     * 객체의 URL을 삭제합니다. 객체가 삭제되거나 바뀐 경우 호출합니다.
+     *
+     * @param bucket 버킷 이름
+     * @param objectKey 객체 이름
+     */
+    public void invalidate(String bucket, String objectKey) {
+        urls.remove(bucket + "/" + objectKey);
+    }
+
+    /**
+     * 모든 URL을 삭제합니다. OSS 제공자나 설정이 바뀐 경우 호출합니다.
+     */
+    public void clear() {
+        generation.incrementAndGet();
+        urls.clear();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public int size() {
+        return urls.size();
+    }
+
+    /**
+     * 재사용할 수 없는 URL을 정리하고, 그래도 많으면 모두 비웁니다.
+     */
+    private void evict() {
+        long now = clock.millis();
+        urls.values().removeIf(url -> !url.isReusable(now));
+        if (urls.size() > MAX_SIZE) {
+            urls.clear();
+        }
+    }
+
+    private static final class SignedUrl {
+
+        private final URL url;
+
+        /**
+         * 이 시각 이후에는 URL을 재사용하지 않습니다.
+         */
+        private final long reuseUntil;
+
+        private SignedUrl(URL url, long reuseUntil) {
+            this.url = url;
+            this.reuseUntil = reuseUntil;
+        }
+
+        private boolean isReusable(long now) {
+            return now < reuseUntil;
+        }
+    }
+}
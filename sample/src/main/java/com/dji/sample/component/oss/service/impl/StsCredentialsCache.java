@@ -0,0 +1,191 @@
+package com.dji.sample.component.oss.service.impl;
+
+import com.dji.sdk.cloudapi.storage.CredentialsToken;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Clock;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * STS 임시 자격 증명 캐시
+ *
+ * 한 번 발급받은 자격 증명을 모든 요청이 함께 사용하고, 만료가 가까워지면 다시 발급받습니다.
+ *
+ * - 유효 시간의 절반이 지나면 백그라운드에서 새로 발급받고, 그동안은 기존 자격 증명을 계속 반환합니다.
+ * - 남은 유효 시간이 안전 여유(safetyMarginSeconds)보다 짧으면 기존 자격 증명을 반환하지 않고 새로 발급받을 때까지 기다립니다.
+ * - 발급은 한 번에 하나만 수행하며, 발급 중에 들어온 요청은 진행 중인 발급 결과를 함께 기다립니다.
+ *
+ * 호출자가 반환값을 수정하는 경우가 있으므로 매번 복사본을 반환하며,
+ * 복사본의 expire는 반환 시점의 남은 유효 시간(초)입니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@Slf4j
+public class StsCredentialsCache {
+
+    private final Supplier<CredentialsToken> fetcher;
+
+    private final Clock clock;
+
+    private final long safetyMarginMillis;
+
+    /**
+     * 백그라운드 발급 전용 스레드. 발급 작업이 버려지면 기다리는 요청이 끝나지 않으므로 공용 스레드 풀은 사용하지 않습니다.
+     */
+    private final ThreadPoolExecutor refresher;
+
+    private volatile Credentials current;
+
+    private final AtomicReference<CompletableFuture<Credentials>> inflight = new AtomicReference<>();
+
+    /**
+     * invalidate() 호출 횟수. 발급하는 동안 무효화되었으면 이전 제공자의 자격 증명을 보관하지 않습니다.
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param fetcher 자격 증명 발급 함수. 실패하면 null을 반환하거나 예외를 던집니다.
+     * @param clock 시계
+     * @param safetyMarginSeconds 남은 유효 시간이 이보다 짧은 자격 증명은 반환하지 않습니다.
+     */
+    public StsCredentialsCache(Supplier<CredentialsToken> fetcher, Clock clock, long safetyMarginSeconds) {
+        this.fetcher = fetcher;
+        this.clock = clock;
+        this.safetyMarginMillis = Math.max(0, safetyMarginSeconds) * 1000;
+        this.refresher = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(1), r -> {
+            Thread thread = new Thread(r, "sts-credentials-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refresher.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 자격 증명을 반환합니다.
+     *
+     * @return 자격 증명의 복사본. 발급에 실패하면 null
+     */
+    public CredentialsToken get() {
+        Credentials credentials = current;
+        long now = clock.millis();
+        if (Objects.nonNull(credentials) && now < credentials.expireAt - safetyMarginMillis) {
+            if (now >= credentials.refreshAt) {
+                this.refresh(true);
+            }
+            return credentials.copy(now);
+        }
+        try {
+            credentials = this.refresh(false).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+        }
+        return Objects.isNull(credentials) ? null : credentials.copy(clock.millis());
+    }
+
+    /**
+     * 저장된 자격 증명을 버립니다. 다음 요청에서 새로 발급받습니다.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        current = null;
+        inflight.set(null);
+    }
+
+    /**
+     * 백그라운드 발급 스레드를 종료합니다. 종료 후에도 get()은 호출한 스레드에서 발급받아 동작합니다.
+     */
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 진행 중인 발급이 있으면 그 결과를, 없으면 새 발급을 시작해 그 결과를 반환합니다.
+     *
+     * @param async true이면 발급 스레드에서, false이면 호출한 스레드에서 발급합니다.
+     */
+    private CompletableFuture<Credentials> refresh(boolean async) {
+        CompletableFuture<Credentials> future = new CompletableFuture<>();
+        CompletableFuture<Credentials> running = inflight.compareAndExchange(null, future);
+        if (Objects.nonNull(running)) {
+            return running;
+        }
+        if (!async) {
+            this.fetch(future);
+            return future;
+        }
+        try {
+            refresher.execute(() -> this.fetch(future));
+        } catch (RejectedExecutionException e) {
+            inflight.compareAndSet(future, null);
+            future.complete(current);
+        }
+        return future;
+    }
+
+    private void fetch(CompletableFuture<Credentials> future) {
+        try {
+            long fetchedGeneration = generation.get();
+            long fetchedAt = clock.millis();
+            CredentialsToken token = fetcher.get();
+            Credentials credentials = Objects.isNull(token) || Objects.isNull(token.getExpire()) ?
+                    null : new Credentials(token, fetchedAt);
+            if (Objects.nonNull(credentials)) {
+                current = credentials;
+                if (generation.get() != fetchedGeneration) {
+                    current = null;
+                }
+            } else {
+                log.error("Failed to obtain sts.");
+            }
+            inflight.compareAndSet(future, null);
+            future.complete(credentials);
+        } catch (RuntimeException e) {
+            log.error("Failed to obtain sts.", e);
+            inflight.compareAndSet(future, null);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private static final class Credentials {
+
+        private final String accessKeyId;
+
+        private final String accessKeySecret;
+
+        private final String securityToken;
+
+        private final long expireAt;
+
+        /**
+         * 이 시각 이후에 요청이 오면 백그라운드에서 새로 발급받습니다.
+         */
+        private final long refreshAt;
+
+        private Credentials(CredentialsToken token, long fetchedAt) {
+            this.accessKeyId = token.getAccessKeyId();
+            this.accessKeySecret = token.getAccessKeySecret();
+            this.securityToken = token.getSecurityToken();
+            this.expireAt = fetchedAt + token.getExpire() * 1000;
+            this.refreshAt = fetchedAt + token.getExpire() * 500;
+        }
+
+        private CredentialsToken copy(long now) {
+            return new CredentialsToken()
+                    .setAccessKeyId(accessKeyId)
+                    .setAccessKeySecret(accessKeySecret)
+                    .setSecurityToken(securityToken)
+                    .setExpire(Math.max(0, (expireAt - now) / 1000));
+        }
+    }
+}
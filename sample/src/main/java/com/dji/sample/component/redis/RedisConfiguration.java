@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -80,4 +81,18 @@ public class RedisConfiguration {
         return redisTemplate;
 
     }
+
+    /**
+     * Redis Pub/Sub 메시지 리스너 컨테이너를 생성합니다.
+     * 여러 서버 인스턴스 간 로컬 캐시 무효화 메시지를 수신하는 데 사용합니다.
+     *
+     * @param factory Redis 연결 팩토리
+     * @return 메시지 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory factory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        return container;
+    }
 }
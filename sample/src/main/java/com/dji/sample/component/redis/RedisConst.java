@@ -34,6 +34,15 @@ public final class RedisConst {
     /** 디바이스 온라인 접두사 */
     public static final String DEVICE_ONLINE_PREFIX = "online" + DELIMITER;
 
+    /** 디바이스 오프라인 판정 시간 (초). 온라인 정보가 이 시간 동안 갱신되지 않으면 오프라인으로 처리합니다. */
+    public static final Integer DEVICE_OFFLINE_SECOND = 30;
+
+    /** 온라인 디바이스 인덱스 (ZSET, 값: 디바이스 SN, 점수: 오프라인 판정 시각) */
+    public static final String DEVICE_ONLINE_INDEX = "online_index";
+
+    /** 디바이스 온라인 캐시 무효화 채널 */
+    public static final String DEVICE_ONLINE_CHANNEL = "channel" + DELIMITER + "device_online";
+
     /** WebSocket 접두사 */
     public static final String WEBSOCKET_PREFIX = "webSocket" + DELIMITER;
 
@@ -79,6 +88,24 @@ public final class RedisConst {
     /** 미디어 최고 우선순위 접두사 */
     public static final String MEDIA_HIGHEST_PRIORITY_PREFIX = "media_highest_priority" + DELIMITER;
 
+    /** 미디어 작은 지문(tiny fingerprint) 블룸 필터 접두사 */
+    public static final String MEDIA_TINY_FINGERPRINT_FILTER_PREFIX = "media_tiny_fingerprint_filter" + DELIMITER;
+
+    /** 미디어 작은 지문 블룸 필터 생존 시간 (초) - 7일. 만료되면 데이터베이스에서 다시 만듭니다. */
+    public static final Integer MEDIA_TINY_FINGERPRINT_FILTER_ALIVE_SECOND = 3600 * 24 * 7;
+
+    /** 미디어 작은 지문 블룸 필터 세대 번호 접두사. 필터를 무효화할 때마다 증가합니다. */
+    public static final String MEDIA_TINY_FINGERPRINT_GENERATION_PREFIX = "media_tiny_fingerprint_generation" + DELIMITER;
+
+    /** 생성 중인 미디어 작은 지문 블룸 필터(임시 키) 접두사 */
+    public static final String MEDIA_TINY_FINGERPRINT_BUILD_PREFIX = "media_tiny_fingerprint_build" + DELIMITER;
+
+    /** 워크스페이스별 생성 중인 블룸 필터 임시 키 집합 접두사 */
+    public static final String MEDIA_TINY_FINGERPRINT_BUILDS_PREFIX = "media_tiny_fingerprint_builds" + DELIMITER;
+
+    /** 생성 중인 미디어 작은 지문 블룸 필터 생존 시간 (초) - 1시간. 생성이 중단되면 만료되어 정리됩니다. */
+    public static final Integer MEDIA_TINY_FINGERPRINT_BUILD_ALIVE_SECOND = 3600;
+
     /** 라이브 용량 */
     public static final String LIVE_CAPACITY = "live_capacity";
 
@@ -1,19 +1,34 @@
 package com.dji.sample.component.redis;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 import org.springframework.util.CollectionUtils;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Redis 작업 유틸리티 클래스
  * 
  * Redis 데이터베이스와의 상호작용을 위한 유틸리티 메서드들을 제공합니다.
  * Hash, String, List, ZSet 등 다양한 Redis 데이터 타입에 대한 작업을 지원합니다.
+ * 여러 명령을 한 번의 왕복으로 보내는 파이프라인, 다중 키 명령과
+ * 여러 키를 원자적으로 갱신하는 Lua 스크립트 실행도 지원합니다.
  * 
  * @author sean
  * @version 1.0
@@ -25,6 +40,23 @@ public class RedisOpsUtils {
     /** Redis 템플릿 */
     private static RedisTemplate<String, Object> redisTemplate;
 
+    /**
+     * KEYS[1]을 삭제하고 KEYS[2]에 ARGV[1]을 ARGV[2]초 만료로 설정하는 스크립트
+     */
+    private static final RedisScript<Long> DEL_AND_SET_WITH_EXPIRE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('SET', KEYS[2], ARGV[1], 'EX', ARGV[2]) " +
+            "return 1", Long.class);
+
+    /**
+     * KEYS[1] ZSET에서 점수가 ARGV[1] 이하인 값을 최대 ARGV[2]개 꺼내 삭제하고 반환하는 스크립트
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> Z_POP_BY_SCORE_SCRIPT = new DefaultRedisScript<>(
+            "local values = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2]) " +
+            "if #values > 0 then redis.call('ZREM', KEYS[1], unpack(values)) end " +
+            "return values", List.class);
+
     /**
      * Redis 템플릿을 설정합니다.
      * 
@@ -141,6 +173,33 @@ public class RedisOpsUtils {
         redisTemplate.opsForValue().set(key, value, expire, TimeUnit.SECONDS);
     }
 
+    /**
+     * 여러 키의 값을 한 번에 가져옵니다. (MGET)
+     * 
+     * @param keys Redis 키 목록
+     * @return 키 순서와 같은 순서의 값 리스트. 없는 키의 값은 null
+     */
+    public static List<Object> multiGet(Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return Collections.emptyList();
+        }
+        return redisTemplate.opsForValue().multiGet(keys);
+    }
+
+    /**
+     * 여러 키에 값을 설정하고 같은 만료 시간을 지정합니다. 한 번의 파이프라인으로 전송합니다. (SETEX)
+     * 
+     * @param values 키별 설정할 값
+     * @param expire 만료 시간 (초)
+     */
+    public static void multiSetWithExpire(Map<String, ?> values, long expire) {
+        if (CollectionUtils.isEmpty(values)) {
+            return;
+        }
+        pipeline(operations -> values.forEach(
+                (key, value) -> operations.opsForValue().set(key, value, expire, TimeUnit.SECONDS)));
+    }
+
     /**
      * 키의 남은 만료 시간을 가져옵니다. (TTL)
      * 
@@ -168,7 +227,95 @@ public class RedisOpsUtils {
      * @return 삭제 성공 여부
      */
     public static boolean del(String key) {
-        return RedisOpsUtils.checkExist(key) && redisTemplate.delete(key);
+        return Boolean.TRUE.equals(redisTemplate.delete(key));
+    }
+
+    /**
+     * 여러 키를 한 번에 삭제합니다. (DEL)
+     * 
+     * @param keys Redis 키 목록
+     * @return 삭제된 키 개수
+     */
+    public static long delAll(String... keys) {
+        return delAll(Arrays.asList(keys));
+    }
+
+    /**
+     * 여러 키를 한 번에 삭제합니다. (DEL)
+     * 
+     * @param keys Redis 키 목록
+     * @return 삭제된 키 개수
+     */
+    public static long delAll(Collection<String> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return 0;
+        }
+        Long count = redisTemplate.delete(keys);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 여러 명령을 파이프라인으로 한 번에 전송합니다.
+     * 콜백 안에서 실행한 명령의 결과는 콜백 안에서는 null이며, 실행 순서대로 반환됩니다.
+     * 
+     * @param commands 실행할 명령
+     * @return 명령 순서와 같은 순서의 결과 리스트
+     */
+    public static List<Object> pipeline(Consumer<RedisOperations<String, Object>> commands) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                commands.accept((RedisOperations<String, Object>) operations);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Lua 스크립트를 실행합니다. (EVALSHA)
+     * 인자와 결과는 값 직렬화 방식으로 변환되므로 스크립트에서 설정한 값은 set으로 설정한 값과 같은 형식입니다.
+     * 
+     * @param script 실행할 스크립트
+     * @param keys 스크립트의 KEYS
+     * @param args 스크립트의 ARGV
+     * @param <T> 결과 타입
+     * @return 스크립트 실행 결과
+     */
+    public static <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, keys, args);
+    }
+
+    /**
+     * 한 키를 삭제하고 다른 키에 값을 설정하는 작업을 원자적으로 수행합니다. (DEL + SETEX)
+     * 
+     * @param delKey 삭제할 키
+     * @param key 설정할 키
+     * @param value 설정할 값
+     * @param expire 만료 시간 (초)
+     */
+    public static void delAndSetWithExpire(String delKey, String key, Object value, long expire) {
+        execute(DEL_AND_SET_WITH_EXPIRE_SCRIPT, List.of(delKey, key), value, expire);
+    }
+
+    /**
+     * 채널에 메시지를 발행합니다. (PUBLISH)
+     * 
+     * @param channel 채널 이름
+     * @param message 발행할 메시지
+     */
+    public static void publish(String channel, Object message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+    /**
+     * 구독한 채널에서 받은 메시지 본문을 값 직렬화 방식으로 역직렬화합니다.
+     * 
+     * @param body 메시지 본문
+     * @return 메시지
+     */
+    public static Object deserialize(byte[] body) {
+        return redisTemplate.getValueSerializer().deserialize(body);
     }
 
     /**
@@ -181,6 +328,33 @@ public class RedisOpsUtils {
         return redisTemplate.keys(pattern);
     }
 
+    /**
+     * 패턴에 맞는 모든 키를 커서로 나누어 가져옵니다. (SCAN)
+     * KEYS와 달리 한 번에 count개 정도씩만 훑으므로 키가 많아도 Redis를 오래 막지 않습니다.
+     * 
+     * @param pattern 키 패턴
+     * @param count 한 번의 SCAN에서 훑을 키 개수
+     * @return 패턴에 맞는 키 집합
+     */
+    public static Set<String> scanKeys(String pattern, long count) {
+        Set<String> keys = new HashSet<>();
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(pattern).count(count).build())) {
+            cursor.forEachRemaining(keys::add);
+        }
+        return keys;
+    }
+
+    /**
+     * Set 타입의 모든 값을 가져옵니다. (SMEMBERS)
+     *
+     * @param key Redis 키
+     * @return 값 집합. 키가 없으면 빈 집합
+     */
+    public static Set<Object> setMembers(String key) {
+        Set<Object> members = redisTemplate.opsForSet().members(key);
+        return Objects.isNull(members) ? Collections.emptySet() : members;
+    }
+
     /**
      * List 타입에 값을 오른쪽에 추가합니다. (RPUSH)
      * 
@@ -191,9 +365,7 @@ public class RedisOpsUtils {
         if (value.length == 0) {
             return;
         }
-        for (Object val : value) {
-            redisTemplate.opsForList().rightPush(key, val);
-        }
+        redisTemplate.opsForList().rightPushAll(key, value);
     }
 
     /**
@@ -277,6 +449,21 @@ public class RedisOpsUtils {
         return objects.iterator().next();
     }
 
+    /**
+     * ZSet 타입에서 점수가 기준 이하인 값을 꺼냅니다. (ZRANGEBYSCORE + ZREM)
+     * 조회와 삭제를 원자적으로 수행하므로 여러 서버 인스턴스가 동시에 호출해도 같은 값을 두 번 꺼내지 않습니다.
+     * 
+     * @param key Redis 키
+     * @param max 최대 점수
+     * @param count 최대 개수
+     * @return 꺼낸 값 리스트 (점수 오름차순)
+     */
+    @SuppressWarnings("unchecked")
+    public static List<Object> zPopByScore(String key, long max, long count) {
+        List<Object> values = execute(Z_POP_BY_SCORE_SCRIPT, List.of(key), max, count);
+        return values == null ? Collections.emptyList() : values;
+    }
+
     /**
      * ZSet 타입에서 값의 점수를 가져옵니다. (ZSCORE)
      * 
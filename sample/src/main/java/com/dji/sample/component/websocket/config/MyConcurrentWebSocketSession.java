@@ -1,14 +1,26 @@
 package com.dji.sample.component.websocket.config;
 
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * 커스텀 동시성 WebSocket 세션 클래스
  * 
  * WebSocket 세션에 동시성 제어 기능을 추가하는 데코레이터입니다.
  * 메시지 전송 시간 제한과 버퍼 크기 제한을 설정하여 안정적인 WebSocket 통신을 보장합니다.
  * 
+ * 세션마다 크기가 제한된 송신 큐를 가지며, 호출 스레드는 큐에 넣기만 하고 실제 전송은 전송 스레드가 수행합니다.
+ * 큐가 가득 차면 같은 비즈니스 코드의 가장 오래된 메시지를 버리고 새 메시지를 넣으며,
+ * 대체할 메시지가 없으면 새 메시지를 버립니다.
+ * 
  * @author sean.zhou
  * @version 0.1
  * @date 2021/11/24
@@ -41,4 +53,208 @@ public class MyConcurrentWebSocketSession extends ConcurrentWebSocketSessionDeco
         this(delegate, SEND_TIME_LIMIT, SEND_BUFFER_SIZE_LIMIT);
     }
 
-}
\ No newline at end of file
+    /** 송신 큐. outbound로 동기화합니다. */
+    private final ArrayDeque<Frame> outbound = new ArrayDeque<>();
+
+    /** 전송 스레드가 큐를 비우는 중인지 여부. outbound로 동기화합니다. */
+    private boolean draining;
+
+    /** 전송 중인 메시지의 전송 시작 시각 (밀리초). 전송 중이 아니면 0 */
+    private volatile long sendingSince;
+
+    /** 느린 클라이언트로 판단되어 종료 중인지 여부 */
+    private final AtomicBoolean evicted = new AtomicBoolean();
+
+    /**
+     * 느린 클라이언트로 표시합니다.
+     * 
+     * @return 처음 표시한 경우 true
+     */
+    public boolean markEvicted() {
+        return evicted.compareAndSet(false, true);
+    }
+
+    public boolean isEvicted() {
+        return evicted.get();
+    }
+
+    /** 텔레메트리(OSD)를 델타 프레임으로 받는지 여부. 연결 시 ?osd=delta로 요청합니다. */
+    private volatile boolean telemetryDelta;
+
+    /** 텔레메트리 스트림별로 마지막으로 큐에 넣은 프레임의 seq */
+    private final Map<String, Long> telemetrySeq = new ConcurrentHashMap<>();
+
+    public boolean isTelemetryDelta() {
+        return telemetryDelta;
+    }
+
+    void setTelemetryDelta(boolean telemetryDelta) {
+        this.telemetryDelta = telemetryDelta;
+    }
+
+    /**
+     * 텔레메트리 스트림에서 마지막으로 큐에 넣은 프레임의 seq를 반환합니다.
+     *
+     * @param streamKey 스트림 키
+     * @return seq. 없으면 null
+     */
+    public Long getTelemetrySeq(String streamKey) {
+        return telemetrySeq.get(streamKey);
+    }
+
+    public void setTelemetrySeq(String streamKey, long seq) {
+        telemetrySeq.put(streamKey, seq);
+    }
+
+    /**
+     * 텔레메트리 스트림의 seq를 지웁니다. 해당 스트림의 다음 프레임은 전체 프레임으로 보냅니다.
+     *
+     * @param streamKey 스트림 키. null이면 모든 스트림
+     */
+    public void resetTelemetrySeq(String streamKey) {
+        if (Objects.isNull(streamKey)) {
+            telemetrySeq.clear();
+            return;
+        }
+        telemetrySeq.remove(streamKey);
+    }
+
+    /**
+     * 송신 큐에 메시지를 넣습니다.
+     * 
+     * @param bizCode 비즈니스 코드
+     * @param message 전송할 메시지
+     * @param capacity 큐 최대 크기
+     * @return 큐에 넣은 결과
+     */
+    public OfferResult offer(String bizCode, TextMessage message, int capacity) {
+        Frame frame = new Frame(bizCode, message, System.currentTimeMillis());
+        synchronized (outbound) {
+            OfferResult result = OfferResult.QUEUED;
+            if (outbound.size() >= capacity) {
+                if (!removeOldest(bizCode)) {
+                    return OfferResult.DROPPED;
+                }
+                result = OfferResult.SUPERSEDED;
+            }
+            outbound.add(frame);
+            if (!draining) {
+                draining = true;
+                return OfferResult.QUEUED == result ? OfferResult.SCHEDULE : OfferResult.SUPERSEDED_SCHEDULE;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 송신 큐에서 다음 메시지를 꺼냅니다. 전송 스레드만 호출합니다.
+     * 큐가 비어 있으면 전송 중 상태를 해제하고 null을 반환합니다.
+     * 
+     * @return 전송할 메시지
+     */
+    public TextMessage poll() {
+        synchronized (outbound) {
+            Frame frame = outbound.poll();
+            if (Objects.isNull(frame)) {
+                draining = false;
+                sendingSince = 0;
+                return null;
+            }
+            sendingSince = System.currentTimeMillis();
+            return frame.message;
+        }
+    }
+
+    /**
+     * 송신 큐를 비웁니다.
+     */
+    public void clearOutbound() {
+        synchronized (outbound) {
+            outbound.clear();
+        }
+    }
+
+    /**
+     * 큐에서 기다리는 메시지 중 가장 오래 기다린 시간을 반환합니다.
+     * 
+     * @param now 현재 시각 (밀리초)
+     * @return 대기 시간 (밀리초). 대기 중인 메시지가 없으면 0
+     */
+    public long getPendingMillis(long now) {
+        synchronized (outbound) {
+            Frame head = outbound.peek();
+            return Objects.isNull(head) ? 0 : now - head.queuedAt;
+        }
+    }
+
+    /**
+     * 전송 중인 메시지의 전송 시간을 반환합니다.
+     * 
+     * @param now 현재 시각 (밀리초)
+     * @return 전송 시간 (밀리초). 전송 중이 아니면 0
+     */
+    public long getSendingMillis(long now) {
+        long since = sendingSince;
+        return since == 0 ? 0 : now - since;
+    }
+
+    /**
+     * 전송 시간 제한 (밀리초)
+     * 
+     * @return 전송 시간 제한
+     */
+    public int getSendTimeLimitMillis() {
+        return SEND_TIME_LIMIT;
+    }
+
+    private boolean removeOldest(String bizCode) {
+        Iterator<Frame> iterator = outbound.iterator();
+        while (iterator.hasNext()) {
+            if (Objects.equals(bizCode, iterator.next().bizCode)) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 송신 큐에 넣은 결과
+     */
+    public enum OfferResult {
+
+        /** 큐에 넣음 */
+        QUEUED,
+
+        /** 큐에 넣었고, 전송 작업을 시작해야 함 */
+        SCHEDULE,
+
+        /** 같은 비즈니스 코드의 이전 메시지를 버리고 큐에 넣음 */
+        SUPERSEDED,
+
+        /** 같은 비즈니스 코드의 이전 메시지를 버리고 큐에 넣었고, 전송 작업을 시작해야 함 */
+        SUPERSEDED_SCHEDULE,
+
+        /** 큐가 가득 차서 버림 */
+        DROPPED;
+
+        public boolean isSchedule() {
+            return SCHEDULE == this || SUPERSEDED_SCHEDULE == this;
+        }
+    }
+
+    private static final class Frame {
+
+        private final String bizCode;
+
+        private final TextMessage message;
+
+        private final long queuedAt;
+
+        private Frame(String bizCode, TextMessage message, long queuedAt) {
+            this.bizCode = bizCode;
+            this.message = message;
+            this.queuedAt = queuedAt;
+        }
+    }
+}
@@ -8,8 +8,10 @@ import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.security.Principal;
+import java.util.Objects;
 
 /**
  * 커스텀 WebSocket 핸들러 클래스
@@ -24,6 +26,11 @@ import java.security.Principal;
 @Slf4j
 public class MyWebSocketHandler extends WebSocketDefaultHandler {
 
+    /** 텔레메트리 프레임 형식을 지정하는 쿼리 파라미터 */
+    private static final String PARAM_OSD = "osd";
+
+    private static final String OSD_DELTA = "delta";
+
     /** WebSocket 관리 서비스 */
     private IWebSocketManageService webSocketManageService;
 
@@ -51,8 +58,10 @@ public class MyWebSocketHandler extends WebSocketDefaultHandler {
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         Principal principal = session.getPrincipal();
         if (StringUtils.hasText(principal.getName())) {
+            MyConcurrentWebSocketSession concurrentSession = new MyConcurrentWebSocketSession(session);
+            concurrentSession.setTelemetryDelta(isTelemetryDelta(session));
             // WebSocket 세션을 관리 서비스에 등록
-            webSocketManageService.put(principal.getName(), new MyConcurrentWebSocketSession(session));
+            webSocketManageService.put(principal.getName(), concurrentSession);
             log.debug("{} is connected. ID: {}. WebSocketSession[current count: {}]",
                     principal.getName(), session.getId(), webSocketManageService.getConnectedCount());
             return;
@@ -61,6 +70,20 @@ public class MyWebSocketHandler extends WebSocketDefaultHandler {
         session.close();
     }
 
+    /**
+     * 연결 URL의 쿼리 파라미터 osd=delta로 텔레메트리 델타 프레임을 요청했는지 확인합니다.
+     * 
+     * @param session WebSocket 세션
+     * @return 델타 프레임을 요청했으면 true
+     */
+    private static boolean isTelemetryDelta(WebSocketSession session) {
+        if (Objects.isNull(session.getUri())) {
+            return false;
+        }
+        String osd = UriComponentsBuilder.fromUri(session.getUri()).build().getQueryParams().getFirst(PARAM_OSD);
+        return OSD_DELTA.equalsIgnoreCase(osd);
+    }
+
     /**
      * WebSocket 연결이 종료된 후 호출됩니다.
      * 
@@ -51,4 +51,17 @@ public interface IWebSocketMessageService {
      * @param data 전송할 데이터
      */
     void sendBatch(String workspaceId, String bizCode, Object data);
+
+    /**
+     * 워크스페이스 ID와 사용자 타입으로 디바이스 텔레메트리(OSD)를 일괄 전송합니다.
+     * 델타 프레임을 요청한 세션(?osd=delta)에는 직전 프레임과 달라진 값만 보내고,
+     * 그 밖의 세션에는 기존과 같은 TelemetryDTO 형식으로 보냅니다.
+     * 
+     * @param workspaceId 워크스페이스 ID
+     * @param userType 사용자 타입
+     * @param bizCode 비즈니스 코드
+     * @param sn 디바이스 SN
+     * @param host 텔레메트리 데이터
+     */
+    void sendTelemetry(String workspaceId, Integer userType, String bizCode, String sn, Object host);
 }
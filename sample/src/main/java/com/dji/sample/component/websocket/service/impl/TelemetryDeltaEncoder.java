@@ -0,0 +1,281 @@
+package com.dji.sample.component.websocket.service.impl;
+
+import com.dji.sdk.websocket.WebSocketMessageResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 텔레메트리(OSD) 델타 인코더
+ *
+ * 디바이스별로 직전 프레임을 보관하고, 새 프레임과 달라진 JSON 경로만 담은 델타 메시지를 만듭니다.
+ * 델타는 디바이스별로 한 번만 계산하고 직렬화하므로 세션 수와 관계없이 비용이 일정합니다.
+ *
+ * 메시지는 기존 WebSocketMessageResponse(biz_code, timestamp, data) 형식을 그대로 사용하며, data는 다음과 같습니다.
+ * - 전체 프레임: {"sn", "seq", "host"}. host는 기존 메시지의 host와 같습니다.
+ * - 델타 프레임: {"sn", "seq", "base_seq", "changes"}. changes의 키는 JSON Pointer(RFC 6901) 경로이고,
+ *   값이 null이면 해당 경로를 삭제합니다. 배열은 통째로 교체합니다.
+ *
+ * 클라이언트는 디바이스별로 마지막으로 적용한 seq를 보관하고, base_seq가 그 값과 같은 델타만 적용합니다.
+ * 다르면 다음 전체 프레임을 받을 때까지 델타를 무시합니다.
+ *
+ * 일정 시간 프레임이 없는 디바이스(오프라인 등)의 스트림은 정리하며, 다시 프레임이 오면 전체 프레임부터 시작합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class TelemetryDeltaEncoder {
+
+    /**
+     * 기본 스트림 정리 시간 (밀리초)
+     */
+    public static final long DEFAULT_IDLE_MILLIS = 60_000;
+
+    private final ObjectMapper mapper;
+
+    /**
+     * 이 프레임 수마다 모든 세션에 전체 프레임을 보냅니다.
+     */
+    private final int keyframeInterval;
+
+    /**
+     * 비즈니스 코드와 디바이스 SN별 스트림
+     */
+    private final Map<String, Stream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * 이 시간 (밀리초) 동안 프레임이 없는 스트림은 정리합니다.
+     */
+    private final long idleMillis;
+
+    /**
+     * 마지막으로 스트림을 정리한 시각 (밀리초)
+     */
+    private volatile long lastPruneAt;
+
+    public TelemetryDeltaEncoder(ObjectMapper mapper, int keyframeInterval) {
+        this(mapper, keyframeInterval, DEFAULT_IDLE_MILLIS);
+    }
+
+    public TelemetryDeltaEncoder(ObjectMapper mapper, int keyframeInterval, long idleMillis) {
+        this.mapper = Objects.requireNonNull(mapper);
+        this.keyframeInterval = Math.max(1, keyframeInterval);
+        this.idleMillis = Math.max(1, idleMillis);
+    }
+
+    /**
+     * 새 프레임을 인코딩합니다. 같은 디바이스의 프레임은 도착 순서대로 호출해야 합니다.
+     *
+     * @param bizCode 비즈니스 코드
+     * @param sn 디바이스 SN
+     * @param host 텔레메트리 데이터
+     * @param timestamp 메시지 타임스탬프
+     * @return 인코딩된 프레임
+     */
+    public Frame encode(String bizCode, String sn, Object host, long timestamp) {
+        if (timestamp - lastPruneAt > idleMillis) {
+            this.prune(timestamp);
+        }
+        JsonNode tree = mapper.valueToTree(host);
+        Stream stream = streams.computeIfAbsent(streamKey(bizCode, sn), key -> new Stream());
+        synchronized (stream) {
+            long seq = ++stream.seq;
+            ObjectNode changes = null;
+            if (Objects.nonNull(stream.last) && seq % keyframeInterval != 0) {
+                changes = mapper.createObjectNode();
+                diff(stream.last, tree, "", changes);
+            }
+            stream.last = tree;
+            stream.lastEncodedAt = timestamp;
+            return new Frame(bizCode, sn, seq, tree, changes, timestamp);
+        }
+    }
+
+    /**
+     * 보관 중인 스트림 수를 반환합니다.
+     *
+     * @return 스트림 수
+     */
+    public int size() {
+        return streams.size();
+    }
+
+    /**
+     * idleMillis 동안 프레임이 없는 스트림을 정리합니다.
+     *
+     * @param now 현재 시각 (밀리초)
+     */
+    private void prune(long now) {
+        lastPruneAt = now;
+        streams.values().removeIf(stream -> {
+            synchronized (stream) {
+                return now - stream.lastEncodedAt > idleMillis;
+            }
+        });
+    }
+
+    /**
+     * 스트림 키를 만듭니다.
+     *
+     * @param bizCode 비즈니스 코드
+     * @param sn 디바이스 SN
+     * @return 스트림 키
+     */
+    public static String streamKey(String bizCode, String sn) {
+        return bizCode + "/" + sn;
+    }
+
+    /**
+     * 두 JSON 트리를 비교해 달라진 경로를 changes에 기록합니다.
+     * 객체는 필드 단위로 비교하고, 배열과 값은 다르면 통째로 기록합니다.
+     */
+    private static void diff(JsonNode before, JsonNode after, String path, ObjectNode changes) {
+        if (!before.isObject() || !after.isObject()) {
+            if (!before.equals(after)) {
+                changes.set(path, after);
+            }
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = after.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String fieldPath = path + "/" + escape(field.getKey());
+            JsonNode old = before.get(field.getKey());
+            if (Objects.isNull(old)) {
+                changes.set(fieldPath, field.getValue());
+            } else {
+                diff(old, field.getValue(), fieldPath, changes);
+            }
+        }
+        Iterator<String> names = before.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!after.has(name)) {
+                changes.putNull(path + "/" + escape(name));
+            }
+        }
+    }
+
+    private static String escape(String name) {
+        return name.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static final class Stream {
+
+        private long seq;
+
+        private JsonNode last;
+
+        private long lastEncodedAt;
+    }
+
+    /**
+     * 인코딩된 프레임. 전체 메시지와 델타 메시지는 처음 사용할 때 한 번만 직렬화합니다.
+     */
+    public final class Frame {
+
+        private final String bizCode;
+
+        private final String sn;
+
+        private final long seq;
+
+        private final JsonNode host;
+
+        /**
+         * 직전 프레임과 달라진 경로. 키프레임이면 null
+         */
+        private final ObjectNode changes;
+
+        private final long timestamp;
+
+        private TextMessage legacy;
+
+        private TextMessage full;
+
+        private TextMessage delta;
+
+        private Frame(String bizCode, String sn, long seq, JsonNode host, ObjectNode changes, long timestamp) {
+            this.bizCode = bizCode;
+            this.sn = sn;
+            this.seq = seq;
+            this.host = host;
+            this.changes = changes;
+            this.timestamp = timestamp;
+        }
+
+        public String getStreamKey() {
+            return streamKey(bizCode, sn);
+        }
+
+        public long getSeq() {
+            return seq;
+        }
+
+        public boolean isKeyframe() {
+            return Objects.isNull(changes);
+        }
+
+        /**
+         * 델타 프레임을 요청하지 않은 세션에 보낼 기존 형식({"host", "sn"})의 메시지를 반환합니다.
+         */
+        public synchronized TextMessage getLegacy() throws JsonProcessingException {
+            if (Objects.isNull(legacy)) {
+                ObjectNode data = mapper.createObjectNode();
+                if (!host.isNull()) {
+                    data.set("host", host);
+                }
+                data.put("sn", sn);
+                legacy = this.toMessage(data);
+            }
+            return legacy;
+        }
+
+        /**
+         * 전체 프레임 메시지를 반환합니다.
+         */
+        public synchronized TextMessage getFull() throws JsonProcessingException {
+            if (Objects.isNull(full)) {
+                ObjectNode data = mapper.createObjectNode();
+                data.put("sn", sn);
+                data.put("seq", seq);
+                data.set("host", host);
+                full = this.toMessage(data);
+            }
+            return full;
+        }
+
+        /**
+         * 델타 프레임 메시지를 반환합니다. 키프레임이면 전체 프레임 메시지를 반환합니다.
+         */
+        public synchronized TextMessage getDelta() throws JsonProcessingException {
+            if (this.isKeyframe()) {
+                return this.getFull();
+            }
+            if (Objects.isNull(delta)) {
+                ObjectNode data = mapper.createObjectNode();
+                data.put("sn", sn);
+                data.put("seq", seq);
+                data.put("base_seq", seq - 1);
+                data.set("changes", changes);
+                delta = this.toMessage(data);
+            }
+            return delta;
+        }
+
+        private TextMessage toMessage(ObjectNode data) throws JsonProcessingException {
+            return new TextMessage(mapper.writeValueAsBytes(new WebSocketMessageResponse()
+                    .setBizCode(bizCode)
+                    .setTimestamp(timestamp)
+                    .setData(data)));
+        }
+    }
+}
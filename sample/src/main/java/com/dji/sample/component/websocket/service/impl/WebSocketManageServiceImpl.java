@@ -11,15 +11,17 @@ import org.springframework.util.StringUtils;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Objects;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * WebSocket 관리 서비스 구현 클래스
  * 
  * WebSocket 세션의 생명주기를 관리하는 서비스 구현체입니다.
- * Redis를 사용하여 세션 정보를 저장하고 조회합니다.
+ * 메시지 전송 대상 조회는 이 서버에 연결된 세션의 메모리 인덱스(워크스페이스별, 워크스페이스와 사용자 타입별)만 사용하므로
+ * 전송할 때마다 Redis를 조회하지 않습니다.
+ * Redis에는 서버 간 접속 현황 공유를 위해 연결과 종료 시에만 세션 정보를 기록합니다.
  * 
  * @author sean
  * @version 1.0
@@ -32,6 +34,14 @@ public class WebSocketManageServiceImpl implements IWebSocketManageService {
     /** WebSocket 세션 저장소 */
     private static final ConcurrentHashMap<String, MyConcurrentWebSocketSession> SESSIONS = new ConcurrentHashMap<>(16);
 
+    /** 워크스페이스별 세션 인덱스 (워크스페이스 ID -> 세션 ID -> 세션) */
+    private static final ConcurrentHashMap<String, Map<String, MyConcurrentWebSocketSession>> WORKSPACE_SESSIONS =
+            new ConcurrentHashMap<>(16);
+
+    /** 워크스페이스와 사용자 타입별 세션 인덱스 (워크스페이스 ID:사용자 타입 -> 세션 ID -> 세션) */
+    private static final ConcurrentHashMap<String, Map<String, MyConcurrentWebSocketSession>> WORKSPACE_USER_TYPE_SESSIONS =
+            new ConcurrentHashMap<>(16);
+
     @Override
     public void put(String key, MyConcurrentWebSocketSession val) {
         String[] name = key.split("/");
@@ -40,16 +50,20 @@ public class WebSocketManageServiceImpl implements IWebSocketManageService {
             return;
         }
         String sessionId = val.getId();
-        // 워크스페이스별 세션 정보 저장
+        SESSIONS.put(sessionId, val);
+        // 로컬 인덱스에 세션 등록
+        addIndex(WORKSPACE_SESSIONS, name[0], sessionId, val);
+        addIndex(WORKSPACE_USER_TYPE_SESSIONS, workspaceUserTypeKey(name[0], Integer.parseInt(name[1])), sessionId, val);
+
+        // 워크스페이스별, 사용자 타입별 세션 정보를 Redis에 한 번에 저장하고 만료 시간 설정
         String workspaceKey = RedisConst.WEBSOCKET_PREFIX + name[0];
-        // 사용자 타입별 세션 정보 저장
         String userTypeKey = RedisConst.WEBSOCKET_PREFIX + UserTypeEnum.find(Integer.parseInt(name[1])).getDesc();
-        RedisOpsUtils.hashSet(workspaceKey, sessionId, name[2]);
-        RedisOpsUtils.hashSet(userTypeKey, sessionId, name[2]);
-        SESSIONS.put(sessionId, val);
-        // Redis 키 만료 시간 설정
-        RedisOpsUtils.expireKey(workspaceKey, RedisConst.WEBSOCKET_ALIVE_SECOND);
-        RedisOpsUtils.expireKey(userTypeKey, RedisConst.WEBSOCKET_ALIVE_SECOND);
+        RedisOpsUtils.pipeline(operations -> {
+            operations.opsForHash().put(workspaceKey, sessionId, name[2]);
+            operations.opsForHash().put(userTypeKey, sessionId, name[2]);
+            operations.expire(workspaceKey, RedisConst.WEBSOCKET_ALIVE_SECOND, TimeUnit.SECONDS);
+            operations.expire(userTypeKey, RedisConst.WEBSOCKET_ALIVE_SECOND, TimeUnit.SECONDS);
+        });
     }
 
     @Override
@@ -59,10 +73,18 @@ public class WebSocketManageServiceImpl implements IWebSocketManageService {
             log.debug("The key is out of format. [{workspaceId}/{userType}/{userId}]");
             return;
         }
-        // Redis에서 세션 정보 제거
-        RedisOpsUtils.hashDel(RedisConst.WEBSOCKET_PREFIX + name[0], new String[] {sessionId});
-        RedisOpsUtils.hashDel(RedisConst.WEBSOCKET_PREFIX + UserTypeEnum.find(Integer.parseInt(name[1])).getDesc(), new String[] {sessionId});
         SESSIONS.remove(sessionId);
+        // 로컬 인덱스에서 세션 제거
+        removeIndex(WORKSPACE_SESSIONS, name[0], sessionId);
+        removeIndex(WORKSPACE_USER_TYPE_SESSIONS, workspaceUserTypeKey(name[0], Integer.parseInt(name[1])), sessionId);
+
+        // Redis에서 세션 정보 제거
+        String workspaceKey = RedisConst.WEBSOCKET_PREFIX + name[0];
+        String userTypeKey = RedisConst.WEBSOCKET_PREFIX + UserTypeEnum.find(Integer.parseInt(name[1])).getDesc();
+        RedisOpsUtils.pipeline(operations -> {
+            operations.opsForHash().delete(workspaceKey, sessionId);
+            operations.opsForHash().delete(userTypeKey, sessionId);
+        });
     }
 
     @Override
@@ -70,29 +92,50 @@ public class WebSocketManageServiceImpl implements IWebSocketManageService {
         if (!StringUtils.hasText(workspaceId)) {
             return Collections.emptySet();
         }
-        String key = RedisConst.WEBSOCKET_PREFIX + workspaceId;
-
-        // 워크스페이스별 세션 ID들을 조회하여 실제 세션 객체 반환
-        return RedisOpsUtils.hashKeys(key)
-                .stream()
-                .map(SESSIONS::get)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        return sessions(WORKSPACE_SESSIONS, workspaceId);
     }
 
     @Override
     public Collection<MyConcurrentWebSocketSession> getValueWithWorkspaceAndUserType(String workspaceId, Integer userType) {
-        String key = RedisConst.WEBSOCKET_PREFIX + UserTypeEnum.find(userType).getDesc();
-        // 사용자 타입별 세션 ID들을 조회하여 워크스페이스에 속한 세션만 필터링
-        return RedisOpsUtils.hashKeys(key)
-                .stream()
-                .map(SESSIONS::get)
-                .filter(getValueWithWorkspace(workspaceId)::contains)
-                .collect(Collectors.toSet());
+        if (!StringUtils.hasText(workspaceId)) {
+            return Collections.emptySet();
+        }
+        return sessions(WORKSPACE_USER_TYPE_SESSIONS, workspaceUserTypeKey(workspaceId, userType));
     }
 
     @Override
     public Long getConnectedCount() {
         return SESSIONS.mappingCount();
     }
+
+    private static String workspaceUserTypeKey(String workspaceId, Integer userType) {
+        return workspaceId + RedisConst.DELIMITER + userType;
+    }
+
+    private static void addIndex(ConcurrentHashMap<String, Map<String, MyConcurrentWebSocketSession>> index,
+                                 String key, String sessionId, MyConcurrentWebSocketSession session) {
+        index.compute(key, (k, sessions) -> {
+            Map<String, MyConcurrentWebSocketSession> map = sessions == null ? new ConcurrentHashMap<>() : sessions;
+            map.put(sessionId, session);
+            return map;
+        });
+    }
+
+    private static void removeIndex(ConcurrentHashMap<String, Map<String, MyConcurrentWebSocketSession>> index,
+                                    String key, String sessionId) {
+        // 마지막 세션이 제거되면 빈 인덱스도 함께 제거
+        index.computeIfPresent(key, (k, sessions) -> {
+            sessions.remove(sessionId);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /**
+     * 인덱스의 세션 목록을 반환합니다. 복사하지 않은 읽기 전용 뷰이므로 순회 중 연결과 종료가 반영될 수 있습니다.
+     */
+    private static Collection<MyConcurrentWebSocketSession> sessions(
+            ConcurrentHashMap<String, Map<String, MyConcurrentWebSocketSession>> index, String key) {
+        Map<String, MyConcurrentWebSocketSession> sessions = index.get(key);
+        return sessions == null ? Collections.emptySet() : Collections.unmodifiableCollection(sessions.values());
+    }
 }
@@ -3,17 +3,35 @@ package com.dji.sample.component.websocket.service.impl;
 import com.dji.sample.component.websocket.config.MyConcurrentWebSocketSession;
 import com.dji.sample.component.websocket.service.IWebSocketManageService;
 import com.dji.sample.component.websocket.service.IWebSocketMessageService;
+import com.dji.sample.manage.model.dto.TelemetryDTO;
 import com.dji.sdk.websocket.WebSocketMessageResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 
+import javax.annotation.PostConstruct;
 import java.io.IOException;
+import java.security.Principal;
 import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * WebSocket 메시지 서비스 구현 클래스
@@ -21,13 +39,34 @@ import java.util.Objects;
  * WebSocket을 통해 메시지를 전송하는 서비스 구현체입니다.
  * JSON 직렬화를 사용하여 메시지를 전송하고 세션 상태를 검증합니다.
  * 
+ * 메시지는 호출 스레드(주로 MQTT 수신 스레드)에서 직렬화한 뒤 세션별 송신 큐에 넣기만 하고,
+ * 실제 전송은 소수의 전송 스레드가 세션별로 하나씩 순서대로 수행합니다.
+ * 느린 세션 때문에 호출 스레드나 다른 세션의 전송이 지연되지 않으며,
+ * 메시지 하나의 전송이 전송 시간 제한(1초)을 넘거나, 큐의 메시지가 일정 시간 이상 기다린 세션은
+ * 느린 클라이언트로 보고 연결을 종료합니다. 이 검사는 메시지를 넣을 때, 전송 스레드가 메시지를 보낼 때,
+ * 그리고 전송 중인 세션을 주기적으로 확인하는 감시 스레드에서 수행하므로 새 메시지가 오지 않아도
+ * 막힌 세션이 전송 스레드를 붙잡는 시간은 전송 시간 제한과 감시 주기의 합으로 제한됩니다.
+ * 종료된 세션은 전송 대상 인덱스에서도 제거합니다.
+ * 
+ * 텔레메트리(OSD)는 델타 프레임을 요청한 세션에 직전 프레임과 달라진 값만 보냅니다 (TelemetryDeltaEncoder).
+ * 세션의 큐에서 프레임이 버려지면 해당 세션에는 다음 프레임을 전체 프레임으로 보내 다시 동기화합니다.
+ * 
  * @author sean.zhou
  * @version 0.1
  * @date 2021/11/24
  */
 @Service
 @Slf4j
-public class WebSocketMessageServiceImpl implements IWebSocketMessageService {
+public class WebSocketMessageServiceImpl implements IWebSocketMessageService, DisposableBean {
+
+    /** 느린 세션 종료 스레드 최대 수 */
+    private static final int CLOSE_POOL_SIZE = 2;
+
+    /** 종료를 기다리는 느린 세션 최대 수 */
+    private static final int CLOSE_QUEUE_CAPACITY = 1024;
+
+    /** 전송 중인 세션을 확인하는 주기 (밀리초) */
+    private static final long WATCHDOG_INTERVAL = 200;
 
     /** JSON 직렬화를 위한 ObjectMapper */
     @Autowired
@@ -37,6 +76,74 @@ public class WebSocketMessageServiceImpl implements IWebSocketMessageService {
     @Autowired
     private IWebSocketManageService webSocketManageService;
 
+    /** 전송 스레드 수 */
+    @Value("${thread.pool.websocket-send.pool-size: 8}")
+    private int poolSize;
+
+    /** 세션별 송신 큐 최대 크기 */
+    @Value("${thread.pool.websocket-send.queue-capacity: 64}")
+    private int queueCapacity;
+
+    /** 큐의 메시지가 이 시간 (밀리초) 이상 기다리면 연결을 종료합니다. */
+    @Value("${thread.pool.websocket-send.slow-consumer-timeout: 3000}")
+    private long slowConsumerTimeout;
+
+    /** 텔레메트리 델타 프레임 사이에 전체 프레임을 보내는 간격 (프레임 수) */
+    @Value("${websocket.osd-delta.keyframe-interval: 30}")
+    private int keyframeInterval;
+
+    /** 전송 스레드 풀 */
+    private ExecutorService sendExecutor;
+
+    /** 느린 세션 종료 스레드 풀. 종료 프레임 전송이 막혀도 스레드 수와 대기 작업 수가 제한됩니다. */
+    private ThreadPoolExecutor closeExecutor;
+
+    /** 전송 중인 세션의 전송 시간과 대기 시간을 확인하는 감시 스레드 */
+    private ScheduledExecutorService watchdog;
+
+    /** 전송 스레드가 큐를 비우는 중인 세션과 그 스레드 */
+    private final Map<MyConcurrentWebSocketSession, Thread> drainingSessions = new ConcurrentHashMap<>();
+
+    /** 텔레메트리 델타 인코더 */
+    private TelemetryDeltaEncoder telemetryEncoder;
+
+    /** 같은 비즈니스 코드의 새 메시지로 대체되어 버려진 메시지 수 */
+    private final AtomicLong supersededCount = new AtomicLong();
+
+    /** 송신 큐가 가득 차서 버려진 메시지 수 */
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    /** 느린 클라이언트로 판단되어 종료된 세션 수 */
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        sendExecutor = Executors.newFixedThreadPool(Math.max(1, poolSize), daemonThreadFactory("websocket-send-"));
+        closeExecutor = new ThreadPoolExecutor(CLOSE_POOL_SIZE, CLOSE_POOL_SIZE, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(CLOSE_QUEUE_CAPACITY), daemonThreadFactory("websocket-close-"));
+        closeExecutor.allowCoreThreadTimeOut(true);
+        telemetryEncoder = new TelemetryDeltaEncoder(mapper, keyframeInterval);
+        watchdog = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("websocket-watchdog-"));
+        watchdog.scheduleWithFixedDelay(this::checkDrainingSessions, WATCHDOG_INTERVAL, WATCHDOG_INTERVAL,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        watchdog.shutdownNow();
+        sendExecutor.shutdownNow();
+        closeExecutor.shutdownNow();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger index = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
     @Override
     public void sendMessage(MyConcurrentWebSocketSession session, WebSocketMessageResponse message) {
         if (session == null) {
@@ -44,15 +151,8 @@ public class WebSocketMessageServiceImpl implements IWebSocketMessageService {
         }
 
         try {
-            // 세션이 열려있는지 확인
-            if (!session.isOpen()) {
-                session.close();
-                log.debug("This session is closed.");
-                return;
-            }
-
-            // 메시지를 JSON으로 직렬화하여 전송
-            session.sendMessage(new TextMessage(mapper.writeValueAsBytes(message)));
+            // 메시지를 JSON으로 직렬화하여 송신 큐에 추가
+            this.enqueue(session, message.getBizCode(), new TextMessage(mapper.writeValueAsBytes(message)));
         } catch (IOException e) {
             log.info("Failed to publish the message. {}", message.toString());
             e.printStackTrace();
@@ -65,24 +165,19 @@ public class WebSocketMessageServiceImpl implements IWebSocketMessageService {
             return;
         }
 
+        TextMessage data;
         try {
-            // 메시지를 JSON으로 직렬화
-            TextMessage data = new TextMessage(mapper.writeValueAsBytes(message));
-
-            for (MyConcurrentWebSocketSession session : sessions) {
-                // 각 세션이 열려있는지 확인
-                if (!session.isOpen()) {
-                    session.close();
-                    log.debug("This session is closed.");
-                    return;
-                }
-                session.sendMessage(data);
-            }
-
+            // 메시지를 한 번만 JSON으로 직렬화
+            data = new TextMessage(mapper.writeValueAsBytes(message));
         } catch (IOException e) {
             log.info("Failed to publish the message. {}", message.toString());
-
             e.printStackTrace();
+            return;
+        }
+
+        // 닫힌 세션이 있어도 나머지 세션에는 계속 전송
+        for (MyConcurrentWebSocketSession session : sessions) {
+            this.enqueue(session, message.getBizCode(), data);
         }
     }
 
@@ -107,4 +202,228 @@ public class WebSocketMessageServiceImpl implements IWebSocketMessageService {
     public void sendBatch(String workspaceId, String bizCode, Object data) {
         this.sendBatch(workspaceId, null, bizCode, data);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void sendTelemetry(String workspaceId, Integer userType, String bizCode, String sn, Object host) {
+        if (!StringUtils.hasText(workspaceId)) {
+            throw new RuntimeException("Workspace ID does not exist.");
+        }
+        Collection<MyConcurrentWebSocketSession> sessions = Objects.isNull(userType) ?
+                webSocketManageService.getValueWithWorkspace(workspaceId) :
+                webSocketManageService.getValueWithWorkspaceAndUserType(workspaceId, userType);
+        if (sessions.isEmpty()) {
+            return;
+        }
+        // 델타 프레임을 요청한 세션이 없으면 기존 형식으로만 전송
+        if (sessions.stream().noneMatch(MyConcurrentWebSocketSession::isTelemetryDelta)) {
+            this.sendBatch(sessions, new WebSocketMessageResponse()
+                    .setData(TelemetryDTO.builder().sn(sn).host(host).build())
+                    .setTimestamp(System.currentTimeMillis())
+                    .setBizCode(bizCode));
+            return;
+        }
+
+        TelemetryDeltaEncoder.Frame frame = telemetryEncoder.encode(bizCode, sn, host, System.currentTimeMillis());
+        String streamKey = frame.getStreamKey();
+        // 세션별로 보낼 메시지를 루프 전에 한 번씩만 직렬화
+        TextMessage legacy = null;
+        TextMessage full;
+        TextMessage delta;
+        try {
+            if (sessions.stream().anyMatch(session -> !session.isTelemetryDelta())) {
+                legacy = frame.getLegacy();
+            }
+            full = frame.getFull();
+            delta = frame.getDelta();
+        } catch (IOException e) {
+            log.warn("Failed to publish the telemetry. sn: {}", sn, e);
+            return;
+        }
+
+        for (MyConcurrentWebSocketSession session : sessions) {
+            try {
+                if (!session.isTelemetryDelta()) {
+                    this.enqueue(session, bizCode, legacy);
+                    continue;
+                }
+                // 직전 프레임을 큐에 넣은 세션에만 델타를 보내고, 그 밖에는 전체 프레임을 보냄
+                Long lastSeq = session.getTelemetrySeq(streamKey);
+                boolean isDelta = Objects.nonNull(lastSeq) && lastSeq == frame.getSeq() - 1;
+                MyConcurrentWebSocketSession.OfferResult result =
+                        this.enqueue(session, bizCode, isDelta ? delta : full);
+                if (Objects.isNull(result) || MyConcurrentWebSocketSession.OfferResult.DROPPED == result) {
+                    session.resetTelemetrySeq(streamKey);
+                } else if (MyConcurrentWebSocketSession.OfferResult.SUPERSEDED == result
+                        || MyConcurrentWebSocketSession.OfferResult.SUPERSEDED_SCHEDULE == result) {
+                    // 버려진 메시지가 어느 디바이스의 프레임인지 알 수 없으므로 모든 스트림을 다시 시작
+                    session.resetTelemetrySeq(null);
+                } else {
+                    session.setTelemetrySeq(streamKey, frame.getSeq());
+                }
+            } catch (RuntimeException e) {
+                // 한 세션의 실패로 나머지 세션의 전송을 멈추지 않음
+                log.warn("Failed to publish the telemetry to the session. sn: {}, ID: {}", sn, session.getId(), e);
+                session.resetTelemetrySeq(streamKey);
+            }
+        }
+    }
+
+    public long getSupersededCount() {
+        return supersededCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getEvictedCount() {
+        return evictedCount.get();
+    }
+
+    /**
+     * 세션의 송신 큐에 메시지를 넣고, 필요하면 전송 작업을 시작합니다.
+     * 느린 세션이면 메시지를 넣지 않고 연결을 종료합니다.
+     * 
+     * @return 큐에 넣은 결과. 닫힌 세션이면 null
+     */
+    private MyConcurrentWebSocketSession.OfferResult enqueue(MyConcurrentWebSocketSession session, String bizCode,
+                                                             TextMessage data) {
+        if (!session.isOpen() || session.isEvicted()) {
+            session.clearOutbound();
+            log.debug("This session is closed. ID: {}", session.getId());
+            return null;
+        }
+        if (this.isSlow(session, System.currentTimeMillis())) {
+            this.evict(session);
+            return null;
+        }
+
+        MyConcurrentWebSocketSession.OfferResult result = session.offer(bizCode, data, queueCapacity);
+        switch (result) {
+            case DROPPED:
+                droppedCount.incrementAndGet();
+                return result;
+            case SUPERSEDED:
+            case SUPERSEDED_SCHEDULE:
+                supersededCount.incrementAndGet();
+                break;
+            default:
+                break;
+        }
+        if (result.isSchedule()) {
+            try {
+                sendExecutor.execute(() -> this.drain(session));
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 전송 중 상태를 해제
+                session.clearOutbound();
+                session.poll();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 메시지 하나의 전송이 전송 시간 제한을 넘었거나, 큐의 메시지가 너무 오래 기다렸는지 확인합니다.
+     */
+    private boolean isSlow(MyConcurrentWebSocketSession session, long now) {
+        return session.getSendingMillis(now) > session.getSendTimeLimitMillis()
+                || session.getPendingMillis(now) > slowConsumerTimeout;
+    }
+
+    /**
+     * 세션의 송신 큐가 빌 때까지 순서대로 전송합니다. 전송 스레드에서 실행됩니다.
+     * 보내기 전에 큐의 메시지가 너무 오래 기다렸으면, 보낸 뒤에는 전송이 전송 시간 제한을 넘었으면 연결을 종료합니다.
+     */
+    private void drain(MyConcurrentWebSocketSession session) {
+        drainingSessions.put(session, Thread.currentThread());
+        try {
+            TextMessage message;
+            while (true) {
+                if (session.getPendingMillis(System.currentTimeMillis()) > slowConsumerTimeout) {
+                    // 송신 큐가 비워지므로 다음 poll에서 끝납니다.
+                    this.evict(session);
+                }
+                if ((message = session.poll()) == null) {
+                    break;
+                }
+                if (!session.isOpen() || session.isEvicted()) {
+                    session.clearOutbound();
+                    continue;
+                }
+                long start = System.currentTimeMillis();
+                try {
+                    session.sendMessage(message);
+                } catch (IOException | RuntimeException e) {
+                    log.info("Failed to send the message to the session. ID: {}", session.getId(), e);
+                }
+                if (System.currentTimeMillis() - start > session.getSendTimeLimitMillis()) {
+                    this.evict(session);
+                }
+            }
+        } finally {
+            // 같은 세션의 다음 전송 작업이 이미 다른 스레드에서 시작됐으면 그 등록은 남겨 둡니다.
+            drainingSessions.remove(session, Thread.currentThread());
+        }
+    }
+
+    /**
+     * 전송 중인 세션 중 느린 세션의 연결을 종료합니다. 감시 스레드에서 실행됩니다.
+     * 전송이 막혀 전송 스레드가 돌아오지 않아도, 새 메시지가 오지 않아도 느린 세션을 찾아냅니다.
+     */
+    private void checkDrainingSessions() {
+        try {
+            long now = System.currentTimeMillis();
+            for (MyConcurrentWebSocketSession session : drainingSessions.keySet()) {
+                if (!session.isEvicted() && this.isSlow(session, now)) {
+                    this.evict(session);
+                }
+            }
+        } catch (RuntimeException e) {
+            // 예외로 주기 작업이 멈추지 않도록 기록만 합니다.
+            log.warn("Failed to check the websocket sessions.", e);
+        }
+    }
+
+    /**
+     * 느린 클라이언트의 연결을 종료합니다. 연결이 종료되면 전송 중인 작업도 실패하고 끝납니다.
+     * 종료 프레임 전송이 막힌 소켓에서 기다릴 수 있으므로 호출 스레드가 아닌 종료 스레드 풀에서 종료합니다.
+     * 종료 작업이 너무 많이 밀려 있으면 종료하지 않고, 송신 큐만 비운 채 더 이상 메시지를 보내지 않습니다.
+     */
+    private void evict(MyConcurrentWebSocketSession session) {
+        if (!session.markEvicted()) {
+            return;
+        }
+        session.clearOutbound();
+        evictedCount.incrementAndGet();
+        log.warn("Closing the slow websocket session. ID: {}", session.getId());
+        try {
+            closeExecutor.execute(() -> {
+                try {
+                    session.close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (IOException | RuntimeException e) {
+                    log.debug("Failed to close the slow websocket session. ID: {}", session.getId(), e);
+                    this.unregister(session);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("Too many slow websocket sessions are closing. Skip closing the session. ID: {}", session.getId());
+            this.unregister(session);
+        }
+    }
+
+    /**
+     * 종료하지 못한 세션을 전송 대상 인덱스에서 제거합니다.
+     * 연결 종료 콜백이 오지 않더라도 이후 전송 대상 조회에 포함되지 않습니다.
+     */
+    private void unregister(MyConcurrentWebSocketSession session) {
+        Principal principal = session.getPrincipal();
+        if (Objects.isNull(principal) || !StringUtils.hasText(principal.getName())) {
+            return;
+        }
+        try {
+            webSocketManageService.remove(principal.getName(), session.getId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to remove the slow websocket session. ID: {}", session.getId(), e);
+        }
+    }
+}
@@ -8,6 +8,9 @@ import com.dji.sample.manage.model.entity.DeviceFirmwareEntity;
 import org.apache.ibatis.annotations.Param;
 import org.apache.ibatis.annotations.Select;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 디바이스 펌웨어 데이터 접근 객체 (DAO) 인터페이스
  * 
@@ -96,4 +99,32 @@ public interface IDeviceFirmwareMapper extends BaseMapper<DeviceFirmwareEntity>
      */
     @Select(sql + " limit 1 </script>")
     DeviceFirmwareEntity selectOne(@Param(Constants.WRAPPER)Wrapper<DeviceFirmwareEntity> wrapper, @Param("device_name") String deviceName);
+
+    /**
+     * 여러 디바이스 모델의 활성 펌웨어를 조회합니다.
+     * 
+     * 펌웨어가 여러 모델을 지원하면 모델마다 한 행씩 조회되며, device_name에는 해당 모델명 하나만 담깁니다.
+     * 릴리즈 날짜와 펌웨어 버전의 내림차순으로 정렬되므로 모델별 첫 번째 행이 최신 펌웨어입니다.
+     * 
+     * @param deviceNames 디바이스 모델명 목록
+     * @return 펌웨어 정보 목록
+     */
+    @Select("<script> \n" +
+            "select \n" +
+            "  a.*, \n" +
+            "  b.device_name \n" +
+            "from \n" +
+            "  manage_device_firmware a \n" +
+            "  join manage_firmware_model b on a.firmware_id = b.firmware_id \n" +
+            "where \n" +
+            "  a.status = 1 \n" +
+            "  and b.device_name in \n" +
+            "  <foreach collection='device_names' item='name' open='(' separator=',' close=')'> \n" +
+            "    #{name} \n" +
+            "  </foreach> \n" +
+            "order by \n" +
+            "  a.release_date desc, \n" +
+            "  a.firmware_version desc \n" +
+            "</script>")
+    List<DeviceFirmwareEntity> selectReleasedByDeviceNames(@Param("device_names") Collection<String> deviceNames);
 }
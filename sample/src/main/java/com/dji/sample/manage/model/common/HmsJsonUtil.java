@@ -1,5 +1,6 @@
 package com.dji.sample.manage.model.common;
 
+import com.dji.sdk.cloudapi.hms.HmsMessageLanguageEnum;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +11,11 @@ import org.springframework.stereotype.Component;
 import javax.annotation.PostConstruct;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * HMS(Health Management System) JSON 유틸리티 클래스
@@ -41,6 +47,9 @@ import java.io.InputStream;
  * 키-값 형태로 관리하며, 디바이스의 건강 상태 메시지를
  * 다국어로 제공하는 기능을 담당합니다.
  * 
+ * 시작 시 모든 메시지를 언어별 HmsTemplate으로 미리 분해해 두므로,
+ * 조회할 때는 JSON 변환이나 정규표현식 처리 없이 맵 조회만 수행합니다.
+ * 
  * @author sean
  * @version 1.1
  * @date 2022/7/7
@@ -66,10 +75,10 @@ public class HmsJsonUtil {
     }
 
     /**
-     * hms.json 파일에서 로드된 JSON 노드 구조
-     * 애플리케이션 시작 시 초기화되어 메모리에 캐싱됨
+     * 언어별 HMS 키와 템플릿
      */
-    private static JsonNode nodes;
+    private static Map<HmsMessageLanguageEnum, Map<String, HmsTemplate>> templates =
+            new EnumMap<>(HmsMessageLanguageEnum.class);
 
     /**
      * 기본 생성자
@@ -84,14 +93,31 @@ public class HmsJsonUtil {
      * 
      * 이 메서드는 다음과 같은 작업을 수행합니다:
      * - 클래스패스에서 hms.json 파일을 찾아 로드
-     * - JSON 파일을 파싱하여 JsonNode 구조로 변환
-     * - 파싱된 데이터를 정적 필드에 캐싱
+     * - JSON 파일을 파싱하여 메시지마다 언어별 HmsTemplate으로 분해
+     * - 분해된 템플릿을 정적 필드에 캐싱
      * - 로드 실패 시 에러 로깅 및 예외 처리
      */
     @PostConstruct
     private void loadJsonFile() {
         try (InputStream inputStream = new ClassPathResource("hms.json").getInputStream()){
-            nodes = mapper.readTree(inputStream);
+            JsonNode nodes = mapper.readTree(inputStream);
+            Map<String, HmsTemplate> zh = new HashMap<>(nodes.size() * 4 / 3 + 1);
+            Map<String, HmsTemplate> en = new HashMap<>(nodes.size() * 4 / 3 + 1);
+            nodes.fields().forEachRemaining(entry -> {
+                JsonNode zhText = entry.getValue().get(HmsMessageLanguageEnum.ZH.getLanguage());
+                if (Objects.nonNull(zhText) && zhText.isTextual()) {
+                    zh.put(entry.getKey(), HmsTemplate.compile(zhText.asText()));
+                }
+                JsonNode enText = entry.getValue().get(HmsMessageLanguageEnum.EN.getLanguage());
+                if (Objects.nonNull(enText) && enText.isTextual()) {
+                    en.put(entry.getKey(), HmsTemplate.compile(enText.asText()));
+                }
+            });
+            Map<HmsMessageLanguageEnum, Map<String, HmsTemplate>> compiled = new EnumMap<>(HmsMessageLanguageEnum.class);
+            compiled.put(HmsMessageLanguageEnum.ZH, zh);
+            compiled.put(HmsMessageLanguageEnum.EN, en);
+            templates = compiled;
+            log.info("{} hms messages loaded.", nodes.size());
         } catch (IOException e) {
             log.error("hms.json failed to load.");
             e.printStackTrace();
@@ -100,19 +126,31 @@ public class HmsJsonUtil {
 
     /**
      * 지정된 키에 해당하는 HMS 메시지를 조회합니다.
-     * 
+     *
      * 이 메서드는 다음과 같은 기능을 제공합니다:
      * - 키에 해당하는 HMS 메시지 조회
      * - 메시지가 없을 경우 빈 HmsMessage 객체 반환
-     * - JSON 노드를 HmsMessage 객체로 변환
-     * 
+     *
      * @param key 조회할 HMS 메시지의 키
      * @return 해당 키의 HMS 메시지 (없을 경우 빈 객체)
      */
     public static HmsMessage get(String key) {
-        if (nodes.get(key) == null) {
-            return new HmsMessage();
-        }
-        return mapper.convertValue(nodes.get(key), HmsMessage.class);
+        HmsMessage message = new HmsMessage();
+        HmsTemplate zh = getTemplate(key, HmsMessageLanguageEnum.ZH);
+        HmsTemplate en = getTemplate(key, HmsMessageLanguageEnum.EN);
+        message.setZh(Objects.nonNull(zh) ? zh.getText() : null);
+        message.setEn(Objects.nonNull(en) ? en.getText() : null);
+        return message;
+    }
+
+    /**
+     * HMS 키의 언어별 템플릿을 조회합니다.
+     *
+     * @param key HMS 키
+     * @param language 언어
+     * @return 템플릿. 없으면 null
+     */
+    public static HmsTemplate getTemplate(String key, HmsMessageLanguageEnum language) {
+        return templates.getOrDefault(language, Collections.emptyMap()).get(key);
     }
 }
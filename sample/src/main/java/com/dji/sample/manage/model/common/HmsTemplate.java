@@ -0,0 +1,115 @@
+package com.dji.sample.manage.model.common;
+
+import com.dji.sdk.cloudapi.hms.HmsFormatKeyEnum;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 미리 분해된 HMS 메시지 템플릿
+ *
+ * HMS 메시지 문자열을 고정 문자열과 자리 표시자(HmsFormatKeyEnum)로 한 번만 분해해 두고,
+ * 메시지를 만들 때는 자리 표시자 순번으로 값을 채워 넣기만 합니다.
+ *
+ * 기존 포맷 규칙을 그대로 따릅니다.
+ * - 공백만으로 이루어진 고정 문자열은 출력하지 않습니다.
+ * - 자리 표시자의 값은 render()에 넘긴 배열에서 HmsFormatKeyEnum.ordinal() 위치의 값을 사용합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public final class HmsTemplate {
+
+    /**
+     * HMS 메시지 키 패턴
+     */
+    private static final Pattern PATTERN_KEY = Pattern.compile(
+                    "(" +
+                    Arrays.stream(HmsFormatKeyEnum.values())
+                            .map(HmsFormatKeyEnum::getKey)
+                            .collect(Collectors.joining("|")) +
+                    ")");
+
+    private final String text;
+
+    /**
+     * 고정 문자열. 자리 표시자 위치는 null
+     */
+    private final String[] literals;
+
+    /**
+     * 자리 표시자의 HmsFormatKeyEnum 순번. 고정 문자열 위치는 -1
+     */
+    private final int[] slots;
+
+    private HmsTemplate(String text, String[] literals, int[] slots) {
+        this.text = text;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * 메시지 문자열을 템플릿으로 분해합니다.
+     *
+     * @param text 메시지 문자열
+     * @return 템플릿
+     */
+    public static HmsTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        Matcher matcher = PATTERN_KEY.matcher(text);
+        int i = 0;
+        while (i < text.length()) {
+            if (!matcher.find(i)) {
+                addLiteral(literals, slots, text.substring(i));
+                break;
+            }
+            if (matcher.start() != i) {
+                addLiteral(literals, slots, text.substring(i, matcher.start()));
+            }
+            literals.add(null);
+            slots.add(HmsFormatKeyEnum.find(matcher.group()).ordinal());
+            i = matcher.end();
+        }
+        return new HmsTemplate(text, literals.toArray(String[]::new), slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static void addLiteral(List<String> literals, List<Integer> slots, String literal) {
+        if (!StringUtils.hasText(literal)) {
+            return;
+        }
+        literals.add(literal);
+        slots.add(-1);
+    }
+
+    /**
+     * 자리 표시자에 값을 채운 메시지를 만듭니다.
+     *
+     * @param args HmsFormatKeyEnum.ordinal() 위치별 값
+     * @return 메시지
+     */
+    public String render(String[] args) {
+        if (slots.length == 1 && slots[0] < 0) {
+            return literals[0];
+        }
+        StringBuilder sb = new StringBuilder(text.length() + 16);
+        for (int i = 0; i < slots.length; i++) {
+            sb.append(slots[i] < 0 ? literals[i] : args[slots[i]]);
+        }
+        return sb.toString();
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public boolean hasText() {
+        return StringUtils.hasText(text);
+    }
+}
@@ -9,7 +9,9 @@ import com.dji.sdk.cloudapi.firmware.OtaCreateDevice;
 import com.dji.sdk.common.PaginationData;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -71,6 +73,16 @@ public interface IDeviceFirmwareService {
      */
     Optional<DeviceFirmwareNoteDTO> getLatestFirmwareReleaseNote(String deviceName);
 
+    /**
+     * 여러 디바이스 모델의 최신 펌웨어 릴리즈 노트 조회
+     * 
+     * 한 번의 쿼리로 조회합니다.
+     * 
+     * @param deviceNames 디바이스 모델명 목록
+     * @return 디바이스 모델명별 최신 펌웨어 릴리즈 노트. 펌웨어가 없는 모델은 포함하지 않습니다.
+     */
+    Map<String, DeviceFirmwareNoteDTO> getLatestFirmwareReleaseNotes(Collection<String> deviceNames);
+
     /**
      * 디바이스 업그레이드용 펌웨어 정보 조회
      * 
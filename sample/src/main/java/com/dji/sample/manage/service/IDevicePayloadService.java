@@ -7,6 +7,7 @@ import com.dji.sdk.cloudapi.device.PayloadFirmwareVersion;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 디바이스 페이로드 관리 서비스 인터페이스
@@ -86,6 +87,16 @@ public interface IDevicePayloadService {
      */
     List<DevicePayloadDTO> getDevicePayloadEntitiesByDeviceSn(String deviceSn);
 
+    /**
+     * 여러 디바이스의 페이로드 목록 조회
+     * 
+     * 한 번의 쿼리로 조회합니다.
+     * 
+     * @param deviceSns 디바이스 시리얼 번호 목록
+     * @return 디바이스 시리얼 번호별 페이로드 목록. 페이로드가 없는 디바이스는 포함하지 않습니다.
+     */
+    Map<String, List<DevicePayloadDTO>> getDevicePayloadEntitiesByDeviceSns(Collection<String> deviceSns);
+
     /**
      * 디바이스별 페이로드 데이터 삭제
      * 
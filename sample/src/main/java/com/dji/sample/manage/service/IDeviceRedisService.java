@@ -4,6 +4,9 @@ import com.dji.sample.component.mqtt.model.EventsReceiver;
 import com.dji.sample.manage.model.dto.DeviceDTO;
 import com.dji.sdk.cloudapi.firmware.OtaProgress;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -57,6 +60,16 @@ public interface IDeviceRedisService {
      */
     Boolean checkDeviceOnline(String sn);
 
+    /**
+     * 여러 디바이스의 온라인 상태 확인
+     * 
+     * 로컬 캐시에 없는 디바이스만 Redis에 한 번의 파이프라인으로 확인합니다.
+     * 
+     * @param sns 디바이스 시리얼 번호 목록
+     * @return 온라인 디바이스 시리얼 번호 세트
+     */
+    Set<String> checkDevicesOnline(Collection<String> sns);
+
     /**
      * Redis에서 디바이스 기본 정보 조회
      * 
@@ -140,6 +153,14 @@ public interface IDeviceRedisService {
      */
     Optional<EventsReceiver<OtaProgress>> getFirmwareUpgradingProgress(String sn);
 
+    /**
+     * 여러 디바이스의 펌웨어 업그레이드 진행 상황 조회
+     * 
+     * @param sns 디바이스 시리얼 번호 목록
+     * @return 디바이스 시리얼 번호별 진행 상황. 업그레이드 중이 아닌 디바이스는 포함하지 않습니다.
+     */
+    Map<String, EventsReceiver<OtaProgress>> getFirmwareUpgradingProgress(Collection<String> sns);
+
     /**
      * 디바이스 펌웨어 업그레이드 진행 상황 삭제
      * 
@@ -201,4 +222,34 @@ public interface IDeviceRedisService {
      * @param deviceSn 서브 디바이스 시리얼 번호
      */
     void subDeviceOffline(String deviceSn);
+
+    /**
+     * 오프라인 판정 시각이 지난 디바이스 조회
+     * 
+     * 온라인 디바이스 인덱스에서 오프라인 판정 시각이 지난 디바이스를 꺼냅니다.
+     * 꺼낸 디바이스는 인덱스에서 삭제되므로 여러 서버 인스턴스 중 한 곳에서만 반환됩니다.
+     * 
+     * @param limit 최대 개수
+     * @return 디바이스 시리얼 번호 목록
+     */
+    List<String> pollOfflineDevices(int limit);
+
+    /**
+     * 온라인 디바이스 시리얼 번호 조회
+     * 
+     * KEYS 명령 없이 온라인 디바이스 인덱스에서 조회합니다.
+     * 
+     * @return 디바이스 시리얼 번호 세트
+     */
+    Set<String> getOnlineDeviceSns();
+
+    /**
+     * 온라인 디바이스 인덱스 보충
+     * 
+     * 인덱스에 없는 온라인 디바이스 키를 SCAN으로 찾아, 남은 생존 시간으로 계산한 오프라인 판정 시각과 함께 인덱스에 추가합니다.
+     * 인덱스가 생기기 전에 저장된 온라인 정보도 바로 오프라인 처리 대상이 되도록 애플리케이션 시작 시 호출합니다.
+     * 
+     * @return 인덱스에 새로 추가된 디바이스 수
+     */
+    int backfillOnlineIndex();
 }
@@ -3,6 +3,8 @@ package com.dji.sample.manage.service;
 
 import com.dji.sample.manage.model.dto.WorkspaceDTO;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -42,6 +44,16 @@ public interface IWorkspaceService {
      */
     Optional<WorkspaceDTO> getWorkspaceByWorkspaceId(String workspaceId);
 
+    /**
+     * 여러 워크스페이스 ID로 워크스페이스 정보 조회
+     * 
+     * 한 번의 쿼리로 조회합니다.
+     * 
+     * @param workspaceIds 워크스페이스 ID 목록
+     * @return 워크스페이스 ID별 워크스페이스 정보
+     */
+    Map<String, WorkspaceDTO> getWorkspacesByWorkspaceIds(Collection<String> workspaceIds);
+
     /**
      * 바인딩 코드로 워크스페이스 정보 조회
      * 
@@ -39,22 +39,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.stereotype.Service;
-import org.springframework.util.DigestUtils;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.net.URL;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 /**
  * 디바이스 펌웨어 관리 서비스 구현체
@@ -185,6 +181,25 @@ public class DeviceFirmwareServiceImpl extends AbstractFirmwareService implement
                 deviceName)));
     }
 
+    /**
+     * 여러 디바이스 모델의 최신 펌웨어 릴리즈 노트를 조회합니다.
+     * 모델별로 릴리즈 날짜와 버전이 가장 큰 활성 펌웨어를 선택합니다.
+     * 
+     * @param deviceNames 디바이스 모델명 목록
+     * @return 디바이스 모델명별 최신 펌웨어 릴리즈 노트
+     */
+    @Override
+    public Map<String, DeviceFirmwareNoteDTO> getLatestFirmwareReleaseNotes(Collection<String> deviceNames) {
+        Map<String, DeviceFirmwareNoteDTO> notes = new HashMap<>();
+        if (CollectionUtils.isEmpty(deviceNames)) {
+            return notes;
+        }
+        // 최신 펌웨어부터 정렬되어 있으므로 모델별 첫 번째 행이 최신 펌웨어
+        mapper.selectReleasedByDeviceNames(new HashSet<>(deviceNames))
+                .forEach(entity -> notes.putIfAbsent(entity.getDeviceName(), entity2NoteDto(entity)));
+        return notes;
+    }
+
     /**
      * 디바이스 OTA 펌웨어 정보를 생성합니다.
      * 
@@ -196,7 +211,7 @@ public class DeviceFirmwareServiceImpl extends AbstractFirmwareService implement
      */
     @Override
     public List<OtaCreateDevice> getDeviceOtaFirmware(String workspaceId, List<DeviceFirmwareUpgradeDTO> upgradeDTOS) {
-        List<OtaCreateDevice> deviceOtaList = new ArrayList<>();
+        List<DeviceFirmwareDTO> firmwares = new ArrayList<>(upgradeDTOS.size());
         upgradeDTOS.forEach(upgradeDevice -> {
             // 디바이스 온라인 상태 확인
             boolean exist = deviceRedisService.checkDeviceOnline(upgradeDevice.getSn());
@@ -209,12 +224,23 @@ public class DeviceFirmwareServiceImpl extends AbstractFirmwareService implement
             if (firmwareOpt.isEmpty()) {
                 throw new IllegalArgumentException("This firmware version does not exist or is not available.");
             }
-            // OTA 디바이스 정보 구성
-            OtaCreateDevice ota = dto2OtaCreateDto(firmwareOpt.get());
+            firmwares.add(firmwareOpt.get());
+        });
+
+        // 펌웨어 다운로드 URL을 한 번에 서명
+        Map<String, URL> urls = ossServiceContext.getObjectUrls(OssConfiguration.bucket,
+                firmwares.stream().map(DeviceFirmwareDTO::getObjectKey).collect(Collectors.toList()));
+
+        // OTA 디바이스 정보 구성
+        List<OtaCreateDevice> deviceOtaList = new ArrayList<>();
+        for (int i = 0; i < upgradeDTOS.size(); i++) {
+            DeviceFirmwareUpgradeDTO upgradeDevice = upgradeDTOS.get(i);
+            DeviceFirmwareDTO firmware = firmwares.get(i);
+            OtaCreateDevice ota = dto2OtaCreateDto(firmware, urls.get(firmware.getObjectKey()));
             ota.setSn(upgradeDevice.getSn());
             ota.setFirmwareUpgradeType(FirmwareUpgradeTypeEnum.find(upgradeDevice.getFirmwareUpgradeType()));
             deviceOtaList.add(ota);
-        });
+        }
         return deviceOtaList;
     }
 
@@ -326,7 +352,9 @@ public class DeviceFirmwareServiceImpl extends AbstractFirmwareService implement
     /**
      * 펌웨어 파일을 업로드하고 정보를 저장합니다.
      * 
-     * 파일을 검증하고 OSS에 업로드한 후 데이터베이스에 정보를 저장합니다.
+     * 파일을 한 번만 읽으면서 검증, MD5 및 크기 계산, OSS 멀티파트 업로드를 함께 수행한 후
+     * 데이터베이스에 정보를 저장합니다.
+     * 파일 형식이 올바르지 않으면 업로드를 중단하고, 이미 등록된 파일이면 업로드한 객체를 삭제합니다.
      * 
      * @param workspaceId 워크스페이스 ID
      * @param creator 생성자
@@ -341,28 +369,32 @@ public class DeviceFirmwareServiceImpl extends AbstractFirmwareService implement
             throw new RuntimeException("Please try again later.");
         }
         RedisOpsUtils.setWithExpire(existKey, true, RedisConst.DEVICE_ALIVE_SECOND);
-        try (InputStream is = file.getInputStream()) {
-            long size = is.available();
-            String md5 = DigestUtils.md5DigestAsHex(is);
+        try (FirmwareImportStream is = new FirmwareImportStream(file.getInputStream())) {
+            String firmwareId = UUID.randomUUID().toString();
+            String objectKey = OssConfiguration.objectDirPrefix + File.separator + firmwareId + FirmwareFileProperties.FIRMWARE_FILE_SUFFIX;
+
+            // 펌웨어 파일을 검증하면서 OSS에 업로드
+            try {
+                ossServiceContext.putObjectMultipart(OssConfiguration.bucket, objectKey, is);
+            } catch (RuntimeException e) {
+                if (is.isInvalid()) {
+                    throw new RuntimeException("The file format is incorrect.");
+                }
+                throw e;
+            }
+            log.info("upload success. {}", file.getOriginalFilename());
+
+            String md5 = is.getMd5Hex();
             key += md5;
             boolean exist = checkFileExist(workspaceId, md5);
             if (exist) {
+                ossServiceContext.deleteObject(OssConfiguration.bucket, objectKey);
                 throw new RuntimeException("The file already exists.");
             }
             RedisOpsUtils.set(key, System.currentTimeMillis());
-            // 펌웨어 파일 검증
-            Optional<DeviceFirmwareDTO> firmwareOpt = verifyFirmwareFile(file);
-            if (firmwareOpt.isEmpty()) {
-                throw new RuntimeException("The file format is incorrect.");
-            }
-
-            String firmwareId = UUID.randomUUID().toString();
-            String objectKey = OssConfiguration.objectDirPrefix + File.separator + firmwareId + FirmwareFileProperties.FIRMWARE_FILE_SUFFIX;
+            DeviceFirmwareDTO firmwareInfo = is.getFirmware()
+                    .orElseThrow(() -> new RuntimeException("The file format is incorrect."));
 
-            // OSS에 파일 업로드
-            ossServiceContext.putObject(OssConfiguration.bucket, objectKey, file.getInputStream());
-            log.info("upload success. {}", file.getOriginalFilename());
-            
             // 펌웨어 정보 구성
             DeviceFirmwareDTO firmware = DeviceFirmwareDTO.builder()
                     .releaseNote(param.getReleaseNote())
@@ -372,9 +404,9 @@ public class DeviceFirmwareServiceImpl extends AbstractFirmwareService implement
                     .fileName(file.getOriginalFilename())
                     .workspaceId(workspaceId)
                     .username(creator)
-                    .fileSize(size)
-                    .productVersion(firmwareOpt.get().getProductVersion())
-                    .releasedTime(firmwareOpt.get().getReleasedTime())
+                    .fileSize(is.getSize())
+                    .productVersion(firmwareInfo.getProductVersion())
+                    .releasedTime(firmwareInfo.getReleasedTime())
                     .firmwareId(firmwareId)
                     .build();
 
@@ -412,43 +444,6 @@ public class DeviceFirmwareServiceImpl extends AbstractFirmwareService implement
                         .eq(DeviceFirmwareEntity::getFirmwareId, firmware.getFirmwareId()));
     }
 
-    /**
-     * 펌웨어 파일 정보를 파싱합니다.
-     * 
-     * ZIP 파일 내의 설정 파일을 읽어서 펌웨어 버전과 릴리즈 날짜를 추출합니다.
-     * 
-     * @param file 펌웨어 파일
-     * @return 펌웨어 정보 (Optional)
-     */
-    private Optional<DeviceFirmwareDTO> verifyFirmwareFile(MultipartFile file) {
-        try (ZipInputStream unzipFile = new ZipInputStream(file.getInputStream(), StandardCharsets.UTF_8)) {
-            ZipEntry nextEntry = unzipFile.getNextEntry();
-            while (Objects.nonNull(nextEntry)) {
-                String configName = nextEntry.getName();
-                if (!configName.contains(File.separator) && configName.endsWith(FirmwareFileProperties.FIRMWARE_CONFIG_FILE_SUFFIX + FirmwareFileProperties.FIRMWARE_SIG_FILE_SUFFIX)) {
-                    String[] filenameArr = configName.split(FirmwareFileProperties.FIRMWARE_FILE_DELIMITER);
-                    String date = filenameArr[FirmwareFileProperties.FILENAME_RELEASE_DATE_INDEX];
-                    int index = date.indexOf(".");
-                    if (index != -1) {
-                        date = date.substring(0, index);
-                    }
-                    return Optional.of(DeviceFirmwareDTO.builder()
-                            .releasedTime(LocalDate.parse(
-                                    date,
-                                    DateTimeFormatter.ofPattern(FirmwareFileProperties.FILENAME_RELEASE_DATE_FORMAT)))
-                            // 문자열 v를 제거
-                            .productVersion(filenameArr[FirmwareFileProperties.FILENAME_VERSION_INDEX].substring(1))
-                            .build());
-                }
-                nextEntry = unzipFile.getNextEntry();
-            }
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return Optional.empty();
-    }
-
     /**
      * 펌웨어 DTO를 엔티티로 변환합니다.
      * 
@@ -523,15 +518,16 @@ public class DeviceFirmwareServiceImpl extends AbstractFirmwareService implement
      * 펌웨어 DTO를 OTA 생성 DTO로 변환합니다.
      * 
      * @param dto 펌웨어 DTO
+     * @param fileUrl 펌웨어 다운로드 URL
      * @return OTA 생성 DTO
      */
-    private OtaCreateDevice dto2OtaCreateDto(DeviceFirmwareDTO dto) {
+    private OtaCreateDevice dto2OtaCreateDto(DeviceFirmwareDTO dto, URL fileUrl) {
         if (dto == null) {
             return null;
         }
         return new OtaCreateDevice()
                 .setFileSize(dto.getFileSize())
-                .setFileUrl(ossServiceContext.getObjectUrl(OssConfiguration.bucket, dto.getObjectKey()).toString())
+                .setFileUrl(fileUrl.toString())
                 .setFileName(dto.getFileName())
                 .setMd5(dto.getFileMd5())
                 .setProductVersion(dto.getProductVersion());
@@ -7,7 +7,7 @@ import com.dji.sample.component.websocket.model.BizCodeEnum;
 import com.dji.sample.component.websocket.service.IWebSocketMessageService;
 import com.dji.sample.manage.dao.IDeviceHmsMapper;
 import com.dji.sample.manage.model.common.HmsJsonUtil;
-import com.dji.sample.manage.model.common.HmsMessage;
+import com.dji.sample.manage.model.common.HmsTemplate;
 import com.dji.sample.manage.model.dto.DeviceDTO;
 import com.dji.sample.manage.model.dto.DeviceHmsDTO;
 import com.dji.sample.manage.model.dto.TelemetryDTO;
@@ -34,8 +34,6 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -122,15 +120,9 @@ public class DeviceHmsServiceImpl extends AbstractHmsService implements IDeviceH
     private IDeviceRedisService deviceRedisService;
 
     /**
-     * HMS 메시지 키 패턴
-     * HMS 메시지에서 키를 추출하기 위한 정규표현식 패턴
+     * HMS 메시지 자리 표시자 목록
      */
-    private static final Pattern PATTERN_KEY = Pattern.compile(
-                    "(" +
-                    Arrays.stream(HmsFormatKeyEnum.values())
-                            .map(HmsFormatKeyEnum::getKey)
-                            .collect(Collectors.joining("|")) +
-                    ")");
+    private static final HmsFormatKeyEnum[] FORMAT_KEYS = HmsFormatKeyEnum.values();
 
     /**
      * HMS 메시지를 처리합니다.
@@ -286,28 +278,35 @@ public class DeviceHmsServiceImpl extends AbstractHmsService implements IDeviceH
      * @param args HMS 인자
      */
     private void fillMessage(DeviceHmsEntity dto, DeviceHmsArgs args) {
-        HmsMessage hmsMessage = HmsJsonUtil.get(dto.getHmsKey());
-        String zh = StringUtils.hasText(hmsMessage.getZh()) ? hmsMessage.getZh() : String.format("未知错误（%s）", dto.getHmsKey());
-        String en = StringUtils.hasText(hmsMessage.getEn()) ? hmsMessage.getEn() : String.format("Unknown(%s)", dto.getHmsKey());//
+        HmsTemplate zh = Optional.ofNullable(HmsJsonUtil.getTemplate(dto.getHmsKey(), HmsMessageLanguageEnum.ZH))
+                .filter(HmsTemplate::hasText)
+                .orElseGet(() -> HmsTemplate.compile(String.format("未知错误（%s）", dto.getHmsKey())));
+        HmsTemplate en = Optional.ofNullable(HmsJsonUtil.getTemplate(dto.getHmsKey(), HmsMessageLanguageEnum.EN))
+                .filter(HmsTemplate::hasText)
+                .orElseGet(() -> HmsTemplate.compile(String.format("Unknown(%s)", dto.getHmsKey())));
 
-        dto.setMessageZh(format(Locale.CHINESE.getLanguage(), zh, args));
-        dto.setMessageEn(format(Locale.ENGLISH.getLanguage(), en, args));
+        dto.setMessageZh(zh.render(fillKeyArgs(Locale.CHINESE.getLanguage(), args)));
+        dto.setMessageEn(en.render(fillKeyArgs(Locale.ENGLISH.getLanguage(), args)));
     }
 
     /**
      * 키에 대한 매칭 파라미터를 설정합니다.
+     * 값을 정하지 않은 자리 표시자는 자리 표시자 문자열을 그대로 출력합니다.
      * 
      * @param l 언어: zh 또는 en
      * @param hmsArgs HMS 인자
-     * @return 키 인자 맵
+     * @return HmsFormatKeyEnum.ordinal() 위치별 값
      */
-    private Map<String, String> fillKeyArgs(String l, DeviceHmsArgs hmsArgs) {
-        Map<String, String> args = new HashMap<>();
-        args.put(HmsFormatKeyEnum.ALARM_ID.getKey(), Objects.nonNull(hmsArgs.getAlarmId()) ? Long.toHexString(hmsArgs.getAlarmId()) : null);
-        args.put(HmsFormatKeyEnum.COMPONENT_INDEX.getKey(),
+    private String[] fillKeyArgs(String l, DeviceHmsArgs hmsArgs) {
+        String[] args = new String[FORMAT_KEYS.length];
+        for (HmsFormatKeyEnum key : FORMAT_KEYS) {
+            args[key.ordinal()] = key.getKey();
+        }
+        putArg(args, HmsFormatKeyEnum.ALARM_ID, Objects.nonNull(hmsArgs.getAlarmId()) ? Long.toHexString(hmsArgs.getAlarmId()) : null);
+        putArg(args, HmsFormatKeyEnum.COMPONENT_INDEX,
                 Objects.nonNull(hmsArgs.getComponentIndex()) ? String.valueOf(hmsArgs.getComponentIndex() + 1) : null);
         if (Objects.nonNull(hmsArgs.getSensorIndex())) {
-            args.put(HmsFormatKeyEnum.INDEX.getKey(), String.valueOf(hmsArgs.getSensorIndex() + 1));
+            putArg(args, HmsFormatKeyEnum.INDEX, String.valueOf(hmsArgs.getSensorIndex() + 1));
 
             HmsBatteryIndexEnum hmsBatteryIndexEnum = Optional.ofNullable(hmsArgs.getSensorIndex())
                     .filter(arg -> arg <= 1).map(HmsBatteryIndexEnum::find).orElse(null);
@@ -318,19 +317,19 @@ public class DeviceHmsServiceImpl extends AbstractHmsService implements IDeviceH
 
             switch (l) {
                 case "zh":
-                    args.put(HmsFormatKeyEnum.BATTERY_INDEX.getKey(), Optional.ofNullable(hmsBatteryIndexEnum)
+                    putArg(args, HmsFormatKeyEnum.BATTERY_INDEX, Optional.ofNullable(hmsBatteryIndexEnum)
                             .map(HmsBatteryIndexEnum::getZh).orElse(null));
-                    args.put(HmsFormatKeyEnum.DOCK_COVER_INDEX.getKey(), Optional.ofNullable(hmsDockCoverIndexEnum)
+                    putArg(args, HmsFormatKeyEnum.DOCK_COVER_INDEX, Optional.ofNullable(hmsDockCoverIndexEnum)
                             .map(HmsDockCoverIndexEnum::getZh).orElse(null));
-                    args.put(HmsFormatKeyEnum.CHARGING_ROD_INDEX.getKey(), Optional.ofNullable(hmsChargingRodIndexEnum)
+                    putArg(args, HmsFormatKeyEnum.CHARGING_ROD_INDEX, Optional.ofNullable(hmsChargingRodIndexEnum)
                             .map(HmsChargingRodIndexEnum::getZh).orElse(null));
                     break;
                 case "en":
-                    args.put(HmsFormatKeyEnum.BATTERY_INDEX.getKey(), Optional.ofNullable(hmsBatteryIndexEnum)
+                    putArg(args, HmsFormatKeyEnum.BATTERY_INDEX, Optional.ofNullable(hmsBatteryIndexEnum)
                             .map(HmsBatteryIndexEnum::getEn).orElse(null));
-                    args.put(HmsFormatKeyEnum.DOCK_COVER_INDEX.getKey(), Optional.ofNullable(hmsDockCoverIndexEnum)
+                    putArg(args, HmsFormatKeyEnum.DOCK_COVER_INDEX, Optional.ofNullable(hmsDockCoverIndexEnum)
                             .map(HmsDockCoverIndexEnum::getEn).orElse(null));
-                    args.put(HmsFormatKeyEnum.CHARGING_ROD_INDEX.getKey(), Optional.ofNullable(hmsChargingRodIndexEnum)
+                    putArg(args, HmsFormatKeyEnum.CHARGING_ROD_INDEX, Optional.ofNullable(hmsChargingRodIndexEnum)
                             .map(HmsChargingRodIndexEnum::getEn).orElse(null));
                     break;
                 default:
@@ -342,47 +341,9 @@ public class DeviceHmsServiceImpl extends AbstractHmsService implements IDeviceH
     }
 
     /**
-     * 지정된 로케일, 포맷 문자열 및 인자를 사용하여 포맷된 문자열을 반환합니다.
-     * 
-     * @param l 언어: zh 또는 en
-     * @param format 포맷 문자열
-     * @param hmsArgs HMS 인자
-     * @return 포맷된 문자열
+     * 자리 표시자의 값을 설정합니다. 값이 null이면 기존과 같이 "null"을 출력합니다.
      */
-    private String format(String l, String format, DeviceHmsArgs hmsArgs) {
-        Map<String, String> args = fillKeyArgs(l, hmsArgs);
-        List<String> list = parse(format);
-        StringBuilder sb = new StringBuilder();
-        for (String word : list) {
-            if (!StringUtils.hasText(word)) {
-                continue;
-            }
-            sb.append(args.getOrDefault(word, word));
-        }
-        return sb.toString();
-    }
-
-    /**
-     * 포맷 문자열에서 포맷 지정자를 찾습니다.
-     * 
-     * @param s 포맷 문자열
-     * @return 포맷 지정자 목록
-     */
-    private List<String> parse(String s) {
-        List<String> list = new ArrayList<>();
-        Matcher matcher = PATTERN_KEY.matcher(s);
-        for (int i = 0; i < s.length(); ) {
-            if (matcher.find(i)) {
-                if (matcher.start() != i) {
-                    list.add(s.substring(i, matcher.start()));
-                }
-                list.add(matcher.group());
-                i = matcher.end();
-            } else {
-                list.add(s.substring(i));
-                break;
-            }
-        }
-        return list;
+    private static void putArg(String[] args, HmsFormatKeyEnum key, String value) {
+        args[key.ordinal()] = String.valueOf(value);
     }
 }
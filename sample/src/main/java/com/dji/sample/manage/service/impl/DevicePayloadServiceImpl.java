@@ -190,6 +190,25 @@ public class DevicePayloadServiceImpl implements IDevicePayloadService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 여러 디바이스의 페이로드 목록을 조회합니다.
+     * 
+     * @param deviceSns 디바이스 시리얼 번호 목록
+     * @return 디바이스 시리얼 번호별 페이로드 목록
+     */
+    @Override
+    public Map<String, List<DevicePayloadDTO>> getDevicePayloadEntitiesByDeviceSns(Collection<String> deviceSns) {
+        if (CollectionUtils.isEmpty(deviceSns)) {
+            return new HashMap<>();
+        }
+        return mapper.selectList(
+                new LambdaQueryWrapper<DevicePayloadEntity>()
+                        .in(DevicePayloadEntity::getDeviceSn, new HashSet<>(deviceSns)))
+                .stream()
+                .collect(Collectors.groupingBy(DevicePayloadEntity::getDeviceSn,
+                        Collectors.mapping(this::payloadEntityConvertToDTO, Collectors.toList())));
+    }
+
     /**
      * 디바이스 시리얼 번호 목록으로 페이로드를 삭제합니다.
      * 
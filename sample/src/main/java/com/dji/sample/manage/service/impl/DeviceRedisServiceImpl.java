@@ -7,11 +7,29 @@ import com.dji.sample.manage.model.dto.DeviceDTO;
 import com.dji.sample.manage.service.ICapacityCameraService;
 import com.dji.sample.manage.service.IDeviceRedisService;
 import com.dji.sdk.cloudapi.firmware.OtaProgress;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +43,7 @@ import java.util.stream.Collectors;
  *    - 디바이스 상태 만료 시간 관리
  *    - 디바이스 상태 조회 및 업데이트
  *    - 디바이스 상태 삭제
+ *    - 온라인 디바이스 로컬 캐시(near-cache)와 인스턴스 간 무효화
  * 
  * 2. 디바이스 OSD 데이터 관리
  *    - 디바이스 OSD 데이터 캐싱
@@ -50,6 +69,12 @@ import java.util.stream.Collectors;
  *    - 관련 캐시 데이터 정리
  *    - 리소스 해제
  * 
+ * 온라인 정보를 쓸 때마다 온라인 디바이스 인덱스(ZSET)에 오프라인 판정 시각을 함께 기록하므로,
+ * KEYS 명령 없이 오프라인 디바이스와 온라인 디바이스 목록을 조회할 수 있습니다.
+ * 
+ * 오프라인 처리처럼 여러 키를 함께 지우는 작업은 한 번의 DEL로, 캐시 미스 시의 조회(GET, TTL)는
+ * 한 번의 파이프라인으로 보내 Redis 왕복 횟수를 줄입니다.
+ * 
  * 주요 의존성:
  * - RedisOpsUtils: Redis 작업 유틸리티
  * - RedisConst: Redis 상수 정의
@@ -57,6 +82,12 @@ import java.util.stream.Collectors;
  * - EventsReceiver: 이벤트 수신자
  * - DeviceDTO: 디바이스 DTO
  * 
+ * 온라인 디바이스 정보는 OSD마다 조회되고 갱신되므로 JVM 안에 크기가 제한된 로컬 캐시를 둡니다.
+ * 디바이스 정보가 바뀌거나 삭제되면 Redis 채널로 무효화 메시지를 발행해 다른 인스턴스의 로컬 캐시를 비웁니다.
+ * 정보가 그대로이면 Redis 키의 남은 생존 시간이 기준보다 짧아졌을 때만 만료 시간을 갱신합니다.
+ * 로컬 캐시 항목은 Redis 키의 만료 시각과 최대 보관 시간 중 빠른 시각까지만 사용하므로,
+ * 무효화 메시지를 놓치더라도 최대 보관 시간 안에 Redis의 값으로 돌아옵니다.
+ * 
  * 이 클래스는 DJI 디바이스의 Redis 캐시를
  * 효율적으로 관리하는 서비스입니다.
  * 
@@ -65,11 +96,50 @@ import java.util.stream.Collectors;
  * @date 2023/3/21
  */
 @Service
+@Slf4j
 public class DeviceRedisServiceImpl implements IDeviceRedisService {
 
+    /** 인덱스 보충 시 한 번의 SCAN과 파이프라인에서 다룰 키 개수 */
+    private static final int BACKFILL_BATCH = 1000;
+
     @Autowired
     private ICapacityCameraService capacityCameraService;
 
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    /** 로컬 캐시에 보관할 최대 디바이스 수 */
+    @Value("${device.online.near-cache.max-size: 10000}")
+    private int maxSize;
+
+    /** 로컬 캐시 항목의 최대 보관 시간 (초) */
+    @Value("${device.online.near-cache.max-age: 10}")
+    private long maxAge;
+
+    /** 정보가 그대로인 디바이스의 만료 시간 갱신 간격 (초) */
+    @Value("${device.online.near-cache.refresh-interval: 10}")
+    private long refreshInterval;
+
+    /** 이 인스턴스가 발행한 무효화 메시지를 구분하기 위한 ID */
+    private final String nodeId = UUID.randomUUID().toString().replace("-", "");
+
+    /** 디바이스 시리얼 번호별 온라인 디바이스 로컬 캐시 */
+    private final Map<String, OnlineEntry> onlineCache = new ConcurrentHashMap<>();
+
+    /**
+     * 다른 인스턴스에서 받은 무효화 메시지 수.
+     * Redis 조회 중에 무효화된 값을 로컬 캐시에 넣지 않기 위해 사용합니다.
+     */
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * 다른 인스턴스의 무효화 메시지를 구독합니다.
+     */
+    @PostConstruct
+    public void subscribeInvalidation() {
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(RedisConst.DEVICE_ONLINE_CHANNEL));
+    }
+
     /**
      * 디바이스 온라인 상태를 확인합니다.
      * 
@@ -78,29 +148,116 @@ public class DeviceRedisServiceImpl implements IDeviceRedisService {
      */
     @Override
     public Boolean checkDeviceOnline(String sn) {
-        String key = RedisConst.DEVICE_ONLINE_PREFIX + sn;
-        return RedisOpsUtils.checkExist(key) && RedisOpsUtils.getExpire(key) > 0;
+        OnlineEntry entry = onlineCache.get(sn);
+        if (Objects.nonNull(entry) && entry.isValid(System.currentTimeMillis())) {
+            return true;
+        }
+        // TTL은 키가 없으면 음수를 반환하므로 EXISTS 없이 한 번에 확인합니다.
+        return RedisOpsUtils.getExpire(RedisConst.DEVICE_ONLINE_PREFIX + sn) > 0;
+    }
+
+    @Override
+    public Set<String> checkDevicesOnline(Collection<String> sns) {
+        Set<String> online = new HashSet<>();
+        List<String> misses = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (String sn : new LinkedHashSet<>(sns)) {
+            OnlineEntry entry = onlineCache.get(sn);
+            if (Objects.nonNull(entry) && entry.isValid(now)) {
+                online.add(sn);
+            } else {
+                misses.add(sn);
+            }
+        }
+        if (misses.isEmpty()) {
+            return online;
+        }
+        List<Object> results = RedisOpsUtils.pipeline(operations -> misses.forEach(
+                sn -> operations.getExpire(RedisConst.DEVICE_ONLINE_PREFIX + sn, TimeUnit.SECONDS)));
+        for (int i = 0; i < misses.size(); i++) {
+            if (Objects.requireNonNullElse((Long) results.get(i), 0L) > 0) {
+                online.add(misses.get(i));
+            }
+        }
+        return online;
     }
 
     /**
      * 온라인 디바이스 정보를 조회합니다.
+     * 로컬 캐시에 유효한 항목이 있으면 Redis를 조회하지 않습니다.
+     * 호출자가 반환된 객체를 수정해도 캐시에 영향이 없도록 복사본을 반환합니다.
      * 
      * @param sn 디바이스 시리얼 번호
      * @return 디바이스 정보 (Optional)
      */
     @Override
     public Optional<DeviceDTO> getDeviceOnline(String sn) {
-        return Optional.ofNullable((DeviceDTO) RedisOpsUtils.get(RedisConst.DEVICE_ONLINE_PREFIX + sn));
+        long now = System.currentTimeMillis();
+        OnlineEntry entry = onlineCache.get(sn);
+        if (Objects.nonNull(entry) && entry.isValid(now)) {
+            return Optional.of(copy(entry.device));
+        }
+
+        long seen = invalidations.get();
+        String key = RedisConst.DEVICE_ONLINE_PREFIX + sn;
+        List<Object> results = RedisOpsUtils.pipeline(operations -> {
+            operations.opsForValue().get(key);
+            operations.getExpire(key, TimeUnit.SECONDS);
+        });
+        DeviceDTO device = (DeviceDTO) results.get(0);
+        if (Objects.isNull(device)) {
+            onlineCache.remove(sn);
+            return Optional.empty();
+        }
+        long expire = Objects.requireNonNullElse((Long) results.get(1), 0L);
+        if (expire > 0 && seen == invalidations.get()) {
+            this.cache(sn, new OnlineEntry(copy(device), now + TimeUnit.SECONDS.toMillis(expire),
+                    now + TimeUnit.SECONDS.toMillis(maxAge)));
+        }
+        return Optional.of(device);
     }
 
     /**
      * 디바이스를 온라인 상태로 설정합니다.
      * 
+     * 디바이스 정보가 로컬 캐시와 다르면 Redis에 저장하고 다른 인스턴스에 무효화 메시지를 보냅니다.
+     * 정보가 같으면 Redis 키의 남은 생존 시간이 갱신 기준보다 짧을 때만 만료 시간을 갱신하며,
+     * 로컬 캐시 항목이 최대 보관 시간을 넘었더라도 다시 저장하거나 무효화 메시지를 보내지 않습니다.
+     * 
      * @param device 디바이스 정보
      */
     @Override
     public void setDeviceOnline(DeviceDTO device) {
-        RedisOpsUtils.setWithExpire(RedisConst.DEVICE_ONLINE_PREFIX + device.getDeviceSn(), device, RedisConst.DEVICE_ALIVE_SECOND);
+        String sn = device.getDeviceSn();
+        String key = RedisConst.DEVICE_ONLINE_PREFIX + sn;
+        long now = System.currentTimeMillis();
+        long aliveMillis = TimeUnit.SECONDS.toMillis(RedisConst.DEVICE_ALIVE_SECOND);
+        OnlineEntry entry = onlineCache.get(sn);
+        // 최대 보관 시간은 조회에만 적용합니다. 이 인스턴스가 마지막으로 쓴 값과 같으면 다시 저장하거나 알리지 않습니다.
+        boolean unchanged = Objects.nonNull(entry) && now < entry.expireAt && entry.device.equals(device);
+
+        long offlineAt = now + TimeUnit.SECONDS.toMillis(RedisConst.DEVICE_OFFLINE_SECOND);
+
+        if (unchanged) {
+            if (entry.expireAt - now > aliveMillis - TimeUnit.SECONDS.toMillis(refreshInterval)) {
+                return;
+            }
+            List<Object> results = RedisOpsUtils.pipeline(operations -> {
+                operations.expire(key, RedisConst.DEVICE_ALIVE_SECOND, TimeUnit.SECONDS);
+                operations.opsForZSet().add(RedisConst.DEVICE_ONLINE_INDEX, sn, offlineAt);
+            });
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                RedisOpsUtils.setWithExpire(key, device, RedisConst.DEVICE_ALIVE_SECOND);
+            }
+        } else {
+            RedisOpsUtils.pipeline(operations -> {
+                operations.opsForValue().set(key, device, RedisConst.DEVICE_ALIVE_SECOND, TimeUnit.SECONDS);
+                operations.opsForZSet().add(RedisConst.DEVICE_ONLINE_INDEX, sn, offlineAt);
+            });
+            this.publishInvalidation(sn);
+        }
+        this.cache(sn, new OnlineEntry(copy(device), now + aliveMillis,
+                unchanged ? entry.staleAt : now + TimeUnit.SECONDS.toMillis(maxAge)));
     }
 
     /**
@@ -111,7 +268,8 @@ public class DeviceRedisServiceImpl implements IDeviceRedisService {
      */
     @Override
     public Boolean delDeviceOnline(String sn) {
-        return RedisOpsUtils.del(RedisConst.DEVICE_ONLINE_PREFIX + sn);
+        List<Object> results = this.delOnline(sn, RedisConst.DEVICE_ONLINE_PREFIX + sn);
+        return Objects.requireNonNullElse((Long) results.get(0), 0L) > 0;
     }
 
     /**
@@ -171,6 +329,23 @@ public class DeviceRedisServiceImpl implements IDeviceRedisService {
         return Optional.ofNullable((EventsReceiver<OtaProgress>) RedisOpsUtils.get(RedisConst.FIRMWARE_UPGRADING_PREFIX + sn));
     }
 
+    @Override
+    public Map<String, EventsReceiver<OtaProgress>> getFirmwareUpgradingProgress(Collection<String> sns) {
+        List<String> snList = List.copyOf(new LinkedHashSet<>(sns));
+        if (snList.isEmpty()) {
+            return new HashMap<>();
+        }
+        List<Object> values = RedisOpsUtils.multiGet(snList.stream()
+                .map(sn -> RedisConst.FIRMWARE_UPGRADING_PREFIX + sn).collect(Collectors.toList()));
+        Map<String, EventsReceiver<OtaProgress>> progress = new HashMap<>();
+        for (int i = 0; i < snList.size(); i++) {
+            if (Objects.nonNull(values.get(i))) {
+                progress.put(snList.get(i), (EventsReceiver<OtaProgress>) values.get(i));
+            }
+        }
+        return progress;
+    }
+
     /**
      * 펌웨어 업그레이드 진행률을 삭제합니다.
      * 
@@ -225,8 +400,7 @@ public class DeviceRedisServiceImpl implements IDeviceRedisService {
      */
     @Override
     public void gatewayOffline(String gatewaySn) {
-        delDeviceOnline(gatewaySn);
-        delHmsKeysBySn(gatewaySn);
+        this.delOnline(gatewaySn, RedisConst.DEVICE_ONLINE_PREFIX + gatewaySn, RedisConst.HMS_PREFIX + gatewaySn);
         capacityCameraService.deleteCapacityCameraByDeviceSn(gatewaySn);
     }
 
@@ -239,9 +413,161 @@ public class DeviceRedisServiceImpl implements IDeviceRedisService {
      */
     @Override
     public void subDeviceOffline(String deviceSn) {
-        delDeviceOnline(deviceSn);
-        delDeviceOsd(deviceSn);
-        delHmsKeysBySn(deviceSn);
+        this.delOnline(deviceSn, RedisConst.DEVICE_ONLINE_PREFIX + deviceSn, RedisConst.OSD_PREFIX + deviceSn,
+                RedisConst.HMS_PREFIX + deviceSn);
         capacityCameraService.deleteCapacityCameraByDeviceSn(deviceSn);
     }
+
+    /**
+     * 로컬 캐시에 항목을 넣습니다.
+     * 캐시가 가득 차면 만료된 항목을 정리하고, 그래도 가득 차 있으면 새 디바이스는 캐시하지 않습니다.
+     */
+    private void cache(String sn, OnlineEntry entry) {
+        if (onlineCache.size() >= maxSize && !onlineCache.containsKey(sn)) {
+            long now = System.currentTimeMillis();
+            onlineCache.values().removeIf(e -> !e.isValid(now));
+            if (onlineCache.size() >= maxSize) {
+                return;
+            }
+        }
+        onlineCache.put(sn, entry);
+    }
+
+    /**
+     * 오프라인 판정 시각이 지난 디바이스를 인덱스에서 꺼냅니다.
+     * 
+     * @param limit 최대 개수
+     * @return 디바이스 시리얼 번호 목록
+     */
+    @Override
+    public List<String> pollOfflineDevices(int limit) {
+        return RedisOpsUtils.zPopByScore(RedisConst.DEVICE_ONLINE_INDEX, System.currentTimeMillis(), limit)
+                .stream().map(String::valueOf).collect(Collectors.toList());
+    }
+
+    /**
+     * 온라인 디바이스 인덱스의 모든 디바이스 시리얼 번호를 조회합니다.
+     * 
+     * @return 디바이스 시리얼 번호 세트
+     */
+    @Override
+    public Set<String> getOnlineDeviceSns() {
+        return RedisOpsUtils.zRange(RedisConst.DEVICE_ONLINE_INDEX, 0, -1).stream()
+                .map(String::valueOf).collect(Collectors.toSet());
+    }
+
+    /**
+     * 인덱스에 없는 온라인 디바이스 키를 인덱스에 추가합니다.
+     * 
+     * 키를 BACKFILL_BATCH개씩 나누어 남은 생존 시간(PTTL)을 한 번의 파이프라인으로 조회하고,
+     * 오프라인 판정 시각(만료 시각 - (생존 시간 - 오프라인 판정 시간))을 ZADD NX로 추가합니다.
+     * 이미 인덱스에 있는 디바이스는 더 최근에 기록된 판정 시각을 유지합니다.
+     * 
+     * @return 인덱스에 새로 추가된 디바이스 수
+     */
+    @Override
+    public int backfillOnlineIndex() {
+        List<String> keys = new ArrayList<>(RedisOpsUtils.scanKeys(RedisConst.DEVICE_ONLINE_PREFIX + "*", BACKFILL_BATCH));
+        int start = RedisConst.DEVICE_ONLINE_PREFIX.length();
+        long offlineMargin = TimeUnit.SECONDS.toMillis(RedisConst.DEVICE_ALIVE_SECOND - RedisConst.DEVICE_OFFLINE_SECOND);
+        int added = 0;
+        for (int i = 0; i < keys.size(); i += BACKFILL_BATCH) {
+            List<String> batch = keys.subList(i, Math.min(i + BACKFILL_BATCH, keys.size()));
+            List<Object> ttls = RedisOpsUtils.pipeline(operations ->
+                    batch.forEach(key -> operations.getExpire(key, TimeUnit.MILLISECONDS)));
+            long now = System.currentTimeMillis();
+            List<Object> results = RedisOpsUtils.pipeline(operations -> {
+                for (int j = 0; j < batch.size(); j++) {
+                    long ttl = Objects.requireNonNullElse((Long) ttls.get(j), -2L);
+                    // 이미 만료되었거나 만료 시간이 없는 키는 건너뜁니다.
+                    if (ttl < 0) {
+                        continue;
+                    }
+                    operations.opsForZSet().addIfAbsent(RedisConst.DEVICE_ONLINE_INDEX,
+                            batch.get(j).substring(start), now + ttl - offlineMargin);
+                }
+            });
+            added += (int) results.stream().filter(Boolean.TRUE::equals).count();
+        }
+        if (added > 0) {
+            log.info("Backfilled {} devices into the online index.", added);
+        }
+        return added;
+    }
+
+    /**
+     * 디바이스의 키들과 인덱스 항목을 한 번의 파이프라인으로 삭제하고, 로컬 캐시에서 제거한 뒤 다른 인스턴스에도 알립니다.
+     * 
+     * @return 첫 번째 결과는 삭제된 키 개수
+     */
+    private List<Object> delOnline(String sn, String... keys) {
+        List<Object> results = RedisOpsUtils.pipeline(operations -> {
+            operations.delete(List.of(keys));
+            operations.opsForZSet().remove(RedisConst.DEVICE_ONLINE_INDEX, sn);
+        });
+        onlineCache.remove(sn);
+        this.publishInvalidation(sn);
+        return results;
+    }
+
+    /**
+     * 다른 인스턴스에 디바이스의 로컬 캐시를 비우도록 알립니다.
+     */
+    private void publishInvalidation(String sn) {
+        try {
+            RedisOpsUtils.publish(RedisConst.DEVICE_ONLINE_CHANNEL, nodeId + RedisConst.DELIMITER + sn);
+        } catch (RuntimeException e) {
+            log.error("Failed to publish the invalidation of the online device {}.", sn, e);
+        }
+    }
+
+    /**
+     * 다른 인스턴스가 보낸 무효화 메시지를 처리합니다.
+     */
+    private void onInvalidation(Message message, byte[] pattern) {
+        Object body = RedisOpsUtils.deserialize(message.getBody());
+        if (!(body instanceof String)) {
+            return;
+        }
+        String[] values = ((String) body).split(RedisConst.DELIMITER, 2);
+        if (values.length != 2 || nodeId.equals(values[0])) {
+            return;
+        }
+        invalidations.incrementAndGet();
+        onlineCache.remove(values[1]);
+    }
+
+    /**
+     * 캐시된 객체가 호출자에 의해 수정되지 않도록 디바이스 정보를 복사합니다.
+     */
+    private static DeviceDTO copy(DeviceDTO device) {
+        return device.toBuilder()
+                .payloadsList(Objects.isNull(device.getPayloadsList()) ? null : new ArrayList<>(device.getPayloadsList()))
+                .children(Objects.isNull(device.getChildren()) ? null : copy(device.getChildren()))
+                .build();
+    }
+
+    /**
+     * 온라인 디바이스 로컬 캐시 항목
+     */
+    private static final class OnlineEntry {
+
+        private final DeviceDTO device;
+
+        /** Redis 키의 만료 예상 시각 (밀리초) */
+        private final long expireAt;
+
+        /** Redis에서 다시 읽어야 하는 시각 (밀리초) */
+        private final long staleAt;
+
+        private OnlineEntry(DeviceDTO device, long expireAt, long staleAt) {
+            this.device = device;
+            this.expireAt = expireAt;
+            this.staleAt = staleAt;
+        }
+
+        private boolean isValid(long now) {
+            return now < expireAt && now < staleAt;
+        }
+    }
 }
@@ -50,9 +50,16 @@ import org.springframework.util.StringUtils;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 디바이스 관리 서비스 구현체
@@ -390,8 +397,7 @@ public class DeviceServiceImpl implements IDeviceService {
                         .orderBy(param.isOrderBy(),
                                 param.isAsc(), DeviceEntity::getId))
                 .stream()
-                .map(this::deviceEntityConvertToDTO)
-                .collect(Collectors.toList());
+                .collect(Collectors.collectingAndThen(Collectors.toList(), this::deviceEntitiesConvertToDTO));
     }
 
     /**
@@ -411,10 +417,15 @@ public class DeviceServiceImpl implements IDeviceService {
                         .domains(List.of(DeviceDomainEnum.REMOTER_CONTROL.getDomain(), DeviceDomainEnum.DOCK.getDomain()))
                         .build());
 
-        devicesList.stream()
+        // 게이트웨이와 서브 디바이스의 온라인 상태를 한 번에 조회
+        Set<String> onlineSns = deviceRedisService.checkDevicesOnline(devicesList.stream()
+                .flatMap(gateway -> Stream.of(gateway.getDeviceSn(), gateway.getChildDeviceSn()))
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet()));
+        this.spliceDevicesTopo(devicesList.stream()
                 .filter(gateway -> DeviceDomainEnum.DOCK == gateway.getDomain() ||
-                        deviceRedisService.checkDeviceOnline(gateway.getDeviceSn()))
-                .forEach(this::spliceDeviceTopo);
+                        onlineSns.contains(gateway.getDeviceSn()))
+                .collect(Collectors.toList()), onlineSns);
 
         return devicesList;
     }
@@ -429,20 +440,59 @@ public class DeviceServiceImpl implements IDeviceService {
      */
     @Override
     public void spliceDeviceTopo(DeviceDTO gateway) {
+        this.spliceDevicesTopo(List.of(gateway), deviceRedisService.checkDevicesOnline(
+                Stream.of(gateway.getDeviceSn(), gateway.getChildDeviceSn())
+                        .filter(StringUtils::hasText)
+                        .collect(Collectors.toList())));
+    }
 
-        gateway.setStatus(deviceRedisService.checkDeviceOnline(gateway.getDeviceSn()));
+    /**
+     * 여러 게이트웨이의 토폴로지 정보를 구성합니다.
+     * 
+     * 서브 디바이스와 페이로드는 게이트웨이 수와 관계없이 각각 한 번의 쿼리로 조회합니다.
+     * 
+     * @param gateways 게이트웨이 디바이스 DTO 목록
+     * @param onlineSns 온라인 디바이스 시리얼 번호 세트
+     */
+    private void spliceDevicesTopo(List<DeviceDTO> gateways, Set<String> onlineSns) {
+        gateways.forEach(gateway -> gateway.setStatus(onlineSns.contains(gateway.getDeviceSn())));
 
         // 서브 디바이스 정보 조회
-        if (!StringUtils.hasText(gateway.getChildDeviceSn())) {
+        Map<String, DeviceDTO> subDevices = this.getDevicesBySns(gateways.stream()
+                .map(DeviceDTO::getChildDeviceSn)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet()));
+        if (subDevices.isEmpty()) {
             return;
         }
 
-        DeviceDTO subDevice = getDevicesByParams(DeviceQueryParam.builder().deviceSn(gateway.getChildDeviceSn()).build()).get(0);
-        subDevice.setStatus(deviceRedisService.checkDeviceOnline(subDevice.getDeviceSn()));
-        gateway.setChildren(subDevice);
-
         // 페이로드 정보 조회
-        subDevice.setPayloadsList(payloadService.getDevicePayloadEntitiesByDeviceSn(gateway.getChildDeviceSn()));
+        Map<String, List<DevicePayloadDTO>> payloads = payloadService.getDevicePayloadEntitiesByDeviceSns(subDevices.keySet());
+        for (DeviceDTO gateway : gateways) {
+            DeviceDTO subDevice = subDevices.get(gateway.getChildDeviceSn());
+            if (Objects.isNull(subDevice)) {
+                continue;
+            }
+            subDevice.setStatus(onlineSns.contains(subDevice.getDeviceSn()));
+            subDevice.setPayloadsList(payloads.getOrDefault(subDevice.getDeviceSn(), new ArrayList<>()));
+            gateway.setChildren(subDevice);
+        }
+    }
+
+    /**
+     * 여러 시리얼 번호의 디바이스를 한 번의 쿼리로 조회합니다.
+     * 
+     * @param sns 디바이스 시리얼 번호 목록
+     * @return 시리얼 번호별 디바이스 DTO
+     */
+    private Map<String, DeviceDTO> getDevicesBySns(Collection<String> sns) {
+        if (CollectionUtils.isEmpty(sns)) {
+            return new HashMap<>();
+        }
+        return this.deviceEntitiesConvertToDTO(mapper.selectList(
+                        new LambdaQueryWrapper<DeviceEntity>().in(DeviceEntity::getDeviceSn, sns)))
+                .stream()
+                .collect(Collectors.toMap(DeviceDTO::getDeviceSn, device -> device, (a, b) -> a));
     }
 
     /**
@@ -551,8 +601,7 @@ public class DeviceServiceImpl implements IDeviceService {
      */
     @Override
     public void pushOsdDataToWeb(String workspaceId, BizCodeEnum codeEnum, String sn, Object data) {
-        webSocketMessageService.sendBatch(
-                workspaceId, UserTypeEnum.WEB.getVal(), codeEnum.getCode(), TelemetryDTO.builder().sn(sn).host(data).build());
+        webSocketMessageService.sendTelemetry(workspaceId, UserTypeEnum.WEB.getVal(), codeEnum.getCode(), sn, data);
     }
 
     /**
@@ -591,6 +640,56 @@ public class DeviceServiceImpl implements IDeviceService {
         if (entity == null) {
             return null;
         }
+        return this.deviceEntitiesConvertToDTO(List.of(entity)).get(0);
+    }
+
+    /**
+     * 데이터베이스 엔티티 목록을 디바이스 DTO 목록으로 변환합니다.
+     * 
+     * 워크스페이스 이름, 펌웨어 업그레이드 진행률, 최신 펌웨어 정보를 디바이스마다 조회하지 않고
+     * 목록 전체에 대해 각각 한 번씩만 조회합니다.
+     * 
+     * @param entities 디바이스 엔티티 목록
+     * @return 디바이스 DTO 목록
+     */
+    private List<DeviceDTO> deviceEntitiesConvertToDTO(List<DeviceEntity> entities) {
+        if (CollectionUtils.isEmpty(entities)) {
+            return new ArrayList<>();
+        }
+        Map<String, WorkspaceDTO> workspaces = workspaceService.getWorkspacesByWorkspaceIds(entities.stream()
+                .map(DeviceEntity::getWorkspaceId)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet()));
+
+        // 펌웨어 버전이 있는 디바이스만 업그레이드 상태를 확인
+        List<DeviceEntity> firmwareDevices = entities.stream()
+                .filter(entity -> StringUtils.hasText(entity.getFirmwareVersion()))
+                .collect(Collectors.toList());
+        Map<String, EventsReceiver<OtaProgress>> upgrading = deviceRedisService.getFirmwareUpgradingProgress(
+                firmwareDevices.stream().map(DeviceEntity::getDeviceSn).collect(Collectors.toSet()));
+        Map<String, DeviceFirmwareNoteDTO> releaseNotes = deviceFirmwareService.getLatestFirmwareReleaseNotes(
+                firmwareDevices.stream()
+                        .filter(entity -> !upgrading.containsKey(entity.getDeviceSn()))
+                        .map(DeviceEntity::getDeviceName)
+                        .filter(StringUtils::hasText)
+                        .collect(Collectors.toSet()));
+
+        return entities.stream().map(entity -> {
+            DeviceDTO deviceDTO = deviceEntityConvertToDTO(entity, workspaces.get(entity.getWorkspaceId()));
+            addFirmwareStatus(deviceDTO, entity, upgrading.get(entity.getDeviceSn()),
+                    releaseNotes.get(entity.getDeviceName()));
+            return deviceDTO;
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * 데이터베이스 엔티티 객체를 디바이스 DTO로 변환합니다.
+     * 
+     * @param entity 디바이스 엔티티
+     * @param workspace 디바이스가 속한 워크스페이스. 없으면 null
+     * @return 디바이스 DTO
+     */
+    private DeviceDTO deviceEntityConvertToDTO(DeviceEntity entity, WorkspaceDTO workspace) {
         DeviceDTO.DeviceDTOBuilder builder = DeviceDTO.builder();
         try {
             builder
@@ -615,17 +714,13 @@ public class DeviceServiceImpl implements IDeviceService {
                             : null)
                     .nickname(entity.getNickname())
                     .firmwareVersion(entity.getFirmwareVersion())
-                    .workspaceName(entity.getWorkspaceId() != null ?
-                            workspaceService.getWorkspaceByWorkspaceId(entity.getWorkspaceId())
-                                    .map(WorkspaceDTO::getWorkspaceName).orElse("") : "")
+                    .workspaceName(workspace != null ? workspace.getWorkspaceName() : "")
                     .firmwareStatus(DeviceFirmwareStatusEnum.NOT_UPGRADE)
                     .thingVersion(entity.getVersion()).build();
         } catch (CloudSDKException e) {
             log.error(e.getLocalizedMessage() + "Entity: {}", entity);
         }
-        DeviceDTO deviceDTO = builder.build();
-        addFirmwareStatus(deviceDTO, entity);
-        return deviceDTO;
+        return builder.build();
     }
 
     /**
@@ -635,30 +730,31 @@ public class DeviceServiceImpl implements IDeviceService {
      * 
      * @param deviceDTO 디바이스 DTO
      * @param entity 디바이스 엔티티
+     * @param progress 펌웨어 업그레이드 진행률. 업그레이드 중이 아니면 null
+     * @param firmwareReleaseNote 디바이스 모델의 최신 펌웨어 정보. 없으면 null
      */
-    private void addFirmwareStatus(DeviceDTO deviceDTO, DeviceEntity entity) {
+    private void addFirmwareStatus(DeviceDTO deviceDTO, DeviceEntity entity, EventsReceiver<OtaProgress> progress,
+                                   DeviceFirmwareNoteDTO firmwareReleaseNote) {
         if (!StringUtils.hasText(entity.getFirmwareVersion())) {
             return;
         }
         // 디바이스가 펌웨어 업그레이드 중인지 확인
-        Optional<EventsReceiver<OtaProgress>> progressOpt = deviceRedisService.getFirmwareUpgradingProgress(entity.getDeviceSn());
-        if (progressOpt.isPresent()) {
+        if (progress != null) {
             deviceDTO.setFirmwareStatus(DeviceFirmwareStatusEnum.UPGRADING);
-            deviceDTO.setFirmwareProgress(progressOpt.map(EventsReceiver::getOutput)
+            deviceDTO.setFirmwareProgress(Optional.ofNullable(progress.getOutput())
                             .map(OtaProgress::getProgress)
                             .map(OtaProgressData::getPercent)
                             .orElse(0));
             return;
         }
 
-        // 디바이스 모델의 최신 펌웨어 버전을 조회하고 현재 펌웨어 버전과 비교하여
+        // 디바이스 모델의 최신 펌웨어 버전과 현재 펌웨어 버전을 비교하여
         // 업그레이드가 필요한지 확인
-        Optional<DeviceFirmwareNoteDTO> firmwareReleaseNoteOpt = deviceFirmwareService.getLatestFirmwareReleaseNote(entity.getDeviceName());
-        if (firmwareReleaseNoteOpt.isEmpty()) {
+        if (firmwareReleaseNote == null) {
             deviceDTO.setFirmwareStatus(DeviceFirmwareStatusEnum.NOT_UPGRADE);
             return;
         }
-        if (entity.getFirmwareVersion().equals(firmwareReleaseNoteOpt.get().getProductVersion())) {
+        if (entity.getFirmwareVersion().equals(firmwareReleaseNote.getProductVersion())) {
             deviceDTO.setFirmwareStatus(entity.getCompatibleStatus() ?
                     DeviceFirmwareStatusEnum.NOT_UPGRADE :
                     DeviceFirmwareStatusEnum.CONSISTENT_UPGRADE);
@@ -740,19 +836,25 @@ public class DeviceServiceImpl implements IDeviceService {
                         .eq(DeviceEntity::getDomain, domain)
                         .eq(DeviceEntity::getWorkspaceId, workspaceId)
                         .eq(DeviceEntity::getBoundStatus, true));
-        List<DeviceDTO> devicesList = pagination.getRecords().stream().map(this::deviceEntityConvertToDTO)
-                .peek(device -> {
-                    device.setStatus(deviceRedisService.checkDeviceOnline(device.getDeviceSn()));
-                    if (StringUtils.hasText(device.getChildDeviceSn())) {
-                        Optional<DeviceDTO> childOpt = this.getDeviceBySn(device.getChildDeviceSn());
-                        childOpt.ifPresent(child -> {
-                            child.setStatus(deviceRedisService.checkDeviceOnline(child.getDeviceSn()));
-                            child.setWorkspaceName(device.getWorkspaceName());
-                            device.setChildren(child);
-                        });
-                    }
-                })
-                .collect(Collectors.toList());
+        List<DeviceDTO> devicesList = this.deviceEntitiesConvertToDTO(pagination.getRecords());
+
+        // 서브 디바이스와 온라인 상태를 페이지 단위로 한 번에 조회
+        Map<String, DeviceDTO> children = this.getDevicesBySns(devicesList.stream()
+                .map(DeviceDTO::getChildDeviceSn)
+                .filter(StringUtils::hasText)
+                .collect(Collectors.toSet()));
+        Set<String> onlineSns = deviceRedisService.checkDevicesOnline(Stream.concat(
+                devicesList.stream().map(DeviceDTO::getDeviceSn), children.keySet().stream())
+                .collect(Collectors.toSet()));
+        devicesList.forEach(device -> {
+            device.setStatus(onlineSns.contains(device.getDeviceSn()));
+            DeviceDTO child = children.get(device.getChildDeviceSn());
+            if (Objects.nonNull(child)) {
+                child.setStatus(onlineSns.contains(child.getDeviceSn()));
+                child.setWorkspaceName(device.getWorkspaceName());
+                device.setChildren(child);
+            }
+        });
         return new PaginationData<DeviceDTO>(devicesList, new Pagination(pagination.getCurrent(), pagination.getSize(), pagination.getTotal()));
     }
 
@@ -0,0 +1,238 @@
+package com.dji.sample.manage.service.impl;
+
+import com.dji.sample.manage.model.dto.DeviceFirmwareDTO;
+import com.dji.sample.manage.model.dto.FirmwareFileProperties;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * 펌웨어 파일 가져오기 스트림
+ *
+ * 업로드된 펌웨어 파일을 한 번만 읽으면서 파일 검증, MD5 계산, 크기 계산, OSS 업로드를 함께 수행합니다.
+ *
+ * 1. 이 스트림을 읽으면 원본 바이트를 그대로 돌려주므로 그대로 OSS 업로드에 넘길 수 있습니다.
+ * 2. 설정 파일(*.cfg.sig) 엔트리를 찾을 때까지는 같은 바이트를 ZipInputStream에도 흘려 엔트리 이름을 확인하고,
+ *    찾은 뒤에는 압축 해제 없이 원본을 그대로 전달합니다.
+ * 3. 설정 파일 없이 ZIP이 끝나거나 ZIP 형식이 올바르지 않으면 IOException을 던져 업로드를 중단시키며,
+ *    이때 isInvalid()가 true가 됩니다.
+ *
+ * 메모리에는 압축 해제 버퍼 정도만 유지되므로 파일 크기와 관계없이 일정한 메모리를 사용합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class FirmwareImportStream extends InputStream {
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final DigestInputStream source;
+
+    private long size;
+
+    /**
+     * ZipInputStream이 원본에서 읽었지만 아직 이 스트림으로 내보내지 않은 바이트
+     */
+    private byte[] pending = new byte[SCAN_BUFFER_SIZE * 2];
+
+    private int pendingPos;
+
+    private int pendingLength;
+
+    private ZipInputStream zip;
+
+    /**
+     * 현재 읽고 있는 엔트리. null이면 다음 엔트리를 읽어야 합니다.
+     */
+    private ZipEntry entry;
+
+    private byte[] scan;
+
+    private DeviceFirmwareDTO firmware;
+
+    private boolean invalid;
+
+    public FirmwareImportStream(InputStream source) {
+        try {
+            this.source = new DigestInputStream(source, MessageDigest.getInstance("MD5"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        this.zip = new ZipInputStream(new SourceTap(), StandardCharsets.UTF_8);
+        this.scan = new byte[SCAN_BUFFER_SIZE];
+    }
+
+    /**
+     * 설정 파일 이름에서 읽은 펌웨어 정보. 제품 버전과 릴리즈 날짜만 채워져 있습니다.
+     *
+     * @return 펌웨어 정보. 아직 설정 파일을 찾지 못했으면 empty
+     */
+    public Optional<DeviceFirmwareDTO> getFirmware() {
+        return Optional.ofNullable(firmware);
+    }
+
+    /**
+     * 파일 검증에 실패해 스트림을 중단했는지 여부
+     */
+    public boolean isInvalid() {
+        return invalid;
+    }
+
+    /**
+     * 원본에서 읽은 바이트 수. 스트림을 끝까지 읽은 뒤에는 파일 크기입니다.
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * 원본을 끝까지 읽은 뒤 MD5 값을 반환합니다.
+     *
+     * @return 16진수 MD5 값
+     */
+    public String getMd5Hex() {
+        StringBuilder hex = new StringBuilder(32);
+        for (byte b : source.getMessageDigest().digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = this.read(one, 0, 1);
+        return n <= 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (pendingPos == pendingLength && Objects.nonNull(zip)) {
+            this.scanNext();
+        }
+        if (pendingPos < pendingLength) {
+            int n = Math.min(len, pendingLength - pendingPos);
+            System.arraycopy(pending, pendingPos, b, off, n);
+            pendingPos += n;
+            return n;
+        }
+        return this.readSource(b, off, len);
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    /**
+     * ZIP을 조금 더 읽어 엔트리를 확인합니다.
+     * 이때 원본에서 읽은 바이트는 pending에 쌓입니다.
+     */
+    private void scanNext() throws IOException {
+        try {
+            if (Objects.nonNull(entry)) {
+                // 엔트리 데이터는 조금씩 읽어 버립니다. getNextEntry()로 건너뛰면 엔트리 전체가 pending에 쌓입니다.
+                if (zip.read(scan, 0, scan.length) < 0) {
+                    entry = null;
+                }
+                return;
+            }
+            entry = zip.getNextEntry();
+            if (Objects.isNull(entry)) {
+                throw new IOException("The file format is incorrect.");
+            }
+            String configName = entry.getName();
+            if (!configName.contains(File.separator) && configName.endsWith(
+                    FirmwareFileProperties.FIRMWARE_CONFIG_FILE_SUFFIX + FirmwareFileProperties.FIRMWARE_SIG_FILE_SUFFIX)) {
+                firmware = parseConfigName(configName);
+                // 필요한 정보를 모두 읽었으므로 이후에는 원본을 그대로 전달합니다.
+                zip = null;
+                entry = null;
+                scan = null;
+            }
+        } catch (IOException e) {
+            invalid = true;
+            zip = null;
+            throw e;
+        }
+    }
+
+    /**
+     * 설정 파일 이름에서 제품 버전과 릴리즈 날짜를 읽습니다.
+     */
+    private static DeviceFirmwareDTO parseConfigName(String configName) throws IOException {
+        try {
+            String[] filenameArr = configName.split(FirmwareFileProperties.FIRMWARE_FILE_DELIMITER);
+            String date = filenameArr[FirmwareFileProperties.FILENAME_RELEASE_DATE_INDEX];
+            int index = date.indexOf(".");
+            if (index != -1) {
+                date = date.substring(0, index);
+            }
+            return DeviceFirmwareDTO.builder()
+                    .releasedTime(LocalDate.parse(
+                            date,
+                            DateTimeFormatter.ofPattern(FirmwareFileProperties.FILENAME_RELEASE_DATE_FORMAT)))
+                    // 문자열 v를 제거
+                    .productVersion(filenameArr[FirmwareFileProperties.FILENAME_VERSION_INDEX].substring(1))
+                    .build();
+        } catch (IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IOException("The file format is incorrect.", e);
+        }
+    }
+
+    private int readSource(byte[] b, int off, int len) throws IOException {
+        int n = source.read(b, off, len);
+        if (n > 0) {
+            size += n;
+        }
+        return n;
+    }
+
+    /**
+     * ZipInputStream이 읽는 원본 스트림. 읽은 바이트를 pending 뒤에 붙입니다.
+     */
+    private final class SourceTap extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            int n = this.read(one, 0, 1);
+            return n <= 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = readSource(b, off, len);
+            if (n <= 0) {
+                return n;
+            }
+            if (pendingPos == pendingLength) {
+                pendingPos = 0;
+                pendingLength = 0;
+            }
+            if (pendingLength + n > pending.length) {
+                pending = Arrays.copyOf(pending, Math.max(pending.length * 2, pendingLength + n));
+            }
+            System.arraycopy(b, off, pending, pendingLength, n);
+            pendingLength += n;
+            return n;
+        }
+    }
+}
@@ -9,8 +9,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.CollectionUtils;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 워크스페이스 관리 서비스 구현체
@@ -85,6 +91,25 @@ public class WorkspaceServiceImpl implements IWorkspaceService {
                                 .eq(WorkspaceEntity::getWorkspaceId, workspaceId))));
     }
 
+    /**
+     * 여러 워크스페이스 ID로 워크스페이스 정보를 조회합니다.
+     * 
+     * @param workspaceIds 워크스페이스 ID 목록
+     * @return 워크스페이스 ID별 워크스페이스 정보
+     */
+    @Override
+    public Map<String, WorkspaceDTO> getWorkspacesByWorkspaceIds(Collection<String> workspaceIds) {
+        if (CollectionUtils.isEmpty(workspaceIds)) {
+            return new HashMap<>();
+        }
+        return mapper.selectList(
+                new LambdaQueryWrapper<WorkspaceEntity>()
+                        .in(WorkspaceEntity::getWorkspaceId, new HashSet<>(workspaceIds)))
+                .stream()
+                .map(this::entityConvertToDto)
+                .collect(Collectors.toMap(WorkspaceDTO::getWorkspaceId, workspace -> workspace, (a, b) -> a));
+    }
+
     /**
      * 바인딩 코드로 워크스페이스 이름을 조회합니다.
      * 
@@ -2,6 +2,10 @@ package com.dji.sample.map.dao;
 
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
 import com.dji.sample.map.model.entity.ElementCoordinateEntity;
+import org.apache.ibatis.annotations.Insert;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
 
 /**
  * 요소 좌표 데이터 접근 객체 (DAO) 인터페이스
@@ -52,4 +56,25 @@ import com.dji.sample.map.model.entity.ElementCoordinateEntity;
  * @date 2021/11/29
  */
 public interface IElementCoordinateMapper extends BaseMapper<ElementCoordinateEntity> {
+
+    /**
+     * 여러 좌표를 한 번의 쿼리로 저장합니다.
+     * 
+     * id가 없는 좌표는 새로 추가하고, id가 있는 좌표는 해당 행의 경도, 위도, 고도를 수정합니다.
+     * 
+     * @param coordinates 좌표 엔티티 목록
+     * @return 영향받은 행 수 (추가는 1, 수정은 2, 변경 없음은 0으로 집계됨)
+     */
+    @Insert("<script> \n" +
+            "insert into map_element_coordinate (id, element_id, longitude, latitude, altitude) \n" +
+            "values \n" +
+            "  <foreach collection='coordinates' item='c' separator=','> \n" +
+            "    (#{c.id}, #{c.elementId}, #{c.longitude}, #{c.latitude}, #{c.altitude}) \n" +
+            "  </foreach> \n" +
+            "on duplicate key update \n" +
+            "  longitude = values(longitude), \n" +
+            "  latitude = values(latitude), \n" +
+            "  altitude = values(altitude) \n" +
+            "</script>")
+    int insertOrUpdateBatch(@Param("coordinates") List<ElementCoordinateEntity> coordinates);
 }
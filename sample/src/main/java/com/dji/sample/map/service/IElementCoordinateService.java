@@ -2,7 +2,9 @@ package com.dji.sample.map.service;
 
 import com.dji.sdk.cloudapi.map.ElementCoordinate;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 요소 좌표 서비스 인터페이스
@@ -12,9 +14,11 @@ import java.util.List;
  * 
  * 1. 요소 좌표 조회 기능
  *    - 요소 ID 기반 좌표 목록 조회 (getCoordinateByElementId)
+ *    - 여러 요소의 좌표 일괄 조회 (getCoordinatesByElementIds)
  * 
  * 2. 요소 좌표 관리 기능
  *    - 요소 좌표 데이터 저장 (saveCoordinate)
+ *    - 요소 좌표 데이터 수정 (updateCoordinate)
  *    - 요소 ID 기반 좌표 삭제 (deleteCoordinateByElementId)
  * 
  * 3. 지리적 데이터 관리
@@ -47,6 +51,14 @@ public interface IElementCoordinateService {
      */
     List<ElementCoordinate> getCoordinateByElementId(String elementId);
 
+    /**
+     * 여러 요소의 좌표를 한 번의 쿼리로 조회합니다.
+     * 
+     * @param elementIds 조회할 요소의 고유 식별자 목록
+     * @return 요소 ID별 좌표 목록. 좌표가 없는 요소는 포함되지 않습니다.
+     */
+    Map<String, List<ElementCoordinate>> getCoordinatesByElementIds(Collection<String> elementIds);
+
     /**
      * 해당 요소의 모든 좌표 데이터를 저장합니다.
      * 
@@ -56,6 +68,16 @@ public interface IElementCoordinateService {
      */
     Boolean saveCoordinate(List<ElementCoordinate> coordinate, String elementId);
 
+    /**
+     * 해당 요소의 좌표를 새 좌표 목록으로 수정합니다.
+     * 기존 좌표와 순서대로 비교하여 달라진 좌표만 수정하고, 늘어난 좌표는 추가하고, 줄어든 좌표는 삭제합니다.
+     * 
+     * @param coordinate 새 좌표 데이터 목록
+     * @param elementId 좌표를 수정할 요소의 고유 식별자
+     * @return 수정 성공 여부
+     */
+    Boolean updateCoordinate(List<ElementCoordinate> coordinate, String elementId);
+
     /**
      * 요소 ID를 기반으로 해당 요소의 모든 좌표를 삭제합니다.
      * 
@@ -10,7 +10,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +31,16 @@ import java.util.stream.Collectors;
 @Transactional
 public class ElementCoordinateServiceImpl implements IElementCoordinateService {
 
+    /**
+     * 한 번의 쿼리로 저장할 최대 좌표 수
+     */
+    private static final int BATCH_SIZE = 1000;
+
+    /**
+     * 좌표 컬럼의 소수점 자릿수. 이 자릿수까지 같으면 같은 좌표로 봅니다.
+     */
+    private static final int COORDINATE_SCALE = 14;
+
     @Autowired
     private IElementCoordinateMapper mapper;
 
@@ -36,12 +53,32 @@ public class ElementCoordinateServiceImpl implements IElementCoordinateService {
     public List<ElementCoordinate> getCoordinateByElementId(String elementId) {
         return mapper.selectList(
                 new LambdaQueryWrapper<ElementCoordinateEntity>()
-                        .eq(ElementCoordinateEntity::getElementId, elementId))
+                        .eq(ElementCoordinateEntity::getElementId, elementId)
+                        .orderByAsc(ElementCoordinateEntity::getId))
                 .stream()
                 .map(this::entityConvertToDto)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 여러 요소의 좌표를 한 번의 쿼리로 조회합니다.
+     * @param elementIds 요소 ID 목록
+     * @return 요소 ID별 좌표 목록
+     */
+    @Override
+    public Map<String, List<ElementCoordinate>> getCoordinatesByElementIds(Collection<String> elementIds) {
+        if (elementIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return mapper.selectList(
+                new LambdaQueryWrapper<ElementCoordinateEntity>()
+                        .in(ElementCoordinateEntity::getElementId, elementIds)
+                        .orderByAsc(ElementCoordinateEntity::getId))
+                .stream()
+                .collect(Collectors.groupingBy(ElementCoordinateEntity::getElementId,
+                        Collectors.mapping(this::entityConvertToDto, Collectors.toList())));
+    }
+
     /**
      * 좌표 목록을 저장합니다.
      * @param coordinateList 좌표 목록
@@ -50,16 +87,49 @@ public class ElementCoordinateServiceImpl implements IElementCoordinateService {
      */
     @Override
     public Boolean saveCoordinate(List<ElementCoordinate> coordinateList, String elementId) {
-        for (ElementCoordinate coordinate : coordinateList) {
-            ElementCoordinateEntity entity = this.dtoConvertToEntity(coordinate);
-            entity.setElementId(elementId);
+        List<ElementCoordinateEntity> entities = coordinateList.stream()
+                .map(coordinate -> this.dtoConvertToEntity(coordinate, elementId))
+                .collect(Collectors.toList());
+        return this.insertOrUpdateBatch(entities) == entities.size();
+    }
+
+    /**
+     * 좌표 목록을 수정합니다.
+     * 기존 좌표와 순서대로 비교하여 달라진 좌표만 수정하고, 늘어난 좌표는 추가하고, 줄어든 좌표는 삭제합니다.
+     * 남은 좌표의 id 순서가 유지되고 추가된 좌표는 더 큰 id를 받으므로 좌표 순서가 보존됩니다.
+     * @param coordinateList 새 좌표 목록
+     * @param elementId 요소 ID
+     * @return 수정 성공 여부
+     */
+    @Override
+    public Boolean updateCoordinate(List<ElementCoordinate> coordinateList, String elementId) {
+        List<ElementCoordinateEntity> existing = mapper.selectList(
+                new LambdaQueryWrapper<ElementCoordinateEntity>()
+                        .eq(ElementCoordinateEntity::getElementId, elementId)
+                        .orderByAsc(ElementCoordinateEntity::getId));
 
-            int insert = mapper.insert(entity);
-            if (insert <= 0) {
-                return false;
+        List<ElementCoordinateEntity> changed = new ArrayList<>();
+        for (int i = 0; i < coordinateList.size(); i++) {
+            ElementCoordinateEntity entity = this.dtoConvertToEntity(coordinateList.get(i), elementId);
+            if (i < existing.size()) {
+                ElementCoordinateEntity old = existing.get(i);
+                if (isSameCoordinate(old, entity)) {
+                    continue;
+                }
+                entity.setId(old.getId());
             }
+            changed.add(entity);
+        }
+
+        List<Integer> removed = existing.subList(Math.min(coordinateList.size(), existing.size()), existing.size())
+                .stream()
+                .map(ElementCoordinateEntity::getId)
+                .collect(Collectors.toList());
+        if (!removed.isEmpty() && mapper.deleteBatchIds(removed) != removed.size()) {
+            return false;
         }
-        return true;
+        // 추가는 1행, 수정은 2행으로 집계되므로 모두 반영되었다면 좌표 수 이상이어야 함
+        return this.insertOrUpdateBatch(changed) >= changed.size();
     }
 
     /**
@@ -89,13 +159,45 @@ public class ElementCoordinateServiceImpl implements IElementCoordinateService {
                 .setAltitude(entity.getAltitude());
     }
 
+    /**
+     * 좌표를 BATCH_SIZE개씩 나누어 저장합니다.
+     * @param entities 좌표 엔티티 목록
+     * @return 영향받은 행 수
+     */
+    private int insertOrUpdateBatch(List<ElementCoordinateEntity> entities) {
+        int rows = 0;
+        for (int from = 0; from < entities.size(); from += BATCH_SIZE) {
+            rows += mapper.insertOrUpdateBatch(entities.subList(from, Math.min(from + BATCH_SIZE, entities.size())));
+        }
+        return rows;
+    }
+
+    private static boolean isSameCoordinate(ElementCoordinateEntity a, ElementCoordinateEntity b) {
+        return isSameValue(a.getLongitude(), b.getLongitude())
+                && isSameValue(a.getLatitude(), b.getLatitude())
+                && isSameValue(a.getAltitude(), b.getAltitude());
+    }
+
+    /**
+     * 컬럼에 저장되는 자릿수로 반올림하여 비교합니다.
+     */
+    private static boolean isSameValue(Double a, Double b) {
+        if (Objects.isNull(a) || Objects.isNull(b)) {
+            return Objects.equals(a, b);
+        }
+        return BigDecimal.valueOf(a).setScale(COORDINATE_SCALE, RoundingMode.HALF_UP)
+                .compareTo(BigDecimal.valueOf(b).setScale(COORDINATE_SCALE, RoundingMode.HALF_UP)) == 0;
+    }
+
     /**
      * 받은 좌표 객체를 데이터베이스 엔티티 객체로 변환합니다.
      * @param coordinate 좌표 객체
+     * @param elementId 요소 ID
      * @return 좌표 엔티티
      */
-    private ElementCoordinateEntity dtoConvertToEntity(ElementCoordinate coordinate) {
-        ElementCoordinateEntity.ElementCoordinateEntityBuilder builder = ElementCoordinateEntity.builder();
+    private ElementCoordinateEntity dtoConvertToEntity(ElementCoordinate coordinate, String elementId) {
+        ElementCoordinateEntity.ElementCoordinateEntityBuilder builder = ElementCoordinateEntity.builder()
+                .elementId(elementId);
         if (coordinate == null) {
             return builder.build();
         }
@@ -19,13 +19,13 @@ import com.dji.sdk.cloudapi.flightarea.api.AbstractFlightAreaService;
 import com.dji.sdk.cloudapi.map.*;
 import com.dji.sdk.common.HttpResultResponse;
 import com.dji.sdk.common.SDKManager;
+import com.dji.sdk.config.version.GatewayManager;
 import com.dji.sdk.mqtt.MqttReply;
 import com.dji.sdk.mqtt.events.TopicEventsRequest;
 import com.dji.sdk.mqtt.events.TopicEventsResponse;
 import com.dji.sdk.mqtt.requests.TopicRequestsRequest;
 import com.dji.sdk.mqtt.requests.TopicRequestsResponse;
-import com.dji.sdk.mqtt.services.ServicesReplyData;
-import com.dji.sdk.mqtt.services.TopicServicesResponse;
+import com.dji.sdk.mqtt.services.ServicesBatchResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -175,20 +175,27 @@ public class FlightAreaServiceImpl extends AbstractFlightAreaService implements
 
     /**
      * 비행 영역을 디바이스와 동기화합니다.
+     * 모든 디바이스에 업데이트 명령을 한 번에 발행하고 응답을 모아서 확인합니다.
      * @param workspaceId 워크스페이스 ID
      * @param deviceSns 디바이스 시리얼 번호 목록
      */
     @Override
     public void syncFlightArea(String workspaceId, List<String> deviceSns) {
+        List<GatewayManager> gateways = new ArrayList<>(deviceSns.size());
         for (String deviceSn : deviceSns) {
             Optional<DeviceDTO> deviceOpt = deviceRedisService.getDeviceOnline(deviceSn);
             if (deviceOpt.isEmpty() || !workspaceId.equals(deviceOpt.get().getWorkspaceId())) {
                 throw new RuntimeException(CommonErrorEnum.ILLEGAL_ARGUMENT.getMessage());
             }
-            TopicServicesResponse<ServicesReplyData> response = abstractFlightAreaService.flightAreasUpdate(SDKManager.getDeviceSDK(deviceSn));
-            if (!response.getData().getResult().isSuccess()) {
-                throw new RuntimeException(response.getData().getResult().getMessage());
-            }
+            gateways.add(SDKManager.getDeviceSDK(deviceSn));
+        }
+        Map<String, ServicesBatchResult<Object>> results = abstractFlightAreaService.flightAreasUpdate(gateways);
+        String failures = results.values().stream()
+                .filter(result -> !result.isSuccess())
+                .map(result -> result.getSn() + ": " + result.getMessage())
+                .collect(Collectors.joining("; "));
+        if (!failures.isEmpty()) {
+            throw new RuntimeException(failures);
         }
         packageFlightArea(workspaceId);
     }
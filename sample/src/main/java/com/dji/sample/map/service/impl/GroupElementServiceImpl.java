@@ -14,7 +14,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * 그룹 요소 서비스 구현체
@@ -79,6 +81,7 @@ public class GroupElementServiceImpl implements IGroupElementService {
     /**
      * 그룹 ID를 기반으로 해당 그룹의 모든 요소들을 조회합니다.
      * 각 요소의 좌표 정보도 함께 포함하여 반환합니다.
+     * 그룹에 속한 모든 요소의 좌표는 한 번의 쿼리로 조회합니다.
      * 
      * @param groupId 조회할 그룹의 고유 식별자
      * @return 그룹에 속한 맵 요소 목록 (좌표 정보 포함)
@@ -90,6 +93,14 @@ public class GroupElementServiceImpl implements IGroupElementService {
                 new LambdaQueryWrapper<GroupElementEntity>()
                         .eq(GroupElementEntity::getGroupId, groupId));
 
+        if (elementList.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 모든 요소의 좌표를 한 번에 조회
+        Map<String, List<ElementCoordinate>> coordinateMap = elementCoordinateService.getCoordinatesByElementIds(
+                elementList.stream().map(GroupElementEntity::getElementId).collect(Collectors.toList()));
+
         List<MapGroupElement> groupElementList = new ArrayList<>();
         for (GroupElementEntity elementEntity : elementList) {
             // 엔티티를 DTO로 변환
@@ -97,7 +108,8 @@ public class GroupElementServiceImpl implements IGroupElementService {
             groupElementList.add(groupElement);
 
             // 요소에 좌표 정보 추가
-            this.addCoordinateToElement(groupElement, elementEntity);
+            this.addCoordinateToElement(groupElement, elementEntity,
+                    coordinateMap.getOrDefault(elementEntity.getElementId(), new ArrayList<>()));
         }
         return groupElementList;
     }
@@ -136,7 +148,7 @@ public class GroupElementServiceImpl implements IGroupElementService {
 
     /**
      * 요소 ID를 기반으로 요소 정보를 조회하고 업데이트합니다.
-     * 기존 좌표 정보를 삭제하고 새로운 좌표 정보를 저장합니다.
+     * 기존 좌표와 비교하여 달라진 좌표만 저장합니다.
      * 
      * @param elementId 수정할 요소의 고유 식별자
      * @param elementUpdate 업데이트할 요소 정보
@@ -161,12 +173,9 @@ public class GroupElementServiceImpl implements IGroupElementService {
             return false;
         }
         
-        // 기존 좌표 정보 삭제
-        boolean delCoordinate = elementCoordinateService.deleteCoordinateByElementId(elementId);
-        // 새로운 좌표 정보 저장
-        boolean saveCoordinate = elementCoordinateService.saveCoordinate(
+        // 달라진 좌표 정보만 저장
+        return elementCoordinateService.updateCoordinate(
                 elementUpdate.getContent().getGeometry().convertToList(), elementId);
-        return delCoordinate & saveCoordinate;
     }
 
     /**
@@ -196,7 +205,8 @@ public class GroupElementServiceImpl implements IGroupElementService {
         GroupElementEntity elementEntity = elementEntityOpt.get();
         MapGroupElement groupElement = this.entityConvertToDto(elementEntity);
 
-        this.addCoordinateToElement(groupElement, elementEntity);
+        this.addCoordinateToElement(groupElement, elementEntity,
+                elementCoordinateService.getCoordinateByElementId(elementId));
         return Optional.ofNullable(groupElement2Dto(groupElement, elementEntity.getGroupId()));
     }
 
@@ -218,8 +228,10 @@ public class GroupElementServiceImpl implements IGroupElementService {
      * Adds the received coordinate data to the element object.
      * @param element
      * @param elementEntity
+     * @param coordinates
      */
-    private void addCoordinateToElement(MapGroupElement element, GroupElementEntity elementEntity) {
+    private void addCoordinateToElement(MapGroupElement element, GroupElementEntity elementEntity,
+                                        List<ElementCoordinate> coordinates) {
         Optional<ElementGeometryType> coordinateOpt = ElementTypeEnum.findType(elementEntity.getElementType());
         if (coordinateOpt.isEmpty()) {
             return;
@@ -231,8 +243,7 @@ public class GroupElementServiceImpl implements IGroupElementService {
                                 .setColor(elementEntity.getColor()))
                         .setGeometry(coordinateOpt.get()));
 
-        coordinateOpt.get().adapterCoordinateType(
-                elementCoordinateService.getCoordinateByElementId(elementEntity.getElementId()));
+        coordinateOpt.get().adapterCoordinateType(coordinates);
     }
 
     /**
@@ -34,6 +34,15 @@ public interface IFileService {
      */
     Integer saveFile(String workspaceId, MediaUploadCallbackRequest file);
 
+    /**
+     * 워크스페이스에 이미 있는 작은 지문(tiny fingerprint)을 조회합니다.
+     * 요청한 지문만 인덱스로 조회하므로 워크스페이스의 파일 수와 관계없이 비용이 일정합니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param tinyFingerprints 검사할 작은 지문 목록
+     * @return 이미 있는 작은 지문 목록 (요청 순서 유지)
+     */
+    List<String> getExistTinyFingerprints(String workspaceId, List<String> tinyFingerprints);
+
     /**
      * 워크스페이스 ID를 기반으로 해당 워크스페이스의 모든 파일 정보를 조회합니다.
      * @param workspaceId 워크스페이스 ID
@@ -2,6 +2,9 @@ package com.dji.sample.media.service;
 
 import com.dji.sample.media.model.MediaFileCountDTO;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * 미디어 Redis 서비스 인터페이스
  * 미디어 파일 업로드 진행 상황과 우선순위 정보를 Redis에 저장하고 관리하는 서비스 인터페이스입니다.
@@ -65,4 +68,59 @@ public interface IMediaRedisService {
      */
     boolean delMediaHighestPriority(String gatewaySn);
 
+    /**
+     * 워크스페이스의 작은 지문 블룸 필터와 생성 중인 필터에서 지정한 비트를 1로 설정합니다.
+     * 필터 키가 없으면 새로 만들지 않습니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param offsets 비트 위치 목록
+     */
+    void addTinyFingerprintBits(String workspaceId, Collection<Long> offsets);
+
+    /**
+     * 워크스페이스의 작은 지문 블룸 필터에서 지정한 비트를 조회합니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param offsets 비트 위치 목록
+     * @return 비트 값 목록 (offsets와 같은 순서)
+     */
+    List<Boolean> getTinyFingerprintBits(String workspaceId, List<Long> offsets);
+
+    /**
+     * 워크스페이스의 작은 지문 블룸 필터 생성을 시작합니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @return 생성을 시작한 시점의 세대 번호
+     */
+    long beginTinyFingerprintBuild(String workspaceId, String buildId);
+
+    /**
+     * 생성 중인 작은 지문 블룸 필터에서 지정한 비트를 1로 설정합니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @param offsets 비트 위치 목록
+     * @return 설정 여부. 생성 중인 필터가 만료되거나 버려졌으면 false
+     */
+    boolean setTinyFingerprintBuildBits(String workspaceId, String buildId, Collection<Long> offsets);
+
+    /**
+     * 세대 번호가 그대로이면 생성한 작은 지문 블룸 필터를 준비 완료로 표시하고 필터 키와 원자적으로 교체합니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @param generation 생성을 시작한 시점의 세대 번호
+     * @param readyOffset 준비 완료 비트 위치
+     * @return 게시 여부
+     */
+    boolean publishTinyFingerprintBuild(String workspaceId, String buildId, long generation, long readyOffset);
+
+    /**
+     * 생성 중인 작은 지문 블룸 필터를 버립니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     */
+    void discardTinyFingerprintBuild(String workspaceId, String buildId);
+
+    /**
+     * 워크스페이스의 작은 지문 블룸 필터를 삭제하고 세대 번호를 증가시킵니다.
+     * @param workspaceId 워크스페이스 ID
+     */
+    void invalidateTinyFingerprintBits(String workspaceId);
 }
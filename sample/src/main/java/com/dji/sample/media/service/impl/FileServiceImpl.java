@@ -10,22 +10,28 @@ import com.dji.sample.media.dao.IFileMapper;
 import com.dji.sample.media.model.MediaFileDTO;
 import com.dji.sample.media.model.MediaFileEntity;
 import com.dji.sample.media.service.IFileService;
+import com.dji.sample.media.service.IMediaRedisService;
 import com.dji.sdk.cloudapi.device.DeviceEnum;
 import com.dji.sdk.cloudapi.media.MediaSubFileTypeEnum;
 import com.dji.sdk.cloudapi.media.MediaUploadCallbackRequest;
 import com.dji.sdk.common.Pagination;
 import com.dji.sdk.common.PaginationData;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import javax.annotation.PostConstruct;
 import java.net.URL;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -34,23 +40,79 @@ import java.util.stream.Collectors;
  * 파일의 저장, 조회, 중복 검사, 다운로드 URL 생성 등의 기능을 제공하며,
  * MyBatis-Plus를 사용하여 데이터베이스 접근을 처리합니다.
  * 
+ * 작은 지문(tiny fingerprint) 조회는 요청한 지문만 (workspace_id, tinny_fingerprint) 인덱스로 조회합니다.
+ * media.tiny-fingerprint-filter.enable이 true이면 워크스페이스별 블룸 필터로 새 파일을 먼저 걸러내어
+ * 데이터베이스 조회를 줄입니다.
+ * 
  * @author sean
  * @version 0.2
  * @date 2021/12/9
  */
 @Service
 @Transactional
+@Slf4j
 public class FileServiceImpl implements IFileService {
 
+    /**
+     * 한 번의 쿼리로 조회할 최대 지문 수
+     */
+    private static final int FINGERPRINT_BATCH_SIZE = 1000;
+
+    /**
+     * 블룸 필터를 다시 만들 때 한 번에 읽을 지문 수
+     */
+    private static final int FILTER_REBUILD_BATCH_SIZE = 5000;
+
+    /**
+     * 블룸 필터 생성 요청 후 이 시간이 지나도 완료되지 않으면 다시 요청할 수 있습니다. (밀리초)
+     */
+    private static final long FILTER_REBUILD_RETRY_MILLIS = 600_000;
+
     @Autowired
     private IFileMapper mapper;
 
+    @Autowired
+    private IMediaRedisService mediaRedisService;
+
+    @Autowired
+    @Qualifier("threadPool")
+    private Executor threadPool;
+
+    @Value("${media.tiny-fingerprint-filter.enable: false}")
+    private boolean filterEnable;
+
+    @Value("${media.tiny-fingerprint-filter.expected-insertions: 1000000}")
+    private long filterExpectedInsertions;
+
+    @Value("${media.tiny-fingerprint-filter.fpp: 0.01}")
+    private double filterFpp;
+
+    /**
+     * 작은 지문 블룸 필터. 사용하지 않으면 null
+     */
+    private TinyFingerprintFilter tinyFingerprintFilter;
+
+    /**
+     * 블룸 필터 생성을 요청한 워크스페이스와 요청 시각
+     */
+    private final Map<String, Long> filterRebuilding = new ConcurrentHashMap<>();
+
     @Autowired
     private IDeviceDictionaryService deviceDictionaryService;
 
     @Autowired
     private OssServiceContext ossService;
 
+    /**
+     * 설정에서 사용하도록 한 경우 작은 지문 블룸 필터를 만듭니다.
+     */
+    @PostConstruct
+    private void initTinyFingerprintFilter() {
+        if (filterEnable) {
+            tinyFingerprintFilter = new TinyFingerprintFilter(mediaRedisService, filterExpectedInsertions, filterFpp);
+        }
+    }
+
     /**
      * 워크스페이스 ID와 파일 지문을 기반으로 미디어 파일 엔티티를 조회합니다.
      * @param workspaceId 워크스페이스 ID
@@ -99,7 +161,129 @@ public class FileServiceImpl implements IFileService {
         MediaFileEntity fileEntity = this.fileUploadConvertToEntity(file);
         fileEntity.setWorkspaceId(workspaceId);
         fileEntity.setFileId(UUID.randomUUID().toString());
-        return mapper.insert(fileEntity);
+        int insert = mapper.insert(fileEntity);
+        if (insert > 0 && Objects.nonNull(tinyFingerprintFilter) && StringUtils.hasText(fileEntity.getTinnyFingerprint())) {
+            try {
+                tinyFingerprintFilter.put(workspaceId, List.of(fileEntity.getTinnyFingerprint()));
+            } catch (RuntimeException e) {
+                // 필터에 없는 파일이 생기지 않도록 필터를 버리고 다시 만듭니다.
+                log.warn("Failed to add the tiny fingerprint to the filter. Workspace: {}", workspaceId, e);
+                // Redis 장애로 트랜잭션이 롤백되지 않도록 무효화 실패는 기록만 합니다.
+                try {
+                    tinyFingerprintFilter.invalidate(workspaceId);
+                } catch (RuntimeException ex) {
+                    log.error("Failed to invalidate the tiny fingerprint filter. Workspace: {}", workspaceId, ex);
+                }
+            }
+        }
+        return insert;
+    }
+
+    @Override
+    public List<String> getExistTinyFingerprints(String workspaceId, List<String> tinyFingerprints) {
+        if (tinyFingerprints.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> candidates = tinyFingerprints;
+        if (Objects.nonNull(tinyFingerprintFilter)) {
+            try {
+                Optional<List<String>> candidatesOpt = tinyFingerprintFilter.mightContain(workspaceId, tinyFingerprints);
+                if (candidatesOpt.isPresent()) {
+                    candidates = candidatesOpt.get();
+                } else {
+                    this.rebuildTinyFingerprintFilter(workspaceId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to check the tiny fingerprint filter. Workspace: {}", workspaceId, e);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> distinct = candidates.stream().distinct().collect(Collectors.toList());
+        Set<String> exist = new HashSet<>();
+        for (int from = 0; from < distinct.size(); from += FINGERPRINT_BATCH_SIZE) {
+            mapper.selectList(new LambdaQueryWrapper<MediaFileEntity>()
+                            .select(MediaFileEntity::getTinnyFingerprint)
+                            .eq(MediaFileEntity::getWorkspaceId, workspaceId)
+                            .in(MediaFileEntity::getTinnyFingerprint,
+                                    distinct.subList(from, Math.min(from + FINGERPRINT_BATCH_SIZE, distinct.size()))))
+                    .forEach(file -> exist.add(file.getTinnyFingerprint()));
+        }
+        return tinyFingerprints.stream()
+                .filter(exist::contains)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 데이터베이스의 작은 지문으로 워크스페이스의 블룸 필터를 백그라운드에서 만듭니다.
+     * 임시 키에 만든 뒤 그 사이 무효화되지 않았을 때만 게시합니다.
+     * 만드는 동안 저장된 파일은 saveFile에서 임시 키에도 넣으므로 빠지지 않습니다.
+     * @param workspaceId 워크스페이스 ID
+     */
+    private void rebuildTinyFingerprintFilter(String workspaceId) {
+        long now = System.currentTimeMillis();
+        Long requestedAt = filterRebuilding.compute(workspaceId,
+                (key, since) -> Objects.nonNull(since) && now - since < FILTER_REBUILD_RETRY_MILLIS ? since : now);
+        if (requestedAt != now) {
+            return;
+        }
+        threadPool.execute(() -> {
+            String buildId = UUID.randomUUID().toString();
+            boolean published = false;
+            try {
+                long generation = tinyFingerprintFilter.beginBuild(workspaceId, buildId);
+                String last = "";
+                List<String> page;
+                do {
+                    // (workspace_id, tinny_fingerprint) 인덱스 순서로 읽습니다.
+                    page = mapper.selectList(new LambdaQueryWrapper<MediaFileEntity>()
+                                    .select(MediaFileEntity::getTinnyFingerprint)
+                                    .eq(MediaFileEntity::getWorkspaceId, workspaceId)
+                                    .gt(MediaFileEntity::getTinnyFingerprint, last)
+                                    .orderByAsc(MediaFileEntity::getTinnyFingerprint)
+                                    .last("limit " + FILTER_REBUILD_BATCH_SIZE))
+                            .stream()
+                            .map(MediaFileEntity::getTinnyFingerprint)
+                            .collect(Collectors.toList());
+                    if (!tinyFingerprintFilter.putBuild(workspaceId, buildId, page)) {
+                        log.warn("The tiny fingerprint filter build expired. Workspace: {}", workspaceId);
+                        return;
+                    }
+                    if (!page.isEmpty()) {
+                        last = page.get(page.size() - 1);
+                    }
+                } while (page.size() == FILTER_REBUILD_BATCH_SIZE);
+                published = tinyFingerprintFilter.publishBuild(workspaceId, buildId, generation);
+                if (published) {
+                    log.info("The tiny fingerprint filter is ready. Workspace: {}", workspaceId);
+                } else {
+                    log.info("The tiny fingerprint filter was invalidated while building. Workspace: {}", workspaceId);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to build the tiny fingerprint filter. Workspace: {}", workspaceId, e);
+            } finally {
+                if (!published) {
+                    this.discardTinyFingerprintBuild(workspaceId, buildId);
+                }
+                filterRebuilding.remove(workspaceId, requestedAt);
+            }
+        });
+    }
+
+    /**
+     * 게시하지 못한 블룸 필터 임시 키를 버립니다. 실패해도 임시 키는 만료되어 정리됩니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     */
+    private void discardTinyFingerprintBuild(String workspaceId, String buildId) {
+        try {
+            tinyFingerprintFilter.discardBuild(workspaceId, buildId);
+        } catch (RuntimeException e) {
+            log.warn("Failed to discard the tiny fingerprint filter build. Workspace: {}", workspaceId, e);
+        }
     }
 
     /**
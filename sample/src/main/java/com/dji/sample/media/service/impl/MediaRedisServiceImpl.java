@@ -5,8 +5,16 @@ import com.dji.sample.component.redis.RedisOpsUtils;
 import com.dji.sample.media.model.MediaFileCountDTO;
 import com.dji.sample.media.service.IMediaRedisService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
 /**
  * 미디어 Redis 서비스 구현체
  * 미디어 파일 업로드 진행 상황과 우선순위 정보를 Redis에 저장하고 관리하는 서비스 구현 클래스입니다.
@@ -21,6 +29,56 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class MediaRedisServiceImpl implements IMediaRedisService {
 
+    /**
+     * KEYS 중 이미 있는 키에만 ARGV의 비트를 1로 설정하고, 설정한 키 수를 반환하는 스크립트
+     */
+    private static final RedisScript<Long> SET_BITS_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+            "local updated = 0 " +
+            "for _, key in ipairs(KEYS) do " +
+            "  if redis.call('EXISTS', key) == 1 then " +
+            "    for _, offset in ipairs(ARGV) do redis.call('SETBIT', key, offset, 1) end " +
+            "    updated = updated + 1 " +
+            "  end " +
+            "end " +
+            "return updated", Long.class);
+
+    /**
+     * KEYS[2] 임시 키를 ARGV[1]초 만료로 만들어 KEYS[3] 집합에 ARGV[2](직렬화한 KEYS[2])로 등록하고
+     * KEYS[1] 세대 번호를 반환하는 스크립트
+     */
+    private static final RedisScript<Long> BEGIN_BUILD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[2]) " +
+            "redis.call('SETBIT', KEYS[2], 0, 0) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[1]) " +
+            "redis.call('SADD', KEYS[3], ARGV[2]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[1]) " +
+            "return tonumber(redis.call('GET', KEYS[1]) or '0')", Long.class);
+
+    /**
+     * KEYS[1] 세대 번호가 ARGV[1]과 같으면 KEYS[2] 임시 키에 ARGV[2] 준비 완료 비트를 설정하고
+     * KEYS[3]으로 RENAME한 뒤 ARGV[3]초 만료를 설정하는 스크립트. 다르면 임시 키를 삭제합니다.
+     * 어느 경우든 KEYS[4] 집합에서 ARGV[4](직렬화한 KEYS[2])를 제거합니다.
+     */
+    private static final RedisScript<Long> PUBLISH_BUILD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SREM', KEYS[4], ARGV[4]) " +
+            "if redis.call('EXISTS', KEYS[2]) == 0 then return 0 end " +
+            "if tonumber(redis.call('GET', KEYS[1]) or '0') ~= tonumber(ARGV[1]) then " +
+            "  redis.call('DEL', KEYS[2]) " +
+            "  return 0 " +
+            "end " +
+            "redis.call('SETBIT', KEYS[2], ARGV[2], 1) " +
+            "redis.call('RENAME', KEYS[2], KEYS[3]) " +
+            "redis.call('EXPIRE', KEYS[3], ARGV[3]) " +
+            "return 1", Long.class);
+
+    /**
+     * KEYS[1] 세대 번호를 증가시키고 KEYS[2] 필터를 삭제하는 스크립트
+     */
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[1]) " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return 1", Long.class);
+
     /**
      * 미디어 파일 카운트 정보를 Redis에 저장합니다.
      * Hash 구조를 사용하여 게이트웨이별로 작업 ID와 미디어 파일 카운트 정보를 저장합니다.
@@ -101,4 +159,119 @@ public class MediaRedisServiceImpl implements IMediaRedisService {
     public boolean delMediaHighestPriority(String gatewaySn) {
         return RedisOpsUtils.del(RedisConst.MEDIA_HIGHEST_PRIORITY_PREFIX + gatewaySn);
     }
+
+    /**
+     * 작은 지문 블룸 필터의 비트를 설정합니다.
+     * 저장된 필터와 생성 중인 필터 중 키가 이미 있는 것에만 SETBIT를 실행합니다.
+     * 키를 새로 만들지 않으므로 만료 시간이나 준비 완료 비트가 없는 필터가 생기지 않습니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param offsets 비트 위치 목록
+     */
+    @Override
+    public void addTinyFingerprintBits(String workspaceId, Collection<Long> offsets) {
+        List<String> keys = new ArrayList<>();
+        keys.add(RedisConst.MEDIA_TINY_FINGERPRINT_FILTER_PREFIX + workspaceId);
+        // 생성을 시작한 필터는 데이터베이스를 읽기 전에 집합에 등록되므로, 여기서 빠진 생성은 이 파일을 데이터베이스에서 읽습니다.
+        RedisOpsUtils.setMembers(RedisConst.MEDIA_TINY_FINGERPRINT_BUILDS_PREFIX + workspaceId)
+                .forEach(key -> keys.add(String.valueOf(key)));
+        RedisOpsUtils.execute(SET_BITS_IF_EXISTS_SCRIPT, keys, offsets.toArray());
+    }
+
+    /**
+     * 작은 지문 블룸 필터의 비트를 조회합니다.
+     * GETBIT 명령을 파이프라인으로 한 번에 전송합니다. 키가 없으면 모든 비트가 false입니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param offsets 비트 위치 목록
+     * @return 비트 값 목록
+     */
+    @Override
+    public List<Boolean> getTinyFingerprintBits(String workspaceId, List<Long> offsets) {
+        String key = RedisConst.MEDIA_TINY_FINGERPRINT_FILTER_PREFIX + workspaceId;
+        return RedisOpsUtils.pipeline(operations -> offsets.forEach(
+                        offset -> operations.opsForValue().getBit(key, offset)))
+                .stream()
+                .map(Boolean.TRUE::equals)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 작은 지문 블룸 필터 생성을 시작합니다.
+     * 임시 키를 만료 시간과 함께 만들어 생성 중인 필터 집합에 등록하고, 현재 세대 번호를 반환합니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @return 생성을 시작한 시점의 세대 번호
+     */
+    @Override
+    public long beginTinyFingerprintBuild(String workspaceId, String buildId) {
+        String key = buildKey(workspaceId, buildId);
+        return RedisOpsUtils.execute(BEGIN_BUILD_SCRIPT,
+                List.of(RedisConst.MEDIA_TINY_FINGERPRINT_GENERATION_PREFIX + workspaceId, key,
+                        RedisConst.MEDIA_TINY_FINGERPRINT_BUILDS_PREFIX + workspaceId),
+                RedisConst.MEDIA_TINY_FINGERPRINT_BUILD_ALIVE_SECOND, key);
+    }
+
+    /**
+     * 생성 중인 작은 지문 블룸 필터의 비트를 설정합니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @param offsets 비트 위치 목록
+     * @return 임시 키가 있어 설정했는지 여부. 만료되거나 버려졌으면 false
+     */
+    @Override
+    public boolean setTinyFingerprintBuildBits(String workspaceId, String buildId, Collection<Long> offsets) {
+        Long updated = RedisOpsUtils.execute(SET_BITS_IF_EXISTS_SCRIPT,
+                List.of(buildKey(workspaceId, buildId)), offsets.toArray());
+        return Objects.nonNull(updated) && updated > 0;
+    }
+
+    /**
+     * 생성한 작은 지문 블룸 필터를 게시합니다.
+     * 세대 번호가 생성을 시작할 때와 같으면 준비 완료 비트와 만료 시간을 설정하고 RENAME으로 필터 키를 교체합니다.
+     * 그 사이 무효화되었으면 임시 키를 버립니다. 모두 스크립트 하나에서 원자적으로 처리합니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @param generation 생성을 시작한 시점의 세대 번호
+     * @param readyOffset 준비 완료 비트 위치
+     * @return 게시 여부
+     */
+    @Override
+    public boolean publishTinyFingerprintBuild(String workspaceId, String buildId, long generation, long readyOffset) {
+        String key = buildKey(workspaceId, buildId);
+        Long published = RedisOpsUtils.execute(PUBLISH_BUILD_SCRIPT,
+                List.of(RedisConst.MEDIA_TINY_FINGERPRINT_GENERATION_PREFIX + workspaceId, key,
+                        RedisConst.MEDIA_TINY_FINGERPRINT_FILTER_PREFIX + workspaceId,
+                        RedisConst.MEDIA_TINY_FINGERPRINT_BUILDS_PREFIX + workspaceId),
+                generation, readyOffset, RedisConst.MEDIA_TINY_FINGERPRINT_FILTER_ALIVE_SECOND, key);
+        return Objects.nonNull(published) && published > 0;
+    }
+
+    /**
+     * 생성 중인 작은 지문 블룸 필터를 버립니다.
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     */
+    @Override
+    public void discardTinyFingerprintBuild(String workspaceId, String buildId) {
+        String key = buildKey(workspaceId, buildId);
+        RedisOpsUtils.pipeline(operations -> {
+            operations.opsForSet().remove(RedisConst.MEDIA_TINY_FINGERPRINT_BUILDS_PREFIX + workspaceId, key);
+            operations.delete(key);
+        });
+    }
+
+    /**
+     * 작은 지문 블룸 필터를 무효화합니다.
+     * 세대 번호를 증가시키고 필터를 삭제하므로, 진행 중인 생성은 게시되지 않습니다.
+     * @param workspaceId 워크스페이스 ID
+     */
+    @Override
+    public void invalidateTinyFingerprintBits(String workspaceId) {
+        RedisOpsUtils.execute(INVALIDATE_SCRIPT,
+                List.of(RedisConst.MEDIA_TINY_FINGERPRINT_GENERATION_PREFIX + workspaceId,
+                        RedisConst.MEDIA_TINY_FINGERPRINT_FILTER_PREFIX + workspaceId));
+    }
+
+    private static String buildKey(String workspaceId, String buildId) {
+        return RedisConst.MEDIA_TINY_FINGERPRINT_BUILD_PREFIX + workspaceId + RedisConst.DELIMITER + buildId;
+    }
 }
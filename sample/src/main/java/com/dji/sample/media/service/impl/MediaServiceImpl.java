@@ -105,19 +105,14 @@ public class MediaServiceImpl extends AbstractMediaService implements IMediaServ
 
     /**
      * 입력받은 작은 지문(tiny fingerprint) 데이터를 기반으로 이미 존재하는 지문들을 조회합니다.
-     * 업로드 전 중복 파일 검사를 위해 사용됩니다.
+     * 업로드 전 중복 파일 검사를 위해 사용되며, 요청한 지문만 조회합니다.
      * @param workspaceId 워크스페이스 ID
      * @param tinyFingerprints 검사할 작은 지문 목록
      * @return 이미 존재하는 작은 지문 목록
      */
     @Override
     public List<String> getExistTinyFingerprints(String workspaceId, List<String> tinyFingerprints) {
-        List<String> tinyFingerprintList = this.getAllTinyFingerprintsByWorkspaceId(workspaceId);
-        return tinyFingerprints
-                .stream()
-                .filter(tinyFingerprintList::contains)
-                .collect(Collectors.toList());
-
+        return fileService.getExistTinyFingerprints(workspaceId, tinyFingerprints);
     }
 
     /**
@@ -0,0 +1,169 @@
+package com.dji.sample.media.service.impl;
+
+import com.dji.sample.media.service.IMediaRedisService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 작은 지문(tiny fingerprint) 블룸 필터
+ *
+ * 워크스페이스별로 Redis 비트맵 하나를 블룸 필터로 사용합니다.
+ * 필터가 없다고 판단한 지문은 데이터베이스에 없으므로 조회하지 않아도 됩니다.
+ * 있다고 판단한 지문은 오탐일 수 있으므로 데이터베이스에서 다시 확인해야 합니다.
+ *
+ * 비트맵의 마지막 비트(bits 위치)는 준비 완료 표시입니다.
+ * 필터는 세대 번호를 붙인 임시 키에 만든 뒤, 그 사이 무효화되지 않았을 때만 준비 완료 비트와 함께
+ * RENAME으로 원자적으로 게시합니다. 지문 추가는 이미 있는 키에만 하므로,
+ * 일부만 채워진 필터나 만료 시간이 없는 필터를 사용하는 일은 없습니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class TinyFingerprintFilter {
+
+    private final IMediaRedisService mediaRedisService;
+
+    /**
+     * 비트맵 크기 (비트)
+     */
+    private final long bits;
+
+    /**
+     * 지문 하나당 설정하는 비트 수
+     */
+    private final int hashes;
+
+    /**
+     * @param mediaRedisService 미디어 Redis 서비스
+     * @param expectedInsertions 워크스페이스당 예상 파일 수
+     * @param fpp 예상 파일 수일 때의 오탐률
+     */
+    public TinyFingerprintFilter(IMediaRedisService mediaRedisService, long expectedInsertions, double fpp) {
+        this.mediaRedisService = mediaRedisService;
+        long n = Math.max(1, expectedInsertions);
+        double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+        this.bits = Math.max(64, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+        this.hashes = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+    }
+
+    /**
+     * 지문을 필터에 넣습니다.
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param tinyFingerprints 작은 지문 목록
+     */
+    public void put(String workspaceId, Collection<String> tinyFingerprints) {
+        if (tinyFingerprints.isEmpty()) {
+            return;
+        }
+        List<Long> offsets = new ArrayList<>(tinyFingerprints.size() * hashes);
+        tinyFingerprints.forEach(fingerprint -> this.addOffsets(fingerprint, offsets));
+        mediaRedisService.addTinyFingerprintBits(workspaceId, offsets);
+    }
+
+    /**
+     * 필터 생성을 시작합니다. 이후 put으로 넣는 지문은 생성 중인 필터에도 들어갑니다.
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @return 생성을 시작한 시점의 세대 번호
+     */
+    public long beginBuild(String workspaceId, String buildId) {
+        return mediaRedisService.beginTinyFingerprintBuild(workspaceId, buildId);
+    }
+
+    /**
+     * 생성 중인 필터에 지문을 넣습니다.
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @param tinyFingerprints 작은 지문 목록
+     * @return 넣었는지 여부. 생성 중인 필터가 만료되었으면 false
+     */
+    public boolean putBuild(String workspaceId, String buildId, Collection<String> tinyFingerprints) {
+        if (tinyFingerprints.isEmpty()) {
+            return true;
+        }
+        List<Long> offsets = new ArrayList<>(tinyFingerprints.size() * hashes);
+        tinyFingerprints.forEach(fingerprint -> this.addOffsets(fingerprint, offsets));
+        return mediaRedisService.setTinyFingerprintBuildBits(workspaceId, buildId, offsets);
+    }
+
+    /**
+     * 생성한 필터를 준비 완료로 표시하고 사용 중인 필터와 교체합니다.
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     * @param generation beginBuild가 반환한 세대 번호
+     * @return 게시 여부. 생성 중 무효화되었으면 false
+     */
+    public boolean publishBuild(String workspaceId, String buildId, long generation) {
+        return mediaRedisService.publishTinyFingerprintBuild(workspaceId, buildId, generation, bits);
+    }
+
+    /**
+     * 생성 중인 필터를 버립니다.
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param buildId 생성 ID
+     */
+    public void discardBuild(String workspaceId, String buildId) {
+        mediaRedisService.discardTinyFingerprintBuild(workspaceId, buildId);
+    }
+
+    /**
+     * 필터를 삭제하고 진행 중인 생성이 게시되지 않게 합니다. 다음 조회 시 다시 만들어야 합니다.
+     *
+     * @param workspaceId 워크스페이스 ID
+     */
+    public void invalidate(String workspaceId) {
+        mediaRedisService.invalidateTinyFingerprintBits(workspaceId);
+    }
+
+    /**
+     * 데이터베이스에 있을 수 있는 지문만 골라냅니다.
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @param tinyFingerprints 작은 지문 목록
+     * @return 있을 수 있는 지문 목록. 필터가 준비되지 않았으면 empty
+     */
+    public Optional<List<String>> mightContain(String workspaceId, List<String> tinyFingerprints) {
+        List<Long> offsets = new ArrayList<>(tinyFingerprints.size() * hashes + 1);
+        tinyFingerprints.forEach(fingerprint -> this.addOffsets(fingerprint, offsets));
+        offsets.add(bits);
+
+        List<Boolean> values = mediaRedisService.getTinyFingerprintBits(workspaceId, offsets);
+        if (!values.get(values.size() - 1)) {
+            return Optional.empty();
+        }
+
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < tinyFingerprints.size(); i++) {
+            if (!values.subList(i * hashes, (i + 1) * hashes).contains(false)) {
+                candidates.add(tinyFingerprints.get(i));
+            }
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * 지문의 비트 위치를 계산합니다.
+     * 64비트 FNV-1a 해시 하나에서 두 값을 얻어 h1 + i * h2 방식으로 hashes개의 위치를 만듭니다.
+     */
+    private void addOffsets(String fingerprint, List<Long> offsets) {
+        long h1 = 0xcbf29ce484222325L;
+        for (byte b : fingerprint.getBytes(StandardCharsets.UTF_8)) {
+            h1 ^= b & 0xFF;
+            h1 *= 0x100000001b3L;
+        }
+        long h2 = Long.rotateLeft(h1 * 0x9E3779B97F4A7C15L, 31) | 1;
+        for (int i = 0; i < hashes; i++) {
+            offsets.add(Math.floorMod(h1 + i * h2, bits));
+        }
+    }
+}
@@ -114,7 +114,9 @@ public class ConditionalWaylineJobKey {
         }
         // Redis 키를 구분자로 분리하여 각 구성 요소 추출
         String[] keyArr = key.split(RedisConst.DELIMITER);
-        new ConditionalWaylineJobKey(keyArr[0], keyArr[1], keyArr[2]);
+        this.workspaceId = keyArr[0];
+        this.dockSn = keyArr[1];
+        this.jobId = keyArr[2];
     }
 
     /**
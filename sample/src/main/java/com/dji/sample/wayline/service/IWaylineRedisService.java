@@ -5,6 +5,7 @@ import com.dji.sample.wayline.model.dto.ConditionalWaylineJobKey;
 import com.dji.sample.wayline.model.dto.WaylineJobDTO;
 import com.dji.sdk.cloudapi.wayline.FlighttaskProgress;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -89,6 +90,29 @@ public interface IWaylineRedisService {
      */
     Boolean delPausedWaylineJob(String dockSn);
 
+    /**
+     * 실행 중인 웨이라인 작업 상태를 삭제하고 일시 정지한 작업으로 저장합니다. 두 작업은 원자적으로 수행됩니다.
+     * 
+     * @param dockSn Dock 시리얼 번호
+     * @param jobId 일시 정지된 웨이라인 작업 ID
+     */
+    void pauseRunningWaylineJob(String dockSn, String jobId);
+
+    /**
+     * 일시 정지한 작업을 삭제하고 실행 중인 웨이라인 작업 상태로 저장합니다. 두 작업은 원자적으로 수행됩니다.
+     * 
+     * @param dockSn Dock 시리얼 번호
+     * @param data 저장할 웨이라인 작업 진행 상태 데이터. null이면 일시 정지한 작업만 삭제합니다.
+     */
+    void resumePausedWaylineJob(String dockSn, EventsReceiver<FlighttaskProgress> data);
+
+    /**
+     * 끝난 웨이라인 작업의 상태를 정리합니다. 실행 중인 작업 상태와 일시 정지한 작업을 한 번에 삭제합니다.
+     * 
+     * @param dockSn Dock 시리얼 번호
+     */
+    void endWaylineJob(String dockSn);
+
     /**
      * Dock이 차단한 웨이라인 작업을 Redis에 저장합니다.
      * 
@@ -137,25 +161,13 @@ public interface IWaylineRedisService {
     Boolean addPrepareConditionalWaylineJob(WaylineJobDTO waylineJob);
 
     /**
-     * 가장 가까운 조건부 웨이라인 작업을 조회합니다.
+     * 준비 시각이 된 조건부 웨이라인 작업을 준비 큐에서 꺼냅니다.
      * 
-     * @return 가장 가까운 조건부 웨이라인 작업 키 (Optional로 래핑되어 있음)
-     */
-    Optional<ConditionalWaylineJobKey> getNearestConditionalWaylineJob();
-
-    /**
-     * 조건부 웨이라인 작업의 시간을 조회합니다.
-     * 
-     * @param jobKey 조건부 웨이라인 작업 키
-     * @return 조건부 웨이라인 작업 시간 (Double 타입)
-     */
-    Double getConditionalWaylineJobTime(ConditionalWaylineJobKey jobKey);
-
-    /**
-     * 준비 상태의 조건부 웨이라인 작업을 Redis에서 제거합니다.
+     * 조회와 삭제를 원자적으로 수행하므로 여러 서버 인스턴스 중 한 곳에서만 반환됩니다.
      * 
-     * @param jobKey 제거할 조건부 웨이라인 작업 키
-     * @return 제거 성공 여부
+     * @param maxTime 최대 작업 시간 (밀리초)
+     * @param limit 최대 개수
+     * @return 조건부 웨이라인 작업 키 목록 (작업 시간 오름차순)
      */
-    Boolean removePrepareConditionalWaylineJob(ConditionalWaylineJobKey jobKey);
+    List<ConditionalWaylineJobKey> pollPrepareConditionalWaylineJobs(long maxTime, int limit);
 }
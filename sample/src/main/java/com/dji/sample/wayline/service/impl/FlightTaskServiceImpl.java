@@ -36,18 +36,22 @@ import com.dji.sdk.mqtt.services.TopicServicesResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpStatus;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import javax.annotation.PostConstruct;
 import java.net.URL;
 import java.sql.SQLException;
 import java.time.*;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 /**
@@ -71,8 +75,8 @@ import java.util.stream.Collectors;
  * - IFlightTaskService: 비행 작업 서비스 인터페이스 구현
  * 
  * 스케줄링 기능:
- * - checkScheduledJob(): 예약 작업 자동 실행 (5초마다)
- * - prepareConditionJob(): 조건부 작업 준비 (5초마다)
+ * - checkScheduledJob(): 예약 작업 자동 실행 (1초마다, 실행 시간이 된 작업을 모두 Dock별 병렬 실행)
+ * - prepareConditionJob(): 조건부 작업 준비 (1초마다, 준비 시각이 된 작업을 모두 Dock별 병렬 준비)
  * 
  * @author sean
  * @version 1.1
@@ -80,7 +84,7 @@ import java.util.stream.Collectors;
  */
 @Service
 @Slf4j
-public class FlightTaskServiceImpl extends AbstractWaylineService implements IFlightTaskService {
+public class FlightTaskServiceImpl extends AbstractWaylineService implements IFlightTaskService, DisposableBean {
 
     /**
      * JSON 직렬화/역직렬화를 위한 ObjectMapper
@@ -146,101 +150,150 @@ public class FlightTaskServiceImpl extends AbstractWaylineService implements IFl
     private AbstractMediaService abstractMediaService;
 
     /**
-     * 예약 작업 스케줄링 체크
+     * 예약 작업을 미리 발행하는 시간 및 만료 판정 시간 (밀리초)
+     */
+    private static final long TIMED_JOB_OFFSET = 30_000;
+
+    /**
+     * 조건부 작업을 미리 준비하는 시간 (밀리초)
+     */
+    private static final long CONDITION_JOB_PREPARE_OFFSET = 86_400_000;
+
+    /**
+     * 스케줄러가 Redis에서 한 번에 꺼내는 작업 수
+     */
+    @Value("${wayline.scheduler.batch-size: 500}")
+    private int scheduleBatchSize;
+
+    /**
+     * 작업 실행 스레드 수 (동시에 작업을 실행할 수 있는 Dock 수)
+     */
+    @Value("${thread.pool.wayline-dispatch.pool-size: 128}")
+    private int dispatchPoolSize;
+
+    /**
+     * Dock별 작업 실행기
+     */
+    private WaylineJobDispatcher dispatcher;
+
+    /**
+     * 스케줄러가 실행 시간을 판단하는 시계
+     */
+    private Clock clock = Clock.systemUTC();
+
+    @PostConstruct
+    public void initDispatcher() {
+        dispatcher = new WaylineJobDispatcher(dispatchPoolSize);
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdown();
+    }
+
+    /**
+     * 예약 작업 자동 실행 스케줄링
      * 
-     * 이 메서드는 5초마다 실행되어 예약된 웨이라인 작업을 확인하고 자동으로 실행합니다.
-     * Redis의 정렬된 집합(Sorted Set)을 사용하여 실행 시간이 도래한 작업을 찾고,
-     * 만료된 작업은 자동으로 삭제하며, 실행 가능한 작업은 즉시 실행합니다.
+     * 이 메서드는 1초마다 실행되어 실행 시간이 된 예약 웨이라인 작업을 모두 꺼내 실행합니다.
+     * Redis의 정렬된 집합(Sorted Set)에서 작업을 원자적으로 꺼내므로
+     * 여러 서버 인스턴스가 동시에 실행해도 같은 작업은 한 곳에서만 실행됩니다.
      * 
      * 처리 과정:
-     * 1. Redis에서 가장 가까운 실행 시간의 작업 조회
-     * 2. 작업 실행 시간 확인 및 만료 작업 삭제
-     * 3. 실행 가능한 작업 즉시 실행
-     * 4. 실행 완료 후 Redis에서 작업 제거
+     * 1. 실행 시간이 30초 넘게 지난 작업을 모두 꺼내 실패 처리
+     * 2. 30초 안에 실행 시간이 되는 작업을 모두 꺼냄
+     * 3. Dock별 작업 실행기에 넘겨 병렬로 실행 (같은 Dock의 작업은 순서대로)
      * 
      * Redis 키: WAYLINE_JOB_TIMED_EXECUTE
      * 값 형식: "{workspace_id}:{dock_sn}:{job_id}"
      * 점수: 실행 시간 (Unix timestamp)
      */
-    @Scheduled(initialDelay = 10, fixedRate = 5, timeUnit = TimeUnit.SECONDS)
+    @Scheduled(initialDelay = 10, fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
     public void checkScheduledJob() {
-        // Redis에서 가장 가까운 실행 시간의 작업 조회
-        Object jobIdValue = RedisOpsUtils.zGetMin(RedisConst.WAYLINE_JOB_TIMED_EXECUTE);
-        if (Objects.isNull(jobIdValue)) {
-            return;
-        }
-        log.info("Check the timed tasks of the wayline. {}", jobIdValue);
-        
-        // 작업 정보 파싱: {workspace_id}:{dock_sn}:{job_id}
-        String[] jobArr = String.valueOf(jobIdValue).split(RedisConst.DELIMITER);
-        double time = RedisOpsUtils.zScore(RedisConst.WAYLINE_JOB_TIMED_EXECUTE, jobIdValue);
-        long now = System.currentTimeMillis();
-        int offset = 30_000; // 30초 오프셋
-
-        // 만료된 작업은 즉시 삭제하고 실패 상태로 업데이트
-        if (time < now - offset) {
-            RedisOpsUtils.zRemove(RedisConst.WAYLINE_JOB_TIMED_EXECUTE, jobIdValue);
-            waylineJobService.updateJob(WaylineJobDTO.builder()
-                    .jobId(jobArr[2])
-                    .status(WaylineJobStatusEnum.FAILED.getVal())
-                    .executeTime(LocalDateTime.now())
-                    .completedTime(LocalDateTime.now())
-                    .code(HttpStatus.SC_REQUEST_TIMEOUT).build());
-            return;
-        }
+        long now = clock.millis();
 
-        // 실행 가능한 작업 즉시 실행
-        if (now <= time && time <= now + offset) {
-            try {
-                this.executeFlightTask(jobArr[0], jobArr[2]);
-            } catch (Exception e) {
-                log.info("The scheduled task delivery failed.");
-                waylineJobService.updateJob(WaylineJobDTO.builder()
-                        .jobId(jobArr[2])
-                        .status(WaylineJobStatusEnum.FAILED.getVal())
-                        .executeTime(LocalDateTime.now())
-                        .completedTime(LocalDateTime.now())
-                        .code(HttpStatus.SC_INTERNAL_SERVER_ERROR).build());
-            } finally {
-                RedisOpsUtils.zRemove(RedisConst.WAYLINE_JOB_TIMED_EXECUTE, jobIdValue);
+        // 만료된 작업은 실패 상태로 업데이트
+        this.pollTimedJobs(now - TIMED_JOB_OFFSET - 1, (dockSn, jobArr) ->
+                dispatcher.dispatch(dockSn, () -> this.failTimedJob(jobArr[2], HttpStatus.SC_REQUEST_TIMEOUT)));
+
+        // 실행 가능한 작업 실행
+        this.pollTimedJobs(now + TIMED_JOB_OFFSET, (dockSn, jobArr) ->
+                dispatcher.dispatch(dockSn, () -> this.runTimedJob(jobArr[0], jobArr[2])));
+    }
+
+    /**
+     * 실행 시간이 기준 이하인 예약 작업을 모두 꺼냅니다.
+     * 
+     * @param maxTime 최대 실행 시간 (밀리초)
+     * @param consumer Dock 시리얼 번호와 {workspace_id, dock_sn, job_id}를 받는 처리기
+     */
+    private void pollTimedJobs(long maxTime, BiConsumer<String, String[]> consumer) {
+        List<Object> jobs;
+        do {
+            jobs = RedisOpsUtils.zPopByScore(RedisConst.WAYLINE_JOB_TIMED_EXECUTE, maxTime, scheduleBatchSize);
+            for (Object jobIdValue : jobs) {
+                log.info("Check the timed tasks of the wayline. {}", jobIdValue);
+                // 작업 정보 파싱: {workspace_id}:{dock_sn}:{job_id}
+                String[] jobArr = String.valueOf(jobIdValue).split(RedisConst.DELIMITER);
+                consumer.accept(jobArr[1], jobArr);
             }
+        } while (jobs.size() >= scheduleBatchSize);
+    }
+
+    /**
+     * 예약 작업을 실행합니다. 작업 실행기 스레드에서 호출됩니다.
+     */
+    private void runTimedJob(String workspaceId, String jobId) {
+        try {
+            this.executeFlightTask(workspaceId, jobId);
+        } catch (Exception e) {
+            log.info("The scheduled task delivery failed.");
+            this.failTimedJob(jobId, HttpStatus.SC_INTERNAL_SERVER_ERROR);
         }
     }
 
+    private void failTimedJob(String jobId, int code) {
+        waylineJobService.updateJob(WaylineJobDTO.builder()
+                .jobId(jobId)
+                .status(WaylineJobStatusEnum.FAILED.getVal())
+                .executeTime(LocalDateTime.now())
+                .completedTime(LocalDateTime.now())
+                .code(code).build());
+    }
+
     /**
      * 조건부 작업 준비 스케줄링
      * 
-     * 이 메서드는 5초마다 실행되어 조건부 웨이라인 작업을 준비합니다.
+     * 이 메서드는 1초마다 실행되어 준비 시각이 된 조건부 웨이라인 작업을 모두 꺼내 준비합니다.
      * 실행 시간 하루 전부터 작업을 준비 상태로 설정하고,
      * 조건이 만족되면 자동으로 실행합니다.
      * 
      * 처리 과정:
-     * 1. 가장 가까운 조건부 작업 조회
-     * 2. 실행 시간 확인 (하루 전부터 준비)
-     * 3. 작업 준비 및 실행 시도
-     * 4. 실패 시 재시도 로직 처리
+     * 1. 실행 시간이 하루 안으로 남은 조건부 작업을 모두 꺼냄 (원자적)
+     * 2. Dock별 작업 실행기에 넘겨 병렬로 준비
+     * 3. 실패 시 재시도 로직 처리
      * 
      * 조건부 작업: 특정 조건(배터리, 저장공간 등)이 만족될 때 실행되는 작업
      */
-    @Scheduled(initialDelay = 10, fixedRate = 5, timeUnit = TimeUnit.SECONDS)
+    @Scheduled(initialDelay = 10, fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
     public void prepareConditionJob() {
-        // 가장 가까운 조건부 작업 조회
-        Optional<ConditionalWaylineJobKey> jobKeyOpt = waylineRedisService.getNearestConditionalWaylineJob();
-        if (jobKeyOpt.isEmpty()) {
-            return;
-        }
-        ConditionalWaylineJobKey jobKey = jobKeyOpt.get();
-        log.info("Check the conditional tasks of the wayline. {}", jobKey.toString());
-        
-        // 실행 시간 확인 (하루 전부터 준비)
-        double time = waylineRedisService.getConditionalWaylineJobTime(jobKey);
-        long now = System.currentTimeMillis();
-        int offset = 86_400_000; // 24시간 (밀리초)
-
-        if (now + offset < time) {
-            return;
-        }
+        List<ConditionalWaylineJobKey> jobKeys;
+        do {
+            long now = clock.millis();
+            jobKeys = waylineRedisService.pollPrepareConditionalWaylineJobs(now + CONDITION_JOB_PREPARE_OFFSET, scheduleBatchSize);
+            for (ConditionalWaylineJobKey jobKey : jobKeys) {
+                log.info("Check the conditional tasks of the wayline. {}", jobKey.toString());
+                dispatcher.dispatch(jobKey.getDockSn(), () -> this.prepareConditionJob(jobKey));
+            }
+        } while (jobKeys.size() >= scheduleBatchSize);
+    }
 
+    /**
+     * 조건부 작업을 준비합니다. 작업 실행기 스레드에서 호출됩니다.
+     * 작업은 준비 큐에서 이미 꺼낸 상태입니다.
+     * 
+     * @param jobKey 조건부 웨이라인 작업 키
+     */
+    private void prepareConditionJob(ConditionalWaylineJobKey jobKey) {
         // 작업 준비 및 실행 시도
         WaylineJobDTO job = WaylineJobDTO.builder()
                 .jobId(jobKey.getJobId())
@@ -254,22 +307,20 @@ public class FlightTaskServiceImpl extends AbstractWaylineService implements IFl
             if (waylineJobOpt.isEmpty()) {
                 job.setCode(CommonErrorEnum.REDIS_DATA_NOT_FOUND.getCode());
                 waylineJobService.updateJob(job);
-                waylineRedisService.removePrepareConditionalWaylineJob(jobKey);
                 return;
             }
             WaylineJobDTO waylineJob = waylineJobOpt.get();
 
             // 작업 실행 시도
             HttpResultResponse result = this.publishOneFlightTask(waylineJob);
-            waylineRedisService.removePrepareConditionalWaylineJob(jobKey);
-
             if (HttpResultResponse.CODE_SUCCESS == result.getCode()) {
                 return;
             }
 
             // 종료 시간 초과 시 재시도하지 않음
             waylineRedisService.delConditionalWaylineJob(jobKey.getJobId());
-            if (waylineJob.getEndTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() - RedisConst.WAYLINE_JOB_BLOCK_TIME * 1000 < now) {
+            if (waylineJob.getEndTime().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                    - RedisConst.WAYLINE_JOB_BLOCK_TIME * 1000 < System.currentTimeMillis()) {
                 return;
             }
 
@@ -748,8 +799,7 @@ public class FlightTaskServiceImpl extends AbstractWaylineService implements IFl
         }
         
         // Redis 상태 업데이트
-        waylineRedisService.delRunningWaylineJob(dockSn);
-        waylineRedisService.setPausedWaylineJob(dockSn, jobId);
+        waylineRedisService.pauseRunningWaylineJob(dockSn, jobId);
     }
 
     /**
@@ -775,8 +825,7 @@ public class FlightTaskServiceImpl extends AbstractWaylineService implements IFl
         }
 
         // Redis 상태 업데이트
-        runningDataOpt.ifPresent(runningData -> waylineRedisService.setRunningWaylineJob(dockSn, runningData));
-        waylineRedisService.delPausedWaylineJob(dockSn);
+        waylineRedisService.resumePausedWaylineJob(dockSn, runningDataOpt.orElse(null));
     }
 
     /**
@@ -0,0 +1,276 @@
+package com.dji.sample.wayline.service.impl;
+
+import com.dji.sample.wayline.model.dto.KmzFileProperties;
+import com.dji.sample.wayline.model.dto.WaylineFileDTO;
+import com.dji.sdk.cloudapi.device.DeviceDomainEnum;
+import com.dji.sdk.cloudapi.device.DeviceEnum;
+import com.dji.sdk.cloudapi.device.DeviceSubTypeEnum;
+import com.dji.sdk.cloudapi.device.DeviceTypeEnum;
+import com.dji.sdk.cloudapi.wayline.WaylineTypeEnum;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * KMZ 파일 가져오기 스트림
+ *
+ * 업로드된 KMZ 파일을 한 번만 읽으면서 template.kml의 메타데이터 추출, MD5 계산, OSS 업로드를 함께 수행합니다.
+ *
+ * 1. readTemplate()가 ZIP 엔트리를 순서대로 읽고, template.kml에서 필요한 값(드론/페이로드 열거값, 템플릿 타입)만
+ *    StAX로 읽은 뒤 바로 멈춥니다. 이때 읽은 원본 바이트는 보관합니다.
+ * 2. 이후 이 스트림을 읽으면 보관한 바이트를 먼저 돌려주고 나머지 원본을 이어서 돌려주므로,
+ *    그대로 OSS 멀티파트 업로드에 넘길 수 있습니다. 전체 크기는 알 수 없으므로 스트림이 끝날 때까지 읽어야 합니다.
+ * 3. 원본에서 읽은 모든 바이트는 MD5 계산에 한 번씩만 들어갑니다.
+ *
+ * template.kml이 앞쪽에 없어 보관한 바이트가 제한을 넘으면 보관을 중단합니다.
+ * 이 경우 isReplayable()이 false이며, 호출자는 원본을 다시 열어 업로드해야 합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class KmzImportStream extends InputStream {
+
+    /**
+     * 메타데이터를 읽는 동안 보관할 최대 바이트 수 (8MB)
+     */
+    private static final int REPLAY_LIMIT = 8 * 1024 * 1024;
+
+    private static final String TEMPLATE_ENTRY = KmzFileProperties.FILE_DIR_FIRST + "/" + KmzFileProperties.FILE_DIR_SECOND_TEMPLATE;
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        XML_INPUT_FACTORY.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+    }
+
+    private final DigestInputStream source;
+
+    /**
+     * 메타데이터를 읽는 동안 원본에서 읽은 바이트. 제한을 넘으면 null
+     */
+    private ReplayBuffer recorded = new ReplayBuffer();
+
+    private byte[] replay;
+
+    private int replayPos;
+
+    private int replayLength;
+
+    /**
+     * true이면 원본에서 읽은 바이트를 보관합니다.
+     */
+    private boolean recording;
+
+    public KmzImportStream(InputStream source) {
+        try {
+            this.source = new DigestInputStream(source, MessageDigest.getInstance("MD5"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * template.kml에서 웨이라인 파일 메타데이터를 읽습니다.
+     * 드론 모델, 페이로드 모델, 템플릿 타입만 채워진 객체를 반환합니다.
+     *
+     * @return 메타데이터. template.kml이 없으면 empty
+     * @throws IOException 파일을 읽지 못한 경우
+     * @throws RuntimeException 파일 형식이 올바르지 않은 경우
+     */
+    public Optional<WaylineFileDTO> readTemplate() throws IOException {
+        recording = true;
+        try {
+            // ZipInputStream은 닫지 않습니다. 닫으면 원본도 닫힙니다.
+            ZipInputStream unzipFile = new ZipInputStream(this, StandardCharsets.UTF_8);
+            ZipEntry nextEntry = unzipFile.getNextEntry();
+            while (Objects.nonNull(nextEntry)) {
+                if (TEMPLATE_ENTRY.equals(nextEntry.getName())) {
+                    return Optional.of(this.parseTemplate(unzipFile));
+                }
+                nextEntry = unzipFile.getNextEntry();
+            }
+            return Optional.empty();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            recording = false;
+            if (Objects.nonNull(recorded)) {
+                replay = recorded.buffer();
+                replayLength = recorded.size();
+                recorded = null;
+            }
+        }
+    }
+
+    /**
+     * readTemplate()에서 읽은 바이트를 다시 읽을 수 있는지 여부.
+     * false이면 이 스트림을 처음부터 다시 읽을 수 없습니다.
+     */
+    public boolean isReplayable() {
+        return Objects.nonNull(replay);
+    }
+
+    /**
+     * 원본을 끝까지 읽은 뒤 MD5 값을 반환합니다.
+     * 아직 읽지 않은 바이트가 있으면 모두 읽어 계산에 포함합니다.
+     *
+     * @return 16진수 MD5 값
+     */
+    public String getMd5Hex() throws IOException {
+        replay = null;
+        source.transferTo(OutputStream.nullOutputStream());
+        StringBuilder hex = new StringBuilder(32);
+        for (byte b : source.getMessageDigest().digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] one = new byte[1];
+        int n = this.read(one, 0, 1);
+        return n <= 0 ? -1 : one[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!recording && Objects.nonNull(replay) && replayPos < replayLength) {
+            int n = Math.min(len, replayLength - replayPos);
+            System.arraycopy(replay, replayPos, b, off, n);
+            replayPos += n;
+            return n;
+        }
+        int n = source.read(b, off, len);
+        if (recording && n > 0 && Objects.nonNull(recorded)) {
+            if (recorded.size() + n > REPLAY_LIMIT) {
+                recorded = null;
+            } else {
+                recorded.write(b, off, n);
+            }
+        }
+        return n;
+    }
+
+    /**
+     * 막히지 않고 읽을 수 있는 바이트 수. 보관한 바이트와 원본의 available()을 합산한 추정값이며, 남은 크기가 아닙니다.
+     */
+    @Override
+    public int available() throws IOException {
+        int pending = Objects.isNull(replay) || recording ? 0 : replayLength - replayPos;
+        return pending + source.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    /**
+     * template.kml에서 드론 정보, 페이로드 정보, 템플릿 타입을 읽고, 모두 읽으면 나머지는 읽지 않습니다.
+     */
+    private WaylineFileDTO parseTemplate(InputStream kml) throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(kml);
+        try {
+            if (!StandardCharsets.UTF_8.name().equals(reader.getCharacterEncodingScheme())) {
+                throw new RuntimeException("The file encoding format is incorrect.");
+            }
+
+            String droneEnum = null, droneSubEnum = null, payloadEnum = null, payloadSubEnum = null, templateType = null;
+            // 0: 읽기 전, 1: 읽는 중, 2: 읽음
+            int droneInfo = 0, payloadInfo = 0;
+            while (reader.hasNext() && (droneInfo < 2 || payloadInfo < 2 || Objects.isNull(templateType))) {
+                int event = reader.next();
+                if (XMLStreamConstants.END_ELEMENT == event) {
+                    if (droneInfo == 1 && isWpml(reader, KmzFileProperties.TAG_DRONE_INFO)) {
+                        droneInfo = 2;
+                    } else if (payloadInfo == 1 && isWpml(reader, KmzFileProperties.TAG_PAYLOAD_INFO)) {
+                        payloadInfo = 2;
+                    }
+                    continue;
+                }
+                if (XMLStreamConstants.START_ELEMENT != event) {
+                    continue;
+                }
+                if (droneInfo == 0 && isWpml(reader, KmzFileProperties.TAG_DRONE_INFO)) {
+                    droneInfo = 1;
+                } else if (payloadInfo == 0 && isWpml(reader, KmzFileProperties.TAG_PAYLOAD_INFO)) {
+                    payloadInfo = 1;
+                } else if (Objects.isNull(templateType) && isWpml(reader, KmzFileProperties.TAG_TEMPLATE_TYPE)) {
+                    templateType = reader.getElementText().trim();
+                } else if (droneInfo == 1 && Objects.isNull(droneEnum) && isWpml(reader, KmzFileProperties.TAG_DRONE_ENUM_VALUE)) {
+                    droneEnum = reader.getElementText();
+                } else if (droneInfo == 1 && Objects.isNull(droneSubEnum) && isWpml(reader, KmzFileProperties.TAG_DRONE_SUB_ENUM_VALUE)) {
+                    droneSubEnum = reader.getElementText();
+                } else if (payloadInfo == 1 && Objects.isNull(payloadEnum) && isWpml(reader, KmzFileProperties.TAG_PAYLOAD_ENUM_VALUE)) {
+                    payloadEnum = reader.getElementText();
+                } else if (payloadInfo == 1 && Objects.isNull(payloadSubEnum) && isWpml(reader, KmzFileProperties.TAG_PAYLOAD_SUB_ENUM_VALUE)) {
+                    payloadSubEnum = reader.getElementText();
+                }
+            }
+
+            // 드론 정보와 페이로드 정보 노드 검증
+            if (droneInfo == 0 || payloadInfo == 0) {
+                throw new RuntimeException("The file format is incorrect.");
+            }
+
+            // 드론 및 페이로드 타입 정보 추출
+            DeviceTypeEnum type = DeviceTypeEnum.find(parseInt(droneEnum));
+            DeviceSubTypeEnum subType = DeviceSubTypeEnum.find(parseInt(droneSubEnum));
+            DeviceTypeEnum payloadType = DeviceTypeEnum.find(parseInt(payloadEnum));
+            DeviceSubTypeEnum payloadSubType = DeviceSubTypeEnum.find(parseInt(payloadSubEnum));
+
+            return WaylineFileDTO.builder()
+                    .droneModelKey(DeviceEnum.find(DeviceDomainEnum.DRONE, type, subType).getDevice())
+                    .payloadModelKeys(List.of(DeviceEnum.find(DeviceDomainEnum.PAYLOAD, payloadType, payloadSubType).getDevice()))
+                    .templateTypes(List.of(WaylineTypeEnum.find(Objects.requireNonNullElse(templateType, "")).getValue()))
+                    .build();
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static boolean isWpml(XMLStreamReader reader, String tag) {
+        return tag.equals(reader.getLocalName())
+                && KmzFileProperties.TAG_WPML_PREFIX.equals(reader.getPrefix() + ":");
+    }
+
+    private static int parseInt(String value) {
+        return Integer.parseInt(Objects.requireNonNullElse(value, "").trim());
+    }
+
+    /**
+     * 내부 배열을 복사 없이 꺼낼 수 있는 ByteArrayOutputStream
+     */
+    private static final class ReplayBuffer extends ByteArrayOutputStream {
+
+        private ReplayBuffer() {
+            super(64 * 1024);
+        }
+
+        private byte[] buffer() {
+            return buf;
+        }
+    }
+}
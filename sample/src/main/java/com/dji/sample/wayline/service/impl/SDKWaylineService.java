@@ -56,7 +56,6 @@ import java.util.Optional;
  * 의존성:
  * - IDeviceRedisService: 디바이스 온라인 상태 관리
  * - IWaylineRedisService: 웨이라인 작업 상태 캐싱
- * - IMediaRedisService: 미디어 파일 카운트 관리
  * - IWebSocketMessageService: 실시간 메시지 전송
  * - IWaylineJobService: 웨이라인 작업 데이터 관리
  * - IWaylineFileService: 웨이라인 파일 관리
@@ -83,13 +82,6 @@ public class SDKWaylineService extends AbstractWaylineService {
     @Autowired
     private IWaylineRedisService waylineRedisService;
 
-    /**
-     * 미디어 Redis 서비스
-     * 미디어 파일 카운트 정보를 관리하는 서비스
-     */
-    @Autowired
-    private IMediaRedisService mediaRedisService;
-
     /**
      * WebSocket 메시지 서비스
      * 실시간으로 클라이언트에게 메시지를 전송하는 서비스
@@ -111,6 +103,13 @@ public class SDKWaylineService extends AbstractWaylineService {
     @Autowired
     private IWaylineFileService waylineFileService;
 
+    /**
+     * 미디어 Redis 서비스
+     * 작업별 미디어 파일 업로드 카운트를 관리하는 서비스
+     */
+    @Autowired
+    private IMediaRedisService mediaRedisService;
+
     /**
      * 디바이스 귀환 알림 처리
      * 
@@ -133,8 +132,8 @@ public class SDKWaylineService extends AbstractWaylineService {
      * 처리 과정:
      * 1. MQTT 이벤트 데이터를 EventsReceiver로 변환
      * 2. 디바이스 온라인 상태 확인
-     * 3. 작업 진행 상황을 Redis에 캐싱
-     * 4. 작업 완료 시 데이터베이스 업데이트 및 미디어 카운트 기록
+     * 3. 진행 중이면 작업 진행 상황을 Redis에 캐싱
+     * 4. 작업 완료 시 데이터베이스 업데이트 후 작업 상태 삭제와 미디어 카운트 기록을 한 번의 파이프라인으로 전송
      * 5. WebSocket을 통해 실시간 상태 전송
      * 
      * @param response 웨이라인 작업 진행 상황 이벤트 요청
@@ -163,11 +162,11 @@ public class SDKWaylineService extends AbstractWaylineService {
         }
 
         FlighttaskStatusEnum statusEnum = output.getStatus();
-        // 작업 진행 상황을 Redis에 캐싱
-        waylineRedisService.setRunningWaylineJob(response.getGateway(), eventsReceiver);
-
-        // 작업 완료 시 처리
-        if (statusEnum.isEnd()) {
+        if (!statusEnum.isEnd()) {
+            // 작업 진행 상황을 Redis에 캐싱
+            waylineRedisService.setRunningWaylineJob(response.getGateway(), eventsReceiver);
+        } else {
+            // 작업 완료 시 처리. 곧 삭제할 진행 상황은 캐싱하지 않습니다.
             WaylineJobDTO job = WaylineJobDTO.builder()
                     .jobId(response.getBid())
                     .status(WaylineJobStatusEnum.SUCCESS.getVal())
@@ -175,21 +174,21 @@ public class SDKWaylineService extends AbstractWaylineService {
                     .mediaCount(output.getExt().getMediaCount())
                     .build();
 
-            // 미디어 파일 카운트 기록
-            if (Objects.nonNull(job.getMediaCount()) && job.getMediaCount() != 0) {
-                mediaRedisService.setMediaCount(response.getGateway(), job.getJobId(),
-                        MediaFileCountDTO.builder().deviceSn(deviceOpt.get().getChildDeviceSn())
-                                .jobId(response.getBid()).mediaCount(job.getMediaCount()).uploadedCount(0).build());
-            }
-
             // 작업 실패 시 상태 업데이트
             if (FlighttaskStatusEnum.OK != statusEnum) {
                 job.setCode(eventsReceiver.getResult().getCode());
                 job.setStatus(WaylineJobStatusEnum.FAILED.getVal());
             }
             waylineJobService.updateJob(job);
-            waylineRedisService.delRunningWaylineJob(response.getGateway());
-            waylineRedisService.delPausedWaylineJob(response.getBid());
+
+            waylineRedisService.endWaylineJob(response.getGateway());
+
+            // 업로드할 미디어 파일이 있으면 카운트 기록
+            if (Objects.nonNull(job.getMediaCount()) && job.getMediaCount() != 0) {
+                mediaRedisService.setMediaCount(response.getGateway(), job.getJobId(),
+                        MediaFileCountDTO.builder().deviceSn(deviceOpt.get().getChildDeviceSn())
+                                .jobId(response.getBid()).mediaCount(job.getMediaCount()).uploadedCount(0).build());
+            }
         }
 
         // WebSocket을 통해 실시간 상태 전송
@@ -4,25 +4,18 @@ import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.dji.sample.component.oss.model.OssConfiguration;
+import com.dji.sample.component.oss.model.OssObject;
 import com.dji.sample.component.oss.service.impl.OssServiceContext;
 import com.dji.sample.wayline.dao.IWaylineFileMapper;
-import com.dji.sample.wayline.model.dto.KmzFileProperties;
 import com.dji.sample.wayline.model.dto.WaylineFileDTO;
 import com.dji.sample.wayline.model.entity.WaylineFileEntity;
 import com.dji.sample.wayline.service.IWaylineFileService;
-import com.dji.sdk.cloudapi.device.DeviceDomainEnum;
 import com.dji.sdk.cloudapi.device.DeviceEnum;
-import com.dji.sdk.cloudapi.device.DeviceSubTypeEnum;
-import com.dji.sdk.cloudapi.device.DeviceTypeEnum;
 import com.dji.sdk.cloudapi.wayline.GetWaylineListRequest;
 import com.dji.sdk.cloudapi.wayline.GetWaylineListResponse;
 import com.dji.sdk.cloudapi.wayline.WaylineTypeEnum;
 import com.dji.sdk.common.Pagination;
 import com.dji.sdk.common.PaginationData;
-import org.dom4j.Document;
-import org.dom4j.DocumentException;
-import org.dom4j.Node;
-import org.dom4j.io.SAXReader;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,12 +27,9 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Collectors;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
 
 import static com.dji.sample.wayline.model.dto.KmzFileProperties.WAYLINE_FILE_SUFFIX;
 
@@ -191,14 +181,14 @@ public class WaylineFileServiceImpl implements IWaylineFileService {
         file.setWaylineId(UUID.randomUUID().toString());
         file.setWorkspaceId(workspaceId);
 
-        // 파일 서명이 없는 경우 OSS에서 파일을 읽어서 MD5 계산
+        // 파일 서명이 없는 경우 OSS에서 파일을 스트림으로 읽어서 MD5 계산
         if (!StringUtils.hasText(file.getSign())) {
-            try (InputStream object = ossService.getObject(OssConfiguration.bucket, metadata.getObjectKey())) {
-                if (object.available() == 0) {
+            try (OssObject object = ossService.openObject(OssConfiguration.bucket, metadata.getObjectKey(), 0, -1)) {
+                if (object.getContentLength() == 0) {
                     throw new RuntimeException("The file " + metadata.getObjectKey() +
                             " does not exist in the bucket[" + OssConfiguration.bucket + "].");
                 }
-                file.setSign(DigestUtils.md5DigestAsHex(object));
+                file.setSign(DigestUtils.md5DigestAsHex(object.getContent()));
             } catch (IOException e) {
                 e.printStackTrace();
             }
@@ -284,6 +274,10 @@ public class WaylineFileServiceImpl implements IWaylineFileService {
      * KMZ 파일을 업로드하고 검증한 후 웨이라인 파일로 가져옵니다.
      * 파일 형식 검증, WPML 파싱, 메타데이터 추출을 수행합니다.
      *
+     * 업로드된 파일은 한 번만 읽습니다. template.kml의 메타데이터를 읽은 뒤
+     * 같은 스트림을 OSS 업로드에 넘기고, 읽는 동안 MD5를 함께 계산합니다.
+     * 업로드는 파트 단위로 끝까지 읽는 멀티파트 업로드를 사용하므로 스트림의 available()을 객체 크기로 쓰지 않습니다.
+     *
      * @param file 업로드된 KMZ 파일
      * @param workspaceId 워크스페이스 ID
      * @param creator 파일 생성자
@@ -291,17 +285,31 @@ public class WaylineFileServiceImpl implements IWaylineFileService {
      */
     @Override
     public void importKmzFile(MultipartFile file, String workspaceId, String creator) {
-        Optional<WaylineFileDTO> waylineFileOpt = validKmzFile(file);
-        if (waylineFileOpt.isEmpty()) {
+        String filename = file.getOriginalFilename();
+        if (Objects.nonNull(filename) && !filename.endsWith(WAYLINE_FILE_SUFFIX)) {
             throw new RuntimeException("The file format is incorrect.");
         }
 
-        try {
+        try (KmzImportStream kmz = new KmzImportStream(file.getInputStream())) {
+            Optional<WaylineFileDTO> waylineFileOpt = validKmzFile(kmz, filename);
+            if (waylineFileOpt.isEmpty()) {
+                throw new RuntimeException("The file format is incorrect.");
+            }
+
             WaylineFileDTO waylineFile = waylineFileOpt.get();
             waylineFile.setUsername(creator);
 
             // OSS에 파일 업로드
-            ossService.putObject(OssConfiguration.bucket, waylineFile.getObjectKey(), file.getInputStream());
+            if (kmz.isReplayable()) {
+                ossService.putObjectMultipart(OssConfiguration.bucket, waylineFile.getObjectKey(), kmz);
+                waylineFile.setSign(kmz.getMd5Hex());
+            } else {
+                // template.kml이 파일 뒤쪽에 있어 읽은 바이트를 보관하지 못한 경우에만 파일을 다시 읽습니다.
+                waylineFile.setSign(kmz.getMd5Hex());
+                try (InputStream input = file.getInputStream()) {
+                    ossService.putObjectMultipart(OssConfiguration.bucket, waylineFile.getObjectKey(), input);
+                }
+            }
             // 데이터베이스에 메타데이터 저장
             this.saveWaylineFile(workspaceId, waylineFile);
         } catch (IOException e) {
@@ -316,61 +324,23 @@ public class WaylineFileServiceImpl implements IWaylineFileService {
      * 웨이라인 파일 메타데이터를 추출합니다.
      *
      * 검증 항목:
-     * - 파일 확장자 (.kmz)
      * - UTF-8 인코딩
      * - WPML 구조 (드론 정보, 페이로드 정보)
      * - 필수 XML 태그 존재 여부
      *
-     * @param file 검증할 KMZ 파일
-     * @return 파싱된 웨이라인 파일 메타데이터 (Optional)
+     * @param kmz 검증할 KMZ 파일 스트림
+     * @param filename 파일명
+     * @return 파싱된 웨이라인 파일 메타데이터 (Optional). 서명(MD5)은 업로드 후 채웁니다.
      * @throws RuntimeException 파일 형식이 올바르지 않은 경우
      */
-    private Optional<WaylineFileDTO> validKmzFile(MultipartFile file) {
-        String filename = file.getOriginalFilename();
-        if (Objects.nonNull(filename) && !filename.endsWith(WAYLINE_FILE_SUFFIX)) {
-            throw new RuntimeException("The file format is incorrect.");
-        }
-        try (ZipInputStream unzipFile = new ZipInputStream(file.getInputStream(), StandardCharsets.UTF_8)) {
-
-            ZipEntry nextEntry = unzipFile.getNextEntry();
-            while (Objects.nonNull(nextEntry)) {
-                boolean isWaylines = (KmzFileProperties.FILE_DIR_FIRST + "/" + KmzFileProperties.FILE_DIR_SECOND_TEMPLATE).equals(nextEntry.getName());
-                if (!isWaylines) {
-                    nextEntry = unzipFile.getNextEntry();
-                    continue;
-                }
-                SAXReader reader = new SAXReader();
-                Document document = reader.read(unzipFile);
-                if (!StandardCharsets.UTF_8.name().equals(document.getXMLEncoding())) {
-                    throw new RuntimeException("The file encoding format is incorrect.");
-                }
-
-                // 드론 정보와 페이로드 정보 노드 검증
-                Node droneNode = document.selectSingleNode("//" + KmzFileProperties.TAG_WPML_PREFIX + KmzFileProperties.TAG_DRONE_INFO);
-                Node payloadNode = document.selectSingleNode("//" + KmzFileProperties.TAG_WPML_PREFIX + KmzFileProperties.TAG_PAYLOAD_INFO);
-                if (Objects.isNull(droneNode) || Objects.isNull(payloadNode)) {
-                    throw new RuntimeException("The file format is incorrect.");
-                }
-
-                // 드론 및 페이로드 타입 정보 추출
-                DeviceTypeEnum type = DeviceTypeEnum.find(Integer.parseInt(droneNode.valueOf(KmzFileProperties.TAG_WPML_PREFIX + KmzFileProperties.TAG_DRONE_ENUM_VALUE)));
-                DeviceSubTypeEnum subType = DeviceSubTypeEnum.find(Integer.parseInt(droneNode.valueOf(KmzFileProperties.TAG_WPML_PREFIX + KmzFileProperties.TAG_DRONE_SUB_ENUM_VALUE)));
-                DeviceTypeEnum payloadType = DeviceTypeEnum.find(Integer.parseInt(payloadNode.valueOf(KmzFileProperties.TAG_WPML_PREFIX + KmzFileProperties.TAG_PAYLOAD_ENUM_VALUE)));
-                DeviceSubTypeEnum payloadSubType = DeviceSubTypeEnum.find(Integer.parseInt(payloadNode.valueOf(KmzFileProperties.TAG_WPML_PREFIX + KmzFileProperties.TAG_PAYLOAD_SUB_ENUM_VALUE)));
-                String templateType = document.valueOf("//" + KmzFileProperties.TAG_WPML_PREFIX + KmzFileProperties.TAG_TEMPLATE_TYPE);
-
-                // 웨이라인 파일 DTO 생성
-                return Optional.of(WaylineFileDTO.builder()
-                        .droneModelKey(DeviceEnum.find(DeviceDomainEnum.DRONE, type, subType).getDevice())
-                        .payloadModelKeys(List.of(DeviceEnum.find(DeviceDomainEnum.PAYLOAD, payloadType, payloadSubType).getDevice()))
-                        .objectKey(OssConfiguration.objectDirPrefix + File.separator + filename)
-                        .name(filename.substring(0, filename.lastIndexOf(WAYLINE_FILE_SUFFIX)))
-                        .sign(DigestUtils.md5DigestAsHex(file.getInputStream()))
-                        .templateTypes(List.of(WaylineTypeEnum.find(templateType).getValue()))
-                        .build());
-            }
-
-        } catch (IOException | DocumentException e) {
+    private Optional<WaylineFileDTO> validKmzFile(KmzImportStream kmz, String filename) {
+        try {
+            return kmz.readTemplate().map(waylineFile -> {
+                waylineFile.setObjectKey(OssConfiguration.objectDirPrefix + File.separator + filename);
+                waylineFile.setName(filename.substring(0, filename.lastIndexOf(WAYLINE_FILE_SUFFIX)));
+                return waylineFile;
+            });
+        } catch (IOException e) {
             e.printStackTrace();
         }
         return Optional.empty();
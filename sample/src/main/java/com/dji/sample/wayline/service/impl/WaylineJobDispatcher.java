@@ -0,0 +1,119 @@
+package com.dji.sample.wayline.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 웨이라인 작업 실행기
+ *
+ * 스케줄러가 꺼낸 작업을 Dock별 큐에 넣고 스레드 풀에서 실행합니다.
+ * 서로 다른 Dock의 작업은 병렬로 실행되고, 같은 Dock의 작업은 넣은 순서대로 하나씩 실행됩니다.
+ * Dock은 한 번에 하나의 작업만 수행할 수 있으므로 Dock별 동시 실행 수는 1입니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@Slf4j
+public class WaylineJobDispatcher {
+
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * Dock별 실행 대기 중인 작업. 키가 있으면 해당 Dock의 작업을 실행 중입니다.
+     */
+    private final Map<String, Queue<Runnable>> dockQueues = new ConcurrentHashMap<>();
+
+    /**
+     * 작업 실행은 Dock의 응답을 기다리는 동안 스레드를 점유하므로 스레드 수를 넉넉히 두고,
+     * 유휴 스레드는 일정 시간 후 종료합니다.
+     *
+     * @param poolSize 작업 실행 스레드 수. 동시에 작업을 실행할 수 있는 Dock 수입니다.
+     */
+    public WaylineJobDispatcher(int poolSize) {
+        AtomicInteger index = new AtomicInteger();
+        int size = Math.max(1, poolSize);
+        this.executor = new ThreadPoolExecutor(size, size, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+            Thread thread = new Thread(r, "wayline-dispatch-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Dock의 큐에 작업을 넣습니다. Dock에서 실행 중인 작업이 없으면 바로 실행을 시작합니다.
+     *
+     * @param dockSn Dock 시리얼 번호
+     * @param job 실행할 작업
+     */
+    public void dispatch(String dockSn, Runnable job) {
+        boolean[] start = {false};
+        dockQueues.compute(dockSn, (key, queue) -> {
+            if (Objects.isNull(queue)) {
+                queue = new ArrayDeque<>();
+                start[0] = true;
+            }
+            queue.add(job);
+            return queue;
+        });
+        if (!start[0]) {
+            return;
+        }
+        try {
+            executor.execute(() -> this.drain(dockSn));
+        } catch (RejectedExecutionException e) {
+            dockQueues.remove(dockSn);
+            log.warn("The wayline dispatcher has been stopped. Dock: {}", dockSn);
+        }
+    }
+
+    /**
+     * 작업을 실행 중이거나 대기 중인 Dock 수를 반환합니다.
+     *
+     * @return Dock 수
+     */
+    public int getActiveDockCount() {
+        return dockQueues.size();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Dock의 큐가 빌 때까지 작업을 순서대로 실행합니다.
+     */
+    private void drain(String dockSn) {
+        Runnable job;
+        while (Objects.nonNull(job = this.poll(dockSn))) {
+            try {
+                job.run();
+            } catch (RuntimeException e) {
+                log.error("Failed to run the wayline job. Dock: {}", dockSn, e);
+            }
+        }
+    }
+
+    /**
+     * Dock의 다음 작업을 꺼냅니다. 큐가 비어 있으면 큐를 제거하고 null을 반환합니다.
+     */
+    private Runnable poll(String dockSn) {
+        Runnable[] next = {null};
+        dockQueues.computeIfPresent(dockSn, (key, queue) -> {
+            next[0] = queue.poll();
+            return Objects.isNull(next[0]) ? null : queue;
+        });
+        return next[0];
+    }
+}
@@ -13,8 +13,10 @@ import org.springframework.util.StringUtils;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * DJI Cloud API 웨이라인 Redis 서비스 구현 클래스
@@ -105,6 +107,52 @@ public class WaylineRedisServiceImpl implements IWaylineRedisService {
         RedisOpsUtils.setWithExpire(RedisConst.WAYLINE_JOB_PAUSED_PREFIX + dockSn, jobId, RedisConst.DRC_MODE_ALIVE_SECOND);
     }
 
+    /**
+     * 실행 중인 웨이라인 작업을 일시정지 상태로 전환
+     *
+     * 실행 중 정보 삭제와 일시정지 작업 ID 저장을 Lua 스크립트로 한 번에 수행하므로
+     * 두 키가 동시에 있거나 동시에 없는 상태가 다른 요청에 보이지 않습니다.
+     *
+     * @param dockSn Dock 시리얼 번호
+     * @param jobId 일시정지된 작업 ID
+     */
+    @Override
+    public void pauseRunningWaylineJob(String dockSn, String jobId) {
+        RedisOpsUtils.delAndSetWithExpire(RedisConst.WAYLINE_JOB_RUNNING_PREFIX + dockSn,
+                RedisConst.WAYLINE_JOB_PAUSED_PREFIX + dockSn, jobId, RedisConst.DRC_MODE_ALIVE_SECOND);
+    }
+
+    /**
+     * 일시정지된 웨이라인 작업을 실행 중 상태로 전환
+     *
+     * 일시정지 정보 삭제와 실행 중 정보 저장을 Lua 스크립트로 한 번에 수행합니다.
+     *
+     * @param dockSn Dock 시리얼 번호
+     * @param data 웨이라인 작업 진행 상태 데이터
+     */
+    @Override
+    public void resumePausedWaylineJob(String dockSn, EventsReceiver<FlighttaskProgress> data) {
+        if (Objects.isNull(data)) {
+            delPausedWaylineJob(dockSn);
+            return;
+        }
+        RedisOpsUtils.delAndSetWithExpire(RedisConst.WAYLINE_JOB_PAUSED_PREFIX + dockSn,
+                RedisConst.WAYLINE_JOB_RUNNING_PREFIX + dockSn, data, RedisConst.DRC_MODE_ALIVE_SECOND);
+    }
+
+    /**
+     * 끝난 웨이라인 작업의 상태를 정리
+     *
+     * 실행 중 정보와 일시정지 정보를 한 번의 DEL로 제거합니다.
+     *
+     * @param dockSn Dock 시리얼 번호
+     */
+    @Override
+    public void endWaylineJob(String dockSn) {
+        RedisOpsUtils.delAll(RedisConst.WAYLINE_JOB_RUNNING_PREFIX + dockSn,
+                RedisConst.WAYLINE_JOB_PAUSED_PREFIX + dockSn);
+    }
+
     /**
      * 일시정지된 웨이라인 작업 ID를 Redis에서 조회
      *
@@ -228,43 +276,18 @@ public class WaylineRedisServiceImpl implements IWaylineRedisService {
     }
 
     /**
-     * 가장 가까운 조건부 웨이라인 작업을 조회
-     *
-     * Redis의 정렬된 집합에서 가장 가까운 실행 시간의 조건부 웨이라인 작업을 가져옵니다.
-     * 스케줄러가 주기적으로 호출하여 실행 가능한 작업을 찾습니다.
-     *
-     * @return 가장 가까운 조건부 웨이라인 작업 키 (Optional)
-     */
-    @Override
-    public Optional<ConditionalWaylineJobKey> getNearestConditionalWaylineJob() {
-        return Optional.ofNullable(RedisOpsUtils.zGetMin(RedisConst.WAYLINE_JOB_CONDITION_PREPARE))
-                .map(Object::toString).map(ConditionalWaylineJobKey::new);
-    }
-
-    /**
-     * 조건부 웨이라인 작업의 실행 시간을 조회
-     *
-     * 특정 조건부 웨이라인 작업의 예정된 실행 시간을 Redis에서 가져옵니다.
-     * Unix timestamp 형태로 반환됩니다.
-     *
-     * @param jobKey 조건부 웨이라인 작업 키
-     * @return 실행 시간 (Unix timestamp)
-     */
-    @Override
-    public Double getConditionalWaylineJobTime(ConditionalWaylineJobKey jobKey) {
-        return RedisOpsUtils.zScore(RedisConst.WAYLINE_JOB_CONDITION_PREPARE, jobKey.getKey());
-    }
-
-    /**
-     * 조건부 웨이라인 작업을 준비 큐에서 제거
-     *
-     * 조건부 웨이라인 작업이 실행되거나 취소될 때 준비 큐에서 해당 작업을 제거합니다.
+     * 준비 시각이 된 조건부 웨이라인 작업을 준비 큐에서 꺼냄
      *
-     * @param jobKey 조건부 웨이라인 작업 키
-     * @return 제거 성공 여부
+     * @param maxTime 최대 작업 시간 (밀리초)
+     * @param limit 최대 개수
+     * @return 조건부 웨이라인 작업 키 목록
      */
     @Override
-    public Boolean removePrepareConditionalWaylineJob(ConditionalWaylineJobKey jobKey) {
-        return RedisOpsUtils.zRemove(RedisConst.WAYLINE_JOB_CONDITION_PREPARE, jobKey.getKey());
+    public List<ConditionalWaylineJobKey> pollPrepareConditionalWaylineJobs(long maxTime, int limit) {
+        return RedisOpsUtils.zPopByScore(RedisConst.WAYLINE_JOB_CONDITION_PREPARE, maxTime, limit)
+                .stream()
+                .map(Object::toString)
+                .map(ConditionalWaylineJobKey::new)
+                .collect(Collectors.toList());
     }
 }
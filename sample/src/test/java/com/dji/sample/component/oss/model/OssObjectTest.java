@@ -0,0 +1,41 @@
+package com.dji.sample.component.oss.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * OssObject.parseObjectSize 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class OssObjectTest {
+
+    @Test
+    void totalSizeIsReadAfterSlash() {
+        assertEquals(1_048_576L, OssObject.parseObjectSize("bytes 0-1023/1048576"));
+        assertEquals(5_000_000_000L, OssObject.parseObjectSize("bytes 100-199/ 5000000000 "));
+    }
+
+    @Test
+    void unknownTotalSizeIsMinusOne() {
+        assertEquals(-1, OssObject.parseObjectSize("bytes 0-1023/*"));
+        assertEquals(-1, OssObject.parseObjectSize("bytes */*"));
+    }
+
+    @Test
+    void missingSlashIsMinusOne() {
+        assertEquals(-1, OssObject.parseObjectSize("bytes 0-1023"));
+        assertEquals(-1, OssObject.parseObjectSize(""));
+        assertEquals(-1, OssObject.parseObjectSize(null));
+    }
+
+    @Test
+    void nonNumericTotalIsMinusOne() {
+        assertEquals(-1, OssObject.parseObjectSize("bytes 0-1023/abc"));
+        assertEquals(-1, OssObject.parseObjectSize("bytes 0-1023/"));
+        assertEquals(-1, OssObject.parseObjectSize("bytes 0-1023/12x"));
+    }
+}
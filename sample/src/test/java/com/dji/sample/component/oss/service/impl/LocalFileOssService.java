@@ -0,0 +1,154 @@
+package com.dji.sample.component.oss.service.impl;
+
+import com.dji.sample.component.oss.model.OssObject;
+import com.dji.sample.component.oss.service.IOssService;
+import com.dji.sdk.cloudapi.storage.CredentialsToken;
+import com.dji.sdk.cloudapi.storage.OssTypeEnum;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 테스트용 로컬 파일 시스템 OSS 서비스
+ *
+ * root/버킷/객체 이름 경로의 파일을 객체로 사용합니다. openObject는 MinIO와 같이
+ * 객체가 없으면 RuntimeException을 던지고, 범위를 지정하면 해당 바이트만 파일에서 바로 읽습니다.
+ * 제공자 선택을 위해 getOssType은 생성자에 넘긴 값을 반환합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class LocalFileOssService implements IOssService {
+
+    private final Path root;
+
+    private final OssTypeEnum ossType;
+
+    public LocalFileOssService(Path root, OssTypeEnum ossType) {
+        this.root = root;
+        this.ossType = ossType;
+    }
+
+    public Path path(String bucket, String objectKey) {
+        return root.resolve(bucket).resolve(objectKey);
+    }
+
+    @Override
+    public OssTypeEnum getOssType() {
+        return ossType;
+    }
+
+    @Override
+    public CredentialsToken getCredentials() {
+        return null;
+    }
+
+    @Override
+    public URL getObjectUrl(String bucket, String objectKey) {
+        try {
+            return path(bucket, objectKey).toUri().toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public Boolean deleteObject(String bucket, String objectKey) {
+        try {
+            return Files.deleteIfExists(path(bucket, objectKey));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream getObject(String bucket, String objectKey) {
+        return openObject(bucket, objectKey, 0, -1).getContent();
+    }
+
+    @Override
+    public OssObject openObject(String bucket, String objectKey, long offset, long length) {
+        Path path = path(bucket, objectKey);
+        if (!Files.isRegularFile(path)) {
+            throw new RuntimeException("The file " + objectKey + " does not exist in the bucket[" + bucket + "].");
+        }
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            long size = channel.size();
+            long start = Math.min(Math.max(offset, 0), size);
+            long contentLength = length > 0 ? Math.min(length, size - start) : size - start;
+            channel.position(start);
+            return new OssObject(new LimitedInputStream(Channels.newInputStream(channel), contentLength), contentLength, size);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void putObject(String bucket, String objectKey, InputStream input) {
+        Path path = path(bucket, objectKey);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.copy(input, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void putObjectMultipart(String bucket, String objectKey, InputStream input) {
+        putObject(bucket, objectKey, input);
+    }
+
+    @Override
+    public void createClient() {
+    }
+
+    /**
+     * 지정한 바이트 수까지만 읽는 스트림
+     */
+    private static class LimitedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        LimitedInputStream(InputStream in, long limit) {
+            super(in);
+            this.remaining = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+    }
+}
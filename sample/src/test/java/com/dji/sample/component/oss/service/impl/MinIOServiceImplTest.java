@@ -0,0 +1,111 @@
+package com.dji.sample.component.oss.service.impl;
+
+import com.dji.sample.component.oss.model.OssConfiguration;
+import io.minio.MinioClient;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * MinIOServiceImpl 클라이언트 교체 테스트
+ *
+ * region을 지정하면 URL 서명에 네트워크가 필요하지 않으므로 MinIO 서버 없이 실행됩니다.
+ * 여러 스레드가 URL을 서명하는 동안 클라이언트를 반복해서 교체해도 요청이 실패하지 않는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class MinIOServiceImplTest {
+
+    private final MinIOServiceImpl service = new MinIOServiceImpl();
+
+    private String endpoint;
+
+    private String accessKey;
+
+    private String secretKey;
+
+    private String region;
+
+    private Long expire;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = OssConfiguration.endpoint;
+        accessKey = OssConfiguration.accessKey;
+        secretKey = OssConfiguration.secretKey;
+        region = OssConfiguration.region;
+        expire = OssConfiguration.expire;
+        OssConfiguration.endpoint = "http://localhost:9000";
+        OssConfiguration.accessKey = "minioadmin";
+        OssConfiguration.secretKey = "minioadmin";
+        OssConfiguration.region = "us-east-1";
+        OssConfiguration.expire = 3600L;
+    }
+
+    @AfterEach
+    void tearDown() {
+        OssConfiguration.endpoint = endpoint;
+        OssConfiguration.accessKey = accessKey;
+        OssConfiguration.secretKey = secretKey;
+        OssConfiguration.region = region;
+        OssConfiguration.expire = expire;
+    }
+
+    @Test
+    void previousClientIsShutDownAfterSwap() {
+        service.createClient();
+        MinioClient firstClient = (MinioClient) ReflectionTestUtils.getField(service, "client");
+        OkHttpClient firstHttpClient = (OkHttpClient) ReflectionTestUtils.getField(service, "httpClient");
+
+        service.createClient();
+        OkHttpClient secondHttpClient = (OkHttpClient) ReflectionTestUtils.getField(service, "httpClient");
+        assertNotSame(firstClient, ReflectionTestUtils.getField(service, "client"));
+        assertTrue(firstHttpClient.dispatcher().executorService().isShutdown());
+        assertFalse(secondHttpClient.dispatcher().executorService().isShutdown());
+    }
+
+    @Test
+    void urlsAreSignedWhileClientIsSwapped() throws Exception {
+        service.createClient();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                String objectKey = "media/" + i + ".jpg";
+                results.add(pool.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < 200; j++) {
+                        URL url = service.getObjectUrl("cloud-bucket", objectKey);
+                        assertTrue(url.getPath().endsWith("/cloud-bucket/" + objectKey));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (int i = 0; i < 20; i++) {
+                service.createClient();
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.dji.sample.component.oss.service.impl;
+
+import com.dji.sample.component.oss.model.OssConfiguration;
+import com.dji.sample.component.oss.service.IOssService;
+import com.dji.sdk.cloudapi.storage.CredentialsToken;
+import com.dji.sdk.cloudapi.storage.OssTypeEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * OssServiceContext 테스트
+ *
+ * reload()로 제공자를 바꾸는 동안 다른 스레드의 요청이 실패하지 않는지와
+ * 교체 후 이전 제공자의 서명 URL과 임시 자격 증명이 남지 않는지도 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class OssServiceContextTest {
+
+    private static final String BUCKET = "cloud-bucket";
+
+    @Mock
+    private IOssService minio;
+
+    @Mock
+    private IOssService aws;
+
+    private boolean enable;
+
+    private OssTypeEnum provider;
+
+    private Long expire;
+
+    @BeforeEach
+    void setUp() {
+        enable = OssConfiguration.enable;
+        provider = OssConfiguration.provider;
+        expire = OssConfiguration.expire;
+        OssConfiguration.enable = true;
+        OssConfiguration.provider = OssTypeEnum.MINIO;
+        OssConfiguration.expire = 3600L;
+    }
+
+    @AfterEach
+    void tearDown() {
+        OssConfiguration.enable = enable;
+        OssConfiguration.provider = provider;
+        OssConfiguration.expire = expire;
+    }
+
+    @Test
+    void selectedProviderCreatesClientOnce() throws Exception {
+        when(minio.getOssType()).thenReturn(OssTypeEnum.MINIO);
+        when(minio.getObjectUrl(eq("cloud-bucket"), anyString()))
+                .thenAnswer(invocation -> new URL("http://localhost:9000/cloud-bucket/" + invocation.getArgument(1)));
+        OssServiceContext context = new OssServiceContext(List.of(aws, minio), new OssConfiguration());
+        try {
+            Map<String, URL> urls = context.getObjectUrls("cloud-bucket", List.of("a.jpg", "b.jpg", "a.jpg"));
+            assertEquals(List.of("a.jpg", "b.jpg"), List.copyOf(urls.keySet()));
+            context.getObjectUrl("cloud-bucket", "a.jpg");
+
+            verify(minio).createClient();
+            verify(minio, times(2)).getObjectUrl(eq("cloud-bucket"), anyString());
+            verify(aws, never()).createClient();
+        } finally {
+            context.destroy();
+        }
+    }
+
+    @Test
+    void illegalProviderFailsOnStartup() {
+        when(minio.getOssType()).thenReturn(OssTypeEnum.MINIO);
+        OssConfiguration.provider = OssTypeEnum.ALIYUN;
+        assertThrows(IllegalArgumentException.class, () -> new OssServiceContext(List.of(minio), new OssConfiguration()));
+        verify(minio, never()).createClient();
+    }
+
+    @Test
+    void disabledOssRejectsRequests() {
+        OssConfiguration.enable = false;
+        OssServiceContext context = new OssServiceContext(List.of(minio), new OssConfiguration());
+        try {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                    () -> context.getObjectUrl("cloud-bucket", "a.jpg"));
+            assertEquals("Please enable OssConfiguration.", e.getMessage());
+            verifyNoInteractions(minio);
+        } finally {
+            context.destroy();
+        }
+    }
+
+    @Test
+    void reloadSwapsProviderAndClearsCaches(@TempDir Path root) {
+        SwapOssService minioOss = new SwapOssService(root.resolve("minio"), OssTypeEnum.MINIO);
+        SwapOssService awsOss = new SwapOssService(root.resolve("aws"), OssTypeEnum.AWS);
+        OssServiceContext context = new OssServiceContext(List.of(minioOss, awsOss), new OssConfiguration());
+        try {
+            assertTrue(minioOss.owns(context.getObjectUrl(BUCKET, "a.jpg")));
+            assertEquals("MINIO", context.getCredentials().getAccessKeyId());
+
+            OssConfiguration.provider = OssTypeEnum.AWS;
+            context.reload();
+
+            assertTrue(awsOss.owns(context.getObjectUrl(BUCKET, "a.jpg")));
+            assertEquals("AWS", context.getCredentials().getAccessKeyId());
+        } finally {
+            context.destroy();
+        }
+    }
+
+    @Test
+    void illegalProviderOnReloadKeepsCurrentProvider(@TempDir Path root) {
+        SwapOssService minioOss = new SwapOssService(root.resolve("minio"), OssTypeEnum.MINIO);
+        OssServiceContext context = new OssServiceContext(List.of(minioOss), new OssConfiguration());
+        try {
+            URL url = context.getObjectUrl(BUCKET, "a.jpg");
+
+            OssConfiguration.provider = OssTypeEnum.ALIYUN;
+            assertThrows(IllegalArgumentException.class, context::reload);
+
+            assertEquals(url, context.getObjectUrl(BUCKET, "a.jpg"));
+            assertEquals(1, minioOss.signCount.get());
+        } finally {
+            context.destroy();
+        }
+    }
+
+    @Test
+    void concurrentCallsDuringProviderSwaps(@TempDir Path root) throws Exception {
+        SwapOssService minioOss = new SwapOssService(root.resolve("minio"), OssTypeEnum.MINIO);
+        SwapOssService awsOss = new SwapOssService(root.resolve("aws"), OssTypeEnum.AWS);
+        int threads = 8;
+        int swaps = 200;
+        AtomicReference<OssServiceContext> contextRef = new AtomicReference<>();
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch called = new CountDownLatch(threads);
+        AtomicLong calls = new AtomicLong();
+        Queue<Throwable> errors = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String uploadKey = "upload/" + t + ".bin";
+            futures.add(executor.submit(() -> {
+                // 생성이 끝나자마자 요청 시작
+                OssServiceContext context;
+                while ((context = contextRef.get()) == null) {
+                    Thread.onSpinWait();
+                }
+                for (int i = 0; running.get(); i++) {
+                    try {
+                        URL url = context.getObjectUrl(BUCKET, "media/" + (i % 16) + ".jpg");
+                        if (!minioOss.owns(url) && !awsOss.owns(url)) {
+                            throw new AssertionError("unknown url " + url);
+                        }
+                        CredentialsToken credentials = context.getCredentials();
+                        if (Objects.nonNull(credentials) && !List.of("MINIO", "AWS").contains(credentials.getAccessKeyId())) {
+                            throw new AssertionError("unknown credentials " + credentials.getAccessKeyId());
+                        }
+                        context.putObject(BUCKET, uploadKey, new ByteArrayInputStream(new byte[]{(byte) i}));
+                        calls.incrementAndGet();
+                    } catch (Throwable e) {
+                        errors.add(e);
+                    }
+                    if (i == 0) {
+                        called.countDown();
+                    }
+                }
+            }));
+        }
+
+        OssServiceContext context = new OssServiceContext(List.of(minioOss, awsOss), new OssConfiguration());
+        contextRef.set(context);
+        try {
+            assertTrue(called.await(10, TimeUnit.SECONDS));
+            for (int i = 0; i < swaps; i++) {
+                OssConfiguration.provider = i % 2 == 0 ? OssTypeEnum.AWS : OssTypeEnum.MINIO;
+                context.reload();
+                Thread.sleep(1);
+            }
+            running.set(false);
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+
+            System.out.printf("OSS calls during %d provider swaps: %d%n", swaps, calls.get());
+            assertTrue(errors.isEmpty(), () -> errors.size() + " errors, first: " + errors.peek());
+            // 마지막 교체 이후에는 이전 제공자가 서명한 URL이나 발급한 자격 증명이 반환되지 않음
+            for (int i = 0; i < 16; i++) {
+                assertTrue(minioOss.owns(context.getObjectUrl(BUCKET, "media/" + i + ".jpg")));
+            }
+            assertEquals("MINIO", context.getCredentials().getAccessKeyId());
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+            context.destroy();
+        }
+    }
+
+    /**
+     * 클라이언트를 만들기 전에 사용되면 실패하는 로컬 파일 시스템 OSS 서비스.
+     * URL과 자격 증명으로 어느 제공자가 처리했는지 구분합니다.
+     */
+    private static class SwapOssService extends LocalFileOssService {
+
+        private final Path root;
+
+        private final AtomicLong signCount = new AtomicLong();
+
+        private volatile boolean clientCreated;
+
+        SwapOssService(Path root, OssTypeEnum ossType) {
+            super(root, ossType);
+            this.root = root;
+        }
+
+        boolean owns(URL url) {
+            try {
+                return Path.of(url.toURI()).startsWith(root);
+            } catch (URISyntaxException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        private void checkClient() {
+            if (!clientCreated) {
+                throw new IllegalStateException(getOssType() + " client is not created.");
+            }
+        }
+
+        @Override
+        public CredentialsToken getCredentials() {
+            checkClient();
+            return new CredentialsToken(getOssType().name(), "secret", "token", 3600L);
+        }
+
+        @Override
+        public URL getObjectUrl(String bucket, String objectKey) {
+            checkClient();
+            signCount.incrementAndGet();
+            return super.getObjectUrl(bucket, objectKey);
+        }
+
+        @Override
+        public void putObject(String bucket, String objectKey, InputStream input) {
+            checkClient();
+            super.putObject(bucket, objectKey, input);
+        }
+
+        @Override
+        public void createClient() {
+            clientCreated = true;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.dji.sample.component.oss.service.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PresignedUrlCache 테스트
+ *
+ * 시각은 테스트에서 직접 움직이는 FakeClock으로 대신합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class PresignedUrlCacheTest {
+
+    private static final String BUCKET = "cloud-bucket";
+
+    private final FakeClock clock = new FakeClock();
+
+    private final PresignedUrlCache cache = new PresignedUrlCache(clock);
+
+    private final AtomicInteger signCount = new AtomicInteger();
+
+    @Test
+    void urlIsReusedUntilRefreshTime() {
+        URL first = cache.get(BUCKET, "a.jpg", 10_000, this.signer("a.jpg"));
+        clock.advance(9_999);
+        assertSame(first, cache.get(BUCKET, "a.jpg", 10_000, this.signer("a.jpg")));
+        assertEquals(1, signCount.get());
+
+        clock.advance(1);
+        URL second = cache.get(BUCKET, "a.jpg", 10_000, this.signer("a.jpg"));
+        assertNotSame(first, second);
+        assertEquals(2, signCount.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void reuseTimeStartsBeforeSigning() {
+        // 서명에 5초가 걸려도 재사용 기한은 서명을 시작한 시각부터 계산
+        Supplier<URL> slowSigner = () -> {
+            clock.advance(5_000);
+            return this.signer("a.jpg").get();
+        };
+        cache.get(BUCKET, "a.jpg", 10_000, slowSigner);
+        assertEquals(5_000, clock.millis());
+
+        clock.advance(4_999);
+        cache.get(BUCKET, "a.jpg", 10_000, slowSigner);
+        assertEquals(1, signCount.get());
+
+        clock.advance(1);
+        cache.get(BUCKET, "a.jpg", 10_000, slowSigner);
+        assertEquals(2, signCount.get());
+    }
+
+    @Test
+    void zeroReuseTimeAlwaysSigns() {
+        cache.get(BUCKET, "a.jpg", 0, this.signer("a.jpg"));
+        cache.get(BUCKET, "a.jpg", 0, this.signer("a.jpg"));
+        assertEquals(2, signCount.get());
+    }
+
+    @Test
+    void invalidateAndClear() {
+        cache.get(BUCKET, "a.jpg", 10_000, this.signer("a.jpg"));
+        cache.get(BUCKET, "b.jpg", 10_000, this.signer("b.jpg"));
+        cache.get("other-bucket", "a.jpg", 10_000, this.signer("a.jpg"));
+        assertEquals(3, cache.size());
+
+        cache.invalidate(BUCKET, "a.jpg");
+        cache.get(BUCKET, "b.jpg", 10_000, this.signer("b.jpg"));
+        cache.get("other-bucket", "a.jpg", 10_000, this.signer("a.jpg"));
+        assertEquals(3, signCount.get());
+        cache.get(BUCKET, "a.jpg", 10_000, this.signer("a.jpg"));
+        assertEquals(4, signCount.get());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void expiredUrlsAreEvictedWhenFull() {
+        for (int i = 0; i < 10_000; i++) {
+            cache.get(BUCKET, i + ".jpg", 1_000, this.signer(i + ".jpg"));
+        }
+        assertEquals(10_000, cache.size());
+
+        clock.advance(1_000);
+        cache.get(BUCKET, "new.jpg", 1_000, this.signer("new.jpg"));
+        assertEquals(1, cache.size());
+    }
+
+    private Supplier<URL> signer(String objectKey) {
+        return () -> {
+            try {
+                return new URL("https://" + BUCKET + ".oss.example.com/" + objectKey + "?signature=" + signCount.incrementAndGet());
+            } catch (MalformedURLException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static final class FakeClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong();
+
+        void advance(long delta) {
+            millis.addAndGet(delta);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+    }
+}
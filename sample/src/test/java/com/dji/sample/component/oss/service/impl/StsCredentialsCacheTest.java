@@ -0,0 +1,190 @@
+package com.dji.sample.component.oss.service.impl;
+
+import com.dji.sdk.cloudapi.storage.CredentialsToken;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StsCredentialsCache 테스트
+ *
+ * 발급 함수는 호출 횟수를 세고, 시각은 테스트에서 직접 움직이는 FakeClock으로 대신합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class StsCredentialsCacheTest {
+
+    private static final long EXPIRE_SECONDS = 3600;
+
+    private static final long SAFETY_MARGIN_SECONDS = 300;
+
+    private final FakeClock clock = new FakeClock();
+
+    private final AtomicInteger fetchCount = new AtomicInteger();
+
+    private final StsCredentialsCache cache = new StsCredentialsCache(this::fetch, clock, SAFETY_MARGIN_SECONDS);
+
+    @AfterEach
+    void shutdown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void concurrentRequestsShareOneFetch() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StsCredentialsCache blockingCache = new StsCredentialsCache(() -> {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return this.fetch();
+        }, clock, SAFETY_MARGIN_SECONDS);
+        ExecutorService pool = Executors.newFixedThreadPool(32);
+        try {
+            List<Future<CredentialsToken>> results = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                results.add(pool.submit(blockingCache::get));
+            }
+            // 모든 스레드가 진행 중인 발급을 기다리는 상태에서 발급을 끝냅니다.
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<CredentialsToken> result : results) {
+                assertEquals("key-1", result.get(10, TimeUnit.SECONDS).getAccessKeyId());
+            }
+            assertEquals(1, fetchCount.get());
+        } finally {
+            pool.shutdownNow();
+            blockingCache.shutdown();
+        }
+    }
+
+    @Test
+    void returnsCopyWithRemainingExpire() {
+        CredentialsToken first = cache.get();
+        assertEquals(EXPIRE_SECONDS, first.getExpire());
+        first.setAccessKeyId("changed");
+
+        clock.advance(1_000_000);
+        CredentialsToken second = cache.get();
+        assertEquals("key-1", second.getAccessKeyId());
+        assertEquals(EXPIRE_SECONDS - 1000, second.getExpire());
+        assertEquals(1, fetchCount.get());
+    }
+
+    @Test
+    void refreshesInBackgroundAfterHalfLife() throws InterruptedException {
+        cache.get();
+        clock.advance(EXPIRE_SECONDS * 500);
+
+        // 기존 자격 증명을 바로 반환하고 발급은 백그라운드에서 진행됩니다.
+        assertEquals("key-1", cache.get().getAccessKeyId());
+        for (int i = 0; i < 100 && !"key-2".equals(cache.get().getAccessKeyId()); i++) {
+            Thread.sleep(50);
+        }
+        assertEquals("key-2", cache.get().getAccessKeyId());
+        assertEquals(2, fetchCount.get());
+    }
+
+    @Test
+    void waitsForNewCredentialsWithinSafetyMargin() {
+        cache.shutdown();
+        cache.get();
+        clock.advance((EXPIRE_SECONDS - SAFETY_MARGIN_SECONDS) * 1000);
+
+        CredentialsToken credentials = cache.get();
+        assertEquals("key-2", credentials.getAccessKeyId());
+        assertEquals(EXPIRE_SECONDS, credentials.getExpire());
+    }
+
+    @Test
+    void invalidateForcesNewFetch() {
+        cache.get();
+        cache.invalidate();
+        assertEquals("key-2", cache.get().getAccessKeyId());
+    }
+
+    @Test
+    void failedFetchIsRetried() {
+        AtomicInteger calls = new AtomicInteger();
+        StsCredentialsCache failingCache = new StsCredentialsCache(() -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("sts unavailable");
+            }
+            return calls.get() == 2 ? null : this.fetch();
+        }, clock, SAFETY_MARGIN_SECONDS);
+        try {
+            assertThrows(IllegalStateException.class, failingCache::get);
+            assertNull(failingCache.get());
+            assertEquals("key-1", failingCache.get().getAccessKeyId());
+        } finally {
+            failingCache.shutdown();
+        }
+    }
+
+    @Test
+    void keepsWorkingAfterShutdown() {
+        cache.get();
+        cache.shutdown();
+        clock.advance(EXPIRE_SECONDS * 500);
+
+        // 백그라운드 발급은 거절되지만 기존 자격 증명은 그대로 반환됩니다.
+        assertEquals("key-1", cache.get().getAccessKeyId());
+        cache.invalidate();
+        assertEquals("key-2", cache.get().getAccessKeyId());
+    }
+
+    private CredentialsToken fetch() {
+        return new CredentialsToken()
+                .setAccessKeyId("key-" + fetchCount.incrementAndGet())
+                .setAccessKeySecret("secret")
+                .setSecurityToken("token")
+                .setExpire(EXPIRE_SECONDS);
+    }
+
+    private static final class FakeClock extends Clock {
+
+        private final AtomicLong millis = new AtomicLong();
+
+        void advance(long delta) {
+            millis.addAndGet(delta);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis.get();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis());
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.dji.sample.component.redis;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트용 내장 Redis 서버
+ *
+ * 빈 포트에 실제 redis-server 프로세스를 띄우고, 애플리케이션과 같은 RedisConfiguration으로 만든
+ * RedisTemplate과 RedisOpsUtils를 연결합니다. 테스트가 끝나면 close로 연결과 서버를 정리합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public class EmbeddedRedis implements AutoCloseable {
+
+    private final RedisServer server;
+
+    private final LettuceConnectionFactory connectionFactory;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    public EmbeddedRedis() throws IOException {
+        int port = freePort();
+        this.server = new RedisServer(port);
+        this.server.start();
+        this.connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("127.0.0.1", port));
+        this.connectionFactory.afterPropertiesSet();
+        this.redisTemplate = new RedisConfiguration().redisTemplate(connectionFactory);
+        new RedisOpsUtils().setRedisTemplate(redisTemplate);
+    }
+
+    /**
+     * 서버 인스턴스 하나에 해당하는 메시지 리스너 컨테이너를 시작합니다.
+     * 컨테이너마다 별도의 구독 연결을 사용합니다.
+     *
+     * @return 시작된 리스너 컨테이너
+     */
+    public RedisMessageListenerContainer newListenerContainer() {
+        RedisMessageListenerContainer container = new RedisConfiguration().redisMessageListenerContainer(connectionFactory);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+        return container;
+    }
+
+    public RedisTemplate<String, Object> getRedisTemplate() {
+        return redisTemplate;
+    }
+
+    public LettuceConnectionFactory getConnectionFactory() {
+        return connectionFactory;
+    }
+
+    /**
+     * 모든 키를 지웁니다.
+     */
+    public void flushAll() {
+        redisTemplate.execute(connection -> {
+            connection.flushAll();
+            return null;
+        }, true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (RedisMessageListenerContainer container : containers) {
+            try {
+                container.destroy();
+            } catch (Exception e) {
+                // 서버를 내리는 중이므로 무시합니다.
+            }
+        }
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
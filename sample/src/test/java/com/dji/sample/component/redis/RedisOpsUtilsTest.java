@@ -0,0 +1,121 @@
+package com.dji.sample.component.redis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RedisOpsUtils 다중 키, 파이프라인, Lua 스크립트 명령 테스트
+ *
+ * 각 메서드가 Redis에 한 번만 요청하는지 RedisTemplate mock의 호출 수로 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisOpsUtilsTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @BeforeEach
+    void setUp() {
+        new RedisOpsUtils().setRedisTemplate(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pipelineSendsAllCommandsAtOnce() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(redisTemplate);
+            return Arrays.asList("a", 10L);
+        });
+
+        List<Object> results = RedisOpsUtils.pipeline(operations -> {
+            operations.opsForValue().get("key");
+            operations.getExpire("key", TimeUnit.SECONDS);
+        });
+
+        assertEquals(Arrays.asList("a", 10L), results);
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(valueOperations).get("key");
+        verify(redisTemplate).getExpire("key", TimeUnit.SECONDS);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void multiSetWithExpireUsesOnePipeline() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(redisTemplate);
+            return List.of();
+        });
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            values.put("key" + i, i);
+        }
+
+        RedisOpsUtils.multiSetWithExpire(values, 30);
+
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(valueOperations, times(100)).set(anyString(), any(), eq(30L), eq(TimeUnit.SECONDS));
+    }
+
+    @Test
+    void multiKeyCommandsUseOneRequest() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        List<String> keys = List.of("a", "b", "c");
+        when(valueOperations.multiGet(keys)).thenReturn(Arrays.asList(1, null, 3));
+        when(redisTemplate.delete(keys)).thenReturn(2L);
+
+        assertEquals(Arrays.asList(1, null, 3), RedisOpsUtils.multiGet(keys));
+        assertEquals(2L, RedisOpsUtils.delAll("a", "b", "c"));
+        verify(valueOperations, times(1)).multiGet(keys);
+        verify(redisTemplate, times(1)).delete(keys);
+    }
+
+    @Test
+    void emptyKeysSkipRedis() {
+        assertTrue(RedisOpsUtils.multiGet(List.of()).isEmpty());
+        assertEquals(0L, RedisOpsUtils.delAll());
+        RedisOpsUtils.multiSetWithExpire(Map.of(), 30);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void delAndSetWithExpireRunsOneScript() {
+        RedisOpsUtils.delAndSetWithExpire("paused", "running", "job", 60);
+
+        verify(redisTemplate, times(1)).execute(any(RedisScript.class), eq(List.of("paused", "running")), eq("job"), eq(60L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void zPopByScoreReturnsEmptyListWhenScriptReturnsNull() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("index")), eq(100L), eq(10L))).thenReturn(null);
+
+        assertTrue(RedisOpsUtils.zPopByScore("index", 100, 10).isEmpty());
+    }
+}
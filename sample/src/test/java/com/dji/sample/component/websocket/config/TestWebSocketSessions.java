@@ -0,0 +1,41 @@
+package com.dji.sample.component.websocket.config;
+
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 테스트용 WebSocket 세션 생성기
+ *
+ * MyConcurrentWebSocketSession은 MyWebSocketHandler에서만 만들 수 있으므로,
+ * 같은 패키지에서 테스트가 쓸 세션을 만들어 줍니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+public final class TestWebSocketSessions {
+
+    private TestWebSocketSessions() {
+    }
+
+    /**
+     * 기본 설정의 세션을 만듭니다.
+     *
+     * @param delegate 원본 WebSocket 세션
+     * @return 세션
+     */
+    public static MyConcurrentWebSocketSession of(WebSocketSession delegate) {
+        return new MyConcurrentWebSocketSession(delegate);
+    }
+
+    /**
+     * 텔레메트리를 델타 프레임으로 받는 세션을 만듭니다.
+     *
+     * @param delegate 원본 WebSocket 세션
+     * @return 세션
+     */
+    public static MyConcurrentWebSocketSession telemetryDelta(WebSocketSession delegate) {
+        MyConcurrentWebSocketSession session = new MyConcurrentWebSocketSession(delegate);
+        session.setTelemetryDelta(true);
+        return session;
+    }
+}
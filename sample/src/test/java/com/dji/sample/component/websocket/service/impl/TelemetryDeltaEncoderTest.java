@@ -0,0 +1,158 @@
+package com.dji.sample.component.websocket.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TelemetryDeltaEncoder 테스트
+ *
+ * 클라이언트와 같은 방식으로 델타를 적용해 원래 프레임이 복원되는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class TelemetryDeltaEncoderTest {
+
+    private static final String BIZ_CODE = "device_osd";
+
+    private static final String SN = "1581F5BKD225D00BD2V9";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void deltaRoundTrip() throws Exception {
+        TelemetryDeltaEncoder encoder = new TelemetryDeltaEncoder(mapper, 1000);
+        Random random = new Random(7);
+        JsonNode client = null;
+        long clientSeq = 0;
+        for (int i = 0; i < 500; i++) {
+            Map<String, Object> host = this.randomHost(random);
+            TelemetryDeltaEncoder.Frame frame = encoder.encode(BIZ_CODE, SN, host, 1000L + i);
+            JsonNode data = mapper.readTree(frame.getDelta().getPayload()).get("data");
+            assertEquals(i + 1, data.get("seq").asLong());
+            if (frame.isKeyframe()) {
+                client = data.get("host").deepCopy();
+            } else {
+                assertEquals(clientSeq, data.get("base_seq").asLong());
+                apply((ObjectNode) client, data.get("changes"));
+            }
+            clientSeq = data.get("seq").asLong();
+            assertEquals(mapper.valueToTree(host), client, "seq " + clientSeq);
+        }
+    }
+
+    @Test
+    void unchangedFrameHasNoChanges() throws Exception {
+        TelemetryDeltaEncoder encoder = new TelemetryDeltaEncoder(mapper, 1000);
+        Map<String, Object> host = Map.of("latitude", 22.5, "longitude", 113.9);
+        encoder.encode(BIZ_CODE, SN, host, 1000);
+        TelemetryDeltaEncoder.Frame frame = encoder.encode(BIZ_CODE, SN, host, 1001);
+
+        JsonNode data = mapper.readTree(frame.getDelta().getPayload()).get("data");
+        assertEquals(0, data.get("changes").size());
+        assertTrue(frame.getDelta().getPayloadLength() < frame.getFull().getPayloadLength());
+    }
+
+    @Test
+    void keyframeEveryInterval() {
+        TelemetryDeltaEncoder encoder = new TelemetryDeltaEncoder(mapper, 3);
+        boolean[] keyframes = new boolean[7];
+        for (int i = 0; i < keyframes.length; i++) {
+            keyframes[i] = encoder.encode(BIZ_CODE, SN, Map.of("height", i), 1000 + i).isKeyframe();
+        }
+        assertArrayEquals(new boolean[]{true, false, true, false, false, true, false}, keyframes);
+    }
+
+    @Test
+    void legacyMessageKeepsOriginalFormat() throws Exception {
+        TelemetryDeltaEncoder encoder = new TelemetryDeltaEncoder(mapper, 30);
+        TelemetryDeltaEncoder.Frame frame = encoder.encode(BIZ_CODE, SN, Map.of("height", 10), 1000);
+
+        JsonNode message = mapper.readTree(frame.getLegacy().getPayload());
+        assertEquals(BIZ_CODE, message.get("biz_code").asText());
+        assertEquals(SN, message.get("data").get("sn").asText());
+        assertEquals(10, message.get("data").get("host").get("height").asInt());
+        assertFalse(message.get("data").has("seq"));
+        assertSame(frame.getLegacy(), frame.getLegacy());
+    }
+
+    @Test
+    void idleStreamsArePruned() {
+        TelemetryDeltaEncoder encoder = new TelemetryDeltaEncoder(mapper, 30, 1000);
+        for (int i = 0; i < 100; i++) {
+            encoder.encode(BIZ_CODE, SN + i, Map.of("height", i), 0);
+        }
+        assertEquals(100, encoder.size());
+
+        encoder.encode(BIZ_CODE, SN + 0, Map.of("height", 0), 500);
+        assertEquals(100, encoder.size());
+
+        // 1초 넘게 프레임이 없는 스트림만 정리
+        encoder.encode(BIZ_CODE, SN + 1, Map.of("height", 1), 1400);
+        assertEquals(2, encoder.size());
+        encoder.encode(BIZ_CODE, SN + 1, Map.of("height", 1), 2600);
+        assertEquals(1, encoder.size());
+
+        // 정리된 디바이스의 다음 프레임은 전체 프레임부터 다시 시작
+        TelemetryDeltaEncoder.Frame frame = encoder.encode(BIZ_CODE, SN + 2, Map.of("height", 2), 2601);
+        assertTrue(frame.isKeyframe());
+        assertEquals(1, frame.getSeq());
+    }
+
+    private Map<String, Object> randomHost(Random random) {
+        Map<String, Object> host = new LinkedHashMap<>();
+        host.put("latitude", 22.5 + random.nextInt(3) * 0.001);
+        host.put("longitude", 113.9);
+        host.put("mode_code", random.nextInt(2));
+        if (random.nextBoolean()) {
+            host.put("a/b~c", random.nextInt(2));
+        }
+        Map<String, Object> battery = new LinkedHashMap<>();
+        battery.put("capacity_percent", 80 + random.nextInt(2));
+        if (random.nextInt(4) != 0) {
+            battery.put("remain_flight_time", 600);
+        }
+        host.put("battery", battery);
+        host.put("cameras", List.of(Map.of("payload_index", "39-0-7", "zoom", random.nextInt(2))));
+        if (random.nextInt(5) == 0) {
+            host.put("position_state", Map.of("gps_number", random.nextInt(20)));
+        }
+        return host;
+    }
+
+    /**
+     * 클라이언트와 같은 방식으로 델타를 적용합니다. 값이 null이면 삭제하고, 그 밖에는 교체합니다.
+     */
+    private static void apply(ObjectNode state, JsonNode changes) {
+        Iterator<Map.Entry<String, JsonNode>> fields = changes.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> change = fields.next();
+            String[] tokens = change.getKey().substring(1).split("/", -1);
+            ObjectNode parent = state;
+            for (int i = 0; i < tokens.length - 1; i++) {
+                parent = parent.with(unescape(tokens[i]));
+            }
+            String name = unescape(tokens[tokens.length - 1]);
+            if (change.getValue().isNull()) {
+                parent.remove(name);
+            } else {
+                parent.set(name, change.getValue());
+            }
+        }
+    }
+
+    private static String unescape(String token) {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+}
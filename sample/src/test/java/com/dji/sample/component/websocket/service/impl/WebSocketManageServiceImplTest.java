@@ -0,0 +1,162 @@
+package com.dji.sample.component.websocket.service.impl;
+
+import com.dji.sample.component.redis.RedisOpsUtils;
+import com.dji.sample.component.websocket.config.MyConcurrentWebSocketSession;
+import com.dji.sample.component.websocket.config.TestWebSocketSessions;
+import com.dji.sample.manage.model.enums.UserTypeEnum;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebSocketManageServiceImpl 세션 인덱스 테스트
+ *
+ * 세션 1,000개를 연결하고 Redis 왕복 횟수를 셉니다. Redis는 mock이며 파이프라인 한 번을 왕복 한 번으로 셉니다.
+ * 연결과 종료는 세션마다 파이프라인 한 번, 전송 대상 조회와 전송은 Redis를 사용하지 않아야 합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class WebSocketManageServiceImplTest {
+
+    private static final int SESSIONS = 1_000;
+
+    private static final int WORKSPACES = 10;
+
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+
+    private final WebSocketManageServiceImpl manageService = new WebSocketManageServiceImpl();
+
+    private final List<String> keys = new ArrayList<>();
+
+    private final List<MyConcurrentWebSocketSession> sessions = new ArrayList<>();
+
+    private final AtomicLong delivered = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        new RedisOpsUtils().setRedisTemplate(redisTemplate);
+        when(redisTemplate.executePipelined(any(SessionCallback.class))).thenReturn(List.of());
+        for (int i = 0; i < SESSIONS; i++) {
+            WebSocketSession delegate = mock(WebSocketSession.class);
+            when(delegate.getId()).thenReturn("session-" + i);
+            lenient().when(delegate.isOpen()).thenReturn(true);
+            lenient().doAnswer(invocation -> delivered.incrementAndGet()).when(delegate).sendMessage(any(TextMessage.class));
+            sessions.add(TestWebSocketSessions.of(delegate));
+            keys.add(workspace(i % WORKSPACES) + "/" + userType(i).getVal() + "/user-" + i);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 세션 저장소는 static이므로 다른 테스트에 남지 않게 정리
+        for (int i = 0; i < SESSIONS; i++) {
+            manageService.remove(keys.get(i), sessions.get(i).getId());
+        }
+    }
+
+    private static String workspace(int i) {
+        return "workspace-" + i;
+    }
+
+    private static UserTypeEnum userType(int i) {
+        return (i / WORKSPACES) % 2 == 0 ? UserTypeEnum.WEB : UserTypeEnum.PILOT;
+    }
+
+    private void connectAll() {
+        for (int i = 0; i < SESSIONS; i++) {
+            manageService.put(keys.get(i), sessions.get(i));
+        }
+    }
+
+    @Test
+    void connectAndDisconnectCostOnePipelineEach() {
+        connectAll();
+
+        verify(redisTemplate, times(SESSIONS)).executePipelined(any(SessionCallback.class));
+        verifyNoMoreInteractions(redisTemplate);
+        assertEquals(SESSIONS, manageService.getConnectedCount());
+
+        for (int i = 0; i < SESSIONS; i++) {
+            manageService.remove(keys.get(i), sessions.get(i).getId());
+        }
+
+        verify(redisTemplate, times(SESSIONS * 2)).executePipelined(any(SessionCallback.class));
+        verifyNoMoreInteractions(redisTemplate);
+        assertEquals(0, manageService.getConnectedCount());
+        for (int w = 0; w < WORKSPACES; w++) {
+            assertTrue(manageService.getValueWithWorkspace(workspace(w)).isEmpty());
+        }
+    }
+
+    @Test
+    void lookupsUseNoRedis() {
+        connectAll();
+        clearInvocations(redisTemplate);
+
+        long start = System.nanoTime();
+        for (int round = 0; round < 1_000; round++) {
+            for (int w = 0; w < WORKSPACES; w++) {
+                assertEquals(SESSIONS / WORKSPACES, manageService.getValueWithWorkspace(workspace(w)).size());
+                assertEquals(SESSIONS / WORKSPACES / 2,
+                        manageService.getValueWithWorkspaceAndUserType(workspace(w), UserTypeEnum.PILOT.getVal()).size());
+            }
+        }
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        verifyNoInteractions(redisTemplate);
+        // 조회 20,000번. 세션 수에 비례하는 복사나 Redis 왕복이 없으므로 짧게 끝나야 합니다.
+        assertTrue(elapsed < 2000, "lookups took " + elapsed + " ms");
+    }
+
+    @Test
+    void fanOutToEveryWorkspaceUsesNoRedis() throws Exception {
+        connectAll();
+        clearInvocations(redisTemplate);
+        WebSocketMessageServiceImpl messageService = new WebSocketMessageServiceImpl();
+        ReflectionTestUtils.setField(messageService, "mapper", new ObjectMapper());
+        ReflectionTestUtils.setField(messageService, "webSocketManageService", manageService);
+        ReflectionTestUtils.setField(messageService, "poolSize", 2);
+        ReflectionTestUtils.setField(messageService, "queueCapacity", 64);
+        ReflectionTestUtils.setField(messageService, "slowConsumerTimeout", 10_000L);
+        ReflectionTestUtils.setField(messageService, "keyframeInterval", 30);
+        messageService.init();
+        try {
+            int rounds = 10;
+            for (int round = 0; round < rounds; round++) {
+                for (int w = 0; w < WORKSPACES; w++) {
+                    messageService.sendBatch(workspace(w), "device_osd", round);
+                    messageService.sendBatch(workspace(w), UserTypeEnum.WEB.getVal(), "device_online", round);
+                }
+            }
+
+            // 워크스페이스 전체 전송 + 웹 사용자 전송
+            long expected = (long) rounds * (SESSIONS + SESSIONS / 2);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (delivered.get() < expected && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(expected, delivered.get());
+            verifyNoInteractions(redisTemplate);
+        } finally {
+            messageService.destroy();
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package com.dji.sample.component.websocket.service.impl;
+
+import com.dji.sample.component.websocket.config.MyConcurrentWebSocketSession;
+import com.dji.sample.component.websocket.config.TestWebSocketSessions;
+import com.dji.sample.component.websocket.service.IWebSocketManageService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.dji.sdk.websocket.WebSocketMessageResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebSocketMessageServiceImpl 송신 큐 테스트
+ *
+ * 원본 WebSocket 세션은 mock으로 대신하며, 막힌 세션은 sendMessage에서 release가 풀릴 때까지 기다립니다.
+ * 기다리는 중에 전송 스레드가 종료되면(shutdownNow) 소켓 쓰기가 실패한 것처럼 IOException으로 끝납니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class WebSocketMessageServiceImplTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+
+    private static final long SLOW_CONSUMER_TIMEOUT = 100;
+
+    /** MyConcurrentWebSocketSession의 전송 시간 제한 */
+    private static final long SEND_TIME_LIMIT = 1000;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private final IWebSocketManageService webSocketManageService = mock(IWebSocketManageService.class);
+
+    private WebSocketMessageServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new WebSocketMessageServiceImpl();
+        ReflectionTestUtils.setField(service, "mapper", mapper);
+        ReflectionTestUtils.setField(service, "webSocketManageService", webSocketManageService);
+        ReflectionTestUtils.setField(service, "poolSize", 2);
+        ReflectionTestUtils.setField(service, "queueCapacity", QUEUE_CAPACITY);
+        ReflectionTestUtils.setField(service, "slowConsumerTimeout", SLOW_CONSUMER_TIMEOUT);
+        ReflectionTestUtils.setField(service, "keyframeInterval", 30);
+        service.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        service.destroy();
+    }
+
+    @Test
+    void stalledSessionQueueIsBoundedAndOtherSessionsKeepReceiving() throws Exception {
+        // 큐 크기 제한만 확인하도록 대기 시간으로는 종료하지 않음
+        ReflectionTestUtils.setField(service, "slowConsumerTimeout", 60_000L);
+        CountDownLatch sending = new CountDownLatch(1);
+        WebSocketSession stalled = this.stalledDelegate("stalled", sending);
+        WebSocketSession healthy = this.delegate("healthy");
+        MyConcurrentWebSocketSession stalledSession = TestWebSocketSessions.of(stalled);
+        MyConcurrentWebSocketSession healthySession = TestWebSocketSessions.of(healthy);
+
+        service.sendBatch(List.of(stalledSession, healthySession), message("osd"));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        // 막힌 세션의 큐는 QUEUE_CAPACITY를 넘지 않고, 같은 비즈니스 코드는 오래된 메시지를 대체
+        for (int i = 0; i < 20; i++) {
+            service.sendMessage(stalledSession, message("osd"));
+        }
+        assertEquals(20 - QUEUE_CAPACITY, service.getSupersededCount());
+
+        // 대체할 메시지가 없는 비즈니스 코드는 버림
+        service.sendMessage(stalledSession, message("device_online"));
+        assertEquals(1, service.getDroppedCount());
+
+        // 막힌 세션과 관계없이 다른 세션에는 메시지가 전송됨
+        service.sendMessage(healthySession, message("device_online"));
+        verify(healthy, timeout(5000).times(2)).sendMessage(any(TextMessage.class));
+        assertEquals(0, service.getEvictedCount());
+    }
+
+    @Test
+    void slowSessionIsClosedOnCloseThread() throws Exception {
+        CountDownLatch sending = new CountDownLatch(1);
+        WebSocketSession stalled = this.stalledDelegate("stalled", sending);
+        AtomicReference<String> closeThread = new AtomicReference<>();
+        CountDownLatch closed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            closeThread.set(Thread.currentThread().getName());
+            closed.countDown();
+            return null;
+        }).when(stalled).close(any(CloseStatus.class));
+        MyConcurrentWebSocketSession session = TestWebSocketSessions.of(stalled);
+
+        service.sendMessage(session, message("osd"));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        service.sendMessage(session, message("osd"));
+        Thread.sleep(SLOW_CONSUMER_TIMEOUT * 2);
+
+        service.sendMessage(session, message("osd"));
+        service.sendMessage(session, message("osd"));
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        assertTrue(closeThread.get().startsWith("websocket-close-"), closeThread.get());
+        verify(stalled).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1, service.getEvictedCount());
+        assertTrue(session.isEvicted());
+    }
+
+    @Test
+    void manySlowSessionsAreAllClosed() throws Exception {
+        int count = 50;
+        CountDownLatch closed = new CountDownLatch(count);
+        MyConcurrentWebSocketSession[] sessions = new MyConcurrentWebSocketSession[count];
+        for (int i = 0; i < count; i++) {
+            WebSocketSession delegate = this.stalledDelegate("stalled-" + i, new CountDownLatch(1));
+            doAnswer(invocation -> {
+                // 종료 프레임 전송도 잠시 막힘
+                Thread.sleep(5);
+                closed.countDown();
+                return null;
+            }).when(delegate).close(any(CloseStatus.class));
+            sessions[i] = TestWebSocketSessions.of(delegate);
+            service.sendMessage(sessions[i], message("osd"));
+            service.sendMessage(sessions[i], message("osd"));
+        }
+        Thread.sleep(SLOW_CONSUMER_TIMEOUT * 2);
+        for (MyConcurrentWebSocketSession session : sessions) {
+            service.sendMessage(session, message("osd"));
+        }
+
+        assertTrue(closed.await(10, TimeUnit.SECONDS));
+        assertEquals(count, service.getEvictedCount());
+    }
+
+    @Test
+    void telemetryIsSentAsDeltaOrLegacyPerSession() throws Exception {
+        WebSocketSession deltaDelegate = this.delegate("delta");
+        WebSocketSession legacyDelegate = this.delegate("legacy");
+        MyConcurrentWebSocketSession deltaSession = TestWebSocketSessions.telemetryDelta(deltaDelegate);
+        MyConcurrentWebSocketSession legacySession = TestWebSocketSessions.of(legacyDelegate);
+        when(webSocketManageService.getValueWithWorkspace("workspace")).thenReturn(List.of(deltaSession, legacySession));
+
+        service.sendTelemetry("workspace", null, "device_osd", "sn", Map.of("height", 10, "speed", 1));
+        service.sendTelemetry("workspace", null, "device_osd", "sn", Map.of("height", 11, "speed", 1));
+
+        ArgumentCaptor<TextMessage> deltaMessages = ArgumentCaptor.forClass(TextMessage.class);
+        verify(deltaDelegate, timeout(5000).times(2)).sendMessage(deltaMessages.capture());
+        JsonNode full = mapper.readTree(deltaMessages.getAllValues().get(0).getPayload()).get("data");
+        JsonNode delta = mapper.readTree(deltaMessages.getAllValues().get(1).getPayload()).get("data");
+        assertEquals(10, full.get("host").get("height").asInt());
+        assertEquals(1, delta.get("base_seq").asLong());
+        assertEquals(11, delta.get("changes").get("/height").asInt());
+        assertFalse(delta.get("changes").has("/speed"));
+
+        ArgumentCaptor<TextMessage> legacyMessages = ArgumentCaptor.forClass(TextMessage.class);
+        verify(legacyDelegate, timeout(5000).times(2)).sendMessage(legacyMessages.capture());
+        JsonNode legacy = mapper.readTree(legacyMessages.getAllValues().get(1).getPayload()).get("data");
+        assertEquals(11, legacy.get("host").get("height").asInt());
+        assertFalse(legacy.has("seq"));
+    }
+
+    @Test
+    void blockedSendIsClosedWithoutNewMessages() throws Exception {
+        // 대기 시간이 아닌 전송 시간 제한으로만 종료되는지 확인
+        ReflectionTestUtils.setField(service, "slowConsumerTimeout", 60_000L);
+        CountDownLatch sending = new CountDownLatch(1);
+        WebSocketSession stalled = this.stalledDelegate("stalled", sending);
+        AtomicLong closedAt = new AtomicLong();
+        CountDownLatch closed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            closedAt.set(System.currentTimeMillis());
+            closed.countDown();
+            // 연결이 닫히면 막힌 쓰기도 끝납니다.
+            release.countDown();
+            return null;
+        }).when(stalled).close(any(CloseStatus.class));
+        MyConcurrentWebSocketSession session = TestWebSocketSessions.of(stalled);
+
+        long start = System.currentTimeMillis();
+        service.sendMessage(session, message("osd"));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+
+        // 이후 메시지가 없어도 감시 스레드가 종료
+        assertTrue(closed.await(SEND_TIME_LIMIT * 5, TimeUnit.MILLISECONDS));
+        assertTrue(closedAt.get() - start >= SEND_TIME_LIMIT, "closed after " + (closedAt.get() - start) + " ms");
+        verify(stalled).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertEquals(1, service.getEvictedCount());
+        // 전송 스레드도 돌아와 전송 중 상태가 해제됨
+        assertTrue(awaitTrue(() -> session.getSendingMillis(System.currentTimeMillis()) == 0));
+    }
+
+    @Test
+    void writerClosesSessionWhoseBacklogWaitsTooLong() throws Exception {
+        WebSocketSession slow = this.delegate("slow");
+        AtomicInteger sent = new AtomicInteger();
+        doAnswer(invocation -> {
+            Thread.sleep(SLOW_CONSUMER_TIMEOUT * 4 / 5);
+            sent.incrementAndGet();
+            return null;
+        }).when(slow).sendMessage(any(TextMessage.class));
+        CountDownLatch closed = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            closed.countDown();
+            return null;
+        }).when(slow).close(any(CloseStatus.class));
+        MyConcurrentWebSocketSession session = TestWebSocketSessions.of(slow);
+
+        // 메시지마다 전송 시간 제한 안에 보내지만, 뒤의 메시지는 대기 시간 제한을 넘김
+        for (int i = 0; i < QUEUE_CAPACITY; i++) {
+            service.sendMessage(session, message("event-" + i));
+        }
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        assertEquals(1, service.getEvictedCount());
+        assertTrue(awaitTrue(() -> session.getSendingMillis(System.currentTimeMillis()) == 0));
+        assertTrue(sent.get() < QUEUE_CAPACITY, "sent " + sent.get());
+    }
+
+    @Test
+    void sessionIsRemovedFromIndexesWhenCloseIsRejected() throws Exception {
+        // 종료 스레드 풀이 종료 작업을 받지 못하는 상황
+        ThreadPoolExecutor closeExecutor = (ThreadPoolExecutor) ReflectionTestUtils.getField(service, "closeExecutor");
+        closeExecutor.shutdownNow();
+        ThreadPoolExecutor rejecting = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        rejecting.shutdown();
+        ReflectionTestUtils.setField(service, "closeExecutor", rejecting);
+
+        CountDownLatch sending = new CountDownLatch(1);
+        WebSocketSession stalled = this.stalledDelegate("stalled", sending);
+        Principal principal = mock(Principal.class);
+        when(principal.getName()).thenReturn("workspace/1/user");
+        when(stalled.getPrincipal()).thenReturn(principal);
+        MyConcurrentWebSocketSession session = TestWebSocketSessions.of(stalled);
+
+        service.sendMessage(session, message("osd"));
+        assertTrue(sending.await(5, TimeUnit.SECONDS));
+        service.sendMessage(session, message("osd"));
+
+        verify(webSocketManageService, timeout(5000)).remove("workspace/1/user", "stalled");
+        verify(stalled, never()).close(any(CloseStatus.class));
+        assertEquals(1, service.getEvictedCount());
+    }
+
+    private static boolean awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private WebSocketSession delegate(String id) {
+        WebSocketSession delegate = mock(WebSocketSession.class);
+        lenient().when(delegate.getId()).thenReturn(id);
+        lenient().when(delegate.isOpen()).thenReturn(true);
+        return delegate;
+    }
+
+    private WebSocketSession stalledDelegate(String id, CountDownLatch sending) throws Exception {
+        WebSocketSession delegate = this.delegate(id);
+        doAnswer(invocation -> {
+            sending.countDown();
+            try {
+                if (!release.await(30, TimeUnit.SECONDS)) {
+                    throw new IOException("The send was not released.");
+                }
+            } catch (InterruptedException e) {
+                // 전송 스레드 풀 종료. 인터럽트 상태를 되돌리고 쓰기 실패로 끝냄
+                Thread.currentThread().interrupt();
+                throw new IOException("The send was interrupted.", e);
+            }
+            return null;
+        }).when(delegate).sendMessage(any(TextMessage.class));
+        return delegate;
+    }
+
+    private static WebSocketMessageResponse message(String bizCode) {
+        return new WebSocketMessageResponse().setBizCode(bizCode).setTimestamp(System.currentTimeMillis()).setData("");
+    }
+}
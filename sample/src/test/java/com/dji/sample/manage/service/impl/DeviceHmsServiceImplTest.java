@@ -0,0 +1,246 @@
+package com.dji.sample.manage.service.impl;
+
+import com.dji.sample.manage.model.common.HmsJsonUtil;
+import com.dji.sample.manage.model.common.HmsMessage;
+import com.dji.sample.manage.model.entity.DeviceHmsEntity;
+import com.dji.sdk.cloudapi.hms.DeviceHmsArgs;
+import com.dji.sdk.cloudapi.hms.HmsBatteryIndexEnum;
+import com.dji.sdk.cloudapi.hms.HmsChargingRodIndexEnum;
+import com.dji.sdk.cloudapi.hms.HmsDockCoverIndexEnum;
+import com.dji.sdk.cloudapi.hms.HmsFormatKeyEnum;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DeviceHmsServiceImpl 메시지 생성 테스트
+ *
+ * hms.json의 모든 키를 미리 분해한 템플릿과 이전 방식(알림마다 JSON 변환 후 정규표현식으로 분해)으로
+ * 각각 만들어 결과가 같은지 확인하고, 초당 처리할 수 있는 알림 수를 비교합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class DeviceHmsServiceImplTest {
+
+    /**
+     * 애플리케이션의 ObjectMapper와 같이 hms.json의 다른 언어(ar, ja 등)는 무시
+     */
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    /**
+     * 이전 DeviceHmsServiceImpl의 HMS 메시지 키 패턴
+     */
+    private static final Pattern PATTERN_KEY = Pattern.compile(
+                    "(" +
+                    Arrays.stream(HmsFormatKeyEnum.values())
+                            .map(HmsFormatKeyEnum::getKey)
+                            .collect(Collectors.joining("|")) +
+                    ")");
+
+    /**
+     * 자리 표시자 값의 경우. 값이 없는 경우, 센서 번호별 배터리, 덮개, 충전 막대 이름이 있는 경우와 없는 경우
+     */
+    private static final List<DeviceHmsArgs> ARGS = List.of(
+            new DeviceHmsArgs(),
+            new DeviceHmsArgs().setComponentIndex(0L).setSensorIndex(0).setAlarmId(0x1A2B),
+            new DeviceHmsArgs().setComponentIndex(1L).setSensorIndex(1).setAlarmId(-1),
+            new DeviceHmsArgs().setComponentIndex(2L).setSensorIndex(2),
+            new DeviceHmsArgs().setSensorIndex(3).setAlarmId(7),
+            new DeviceHmsArgs().setComponentIndex(5L).setSensorIndex(9));
+
+    private static JsonNode nodes;
+
+    private static List<String> keys;
+
+    private final DeviceHmsServiceImpl hmsService = new DeviceHmsServiceImpl();
+
+    private final Method fillMessage = findFillMessage();
+
+    @BeforeAll
+    static void loadHmsJson() throws Exception {
+        try (InputStream inputStream = new ClassPathResource("hms.json").getInputStream()) {
+            nodes = MAPPER.readTree(inputStream);
+        }
+        keys = new ArrayList<>();
+        nodes.fieldNames().forEachRemaining(keys::add);
+        // 없는 키는 "Unknown(...)" 메시지로 만들어짐
+        keys.add("fpv_tip_0x00000000");
+
+        HmsJsonUtil util = BeanUtils.instantiateClass(HmsJsonUtil.class);
+        util.setMapper(MAPPER);
+        ReflectionTestUtils.invokeMethod(util, "loadJsonFile");
+    }
+
+    private static Method findFillMessage() {
+        Method method = ReflectionUtils.findMethod(DeviceHmsServiceImpl.class, "fillMessage",
+                DeviceHmsEntity.class, DeviceHmsArgs.class);
+        ReflectionUtils.makeAccessible(Objects.requireNonNull(method));
+        return method;
+    }
+
+    private DeviceHmsEntity render(String key, DeviceHmsArgs args) {
+        DeviceHmsEntity entity = DeviceHmsEntity.builder().hmsKey(key).build();
+        ReflectionUtils.invokeMethod(fillMessage, hmsService, entity, args);
+        return entity;
+    }
+
+    @Test
+    void everyHmsKeyRendersLikeTheOldFormatter() {
+        assertTrue(keys.size() > 2000, "hms keys: " + keys.size());
+        int compared = 0;
+        for (DeviceHmsArgs args : ARGS) {
+            for (String key : keys) {
+                DeviceHmsEntity expected = renderOld(key, args);
+                DeviceHmsEntity actual = render(key, args);
+                assertEquals(expected.getMessageZh(), actual.getMessageZh(), key + " zh " + args);
+                assertEquals(expected.getMessageEn(), actual.getMessageEn(), key + " en " + args);
+                compared++;
+            }
+        }
+        assertEquals(ARGS.size() * keys.size(), compared);
+    }
+
+    @Test
+    void alertsPerSecond() {
+        // JIT 준비
+        for (int i = 0; i < 3; i++) {
+            renderAll(true);
+            renderAll(false);
+        }
+
+        long templates = renderAll(true);
+        long old = renderAll(false);
+
+        System.out.printf("HMS alerts/s over %d keys: templates %d, old formatter %d%n",
+                keys.size(), templates, old);
+        assertTrue(templates > old, "templates " + templates + " alerts/s, old " + old + " alerts/s");
+    }
+
+    /**
+     * 모든 키와 자리 표시자 값의 경우로 알림 메시지를 만들고 초당 처리 수를 반환합니다.
+     */
+    private long renderAll(boolean templates) {
+        long start = System.nanoTime();
+        int alerts = 0;
+        for (DeviceHmsArgs args : ARGS) {
+            for (String key : keys) {
+                DeviceHmsEntity entity = templates ? render(key, args) : renderOld(key, args);
+                assertNotNull(entity.getMessageEn());
+                alerts++;
+            }
+        }
+        long elapsed = Math.max(1, System.nanoTime() - start);
+        return alerts * TimeUnit.SECONDS.toNanos(1) / elapsed;
+    }
+
+    /**
+     * 이전 DeviceHmsServiceImpl.fillMessage와 HmsJsonUtil.get
+     */
+    private static DeviceHmsEntity renderOld(String key, DeviceHmsArgs args) {
+        HmsMessage hmsMessage = nodes.get(key) == null ? new HmsMessage() : MAPPER.convertValue(nodes.get(key), HmsMessage.class);
+        String zh = StringUtils.hasText(hmsMessage.getZh()) ? hmsMessage.getZh() : String.format("未知错误（%s）", key);
+        String en = StringUtils.hasText(hmsMessage.getEn()) ? hmsMessage.getEn() : String.format("Unknown(%s)", key);
+
+        DeviceHmsEntity entity = DeviceHmsEntity.builder().hmsKey(key).build();
+        entity.setMessageZh(format(Locale.CHINESE.getLanguage(), zh, args));
+        entity.setMessageEn(format(Locale.ENGLISH.getLanguage(), en, args));
+        return entity;
+    }
+
+    private static Map<String, String> fillKeyArgs(String l, DeviceHmsArgs hmsArgs) {
+        Map<String, String> args = new HashMap<>();
+        args.put(HmsFormatKeyEnum.ALARM_ID.getKey(), Objects.nonNull(hmsArgs.getAlarmId()) ? Long.toHexString(hmsArgs.getAlarmId()) : null);
+        args.put(HmsFormatKeyEnum.COMPONENT_INDEX.getKey(),
+                Objects.nonNull(hmsArgs.getComponentIndex()) ? String.valueOf(hmsArgs.getComponentIndex() + 1) : null);
+        if (Objects.nonNull(hmsArgs.getSensorIndex())) {
+            args.put(HmsFormatKeyEnum.INDEX.getKey(), String.valueOf(hmsArgs.getSensorIndex() + 1));
+
+            HmsBatteryIndexEnum hmsBatteryIndexEnum = Optional.ofNullable(hmsArgs.getSensorIndex())
+                    .filter(arg -> arg <= 1).map(HmsBatteryIndexEnum::find).orElse(null);
+            HmsDockCoverIndexEnum hmsDockCoverIndexEnum = Optional.ofNullable(hmsArgs.getSensorIndex())
+                    .filter(arg -> arg <= 1).map(HmsDockCoverIndexEnum::find).orElse(null);
+            HmsChargingRodIndexEnum hmsChargingRodIndexEnum = Optional.ofNullable(hmsArgs.getSensorIndex())
+                    .filter(arg -> arg <= 3).map(HmsChargingRodIndexEnum::find).orElse(null);
+
+            switch (l) {
+                case "zh":
+                    args.put(HmsFormatKeyEnum.BATTERY_INDEX.getKey(), Optional.ofNullable(hmsBatteryIndexEnum)
+                            .map(HmsBatteryIndexEnum::getZh).orElse(null));
+                    args.put(HmsFormatKeyEnum.DOCK_COVER_INDEX.getKey(), Optional.ofNullable(hmsDockCoverIndexEnum)
+                            .map(HmsDockCoverIndexEnum::getZh).orElse(null));
+                    args.put(HmsFormatKeyEnum.CHARGING_ROD_INDEX.getKey(), Optional.ofNullable(hmsChargingRodIndexEnum)
+                            .map(HmsChargingRodIndexEnum::getZh).orElse(null));
+                    break;
+                case "en":
+                    args.put(HmsFormatKeyEnum.BATTERY_INDEX.getKey(), Optional.ofNullable(hmsBatteryIndexEnum)
+                            .map(HmsBatteryIndexEnum::getEn).orElse(null));
+                    args.put(HmsFormatKeyEnum.DOCK_COVER_INDEX.getKey(), Optional.ofNullable(hmsDockCoverIndexEnum)
+                            .map(HmsDockCoverIndexEnum::getEn).orElse(null));
+                    args.put(HmsFormatKeyEnum.CHARGING_ROD_INDEX.getKey(), Optional.ofNullable(hmsChargingRodIndexEnum)
+                            .map(HmsChargingRodIndexEnum::getEn).orElse(null));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return args;
+    }
+
+    private static String format(String l, String format, DeviceHmsArgs hmsArgs) {
+        Map<String, String> args = fillKeyArgs(l, hmsArgs);
+        List<String> list = parse(format);
+        StringBuilder sb = new StringBuilder();
+        for (String word : list) {
+            if (!StringUtils.hasText(word)) {
+                continue;
+            }
+            sb.append(args.getOrDefault(word, word));
+        }
+        return sb.toString();
+    }
+
+    private static List<String> parse(String s) {
+        List<String> list = new ArrayList<>();
+        Matcher matcher = PATTERN_KEY.matcher(s);
+        for (int i = 0; i < s.length(); ) {
+            if (matcher.find(i)) {
+                if (matcher.start() != i) {
+                    list.add(s.substring(i, matcher.start()));
+                }
+                list.add(matcher.group());
+                i = matcher.end();
+            } else {
+                list.add(s.substring(i));
+                break;
+            }
+        }
+        return list;
+    }
+}
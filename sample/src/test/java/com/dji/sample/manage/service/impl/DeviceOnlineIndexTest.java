@@ -0,0 +1,195 @@
+package com.dji.sample.manage.service.impl;
+
+import com.dji.sample.component.redis.EmbeddedRedis;
+import com.dji.sample.component.redis.RedisConst;
+import com.dji.sample.component.redis.RedisOpsUtils;
+import com.dji.sample.manage.model.dto.DeviceDTO;
+import com.dji.sample.manage.service.ICapacityCameraService;
+import com.dji.sdk.cloudapi.device.DeviceDomainEnum;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 온라인 디바이스 인덱스(ZSET) 테스트
+ *
+ * 내장 Redis에 디바이스 10,000대를 올리고, 오프라인 판정 시각이 지난 디바이스만 정확히 한 번씩
+ * 꺼내지는지와 시작 시 인덱스 보충이 기존 온라인 키를 모두 인덱스에 넣는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class DeviceOnlineIndexTest {
+
+    private static final int DEVICES = 10_000;
+
+    private static final int BATCH = 500;
+
+    private static EmbeddedRedis redis;
+
+    private DeviceRedisServiceImpl deviceRedisService;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        new RedisOpsUtils().setRedisTemplate(redis.getRedisTemplate());
+        deviceRedisService = new DeviceRedisServiceImpl();
+        ReflectionTestUtils.setField(deviceRedisService, "capacityCameraService", mock(ICapacityCameraService.class));
+        ReflectionTestUtils.setField(deviceRedisService, "maxSize", 100);
+        ReflectionTestUtils.setField(deviceRedisService, "maxAge", 10L);
+        ReflectionTestUtils.setField(deviceRedisService, "refreshInterval", 10L);
+    }
+
+    private static String sn(int i) {
+        return String.format("SN%05d", i);
+    }
+
+    private static List<String> sns(int from, int to) {
+        return IntStream.range(from, to).mapToObj(DeviceOnlineIndexTest::sn).collect(Collectors.toList());
+    }
+
+    private void putOnline(int count) {
+        for (int i = 0; i < count; i++) {
+            deviceRedisService.setDeviceOnline(DeviceDTO.builder()
+                    .deviceSn(sn(i)).workspaceId("workspace").domain(DeviceDomainEnum.DOCK).status(true).build());
+        }
+    }
+
+    /**
+     * 디바이스들을 한 번의 파이프라인으로 인덱스에 넣습니다.
+     */
+    private static void index(List<String> sns, long offlineAt) {
+        RedisOpsUtils.pipeline(operations ->
+                sns.forEach(sn -> operations.opsForZSet().add(RedisConst.DEVICE_ONLINE_INDEX, sn, offlineAt)));
+    }
+
+    /**
+     * 판정 시각을 과거로 옮겨 해당 디바이스가 이미 오프라인 판정 시각을 넘긴 것처럼 만듭니다.
+     */
+    private static void makeDue(List<String> sns) {
+        index(sns, System.currentTimeMillis() - 1000);
+    }
+
+    private List<String> drain() {
+        List<String> polled = new ArrayList<>();
+        List<String> batch;
+        do {
+            batch = deviceRedisService.pollOfflineDevices(BATCH);
+            assertTrue(batch.size() <= BATCH);
+            polled.addAll(batch);
+        } while (!batch.isEmpty());
+        return polled;
+    }
+
+    private static long indexSize() {
+        return redis.getRedisTemplate().opsForZSet().zCard(RedisConst.DEVICE_ONLINE_INDEX);
+    }
+
+    @Test
+    void everyOnlineWriteRecordsTheOfflineDeadline() {
+        int count = 1_000;
+        long offlineMillis = TimeUnit.SECONDS.toMillis(RedisConst.DEVICE_OFFLINE_SECOND);
+        long before = System.currentTimeMillis();
+        putOnline(count);
+        long after = System.currentTimeMillis();
+
+        assertEquals(count, indexSize());
+        assertEquals(new HashSet<>(sns(0, count)), deviceRedisService.getOnlineDeviceSns());
+        for (String sn : sns(0, count)) {
+            double offlineAt = RedisOpsUtils.zScore(RedisConst.DEVICE_ONLINE_INDEX, sn);
+            assertTrue(offlineAt >= before + offlineMillis && offlineAt <= after + offlineMillis, sn);
+        }
+        assertTrue(deviceRedisService.pollOfflineDevices(BATCH).isEmpty());
+    }
+
+    @Test
+    void onlyDueDevicesArePolledExactlyOnce() {
+        index(sns(0, DEVICES), System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(RedisConst.DEVICE_OFFLINE_SECOND));
+        List<String> due = sns(0, 4_000);
+        makeDue(due);
+
+        long start = System.nanoTime();
+        List<String> polled = drain();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertEquals(due.size(), polled.size());
+        assertEquals(new HashSet<>(due), new HashSet<>(polled));
+        assertEquals(DEVICES - due.size(), indexSize());
+        // 500개씩 8번 + 빈 결과 1번. 스크립트 한 번이 디바이스 수에 비례해 느려지지 않아야 합니다.
+        assertTrue(elapsed < 5000, "draining took " + elapsed + " ms");
+    }
+
+    @Test
+    void concurrentPollersNeverReturnTheSameDevice() throws Exception {
+        makeDue(sns(0, DEVICES));
+
+        ExecutorService pollers = Executors.newFixedThreadPool(2);
+        try {
+            Future<List<String>> first = pollers.submit(this::drain);
+            Future<List<String>> second = pollers.submit(this::drain);
+            List<String> polled = new ArrayList<>(first.get(30, TimeUnit.SECONDS));
+            polled.addAll(second.get(30, TimeUnit.SECONDS));
+
+            assertEquals(DEVICES, polled.size());
+            assertEquals(new HashSet<>(sns(0, DEVICES)), new HashSet<>(polled));
+            assertEquals(0, indexSize());
+        } finally {
+            pollers.shutdownNow();
+        }
+    }
+
+    @Test
+    void backfillIndexesOnlineKeysWrittenBeforeTheIndex() {
+        // 인덱스 없이 저장된 온라인 키. 절반은 생존 시간이 충분하고, 절반은 이미 오프라인 판정 기준을 넘었습니다.
+        RedisOpsUtils.pipeline(operations -> {
+            for (int i = 0; i < DEVICES; i++) {
+                long ttl = i % 2 == 0 ? RedisConst.DEVICE_ALIVE_SECOND : RedisConst.DEVICE_OFFLINE_SECOND - 5;
+                operations.opsForValue().set(RedisConst.DEVICE_ONLINE_PREFIX + sn(i),
+                        DeviceDTO.builder().deviceSn(sn(i)).build(), ttl, TimeUnit.SECONDS);
+            }
+        });
+        // 인덱스에 이미 있는 디바이스의 판정 시각은 바꾸지 않습니다.
+        double recorded = System.currentTimeMillis() + 1_000_000;
+        RedisOpsUtils.zAdd(RedisConst.DEVICE_ONLINE_INDEX, sn(1), recorded);
+
+        int added = deviceRedisService.backfillOnlineIndex();
+
+        assertEquals(DEVICES - 1, added);
+        assertEquals(DEVICES, indexSize());
+        assertEquals(recorded, RedisOpsUtils.zScore(RedisConst.DEVICE_ONLINE_INDEX, sn(1)));
+        // 두 번째 호출은 추가할 것이 없습니다.
+        assertEquals(0, deviceRedisService.backfillOnlineIndex());
+
+        Set<String> expectedDue = IntStream.range(0, DEVICES).filter(i -> i % 2 == 1 && i != 1)
+                .mapToObj(DeviceOnlineIndexTest::sn).collect(Collectors.toSet());
+        assertEquals(expectedDue, new HashSet<>(drain()));
+        assertEquals(DEVICES / 2 + 1, indexSize());
+    }
+}
@@ -0,0 +1,181 @@
+package com.dji.sample.manage.service.impl;
+
+import com.dji.sample.component.redis.EmbeddedRedis;
+import com.dji.sample.component.redis.RedisConst;
+import com.dji.sample.component.redis.RedisOpsUtils;
+import com.dji.sample.manage.model.dto.DeviceDTO;
+import com.dji.sample.manage.service.ICapacityCameraService;
+import com.dji.sdk.cloudapi.device.DeviceDomainEnum;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * DeviceRedisServiceImpl 인스턴스 간 캐시 일관성 테스트
+ *
+ * 내장 Redis 하나에 서버 인스턴스 두 개(A, B)를 연결합니다. 각 인스턴스는 자신의 로컬 캐시와
+ * Redis 구독 연결을 가지며, 한 인스턴스의 변경이 Pub/Sub 무효화로 다른 인스턴스의 캐시에 반영되는지 확인합니다.
+ * 무효화 없이는 B가 최대 보관 시간(여기서는 60초) 동안 이전 값을 반환하므로, 테스트 안에서 바뀐 값을 읽었다면 무효화 덕분입니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class DeviceRedisServiceCoherenceTest {
+
+    private static final String SN = "1581F5BKD225D00BD2V9";
+
+    private static final long PROPAGATION_TIMEOUT = 3000;
+
+    private static EmbeddedRedis redis;
+
+    private DeviceRedisServiceImpl nodeA;
+
+    private DeviceRedisServiceImpl nodeB;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redis.flushAll();
+        new RedisOpsUtils().setRedisTemplate(redis.getRedisTemplate());
+        nodeA = newNode();
+        nodeB = newNode();
+    }
+
+    private static DeviceRedisServiceImpl newNode() throws InterruptedException {
+        DeviceRedisServiceImpl node = new DeviceRedisServiceImpl();
+        ReflectionTestUtils.setField(node, "capacityCameraService", mock(ICapacityCameraService.class));
+        ReflectionTestUtils.setField(node, "listenerContainer", redis.newListenerContainer());
+        ReflectionTestUtils.setField(node, "maxSize", 100);
+        ReflectionTestUtils.setField(node, "maxAge", 60L);
+        ReflectionTestUtils.setField(node, "refreshInterval", 10L);
+        node.subscribeInvalidation();
+        awaitSubscribed(node);
+        return node;
+    }
+
+    /**
+     * 구독은 비동기로 시작되므로, 다른 노드 ID의 무효화 메시지를 받을 때까지 기다립니다.
+     */
+    private static void awaitSubscribed(DeviceRedisServiceImpl node) throws InterruptedException {
+        AtomicLong invalidations = (AtomicLong) ReflectionTestUtils.getField(node, "invalidations");
+        long before = invalidations.get();
+        long deadline = System.currentTimeMillis() + PROPAGATION_TIMEOUT;
+        while (invalidations.get() == before) {
+            assertTrue(System.currentTimeMillis() < deadline, "subscription did not start");
+            RedisOpsUtils.publish(RedisConst.DEVICE_ONLINE_CHANNEL, "probe" + RedisConst.DELIMITER + "probe");
+            Thread.sleep(20);
+        }
+    }
+
+    private static DeviceDTO device(String nickname) {
+        return DeviceDTO.builder()
+                .deviceSn(SN)
+                .nickname(nickname)
+                .workspaceId("workspace")
+                .domain(DeviceDomainEnum.DOCK)
+                .status(true)
+                .loginTime(LocalDateTime.of(2026, 10, 17, 9, 0, 0))
+                .build();
+    }
+
+    private static <T> T await(Supplier<T> read, T expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + PROPAGATION_TIMEOUT;
+        T value = read.get();
+        while (!expected.equals(value) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            value = read.get();
+        }
+        return value;
+    }
+
+    @Test
+    void changeOnOneNodeIsSeenByTheOther() throws Exception {
+        nodeA.setDeviceOnline(device("first"));
+        assertEquals("first", nodeB.getDeviceOnline(SN).map(DeviceDTO::getNickname).orElseThrow());
+        // B는 이제 로컬 캐시에서 읽습니다.
+        assertEquals("first", nodeB.getDeviceOnline(SN).map(DeviceDTO::getNickname).orElseThrow());
+
+        nodeA.setDeviceOnline(device("second"));
+
+        assertEquals(Optional.of("second"),
+                await(() -> nodeB.getDeviceOnline(SN).map(DeviceDTO::getNickname), Optional.of("second")));
+    }
+
+    @Test
+    void offlineOnOneNodeEvictsTheOther() throws Exception {
+        nodeA.setDeviceOnline(device("online"));
+        assertTrue(nodeB.getDeviceOnline(SN).isPresent());
+        assertTrue(nodeB.checkDeviceOnline(SN));
+
+        assertTrue(nodeA.delDeviceOnline(SN));
+
+        assertEquals(Optional.empty(), await(() -> nodeB.getDeviceOnline(SN), Optional.empty()));
+        assertFalse(nodeB.checkDeviceOnline(SN));
+        assertFalse(nodeB.getOnlineDeviceSns().contains(SN));
+    }
+
+    @Test
+    void unchangedHeartbeatDoesNotInvalidateOtherNodes() throws Exception {
+        nodeA.setDeviceOnline(device("same"));
+        assertTrue(nodeB.getDeviceOnline(SN).isPresent());
+        AtomicLong invalidationsOfB = (AtomicLong) ReflectionTestUtils.getField(nodeB, "invalidations");
+        long before = invalidationsOfB.get();
+
+        for (int i = 0; i < 50; i++) {
+            nodeA.setDeviceOnline(device("same"));
+        }
+        // 변경이 있었다면 아래 변경 알림보다 먼저 도착해야 합니다.
+        nodeA.setDeviceOnline(device("changed"));
+        await(() -> invalidationsOfB.get() > before, true);
+
+        assertEquals(before + 1, invalidationsOfB.get());
+    }
+
+    @Test
+    void ownInvalidationsAreIgnored() throws Exception {
+        AtomicLong invalidationsOfA = (AtomicLong) ReflectionTestUtils.getField(nodeA, "invalidations");
+        AtomicLong invalidationsOfB = (AtomicLong) ReflectionTestUtils.getField(nodeB, "invalidations");
+        long beforeA = invalidationsOfA.get();
+        long beforeB = invalidationsOfB.get();
+
+        nodeA.setDeviceOnline(device("first"));
+        await(() -> invalidationsOfB.get() > beforeB, true);
+
+        assertEquals(beforeA, invalidationsOfA.get());
+        assertEquals("first", nodeA.getDeviceOnline(SN).map(DeviceDTO::getNickname).orElseThrow());
+    }
+
+    @Test
+    void writesFromBothNodesConverge() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            DeviceRedisServiceImpl writer = i % 2 == 0 ? nodeA : nodeB;
+            writer.setDeviceOnline(device("v" + i));
+            nodeA.getDeviceOnline(SN);
+            nodeB.getDeviceOnline(SN);
+        }
+
+        Optional<String> last = Optional.of("v99");
+        assertEquals(last, await(() -> nodeA.getDeviceOnline(SN).map(DeviceDTO::getNickname), last));
+        assertEquals(last, await(() -> nodeB.getDeviceOnline(SN).map(DeviceDTO::getNickname), last));
+    }
+}
@@ -0,0 +1,221 @@
+package com.dji.sample.manage.service.impl;
+
+import com.dji.sample.component.redis.RedisConst;
+import com.dji.sample.component.redis.RedisOpsUtils;
+import com.dji.sample.manage.model.dto.DeviceDTO;
+import com.dji.sample.manage.service.ICapacityCameraService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeviceRedisServiceImpl 테스트
+ *
+ * RedisTemplate은 mock으로 대신하며, 파이프라인은 콜백을 바로 실행하고 pipelineResults를 결과로 반환합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class DeviceRedisServiceImplTest {
+
+    private static final String SN = "1581F5BKD225D00BD2V9";
+
+    private static final String KEY = RedisConst.DEVICE_ONLINE_PREFIX + SN;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    @Mock
+    private ICapacityCameraService capacityCameraService;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @InjectMocks
+    private DeviceRedisServiceImpl deviceRedisService;
+
+    private List<Object> pipelineResults = Arrays.asList(Boolean.TRUE, Boolean.TRUE);
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        new RedisOpsUtils().setRedisTemplate(redisTemplate);
+        ReflectionTestUtils.setField(deviceRedisService, "maxSize", 100);
+        ReflectionTestUtils.setField(deviceRedisService, "maxAge", 10L);
+        ReflectionTestUtils.setField(deviceRedisService, "refreshInterval", 10L);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            invocation.<SessionCallback<Object>>getArgument(0).execute(redisTemplate);
+            return pipelineResults;
+        });
+    }
+
+    private static DeviceDTO device(String name) {
+        return DeviceDTO.builder().deviceSn(SN).deviceName(name).workspaceId("workspace").build();
+    }
+
+    @Test
+    void unchangedHeartbeatPublishesNoInvalidation() {
+        // 매 하트비트마다 만료 시간을 갱신하고, 로컬 캐시 항목은 바로 최대 보관 시간을 넘도록 설정합니다.
+        ReflectionTestUtils.setField(deviceRedisService, "refreshInterval", 0L);
+        ReflectionTestUtils.setField(deviceRedisService, "maxAge", 0L);
+
+        for (int i = 0; i < 5; i++) {
+            deviceRedisService.setDeviceOnline(device("M30"));
+        }
+
+        verify(valueOperations, times(1)).set(eq(KEY), any(DeviceDTO.class), eq(60L), eq(TimeUnit.SECONDS));
+        verify(redisTemplate, times(1)).convertAndSend(eq(RedisConst.DEVICE_ONLINE_CHANNEL), any());
+        verify(redisTemplate, times(4)).expire(KEY, 60L, TimeUnit.SECONDS);
+        verify(zSetOperations, times(5)).add(eq(RedisConst.DEVICE_ONLINE_INDEX), eq(SN), anyDouble());
+    }
+
+    @Test
+    void heartbeatWithinRefreshIntervalSkipsRedis() {
+        deviceRedisService.setDeviceOnline(device("M30"));
+        deviceRedisService.setDeviceOnline(device("M30"));
+        deviceRedisService.setDeviceOnline(device("M30"));
+
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate, times(1)).convertAndSend(eq(RedisConst.DEVICE_ONLINE_CHANNEL), any());
+        verify(redisTemplate, never()).expire(anyString(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void changedDevicePublishesInvalidation() {
+        deviceRedisService.setDeviceOnline(device("M30"));
+        deviceRedisService.setDeviceOnline(device("M30T"));
+
+        verify(valueOperations, times(2)).set(eq(KEY), any(DeviceDTO.class), eq(60L), eq(TimeUnit.SECONDS));
+        verify(redisTemplate, times(2)).convertAndSend(eq(RedisConst.DEVICE_ONLINE_CHANNEL), any());
+    }
+
+    @Test
+    void expiredKeyIsWrittenAgain() {
+        ReflectionTestUtils.setField(deviceRedisService, "refreshInterval", 0L);
+        deviceRedisService.setDeviceOnline(device("M30"));
+
+        // 다른 경로로 키가 사라져 EXPIRE가 실패하면 값을 다시 저장합니다.
+        pipelineResults = Arrays.asList(Boolean.FALSE, Boolean.TRUE);
+        deviceRedisService.setDeviceOnline(device("M30"));
+
+        verify(valueOperations, times(2)).set(KEY, device("M30"), 60L, TimeUnit.SECONDS);
+        verify(redisTemplate, times(1)).convertAndSend(eq(RedisConst.DEVICE_ONLINE_CHANNEL), any());
+    }
+
+    @Test
+    void cachedDeviceIsReadWithoutRedis() {
+        deviceRedisService.setDeviceOnline(device("M30"));
+
+        DeviceDTO cached = deviceRedisService.getDeviceOnline(SN).orElseThrow();
+        assertEquals(device("M30"), cached);
+        assertTrue(deviceRedisService.checkDeviceOnline(SN));
+
+        // 반환된 객체를 수정해도 캐시에 영향이 없습니다.
+        cached.setDeviceName("changed");
+        assertEquals("M30", deviceRedisService.getDeviceOnline(SN).orElseThrow().getDeviceName());
+        verify(redisTemplate, times(1)).executePipelined(any(SessionCallback.class));
+        verify(redisTemplate, never()).getExpire(anyString());
+    }
+
+    @Test
+    void invalidationFromOtherNodeEvictsLocalEntry() {
+        when(redisTemplate.getValueSerializer()).thenAnswer(invocation -> StringRedisSerializer.UTF_8);
+        ArgumentCaptor<MessageListener> listener = ArgumentCaptor.forClass(MessageListener.class);
+        deviceRedisService.subscribeInvalidation();
+        verify(listenerContainer).addMessageListener(listener.capture(), any(ChannelTopic.class));
+
+        deviceRedisService.setDeviceOnline(device("M30"));
+        listener.getValue().onMessage(new DefaultMessage(
+                RedisConst.DEVICE_ONLINE_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("other" + RedisConst.DELIMITER + SN).getBytes(StandardCharsets.UTF_8)), null);
+
+        pipelineResults = Arrays.asList(device("M30T"), 42L);
+        assertEquals("M30T", deviceRedisService.getDeviceOnline(SN).orElseThrow().getDeviceName());
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+    }
+
+    @Test
+    void onlineIndexRecordsOfflineDeadline() {
+        long before = System.currentTimeMillis();
+        deviceRedisService.setDeviceOnline(device("M30"));
+        long after = System.currentTimeMillis();
+
+        ArgumentCaptor<Double> score = ArgumentCaptor.forClass(Double.class);
+        verify(zSetOperations).add(eq(RedisConst.DEVICE_ONLINE_INDEX), eq(SN), score.capture());
+        long offlineMillis = TimeUnit.SECONDS.toMillis(RedisConst.DEVICE_OFFLINE_SECOND);
+        assertTrue(score.getValue() >= before + offlineMillis);
+        assertTrue(score.getValue() <= after + offlineMillis);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void pollOfflineDevicesPopsExpiredScoresAtomically() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .thenReturn(new ArrayList<>(List.of("sn-1", "sn-2")));
+
+        long before = System.currentTimeMillis();
+        assertEquals(List.of("sn-1", "sn-2"), deviceRedisService.pollOfflineDevices(100));
+
+        ArgumentCaptor<RedisScript<List<Object>>> script = ArgumentCaptor.forClass(RedisScript.class);
+        ArgumentCaptor<List<String>> keys = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<Object> max = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<Object> limit = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).execute(script.capture(), keys.capture(), max.capture(), limit.capture());
+        assertEquals(List.of(RedisConst.DEVICE_ONLINE_INDEX), keys.getValue());
+        assertTrue(script.getValue().getScriptAsString().contains("ZRANGEBYSCORE"));
+        assertTrue(script.getValue().getScriptAsString().contains("ZREM"));
+        assertTrue(((Number) max.getValue()).longValue() >= before);
+        assertEquals(100L, ((Number) limit.getValue()).longValue());
+    }
+
+    @Test
+    void subDeviceOfflineRemovesKeysIndexAndLocalEntry() {
+        deviceRedisService.setDeviceOnline(device("M30"));
+        pipelineResults = Arrays.asList(3L, 1L);
+
+        deviceRedisService.subDeviceOffline(SN);
+
+        verify(redisTemplate).delete(List.of(KEY, RedisConst.OSD_PREFIX + SN, RedisConst.HMS_PREFIX + SN));
+        verify(zSetOperations).remove(RedisConst.DEVICE_ONLINE_INDEX, SN);
+        verify(capacityCameraService).deleteCapacityCameraByDeviceSn(SN);
+        verify(redisTemplate, times(2)).convertAndSend(eq(RedisConst.DEVICE_ONLINE_CHANNEL), any());
+
+        pipelineResults = Arrays.asList(null, -2L);
+        assertTrue(deviceRedisService.getDeviceOnline(SN).isEmpty());
+    }
+}
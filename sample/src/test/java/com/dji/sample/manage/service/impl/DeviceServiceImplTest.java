@@ -0,0 +1,194 @@
+package com.dji.sample.manage.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.dji.sample.component.mqtt.model.EventsReceiver;
+import com.dji.sample.manage.dao.IDeviceMapper;
+import com.dji.sample.manage.model.dto.DeviceDTO;
+import com.dji.sample.manage.model.dto.DeviceFirmwareNoteDTO;
+import com.dji.sample.manage.model.dto.WorkspaceDTO;
+import com.dji.sample.manage.model.entity.DeviceEntity;
+import com.dji.sample.manage.model.enums.DeviceFirmwareStatusEnum;
+import com.dji.sample.manage.service.IDeviceFirmwareService;
+import com.dji.sample.manage.service.IDevicePayloadService;
+import com.dji.sample.manage.service.IDeviceRedisService;
+import com.dji.sample.manage.service.IWorkspaceService;
+import com.dji.sdk.cloudapi.device.DeviceDomainEnum;
+import com.dji.sdk.cloudapi.firmware.OtaProgress;
+import com.dji.sdk.cloudapi.firmware.OtaProgressData;
+import com.dji.sdk.common.PaginationData;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * DeviceServiceImpl 목록 변환 테스트
+ *
+ * 디바이스 수와 관계없이 워크스페이스, 펌웨어 업그레이드 진행률, 최신 펌웨어 정보, 온라인 상태를
+ * 목록마다 한 번씩만 조회하는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class DeviceServiceImplTest {
+
+    private static final int DOCK_COUNT = 100;
+
+    private static final String WORKSPACE_ID = "e3dea0f5-37f2-4d79-ae58-490af3228069";
+
+    @Mock
+    private IDeviceMapper mapper;
+
+    @Mock
+    private IWorkspaceService workspaceService;
+
+    @Mock
+    private IDeviceFirmwareService deviceFirmwareService;
+
+    @Mock
+    private IDeviceRedisService deviceRedisService;
+
+    @Mock
+    private IDevicePayloadService payloadService;
+
+    @InjectMocks
+    private DeviceServiceImpl deviceService;
+
+    @BeforeAll
+    static void initTableInfo() {
+        // LambdaQueryWrapper가 컬럼 이름을 찾을 수 있도록 엔티티 메타데이터를 등록
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), DeviceEntity.class);
+    }
+
+    @Test
+    void boundDevicesAreConvertedWithBulkLookups() {
+        Page<DeviceEntity> page = new Page<>(1, DOCK_COUNT, DOCK_COUNT);
+        page.setRecords(docks());
+        when(mapper.selectPage(any(), any())).thenReturn(page);
+        when(mapper.selectList(any())).thenReturn(drones());
+        this.stubBulkLookups();
+
+        PaginationData<DeviceDTO> data = deviceService.getBoundDevicesWithDomain(
+                WORKSPACE_ID, 1L, (long) DOCK_COUNT, DeviceDomainEnum.DOCK.getDomain());
+
+        List<DeviceDTO> devices = data.getList();
+        assertEquals(DOCK_COUNT, devices.size());
+        for (int i = 0; i < DOCK_COUNT; i++) {
+            DeviceDTO dock = devices.get(i);
+            assertEquals("dock-" + i, dock.getDeviceSn());
+            assertEquals("Workspace", dock.getWorkspaceName());
+            assertEquals(i % 2 == 0, dock.getStatus());
+            assertEquals("drone-" + i, dock.getChildren().getDeviceSn());
+            assertEquals("Workspace", dock.getChildren().getWorkspaceName());
+        }
+        assertEquals(DeviceFirmwareStatusEnum.UPGRADING, devices.get(0).getFirmwareStatus());
+        assertEquals(40, devices.get(0).getFirmwareProgress());
+        assertEquals(DeviceFirmwareStatusEnum.NORMAL_UPGRADE, devices.get(1).getFirmwareStatus());
+        assertEquals(DeviceFirmwareStatusEnum.NOT_UPGRADE, devices.get(2).getFirmwareStatus());
+
+        // 도크 목록과 서브 디바이스 목록에 대해 각각 한 번씩만 조회
+        verify(mapper, times(1)).selectList(any());
+        verify(workspaceService, times(2)).getWorkspacesByWorkspaceIds(anyCollection());
+        verify(deviceRedisService, times(2)).getFirmwareUpgradingProgress(anyCollection());
+        verify(deviceFirmwareService, times(2)).getLatestFirmwareReleaseNotes(anyCollection());
+        verify(deviceRedisService, times(1)).checkDevicesOnline(anyCollection());
+        this.verifyNoPerRowLookups();
+    }
+
+    @Test
+    void webTopologyIsConvertedWithBulkLookups() {
+        when(mapper.selectList(any())).thenReturn(docks(), drones());
+        this.stubBulkLookups();
+        when(payloadService.getDevicePayloadEntitiesByDeviceSns(anyCollection())).thenReturn(Map.of());
+
+        List<DeviceDTO> devices = deviceService.getDevicesTopoForWeb(WORKSPACE_ID);
+
+        assertEquals(DOCK_COUNT, devices.size());
+        assertTrue(devices.stream().allMatch(dock -> Objects.equals(
+                dock.getDeviceSn().replace("dock", "drone"), dock.getChildren().getDeviceSn())));
+        verify(mapper, times(2)).selectList(any());
+        verify(workspaceService, times(2)).getWorkspacesByWorkspaceIds(anyCollection());
+        verify(deviceRedisService, times(1)).checkDevicesOnline(anyCollection());
+        verify(payloadService, times(1)).getDevicePayloadEntitiesByDeviceSns(anyCollection());
+        this.verifyNoPerRowLookups();
+    }
+
+    private void stubBulkLookups() {
+        when(workspaceService.getWorkspacesByWorkspaceIds(anyCollection())).thenReturn(Map.of(WORKSPACE_ID,
+                WorkspaceDTO.builder().workspaceId(WORKSPACE_ID).workspaceName("Workspace").build()));
+        EventsReceiver<OtaProgress> progress = new EventsReceiver<>();
+        progress.setOutput(new OtaProgress().setProgress(new OtaProgressData().setPercent(40)));
+        when(deviceRedisService.getFirmwareUpgradingProgress(anyCollection()))
+                .thenAnswer(invocation -> invocation.<Set<String>>getArgument(0).contains("dock-0") ?
+                        Map.of("dock-0", progress) : Map.of());
+        when(deviceFirmwareService.getLatestFirmwareReleaseNotes(anyCollection())).thenReturn(Map.of(
+                "DJI Dock", DeviceFirmwareNoteDTO.builder().deviceName("DJI Dock").productVersion("10.01.1612").build(),
+                "DJI Dock2", DeviceFirmwareNoteDTO.builder().deviceName("DJI Dock2").productVersion("10.01.1700").build()));
+        when(deviceRedisService.checkDevicesOnline(anyCollection())).thenAnswer(invocation ->
+                invocation.<Set<String>>getArgument(0).stream()
+                        .filter(sn -> Integer.parseInt(sn.substring(sn.indexOf('-') + 1)) % 2 == 0)
+                        .collect(Collectors.toSet()));
+    }
+
+    private void verifyNoPerRowLookups() {
+        verify(workspaceService, never()).getWorkspaceByWorkspaceId(anyString());
+        verify(deviceRedisService, never()).getFirmwareUpgradingProgress(anyString());
+        verify(deviceRedisService, never()).checkDeviceOnline(anyString());
+        verify(deviceFirmwareService, never()).getLatestFirmwareReleaseNote(anyString());
+    }
+
+    private static List<DeviceEntity> docks() {
+        List<DeviceEntity> docks = new ArrayList<>();
+        for (int i = 0; i < DOCK_COUNT; i++) {
+            docks.add(DeviceEntity.builder()
+                    .deviceSn("dock-" + i)
+                    .childSn("drone-" + i)
+                    .deviceName(i % 2 == 0 ? "DJI Dock" : "DJI Dock2")
+                    .workspaceId(WORKSPACE_ID)
+                    .deviceType(i % 2 == 0 ? 1 : 2)
+                    .subType(0)
+                    .deviceIndex("A")
+                    .domain(DeviceDomainEnum.DOCK.getDomain())
+                    .firmwareVersion("10.01.1612")
+                    .compatibleStatus(true)
+                    .boundStatus(true)
+                    .build());
+        }
+        return docks;
+    }
+
+    private static List<DeviceEntity> drones() {
+        List<DeviceEntity> drones = new ArrayList<>();
+        for (int i = 0; i < DOCK_COUNT; i++) {
+            drones.add(DeviceEntity.builder()
+                    .deviceSn("drone-" + i)
+                    .deviceName("M30")
+                    .workspaceId(WORKSPACE_ID)
+                    .deviceType(67)
+                    .subType(0)
+                    .deviceIndex("A")
+                    .domain(DeviceDomainEnum.DRONE.getDomain())
+                    .boundStatus(true)
+                    .build());
+        }
+        return drones;
+    }
+}
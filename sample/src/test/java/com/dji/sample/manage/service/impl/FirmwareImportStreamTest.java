@@ -0,0 +1,207 @@
+package com.dji.sample.manage.service.impl;
+
+import com.dji.sample.manage.model.dto.DeviceFirmwareDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FirmwareImportStream 테스트
+ *
+ * 큰 펌웨어 파일은 읽는 만큼만 ZIP을 만들어 내보내므로 테스트도 파일 전체를 메모리에 올리지 않습니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class FirmwareImportStreamTest {
+
+    private static final String CONFIG_NAME = "wm265_dock_v10.01.1612_20231010.cfg.sig";
+
+    private static final int MB = 1024 * 1024;
+
+    @Test
+    void stream500MbFirmware() throws Exception {
+        // 설정 파일이 큰 엔트리 뒤에 있어 엔트리 전체를 지나야 찾을 수 있는 경우
+        LargeFirmwareSource source = new LargeFirmwareSource(500);
+        MessageDigest consumedMd5 = MessageDigest.getInstance("MD5");
+        long consumed = 0;
+        int pending;
+        try (FirmwareImportStream stream = new FirmwareImportStream(source)) {
+            byte[] buffer = new byte[64 * 1024];
+            int n;
+            while ((n = stream.read(buffer, 0, buffer.length)) != -1) {
+                consumedMd5.update(buffer, 0, n);
+                consumed += n;
+            }
+            // 검사용 버퍼는 필요할 때 커지기만 하므로 마지막 크기가 최대 크기
+            pending = ((byte[]) ReflectionTestUtils.getField(stream, "pending")).length;
+
+            // 업로드에 넘긴 바이트가 원본과 같고, 크기와 MD5도 원본과 같음
+            assertEquals(source.size, consumed);
+            assertTrue(consumed > 500L * MB);
+            assertEquals(source.size, stream.getSize());
+            String md5 = hex(source.md5.digest());
+            assertEquals(md5, hex(consumedMd5.digest()));
+            assertEquals(md5, stream.getMd5Hex());
+            assertFalse(stream.isInvalid());
+
+            DeviceFirmwareDTO firmware = stream.getFirmware().orElseThrow();
+            assertEquals("10.01.1612", firmware.getProductVersion());
+            assertEquals(LocalDate.of(2023, 10, 10), firmware.getReleasedTime());
+        }
+        // 파일 크기와 관계없이 검사용 버퍼만 사용
+        assertTrue(pending <= MB, "pending buffer: " + pending);
+    }
+
+    @Test
+    void configFirstIsPassedThroughUnchanged() throws Exception {
+        byte[] file = zip(CONFIG_NAME, "firmware.bin");
+        try (FirmwareImportStream stream = new FirmwareImportStream(new ByteArrayInputStream(file))) {
+            assertArrayEquals(file, readAll(stream));
+            assertEquals(file.length, stream.getSize());
+            assertEquals(hex(MessageDigest.getInstance("MD5").digest(file)), stream.getMd5Hex());
+            assertEquals("10.01.1612", stream.getFirmware().orElseThrow().getProductVersion());
+        }
+    }
+
+    @Test
+    void missingConfigIsInvalid() throws Exception {
+        this.assertInvalid(zip("firmware.bin", "readme.txt"));
+    }
+
+    @Test
+    void malformedConfigNameIsInvalid() throws Exception {
+        this.assertInvalid(zip("wm265_dock_v10.01.1612_2023-10-10.cfg.sig"));
+        this.assertInvalid(zip("dock.cfg.sig"));
+    }
+
+    @Test
+    void notZipIsInvalid() throws Exception {
+        byte[] file = new byte[4096];
+        new Random(7).nextBytes(file);
+        this.assertInvalid(file);
+    }
+
+    private void assertInvalid(byte[] file) throws IOException {
+        try (FirmwareImportStream stream = new FirmwareImportStream(new ByteArrayInputStream(file))) {
+            assertThrows(IOException.class, () -> readAll(stream));
+            assertTrue(stream.isInvalid());
+            assertTrue(stream.getFirmware().isEmpty());
+        }
+    }
+
+    /**
+     * 읽는 만큼만 ZIP을 만들어 내보내는 스트림. 큰 엔트리 다음에 설정 파일 엔트리가 있습니다.
+     */
+    private static final class LargeFirmwareSource extends InputStream {
+
+        private final MessageDigest md5 = MessageDigest.getInstance("MD5");
+
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(2 * MB);
+
+        private final ZipOutputStream zip = new ZipOutputStream(buffer);
+
+        private final byte[] chunk = new byte[MB];
+
+        private final int chunks;
+
+        private int written;
+
+        private byte[] current = new byte[0];
+
+        private int position;
+
+        private long size;
+
+        private LargeFirmwareSource(int chunks) throws Exception {
+            this.chunks = chunks;
+            new Random(7).nextBytes(chunk);
+            zip.setLevel(Deflater.NO_COMPRESSION);
+            zip.putNextEntry(new ZipEntry("firmware.bin"));
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] one = new byte[1];
+            return this.read(one, 0, 1) <= 0 ? -1 : one[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            while (position == current.length) {
+                if (written > chunks) {
+                    return -1;
+                }
+                this.produce();
+            }
+            int n = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, n);
+            position += n;
+            return n;
+        }
+
+        private void produce() throws IOException {
+            if (written < chunks) {
+                zip.write(chunk);
+            } else {
+                zip.closeEntry();
+                zip.putNextEntry(new ZipEntry(CONFIG_NAME));
+                zip.write("signature".getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+                zip.close();
+            }
+            written++;
+            current = buffer.toByteArray();
+            buffer.reset();
+            position = 0;
+            md5.update(current);
+            size += current.length;
+        }
+    }
+
+    private static byte[] zip(String... names) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out)) {
+            byte[] data = new byte[100_000];
+            new Random(7).nextBytes(data);
+            for (String name : names) {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(data);
+                zip.closeEntry();
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int n;
+        while ((n = stream.read(buffer, 0, buffer.length)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(32);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,159 @@
+package com.dji.sample.map.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.dji.sample.map.dao.IElementCoordinateMapper;
+import com.dji.sample.map.model.entity.ElementCoordinateEntity;
+import com.dji.sdk.cloudapi.map.ElementCoordinate;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ElementCoordinateServiceImpl 테스트
+ *
+ * 매퍼는 mock으로 대신하며, insertOrUpdateBatch는 MySQL과 같이 추가는 1행, 수정은 2행으로 집계합니다.
+ * 좌표 10,000개짜리 요소를 수정할 때 쿼리 수와 기록하는 행 수가 달라진 좌표 수에 비례하는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class ElementCoordinateServiceImplTest {
+
+    private static final String ELEMENT_ID = "6d8a0d1b-5f5a-4a4e-9d1f-3c4b2a1e0f9d";
+
+    private static final int COORDINATE_COUNT = 10_000;
+
+    @Mock
+    private IElementCoordinateMapper mapper;
+
+    @InjectMocks
+    private ElementCoordinateServiceImpl coordinateService;
+
+    /**
+     * insertOrUpdateBatch 호출별 좌표 목록
+     */
+    private final List<List<ElementCoordinateEntity>> batches = new ArrayList<>();
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), ElementCoordinateEntity.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(mapper.insertOrUpdateBatch(anyList())).thenAnswer(invocation -> {
+            List<ElementCoordinateEntity> batch = new ArrayList<>(invocation.getArgument(0));
+            batches.add(batch);
+            return batch.stream().mapToInt(entity -> Objects.isNull(entity.getId()) ? 1 : 2).sum();
+        });
+    }
+
+    @Test
+    void saveLargeElementInBatches() {
+        assertTrue(coordinateService.saveCoordinate(coordinates(COORDINATE_COUNT, 0), ELEMENT_ID));
+
+        assertEquals(10, batches.size());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() == 1000));
+    }
+
+    @Test
+    void moveOneVertexWritesOneRow() {
+        when(mapper.selectList(any())).thenReturn(stored(COORDINATE_COUNT));
+        List<ElementCoordinate> coordinates = coordinates(COORDINATE_COUNT, 0);
+        coordinates.get(5000).setLongitude(114.0);
+
+        assertTrue(coordinateService.updateCoordinate(coordinates, ELEMENT_ID));
+
+        // 전체 좌표를 삭제하고 다시 추가하지 않고, 달라진 좌표 한 개만 기록
+        assertEquals(1, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertEquals(5001, batches.get(0).get(0).getId());
+        assertEquals(114.0, batches.get(0).get(0).getLongitude());
+        verify(mapper, never()).deleteBatchIds(anyCollection());
+        verify(mapper, never()).delete(any());
+    }
+
+    @Test
+    void unchangedElementWritesNothing() {
+        when(mapper.selectList(any())).thenReturn(stored(COORDINATE_COUNT));
+        List<ElementCoordinate> coordinates = coordinates(COORDINATE_COUNT, 0);
+        // 컬럼 자릿수보다 작은 차이는 같은 좌표로 봄
+        coordinates.get(0).setLatitude(coordinates.get(0).getLatitude() + 1e-16);
+
+        assertTrue(coordinateService.updateCoordinate(coordinates, ELEMENT_ID));
+
+        verify(mapper, never()).insertOrUpdateBatch(anyList());
+        verify(mapper, never()).deleteBatchIds(anyCollection());
+    }
+
+    @Test
+    void appendAndTruncateVertices() {
+        when(mapper.selectList(any())).thenReturn(stored(4));
+        assertTrue(coordinateService.updateCoordinate(coordinates(6, 0), ELEMENT_ID));
+        assertEquals(List.of(true, true), batches.get(0).stream()
+                .map(entity -> Objects.isNull(entity.getId())).collect(Collectors.toList()));
+
+        when(mapper.selectList(any())).thenReturn(stored(6));
+        when(mapper.deleteBatchIds(anyCollection())).thenReturn(4);
+        assertTrue(coordinateService.updateCoordinate(coordinates(2, 0), ELEMENT_ID));
+        verify(mapper).deleteBatchIds(List.of(3, 4, 5, 6));
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void failedWriteReturnsFalse() {
+        when(mapper.selectList(any())).thenReturn(stored(2));
+        when(mapper.insertOrUpdateBatch(anyList())).thenReturn(0);
+
+        assertFalse(coordinateService.updateCoordinate(coordinates(3, 1), ELEMENT_ID));
+    }
+
+    @Test
+    void failedDeleteReturnsFalse() {
+        when(mapper.selectList(any())).thenReturn(stored(3));
+        when(mapper.deleteBatchIds(anyCollection())).thenReturn(0);
+
+        assertFalse(coordinateService.updateCoordinate(coordinates(1, 0), ELEMENT_ID));
+        verify(mapper, never()).insertOrUpdateBatch(anyList());
+    }
+
+    private static List<ElementCoordinate> coordinates(int count, double offset) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new ElementCoordinate()
+                        .setLongitude(113.943 + i * 1e-6 + offset)
+                        .setLatitude(22.577 + i * 1e-6)
+                        .setAltitude(0.0))
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static List<ElementCoordinateEntity> stored(int count) {
+        List<ElementCoordinate> coordinates = coordinates(count, 0);
+        return IntStream.range(0, count)
+                .mapToObj(i -> ElementCoordinateEntity.builder()
+                        .id(i + 1)
+                        .elementId(ELEMENT_ID)
+                        .longitude(coordinates.get(i).getLongitude())
+                        .latitude(coordinates.get(i).getLatitude())
+                        .altitude(coordinates.get(i).getAltitude())
+                        .build())
+                .collect(Collectors.toList());
+    }
+}
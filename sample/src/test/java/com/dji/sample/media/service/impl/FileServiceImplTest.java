@@ -0,0 +1,189 @@
+package com.dji.sample.media.service.impl;
+
+import com.baomidou.mybatisplus.core.MybatisConfiguration;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.metadata.TableInfoHelper;
+import com.dji.sample.media.dao.IFileMapper;
+import com.dji.sample.media.model.MediaFileEntity;
+import com.dji.sample.media.service.IMediaRedisService;
+import com.dji.sample.manage.service.IDeviceDictionaryService;
+import com.dji.sdk.cloudapi.device.DeviceEnum;
+import com.dji.sdk.cloudapi.media.MediaFileExtension;
+import com.dji.sdk.cloudapi.media.MediaUploadCallbackRequest;
+import org.apache.ibatis.builder.MapperBuilderAssistant;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FileServiceImpl 작은 지문 조회 테스트
+ *
+ * Redis 비트맵은 메모리의 집합으로 대신하고, 매퍼는 stored에 있는 지문만 있는 것처럼 응답합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class FileServiceImplTest {
+
+    private static final String WORKSPACE_ID = "e3dea0f5-37f2-4d79-ae58-490af3228069";
+
+    @Mock
+    private IFileMapper mapper;
+
+    @Mock
+    private IMediaRedisService mediaRedisService;
+
+    @Mock
+    private IDeviceDictionaryService deviceDictionaryService;
+
+    @InjectMocks
+    private FileServiceImpl fileService;
+
+    /**
+     * 데이터베이스에 저장된 작은 지문
+     */
+    private final Set<String> stored = new HashSet<>();
+
+    /**
+     * Redis 비트맵에서 1인 비트 위치
+     */
+    private final Set<Long> bits = new HashSet<>();
+
+    /**
+     * 지문 조회 쿼리의 IN 조건 값 개수
+     */
+    private final List<Integer> lookupSizes = new ArrayList<>();
+
+    @BeforeAll
+    static void initTableInfo() {
+        TableInfoHelper.initTableInfo(new MapperBuilderAssistant(new MybatisConfiguration(), ""), MediaFileEntity.class);
+    }
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(fileService, "filterEnable", true);
+        ReflectionTestUtils.setField(fileService, "filterExpectedInsertions", 10_000L);
+        ReflectionTestUtils.setField(fileService, "filterFpp", 0.01);
+        ReflectionTestUtils.setField(fileService, "threadPool", (Executor) Runnable::run);
+        ReflectionTestUtils.invokeMethod(fileService, "initTinyFingerprintFilter");
+
+        lenient().doAnswer(invocation -> bits.addAll(invocation.getArgument(1)))
+                .when(mediaRedisService).addTinyFingerprintBits(eq(WORKSPACE_ID), anyCollection());
+        lenient().when(mediaRedisService.setTinyFingerprintBuildBits(eq(WORKSPACE_ID), anyString(), anyCollection()))
+                .thenAnswer(invocation -> {
+                    bits.addAll(invocation.getArgument(2));
+                    return true;
+                });
+        lenient().when(mediaRedisService.publishTinyFingerprintBuild(eq(WORKSPACE_ID), anyString(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    bits.add(invocation.getArgument(3));
+                    return true;
+                });
+        lenient().when(mediaRedisService.getTinyFingerprintBits(eq(WORKSPACE_ID), anyList())).thenAnswer(invocation ->
+                invocation.<List<Long>>getArgument(1).stream().map(bits::contains).collect(Collectors.toList()));
+        lenient().when(mapper.selectList(any())).thenAnswer(invocation -> {
+            LambdaQueryWrapper<MediaFileEntity> wrapper = invocation.getArgument(0);
+            Collection<Object> params = wrapper.getParamNameValuePairs().values();
+            if (wrapper.getSqlSegment().contains("limit")) {
+                // 필터를 만드는 쿼리. 지문이 적으므로 한 페이지로 끝남
+                return params.contains("") ? entities(stored) : List.of();
+            }
+            lookupSizes.add(params.size() - 1);
+            return entities(params.stream().filter(stored::contains).map(String::valueOf).collect(Collectors.toList()));
+        });
+    }
+
+    @Test
+    void existFingerprintsAreCheckedThroughFilter() {
+        stored.addAll(List.of("tiny-1", "tiny-2"));
+        List<String> requested = IntStream.range(0, 1000).mapToObj(i -> "new-" + i).collect(Collectors.toList());
+        requested.add(500, "tiny-1");
+        requested.add("tiny-2");
+
+        // 필터가 없으면 모든 지문을 데이터베이스에서 확인하고, 백그라운드에서 필터를 만듦
+        assertEquals(List.of("tiny-1", "tiny-2"), fileService.getExistTinyFingerprints(WORKSPACE_ID, requested));
+        assertEquals(List.of(1000, 2), lookupSizes);
+        verify(mediaRedisService).publishTinyFingerprintBuild(eq(WORKSPACE_ID), anyString(), eq(0L), anyLong());
+
+        // 필터가 준비되면 있을 수 있는 지문만 데이터베이스에서 확인
+        lookupSizes.clear();
+        assertEquals(List.of("tiny-1", "tiny-2"), fileService.getExistTinyFingerprints(WORKSPACE_ID, requested));
+        assertEquals(1, lookupSizes.size());
+        assertTrue(lookupSizes.get(0) >= 2 && lookupSizes.get(0) < 50, "lookup size: " + lookupSizes.get(0));
+    }
+
+    @Test
+    void savedFileIsAddedToFilter() {
+        stored.add("tiny-1");
+        fileService.getExistTinyFingerprints(WORKSPACE_ID, List.of("tiny-1"));
+        when(mapper.insert(any(MediaFileEntity.class))).thenReturn(1);
+
+        assertEquals(1, fileService.saveFile(WORKSPACE_ID, upload("tiny-2")));
+        stored.add("tiny-2");
+
+        lookupSizes.clear();
+        assertEquals(List.of("tiny-2"), fileService.getExistTinyFingerprints(WORKSPACE_ID, List.of("tiny-2")));
+        assertEquals(List.of(1), lookupSizes);
+    }
+
+    @Test
+    void filterFailureDoesNotFailSave() {
+        when(mapper.insert(any(MediaFileEntity.class))).thenReturn(1);
+        doThrow(new RuntimeException("Redis is down.")).when(mediaRedisService)
+                .addTinyFingerprintBits(eq(WORKSPACE_ID), anyCollection());
+        doThrow(new RuntimeException("Redis is down.")).when(mediaRedisService).invalidateTinyFingerprintBits(WORKSPACE_ID);
+
+        // 필터 갱신과 무효화가 모두 실패해도 저장 결과는 그대로 반환
+        assertEquals(1, fileService.saveFile(WORKSPACE_ID, upload("tiny-1")));
+        verify(mediaRedisService).invalidateTinyFingerprintBits(WORKSPACE_ID);
+    }
+
+    @Test
+    void filterFailureFallsBackToDatabase() {
+        stored.add("tiny-1");
+        when(mediaRedisService.getTinyFingerprintBits(eq(WORKSPACE_ID), anyList()))
+                .thenThrow(new RuntimeException("Redis is down."));
+
+        assertEquals(List.of("tiny-1"), fileService.getExistTinyFingerprints(WORKSPACE_ID, List.of("tiny-1", "new-1")));
+        assertEquals(List.of(2), lookupSizes);
+    }
+
+    private static List<MediaFileEntity> entities(Collection<String> fingerprints) {
+        return fingerprints.stream()
+                .map(fingerprint -> MediaFileEntity.builder().tinnyFingerprint(fingerprint).build())
+                .collect(Collectors.toList());
+    }
+
+    private static MediaUploadCallbackRequest upload(String tinyFingerprint) {
+        return new MediaUploadCallbackRequest()
+                .setName("DJI_0001.JPG")
+                .setPath("DJI_202610171200_001")
+                .setFingerprint("fingerprint-" + tinyFingerprint)
+                .setObjectKey("media/DJI_0001.JPG")
+                .setExt(new MediaFileExtension()
+                        .setOriginal(true)
+                        .setSn("1581F5BKD225D00BD2V9")
+                        .setPayloadModelKey(DeviceEnum.M30T_CAMERA)
+                        .setTinnyFingerprint(tinyFingerprint));
+    }
+}
@@ -0,0 +1,138 @@
+package com.dji.sample.media.service.impl;
+
+import com.dji.sample.component.redis.EmbeddedRedis;
+import com.dji.sample.component.redis.RedisConst;
+import com.dji.sample.component.redis.RedisOpsUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TinyFingerprintFilter 생성과 게시 테스트
+ *
+ * 내장 Redis에서 실제 스크립트로, 생성 중 무효화된 필터가 게시되지 않는지와
+ * 지문 추가가 만료 시간이나 준비 완료 비트가 없는 필터를 만들지 않는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class TinyFingerprintFilterTest {
+
+    private static final String WORKSPACE_ID = "e3dea0f5-37f2-4d79-ae58-490af3228069";
+
+    private static final String FILTER_KEY = RedisConst.MEDIA_TINY_FINGERPRINT_FILTER_PREFIX + WORKSPACE_ID;
+
+    private static EmbeddedRedis redis;
+
+    private TinyFingerprintFilter filter;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        redis = new EmbeddedRedis();
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redis.flushAll();
+        new RedisOpsUtils().setRedisTemplate(redis.getRedisTemplate());
+        filter = new TinyFingerprintFilter(new MediaRedisServiceImpl(), 10_000, 0.01);
+    }
+
+    private Optional<List<String>> lookup(String... tinyFingerprints) {
+        return filter.mightContain(WORKSPACE_ID, List.of(tinyFingerprints));
+    }
+
+    private static long buildKeys() {
+        return RedisOpsUtils.scanKeys(RedisConst.MEDIA_TINY_FINGERPRINT_BUILD_PREFIX + "*", 100).size();
+    }
+
+    @Test
+    void publishedFilterIsReadyWithTtl() {
+        long generation = filter.beginBuild(WORKSPACE_ID, "build-1");
+        assertTrue(filter.putBuild(WORKSPACE_ID, "build-1", List.of("tiny-1", "tiny-2")));
+        // 생성 중에는 사용 중인 필터가 없음
+        assertTrue(lookup("tiny-1").isEmpty());
+
+        assertTrue(filter.publishBuild(WORKSPACE_ID, "build-1", generation));
+
+        assertEquals(List.of("tiny-1", "tiny-2"), lookup("tiny-1", "tiny-2", "new-1").orElseThrow());
+        long ttl = RedisOpsUtils.getExpire(FILTER_KEY);
+        assertTrue(ttl > RedisConst.MEDIA_TINY_FINGERPRINT_FILTER_ALIVE_SECOND - 10, "ttl: " + ttl);
+        assertEquals(0, buildKeys());
+    }
+
+    @Test
+    void invalidateDuringBuildIsNotPublished() {
+        long generation = filter.beginBuild(WORKSPACE_ID, "build-1");
+        assertTrue(filter.putBuild(WORKSPACE_ID, "build-1", List.of("tiny-1")));
+
+        // 생성 중 saveFile의 필터 추가가 실패해 무효화된 경우. tiny-2는 생성 중인 필터에 없을 수 있음
+        filter.invalidate(WORKSPACE_ID);
+
+        assertFalse(filter.publishBuild(WORKSPACE_ID, "build-1", generation));
+        assertTrue(lookup("tiny-1", "tiny-2").isEmpty());
+        assertFalse(RedisOpsUtils.checkExist(FILTER_KEY));
+        assertEquals(0, buildKeys());
+
+        // 다음 생성은 새 세대 번호로 게시됨
+        long next = filter.beginBuild(WORKSPACE_ID, "build-2");
+        assertEquals(generation + 1, next);
+        assertTrue(filter.putBuild(WORKSPACE_ID, "build-2", List.of("tiny-1", "tiny-2")));
+        assertTrue(filter.publishBuild(WORKSPACE_ID, "build-2", next));
+        assertEquals(List.of("tiny-1", "tiny-2"), lookup("tiny-1", "tiny-2").orElseThrow());
+    }
+
+    @Test
+    void putWithoutFilterDoesNotCreateKey() {
+        filter.put(WORKSPACE_ID, List.of("tiny-1"));
+
+        assertFalse(RedisOpsUtils.checkExist(FILTER_KEY));
+        assertTrue(lookup("tiny-1").isEmpty());
+    }
+
+    @Test
+    void putDuringBuildReachesPublishedFilter() {
+        long generation = filter.beginBuild(WORKSPACE_ID, "build-1");
+        assertTrue(filter.putBuild(WORKSPACE_ID, "build-1", List.of("tiny-1")));
+        // 데이터베이스를 이미 읽은 뒤에 저장된 파일
+        filter.put(WORKSPACE_ID, List.of("tiny-2"));
+
+        assertTrue(filter.publishBuild(WORKSPACE_ID, "build-1", generation));
+
+        assertEquals(List.of("tiny-1", "tiny-2"), lookup("tiny-1", "tiny-2").orElseThrow());
+    }
+
+    @Test
+    void putAfterPublishKeepsTtlAndReadyBit() {
+        long generation = filter.beginBuild(WORKSPACE_ID, "build-1");
+        assertTrue(filter.publishBuild(WORKSPACE_ID, "build-1", generation));
+
+        filter.put(WORKSPACE_ID, List.of("tiny-1"));
+
+        assertEquals(List.of("tiny-1"), lookup("tiny-1").orElseThrow());
+        assertTrue(RedisOpsUtils.getExpire(FILTER_KEY) > 0);
+    }
+
+    @Test
+    void discardedBuildCannotBeFilledOrPublished() {
+        long generation = filter.beginBuild(WORKSPACE_ID, "build-1");
+        filter.discardBuild(WORKSPACE_ID, "build-1");
+
+        assertFalse(filter.putBuild(WORKSPACE_ID, "build-1", List.of("tiny-1")));
+        assertFalse(filter.publishBuild(WORKSPACE_ID, "build-1", generation));
+        assertFalse(RedisOpsUtils.checkExist(FILTER_KEY));
+        assertEquals(0, buildKeys());
+    }
+}
@@ -0,0 +1,40 @@
+package com.dji.sample.wayline.model.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConditionalWaylineJobKey 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class ConditionalWaylineJobKeyTest {
+
+    @Test
+    void keyStringIsParsedIntoItsFields() {
+        ConditionalWaylineJobKey jobKey = new ConditionalWaylineJobKey("workspace:dock-sn:job-id");
+
+        assertEquals("workspace", jobKey.getWorkspaceId());
+        assertEquals("dock-sn", jobKey.getDockSn());
+        assertEquals("job-id", jobKey.getJobId());
+    }
+
+    @Test
+    void keyRoundTrips() {
+        ConditionalWaylineJobKey jobKey = new ConditionalWaylineJobKey("workspace", "dock-sn", "job-id");
+
+        assertEquals(jobKey.getKey(), new ConditionalWaylineJobKey(jobKey.getKey()).getKey());
+    }
+
+    @Test
+    void nullKeyLeavesFieldsEmpty() {
+        ConditionalWaylineJobKey jobKey = new ConditionalWaylineJobKey((String) null);
+
+        assertNull(jobKey.getWorkspaceId());
+        assertNull(jobKey.getDockSn());
+        assertNull(jobKey.getJobId());
+    }
+}
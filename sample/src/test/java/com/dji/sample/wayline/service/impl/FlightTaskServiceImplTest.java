@@ -0,0 +1,144 @@
+package com.dji.sample.wayline.service.impl;
+
+import com.dji.sample.component.redis.RedisConst;
+import com.dji.sample.component.redis.RedisOpsUtils;
+import com.dji.sample.wayline.model.dto.ConditionalWaylineJobKey;
+import com.dji.sample.wayline.model.dto.WaylineJobDTO;
+import com.dji.sample.wayline.model.enums.WaylineJobStatusEnum;
+import com.dji.sample.wayline.service.IWaylineJobService;
+import com.dji.sample.wayline.service.IWaylineRedisService;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FlightTaskServiceImpl 스케줄러 테스트
+ *
+ * 작업 실행기는 mock으로 대신하고, 한 번의 스케줄 실행에서 실행 시간이 된 작업을 모두 꺼내
+ * Dock별로 넘기는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class FlightTaskServiceImplTest {
+
+    private static final int BATCH_SIZE = 50;
+
+    private static final String WORKSPACE_ID = "e3dea0f5-37f2-4d79-ae58-490af3228069";
+
+    /** 스케줄러가 보는 현재 시각 */
+    private static final long NOW = 1_790_000_000_000L;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private IWaylineJobService waylineJobService;
+
+    @Mock
+    private IWaylineRedisService waylineRedisService;
+
+    @Mock
+    private WaylineJobDispatcher dispatcher;
+
+    @InjectMocks
+    private FlightTaskServiceImpl flightTaskService;
+
+    @BeforeEach
+    void setUp() {
+        new RedisOpsUtils().setRedisTemplate(redisTemplate);
+        ReflectionTestUtils.setField(flightTaskService, "scheduleBatchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(flightTaskService, "dispatcher", dispatcher);
+        ReflectionTestUtils.setField(flightTaskService, "clock", Clock.fixed(Instant.ofEpochMilli(NOW), ZoneOffset.UTC));
+    }
+
+    @Test
+    void allDueTimedJobsAreDispatchedInOneTick() {
+        Deque<List<Object>> overdue = new ArrayDeque<>(List.of(List.of(timedJob("dock-a", "late-1"), timedJob("dock-b", "late-2"))));
+        List<Object> due = IntStream.range(0, 120).mapToObj(i -> timedJob("dock-" + i, "job-" + i)).collect(Collectors.toList());
+        Deque<List<Object>> dueBatches = new ArrayDeque<>(List.of(
+                due.subList(0, 50), due.subList(50, 100), due.subList(100, 120)));
+        // 실행 시간이 30초 넘게 지난 작업과 30초 안에 실행 시간이 되는 작업을 각각 꺼냄
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(RedisConst.WAYLINE_JOB_TIMED_EXECUTE)),
+                eq(NOW - 30_001), eq((long) BATCH_SIZE)))
+                .thenAnswer(invocation -> overdue.isEmpty() ? List.of() : overdue.poll());
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(RedisConst.WAYLINE_JOB_TIMED_EXECUTE)),
+                eq(NOW + 30_000), eq((long) BATCH_SIZE)))
+                .thenAnswer(invocation -> dueBatches.isEmpty() ? List.of() : dueBatches.poll());
+
+        flightTaskService.checkScheduledJob();
+
+        ArgumentCaptor<String> docks = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Runnable> jobs = ArgumentCaptor.forClass(Runnable.class);
+        verify(dispatcher, times(122)).dispatch(docks.capture(), jobs.capture());
+        List<String> expected = new ArrayList<>(List.of("dock-a", "dock-b"));
+        IntStream.range(0, 120).forEach(i -> expected.add("dock-" + i));
+        assertEquals(expected, docks.getAllValues());
+        assertTrue(overdue.isEmpty());
+        assertTrue(dueBatches.isEmpty());
+
+        // 만료된 작업은 시간 초과로 실패 처리
+        jobs.getAllValues().get(0).run();
+        ArgumentCaptor<WaylineJobDTO> job = ArgumentCaptor.forClass(WaylineJobDTO.class);
+        verify(waylineJobService).updateJob(job.capture());
+        assertEquals("late-1", job.getValue().getJobId());
+        assertEquals(WaylineJobStatusEnum.FAILED.getVal(), job.getValue().getStatus());
+        assertEquals(HttpStatus.SC_REQUEST_TIMEOUT, job.getValue().getCode());
+    }
+
+    @Test
+    void allDueConditionalJobsAreDispatchedInOneTick() {
+        List<ConditionalWaylineJobKey> keys = IntStream.range(0, 103)
+                .mapToObj(i -> new ConditionalWaylineJobKey(WORKSPACE_ID, "dock-" + i, "job-" + i))
+                .collect(Collectors.toList());
+        // 실행 시간이 하루 안으로 남은 작업을 꺼냄
+        when(waylineRedisService.pollPrepareConditionalWaylineJobs(NOW + 86_400_000, BATCH_SIZE))
+                .thenReturn(keys.subList(0, 50), keys.subList(50, 100), keys.subList(100, 103));
+
+        flightTaskService.prepareConditionJob();
+
+        ArgumentCaptor<String> docks = ArgumentCaptor.forClass(String.class);
+        verify(dispatcher, times(103)).dispatch(docks.capture(), any(Runnable.class));
+        assertEquals(keys.stream().map(ConditionalWaylineJobKey::getDockSn).collect(Collectors.toList()), docks.getAllValues());
+        verify(waylineRedisService, times(3)).pollPrepareConditionalWaylineJobs(NOW + 86_400_000, BATCH_SIZE);
+    }
+
+    @Test
+    void noJobsDue() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyLong(), anyLong())).thenReturn(List.of());
+
+        flightTaskService.checkScheduledJob();
+
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq(NOW - 30_001), anyLong());
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq(NOW + 30_000), anyLong());
+        verifyNoInteractions(dispatcher);
+    }
+
+    private static Object timedJob(String dockSn, String jobId) {
+        return WORKSPACE_ID + RedisConst.DELIMITER + dockSn + RedisConst.DELIMITER + jobId;
+    }
+}
@@ -0,0 +1,233 @@
+package com.dji.sample.wayline.service.impl;
+
+import com.dji.sample.component.oss.model.OssConfiguration;
+import com.dji.sample.component.oss.service.impl.OssServiceContext;
+import com.dji.sample.wayline.dao.IWaylineFileMapper;
+import com.dji.sample.wayline.model.dto.WaylineFileDTO;
+import com.dji.sample.wayline.model.entity.WaylineFileEntity;
+import com.dji.sdk.cloudapi.device.DeviceEnum;
+import com.dji.sdk.cloudapi.wayline.WaylineTypeEnum;
+import org.dom4j.Document;
+import org.dom4j.io.SAXReader;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * KmzImportStream 테스트
+ *
+ * 웨이포인트 50,000개짜리 KMZ를 만들어, 한 번 읽기로 메타데이터, MD5, 업로드 바이트를 모두 얻는지와
+ * 이전 방식(dom4j로 template.kml 전체 파싱, MD5와 업로드를 위해 파일을 다시 읽기)보다 적게 할당하는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class KmzImportStreamTest {
+
+    private static final int WAYPOINTS = 50_000;
+
+    private static final int MB = 1024 * 1024;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void metadataMd5AndUploadBytesComeFromOneRead() throws Exception {
+        byte[] file = kmz(100, true, 0);
+
+        try (KmzImportStream kmz = new KmzImportStream(new ByteArrayInputStream(file))) {
+            WaylineFileDTO metadata = kmz.readTemplate().orElseThrow();
+            assertEquals(DeviceEnum.M30.getDevice(), metadata.getDroneModelKey());
+            assertEquals(List.of(DeviceEnum.M30_CAMERA.getDevice()), metadata.getPayloadModelKeys());
+            assertEquals(List.of(WaylineTypeEnum.WAYPOINT.getValue()), metadata.getTemplateTypes());
+            assertTrue(kmz.isReplayable());
+
+            assertArrayEquals(file, kmz.readAllBytes());
+            assertEquals(DigestUtils.md5DigestAsHex(file), kmz.getMd5Hex());
+        }
+    }
+
+    @Test
+    void fiftyThousandWaypointsUseLittleMemoryAndTime() throws Exception {
+        byte[] file = kmz(WAYPOINTS, true, 0);
+        String md5 = DigestUtils.md5DigestAsHex(file);
+
+        // JIT 준비
+        for (int i = 0; i < 3; i++) {
+            assertEquals(md5, importOnce(file));
+            assertEquals(md5, importWithDom4j(file));
+        }
+
+        long[] single = measure(() -> assertEquals(md5, importOnce(file)));
+        long[] dom4j = measure(() -> assertEquals(md5, importWithDom4j(file)));
+
+        System.out.printf("KMZ %d waypoints (%d KB): single pass %d ms / %d KB, dom4j %d ms / %d KB%n",
+                WAYPOINTS, file.length / 1024, single[0], single[1] / 1024, dom4j[0], dom4j[1] / 1024);
+        // template.kml이 앞쪽에 있으면 보관하는 바이트는 ZIP 앞부분뿐이며, 웨이포인트 수와 관계없이 작음
+        assertTrue(single[1] < 2 * MB, "single pass allocated " + single[1]);
+        assertTrue(single[1] * 10 < dom4j[1], "single pass " + single[1] + ", dom4j " + dom4j[1]);
+        assertTrue(single[0] < 2000, "single pass took " + single[0] + " ms");
+    }
+
+    @Test
+    void templateAfterLargeEntryFallsBackToReopening() throws Exception {
+        // template.kml 앞에 보관 한도(8MB)보다 큰 리소스가 있는 경우
+        byte[] file = kmz(WAYPOINTS, false, 9 * MB);
+
+        try (KmzImportStream kmz = new KmzImportStream(new ByteArrayInputStream(file))) {
+            assertEquals(DeviceEnum.M30.getDevice(), kmz.readTemplate().orElseThrow().getDroneModelKey());
+            assertFalse(kmz.isReplayable());
+            assertEquals(DigestUtils.md5DigestAsHex(file), kmz.getMd5Hex());
+        }
+    }
+
+    @Test
+    void importUploadsThroughMultipartWithoutAvailable() throws Exception {
+        byte[] file = kmz(WAYPOINTS, true, 0);
+        OssServiceContext ossService = mock(OssServiceContext.class);
+        AtomicReference<byte[]> uploaded = new AtomicReference<>();
+        doAnswer(invocation -> {
+            // 업로드 크기를 available()로 정하지 않고 끝까지 읽음
+            uploaded.set(invocation.<InputStream>getArgument(2).readAllBytes());
+            return null;
+        }).when(ossService).putObjectMultipart(any(), anyString(), any(InputStream.class));
+        IWaylineFileMapper mapper = mock(IWaylineFileMapper.class);
+        when(mapper.insert(any(WaylineFileEntity.class))).thenAnswer(invocation -> {
+            invocation.<WaylineFileEntity>getArgument(0).setId(1);
+            return 1;
+        });
+        WaylineFileServiceImpl service = new WaylineFileServiceImpl();
+        ReflectionTestUtils.setField(service, "ossService", ossService);
+        ReflectionTestUtils.setField(service, "mapper", mapper);
+
+        service.importKmzFile(new MockMultipartFile("file", "mission.kmz", "application/zip", file), "workspace", "pilot");
+
+        verify(ossService).putObjectMultipart(eq(OssConfiguration.bucket), endsWith("mission.kmz"), any(InputStream.class));
+        verify(ossService, never()).putObject(any(), any(), any());
+        assertArrayEquals(file, uploaded.get());
+        ArgumentCaptor<WaylineFileEntity> entity = ArgumentCaptor.forClass(WaylineFileEntity.class);
+        verify(mapper).insert(entity.capture());
+        assertEquals(DigestUtils.md5DigestAsHex(file), entity.getValue().getSign());
+        assertEquals("mission", entity.getValue().getName());
+    }
+
+    /**
+     * KmzImportStream으로 가져오기. 업로드는 끝까지 읽어 버리는 것으로 대신합니다.
+     */
+    private static String importOnce(byte[] file) throws IOException {
+        try (KmzImportStream kmz = new KmzImportStream(new ByteArrayInputStream(file))) {
+            kmz.readTemplate().orElseThrow();
+            kmz.transferTo(OutputStream.nullOutputStream());
+            return kmz.getMd5Hex();
+        }
+    }
+
+    /**
+     * 이전 방식. template.kml 전체를 dom4j 문서로 읽고, MD5 계산과 업로드를 위해 파일을 다시 읽습니다.
+     */
+    private static String importWithDom4j(byte[] file) throws Exception {
+        try (ZipInputStream unzip = new ZipInputStream(new ByteArrayInputStream(file), StandardCharsets.UTF_8)) {
+            ZipEntry entry;
+            while ((entry = unzip.getNextEntry()) != null && !"wpmz/template.kml".equals(entry.getName())) {
+                // template.kml까지 건너뜀
+            }
+            Document document = new SAXReader().read(unzip);
+            assertEquals("UTF-8", document.getXMLEncoding());
+        }
+        String md5 = DigestUtils.md5DigestAsHex(new ByteArrayInputStream(file));
+        new ByteArrayInputStream(file).transferTo(OutputStream.nullOutputStream());
+        return md5;
+    }
+
+    /**
+     * @return {걸린 시간(밀리초), 현재 스레드가 할당한 바이트}
+     */
+    private static long[] measure(ThrowingRunnable runnable) throws Exception {
+        long threadId = Thread.currentThread().getId();
+        long allocated = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        runnable.run();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        return new long[]{elapsed, THREAD_BEAN.getThreadAllocatedBytes(threadId) - allocated};
+    }
+
+    /**
+     * DJI WPML 형식의 KMZ를 만듭니다.
+     *
+     * @param waypoints 웨이포인트 수 (template.kml과 waylines.wpml 각각)
+     * @param templateFirst true이면 template.kml을 첫 엔트리로 넣음
+     * @param resourceBytes template.kml 앞에 넣을 압축되지 않는 리소스 크기
+     */
+    private static byte[] kmz(int waypoints, boolean templateFirst, int resourceBytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8)) {
+            if (resourceBytes > 0) {
+                byte[] resource = new byte[resourceBytes];
+                new Random(7).nextBytes(resource);
+                zip.putNextEntry(new ZipEntry("wpmz/res/resource.bin"));
+                zip.write(resource);
+            }
+            if (!templateFirst) {
+                zip.putNextEntry(new ZipEntry("wpmz/waylines.wpml"));
+                zip.write(document(waypoints, false));
+            }
+            zip.putNextEntry(new ZipEntry("wpmz/template.kml"));
+            zip.write(document(waypoints, true));
+            if (templateFirst) {
+                zip.putNextEntry(new ZipEntry("wpmz/waylines.wpml"));
+                zip.write(document(waypoints, false));
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] document(int waypoints, boolean template) {
+        StringBuilder xml = new StringBuilder(waypoints * 200)
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<kml xmlns=\"http://www.opengis.net/kml/2.2\" xmlns:wpml=\"http://www.dji.com/wpmz/1.0.2\">\n")
+                .append("<Document>\n<wpml:missionConfig>\n")
+                .append("<wpml:droneInfo><wpml:droneEnumValue>67</wpml:droneEnumValue>")
+                .append("<wpml:droneSubEnumValue>0</wpml:droneSubEnumValue></wpml:droneInfo>\n")
+                .append("<wpml:payloadInfo><wpml:payloadEnumValue>52</wpml:payloadEnumValue>")
+                .append("<wpml:payloadSubEnumValue>0</wpml:payloadSubEnumValue></wpml:payloadInfo>\n")
+                .append("</wpml:missionConfig>\n<Folder>\n");
+        if (template) {
+            xml.append("<wpml:templateType>waypoint</wpml:templateType>\n");
+        }
+        for (int i = 0; i < waypoints; i++) {
+            xml.append("<Placemark><Point><coordinates>")
+                    .append(113.943 + i * 1e-6).append(',').append(22.577 + i * 1e-6)
+                    .append("</coordinates></Point><wpml:index>").append(i)
+                    .append("</wpml:index><wpml:executeHeight>100</wpml:executeHeight>")
+                    .append("<wpml:waypointSpeed>10</wpml:waypointSpeed></Placemark>\n");
+        }
+        return xml.append("</Folder>\n</Document>\n</kml>\n").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
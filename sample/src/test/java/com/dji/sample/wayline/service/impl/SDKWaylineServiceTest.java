@@ -0,0 +1,128 @@
+package com.dji.sample.wayline.service.impl;
+
+import com.dji.sample.component.mqtt.model.EventsReceiver;
+import com.dji.sample.component.websocket.service.IWebSocketMessageService;
+import com.dji.sample.manage.model.dto.DeviceDTO;
+import com.dji.sample.manage.service.IDeviceRedisService;
+import com.dji.sample.media.model.MediaFileCountDTO;
+import com.dji.sample.media.service.IMediaRedisService;
+import com.dji.sample.wayline.model.dto.WaylineJobDTO;
+import com.dji.sample.wayline.model.enums.WaylineJobStatusEnum;
+import com.dji.sample.wayline.service.IWaylineJobService;
+import com.dji.sample.wayline.service.IWaylineRedisService;
+import com.dji.sdk.cloudapi.wayline.FlighttaskProgress;
+import com.dji.sdk.cloudapi.wayline.FlighttaskProgressData;
+import com.dji.sdk.cloudapi.wayline.FlighttaskProgressExt;
+import com.dji.sdk.cloudapi.wayline.FlighttaskStatusEnum;
+import com.dji.sdk.mqtt.events.EventsDataRequest;
+import com.dji.sdk.mqtt.events.EventsErrorCode;
+import com.dji.sdk.mqtt.events.TopicEventsRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SDKWaylineService 작업 진행 이벤트 처리 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class SDKWaylineServiceTest {
+
+    private static final String DOCK_SN = "dock-sn";
+
+    private static final String JOB_ID = "job-id";
+
+    @Mock
+    private IDeviceRedisService deviceRedisService;
+
+    @Mock
+    private IWaylineRedisService waylineRedisService;
+
+    @Mock
+    private IWebSocketMessageService webSocketMessageService;
+
+    @Mock
+    private IWaylineJobService waylineJobService;
+
+    @Mock
+    private IMediaRedisService mediaRedisService;
+
+    @InjectMocks
+    private SDKWaylineService waylineService;
+
+    @BeforeEach
+    void setUp() {
+        when(deviceRedisService.getDeviceOnline(DOCK_SN)).thenReturn(Optional.of(DeviceDTO.builder()
+                .deviceSn(DOCK_SN).childDeviceSn("drone-sn").workspaceId("workspace").build()));
+    }
+
+    private static TopicEventsRequest<EventsDataRequest<FlighttaskProgress>> progress(
+            FlighttaskStatusEnum status, int mediaCount) {
+        FlighttaskProgress output = new FlighttaskProgress()
+                .setStatus(status)
+                .setProgress(new FlighttaskProgressData().setPercent(50))
+                .setExt(new FlighttaskProgressExt().setMediaCount(mediaCount));
+        return new TopicEventsRequest<EventsDataRequest<FlighttaskProgress>>()
+                .setBid(JOB_ID)
+                .setGateway(DOCK_SN)
+                .setData(new EventsDataRequest<FlighttaskProgress>()
+                        .setResult(new EventsErrorCode(FlighttaskStatusEnum.FAILED == status ? 314000 : 0))
+                        .setOutput(output));
+    }
+
+    @Test
+    void runningProgressIsCachedWithOneWrite() {
+        waylineService.flighttaskProgress(progress(FlighttaskStatusEnum.IN_PROGRESS, 0), null);
+
+        ArgumentCaptor<EventsReceiver<FlighttaskProgress>> cached = ArgumentCaptor.forClass(EventsReceiver.class);
+        verify(waylineRedisService).setRunningWaylineJob(eq(DOCK_SN), cached.capture());
+        assertEquals(JOB_ID, cached.getValue().getBid());
+        verifyNoMoreInteractions(waylineRedisService);
+        verifyNoInteractions(waylineJobService);
+    }
+
+    @Test
+    void endedJobClearsStateAndStoresMediaCount() {
+        waylineService.flighttaskProgress(progress(FlighttaskStatusEnum.OK, 12), null);
+
+        InOrder inOrder = inOrder(waylineJobService, waylineRedisService, mediaRedisService);
+        ArgumentCaptor<WaylineJobDTO> job = ArgumentCaptor.forClass(WaylineJobDTO.class);
+        inOrder.verify(waylineJobService).updateJob(job.capture());
+        inOrder.verify(waylineRedisService).endWaylineJob(DOCK_SN);
+        ArgumentCaptor<MediaFileCountDTO> mediaCount = ArgumentCaptor.forClass(MediaFileCountDTO.class);
+        inOrder.verify(mediaRedisService).setMediaCount(eq(DOCK_SN), eq(JOB_ID), mediaCount.capture());
+        verifyNoMoreInteractions(waylineRedisService);
+
+        assertEquals(WaylineJobStatusEnum.SUCCESS.getVal(), job.getValue().getStatus());
+        assertEquals(12, mediaCount.getValue().getMediaCount());
+        assertEquals(0, mediaCount.getValue().getUploadedCount());
+        assertEquals("drone-sn", mediaCount.getValue().getDeviceSn());
+    }
+
+    @Test
+    void failedJobWithoutMediaStoresNoMediaCount() {
+        waylineService.flighttaskProgress(progress(FlighttaskStatusEnum.FAILED, 0), null);
+
+        ArgumentCaptor<WaylineJobDTO> job = ArgumentCaptor.forClass(WaylineJobDTO.class);
+        verify(waylineJobService).updateJob(job.capture());
+        assertEquals(WaylineJobStatusEnum.FAILED.getVal(), job.getValue().getStatus());
+        assertEquals(314000, job.getValue().getCode());
+        verify(waylineRedisService).endWaylineJob(DOCK_SN);
+        verifyNoMoreInteractions(waylineRedisService);
+        verifyNoInteractions(mediaRedisService);
+    }
+}
@@ -0,0 +1,194 @@
+package com.dji.sample.wayline.service.impl;
+
+import com.dji.sample.component.oss.model.OssConfiguration;
+import com.dji.sample.component.oss.service.impl.LocalFileOssService;
+import com.dji.sample.component.oss.service.impl.OssServiceContext;
+import com.dji.sample.wayline.dao.IWaylineFileMapper;
+import com.dji.sample.wayline.model.dto.WaylineFileDTO;
+import com.dji.sample.wayline.model.entity.WaylineFileEntity;
+import com.dji.sdk.cloudapi.storage.OssTypeEnum;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * WaylineFileServiceImpl.saveWaylineFile 테스트
+ *
+ * 로컬 파일 시스템을 OSS로 사용해, 서명이 없는 웨이라인 파일의 MD5를 계산할 때
+ * 객체 크기에 비례하는 메모리를 쓰지 않는지와 객체가 없을 때 저장하지 않는지 확인합니다.
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class WaylineFileServiceImplTest {
+
+    private static final String BUCKET = "cloud-bucket";
+
+    private static final int MB = 1024 * 1024;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @TempDir
+    Path root;
+
+    private LocalFileOssService localOss;
+
+    private OssServiceContext ossService;
+
+    private final IWaylineFileMapper mapper = mock(IWaylineFileMapper.class);
+
+    private final WaylineFileServiceImpl waylineFileService = new WaylineFileServiceImpl();
+
+    private boolean enable;
+
+    private OssTypeEnum provider;
+
+    private String bucket;
+
+    @BeforeEach
+    void setUp() {
+        enable = OssConfiguration.enable;
+        provider = OssConfiguration.provider;
+        bucket = OssConfiguration.bucket;
+        OssConfiguration.enable = true;
+        OssConfiguration.provider = OssTypeEnum.MINIO;
+        OssConfiguration.bucket = BUCKET;
+
+        localOss = new LocalFileOssService(root, OssTypeEnum.MINIO);
+        ossService = new OssServiceContext(List.of(localOss), new OssConfiguration());
+        when(mapper.insert(any(WaylineFileEntity.class))).thenAnswer(invocation -> {
+            invocation.<WaylineFileEntity>getArgument(0).setId(1);
+            return 1;
+        });
+        ReflectionTestUtils.setField(waylineFileService, "ossService", ossService);
+        ReflectionTestUtils.setField(waylineFileService, "mapper", mapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ossService.destroy();
+        OssConfiguration.enable = enable;
+        OssConfiguration.provider = provider;
+        OssConfiguration.bucket = bucket;
+    }
+
+    private static WaylineFileDTO metadata(String objectKey) {
+        return WaylineFileDTO.builder()
+                .name("mission")
+                .objectKey(objectKey)
+                .droneModelKey("0-67-0")
+                .payloadModelKeys(List.of("1-52-0"))
+                .templateTypes(List.of(0))
+                .username("pilot")
+                .build();
+    }
+
+    /**
+     * size 바이트의 객체를 1MB씩 나누어 씁니다.
+     */
+    private Path putObject(String objectKey, long size) throws IOException {
+        Path path = localOss.path(BUCKET, objectKey);
+        Files.createDirectories(path.getParent());
+        byte[] chunk = new byte[MB];
+        Random random = new Random(size);
+        try (OutputStream out = Files.newOutputStream(path)) {
+            for (long written = 0; written < size; written += chunk.length) {
+                random.nextBytes(chunk);
+                out.write(chunk, 0, (int) Math.min(chunk.length, size - written));
+            }
+        }
+        return path;
+    }
+
+    private static String md5(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return DigestUtils.md5DigestAsHex(in);
+        }
+    }
+
+    @Test
+    void md5OfLargeObjectsDoesNotScaleHeap() throws Exception {
+        long[] sizes = {4L * MB, 16L * MB, 64L * MB};
+        List<Long> allocations = new ArrayList<>();
+        // JIT 준비
+        putObject("wayline/warmup.kmz", MB);
+        for (int i = 0; i < 3; i++) {
+            waylineFileService.saveWaylineFile("workspace", metadata("wayline/warmup.kmz"));
+        }
+
+        for (long size : sizes) {
+            String objectKey = "wayline/" + size + ".kmz";
+            Path path = putObject(objectKey, size);
+            clearInvocations(mapper);
+
+            long threadId = Thread.currentThread().getId();
+            long before = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            assertEquals(1, waylineFileService.saveWaylineFile("workspace", metadata(objectKey)));
+            allocations.add(THREAD_BEAN.getThreadAllocatedBytes(threadId) - before);
+
+            ArgumentCaptor<WaylineFileEntity> entity = ArgumentCaptor.forClass(WaylineFileEntity.class);
+            verify(mapper).insert(entity.capture());
+            assertEquals(md5(path), entity.getValue().getSign());
+            Files.delete(path);
+        }
+
+        System.out.printf("saveWaylineFile MD5 allocation for 4/16/64 MB objects: %s bytes%n", allocations);
+        // 할당량이 객체 크기보다 훨씬 작으므로 힙 사용량의 최고치도 객체 크기를 따라 늘지 않음
+        for (long allocated : allocations) {
+            assertTrue(allocated < MB, "allocated " + allocated + " bytes");
+        }
+        assertTrue(allocations.get(2) - allocations.get(0) < 256 * 1024, "allocations " + allocations);
+    }
+
+    @Test
+    void missingObjectIsNotSaved() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> waylineFileService.saveWaylineFile("workspace", metadata("wayline/missing.kmz")));
+
+        assertTrue(e.getMessage().contains("wayline/missing.kmz"), e.getMessage());
+        verify(mapper, never()).insert(any(WaylineFileEntity.class));
+    }
+
+    @Test
+    void emptyObjectIsNotSaved() throws Exception {
+        putObject("wayline/empty.kmz", 0);
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> waylineFileService.saveWaylineFile("workspace", metadata("wayline/empty.kmz")));
+
+        assertTrue(e.getMessage().contains("does not exist"), e.getMessage());
+        verify(mapper, never()).insert(any(WaylineFileEntity.class));
+    }
+
+    @Test
+    void signedFileIsSavedWithoutReadingOss() {
+        WaylineFileDTO metadata = metadata("wayline/missing.kmz");
+        metadata.setSign("0123456789abcdef0123456789abcdef");
+
+        assertEquals(1, waylineFileService.saveWaylineFile("workspace", metadata));
+
+        ArgumentCaptor<WaylineFileEntity> entity = ArgumentCaptor.forClass(WaylineFileEntity.class);
+        verify(mapper).insert(entity.capture());
+        assertEquals("0123456789abcdef0123456789abcdef", entity.getValue().getSign());
+    }
+}
@@ -0,0 +1,118 @@
+package com.dji.sample.wayline.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * WaylineJobDispatcher 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+class WaylineJobDispatcherTest {
+
+    private final WaylineJobDispatcher dispatcher = new WaylineJobDispatcher(128);
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void jobsOfDifferentDocksRunInParallel() throws Exception {
+        int docks = 100;
+        CountDownLatch started = new CountDownLatch(docks);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < docks; i++) {
+            dispatcher.dispatch("dock-" + i, () -> {
+                started.countDown();
+                await(release);
+            });
+        }
+
+        // 모든 작업이 다른 작업의 완료를 기다리지 않고 동시에 시작
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        assertEquals(docks, dispatcher.getActiveDockCount());
+        release.countDown();
+        waitUntilIdle();
+    }
+
+    @Test
+    void jobsOfSameDockRunOneAtATimeInOrder() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        for (int i = 0; i < 20; i++) {
+            int index = i;
+            dispatcher.dispatch("dock", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                order.add(index);
+                running.decrementAndGet();
+            });
+        }
+        waitUntilIdle();
+
+        assertEquals(20, order.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, order.get(i));
+        }
+        assertEquals(1, maxRunning.get());
+    }
+
+    @Test
+    void failingJobDoesNotStallDock() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        dispatcher.dispatch("dock", () -> {
+            throw new RuntimeException("failed");
+        });
+        dispatcher.dispatch("dock", done::countDown);
+
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        waitUntilIdle();
+    }
+
+    @Test
+    void jobsAreNotRunAfterShutdown() {
+        dispatcher.shutdown();
+        AtomicInteger runs = new AtomicInteger();
+        dispatcher.dispatch("dock", runs::incrementAndGet);
+
+        assertEquals(0, runs.get());
+        assertEquals(0, dispatcher.getActiveDockCount());
+    }
+
+    private void waitUntilIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (dispatcher.getActiveDockCount() > 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "The dispatcher is still running.");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.dji.sample.wayline.service.impl;
+
+import com.dji.sample.component.redis.RedisConst;
+import com.dji.sample.component.redis.RedisOpsUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * WaylineRedisServiceImpl 테스트
+ *
+ * @author sean
+ * @version 1.10
+ * @date 2026/10/17
+ */
+@ExtendWith(MockitoExtension.class)
+class WaylineRedisServiceImplTest {
+
+    private static final String DOCK_SN = "dock-sn";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private final WaylineRedisServiceImpl waylineRedisService = new WaylineRedisServiceImpl();
+
+    @BeforeEach
+    void setUp() {
+        new RedisOpsUtils().setRedisTemplate(redisTemplate);
+    }
+
+    @Test
+    void endWaylineJobDeletesStateWithOneCommand() {
+        when(redisTemplate.delete(anyCollection())).thenReturn(2L);
+
+        waylineRedisService.endWaylineJob(DOCK_SN);
+
+        verify(redisTemplate).delete(List.of(RedisConst.WAYLINE_JOB_RUNNING_PREFIX + DOCK_SN,
+                RedisConst.WAYLINE_JOB_PAUSED_PREFIX + DOCK_SN));
+        verifyNoMoreInteractions(redisTemplate);
+    }
+}
@@ -308,7 +308,8 @@ CREATE TABLE `manage_device_payload` (
   `create_time` bigint NOT NULL,
   `update_time` bigint NOT NULL,
   PRIMARY KEY (`id`),
-  UNIQUE KEY `payload_sn_UNIQUE` (`payload_sn`)
+  UNIQUE KEY `payload_sn_UNIQUE` (`payload_sn`),
+  KEY `idx_device_sn` (`device_sn`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb3 COMMENT='The payload information of the device.';
 
 
@@ -324,7 +325,9 @@ CREATE TABLE `manage_firmware_model` (
   `device_name` varchar(64) CHARACTER SET utf8 COLLATE utf8_general_ci NOT NULL COMMENT 'model of the device. This parameter corresponds to the device name in the device dictionary table.',
   `create_time` bigint NOT NULL,
   `update_time` bigint NOT NULL,
-  PRIMARY KEY (`id`)
+  PRIMARY KEY (`id`),
+  KEY `idx_device_name` (`device_name`),
+  KEY `idx_firmware_id` (`firmware_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb3;
 
 
@@ -402,7 +405,8 @@ CREATE TABLE `map_element_coordinate` (
   `longitude` decimal(18,14) NOT NULL COMMENT 'The longitude of this element.',
   `latitude` decimal(17,14) NOT NULL COMMENT 'The latitude of this element.',
   `altitude` decimal(17,14) DEFAULT NULL COMMENT 'The altitude of this element. If the element is point, it is null.',
-  PRIMARY KEY (`id`)
+  PRIMARY KEY (`id`),
+  KEY `idx_element_id` (`element_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb3 COMMENT='The coordinate information corresponding to the element.';
 
 
@@ -484,7 +488,9 @@ CREATE TABLE `media_file` (
   `create_time` bigint NOT NULL,
   `update_time` bigint NOT NULL,
   PRIMARY KEY (`id`),
-  UNIQUE KEY `UNIQUE_file_id` (`file_id`)
+  UNIQUE KEY `UNIQUE_file_id` (`file_id`),
+  KEY `idx_workspace_tinny_fingerprint` (`workspace_id`,`tinny_fingerprint`),
+  KEY `idx_workspace_fingerprint` (`workspace_id`,`fingerprint`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb3 COMMENT='Media file information';
 
 